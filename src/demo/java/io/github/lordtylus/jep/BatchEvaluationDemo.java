@@ -0,0 +1,77 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import io.github.lordtylus.jep.batch.BatchEvaluator;
+import io.github.lordtylus.jep.batch.ColumnProvider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * This demo compares evaluating an equation row by row with evaluating it over whole columns at once.
+ * <p>
+ * The row by row version evaluates the rows in parallel and passes the value of x using a DoubleStorage lambda, which does not box the value.
+ * The batch version evaluates the same rows, once on a single thread and once split into chunks evaluated in parallel.
+ */
+public class BatchEvaluationDemo {
+
+    private static final int ROWS = 10_000_000;
+    private static final int CHUNK_SIZE = 65_536;
+
+    public static void main(String[] args) {
+
+        String input = "(7+3)*(6-3)+216/3^3+[x]";
+        Equation equation = Equation.parse(input).get();
+
+        double[] x = new double[ROWS];
+        for (int i = 0; i < ROWS; i++)
+            x[i] = i;
+
+        ColumnProvider columns = variable -> x;
+        double[] output = new double[ROWS];
+
+        for (int run = 0; run < 3; run++) {
+
+            long start = System.nanoTime();
+
+            IntStream.range(0, ROWS).parallel()
+                    .forEach((i) -> output[i] = equation.evaluateDouble((DoubleStorage) variable -> x[i]));
+
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            System.out.println("Row by row (parallel): " + duration + " ms");
+
+            start = System.nanoTime();
+
+            equation.evaluateBatch(columns, output);
+
+            duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            System.out.println("Batch (single threaded): " + duration + " ms");
+
+            start = System.nanoTime();
+
+            IntStream.range(0, (ROWS + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel()
+                    .forEach(chunk -> BatchEvaluator.evaluate(equation, columns, output,
+                            chunk * CHUNK_SIZE, Math.min(ROWS, (chunk + 1) * CHUNK_SIZE)));
+
+            duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            System.out.println("Batch (parallel chunks): " + duration + " ms");
+        }
+    }
+}
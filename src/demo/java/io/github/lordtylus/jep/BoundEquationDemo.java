@@ -0,0 +1,54 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+
+/**
+ * This demo shows how the variables of an equation can be bound to slots of an array.
+ * <p>
+ * The layout tells at which index each variable is expected, so rows of data can be copied
+ * straight into the storage without creating a map of variable names.
+ */
+public class BoundEquationDemo {
+
+    public static void main(String[] args) {
+
+        String input = "[price]*[amount]*(1-[discount])";
+        Equation equation = Equation.parse(input).get();
+
+        SlotLayout layout = SlotLayout.of("amount", "price", "discount");
+        BoundEquation bound = EquationBinder.bind(equation, layout);
+
+        double[][] rows = {
+                {2, 10, 0},
+                {5, 4, 0.5},
+                {1, 99, 0.1},
+        };
+
+        IndexedStorage storage = bound.newStorage();
+
+        for (double[] row : rows) {
+
+            System.arraycopy(row, 0, storage.getValues(), 0, layout.size());
+
+            System.out.println(bound.evaluateDouble(storage)); // 20.0, 10.0, 89.1
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import io.github.lordtylus.jep.compiler.CompiledEquation;
+import io.github.lordtylus.jep.compiler.EquationCompiler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This demo shows how an equation can be compiled to bytecode once it is parsed.
+ * <p>
+ * Compiling is more expensive than parsing, but pays off if the same equation is evaluated
+ * millions of times. The variables are passed in as an array in the order returned by
+ * {@link CompiledEquation#getVariables()}.
+ */
+public class CompiledEquationDemo {
+
+    public static void main(String[] args) {
+
+        String input = "(7+3)*(6-3)+216/3^3+[x]";
+        Equation equation = Equation.parse(input).get();
+
+        CompiledEquation compiled = EquationCompiler.compile(equation);
+
+        System.out.println(compiled.getVariables()); // [x]
+
+        double[] variables = new double[1];
+        double sum = 0;
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 100_000_000; i++) {
+
+            variables[0] = i;
+
+            sum += compiled.apply(variables);
+        }
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.println("100 million passes: " + duration + " ms (" + sum + ")");
+    }
+}
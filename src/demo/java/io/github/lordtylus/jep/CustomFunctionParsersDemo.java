@@ -35,8 +35,8 @@ public class CustomFunctionParsersDemo {
 
     public static void main(String[] args) {
 
-        MathFunction areaCircle = new MathFunction("area",
-                number -> number.doubleValue() * number.doubleValue() * Math.PI);
+        MathFunction areaCircle = MathFunction.ofDouble("area",
+                number -> number * number * Math.PI);
 
         Set<MathFunction> functions = new HashSet<>(StandardFunctions.all());
         functions.add(areaCircle);
@@ -36,8 +36,8 @@ public class CustomOperatorsParsersDemo {
     public static void main(String[] args) {
 
         /* Most programming languages place Modulo operator on the same order as multiplication and division.*/
-        Operator modulo = new Operator(StandardOperators.MULT.order(), '%',
-                (a, b) -> a.doubleValue() % b.doubleValue());
+        Operator modulo = Operator.ofDouble(StandardOperators.MULT.order(), '%',
+                (a, b) -> a % b);
 
         Set<Operator> operators = new HashSet<>(StandardOperators.all());
         operators.add(modulo);
@@ -0,0 +1,108 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.benchmark;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.compiler.CompiledEquation;
+import io.github.lordtylus.jep.compiler.EquationCompiler;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to evaluate an already parsed equation.
+ * <p>
+ * All evaluation paths are measured: building the {@link Result} tree, the primitive double path with variables
+ * looked up by name, the {@link BoundEquation} reading variables by slot and the {@link CompiledEquation}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EvaluateBenchmark {
+
+    @Param
+    private ExpressionShape shape;
+
+    private Equation equation;
+    private SimpleStorage simpleStorage;
+
+    private BoundEquation boundEquation;
+    private IndexedStorage indexedStorage;
+
+    private CompiledEquation compiledEquation;
+    private double[] values;
+
+    @Setup
+    public void setup() {
+
+        equation = Equation.parse(shape.equation()).get();
+
+        List<String> variables = shape.variables();
+
+        simpleStorage = new SimpleStorage();
+        for (int i = 0; i < variables.size(); i++)
+            simpleStorage.putValue(variables.get(i), i + 1.5);
+
+        boundEquation = EquationBinder.bind(equation);
+        indexedStorage = boundEquation.newStorage();
+        for (String variable : variables)
+            indexedStorage.putValue(variable, simpleStorage.evaluate(variable).doubleValue());
+
+        compiledEquation = EquationCompiler.compile(equation);
+        values = new double[compiledEquation.getVariables().size()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = simpleStorage.evaluate(compiledEquation.getVariables().get(i)).doubleValue();
+    }
+
+    @Benchmark
+    public Result evaluate() {
+        return equation.evaluate(simpleStorage);
+    }
+
+    @Benchmark
+    public double evaluateDouble() {
+        return equation.evaluateDouble(simpleStorage);
+    }
+
+    @Benchmark
+    public double evaluateBound() {
+        return boundEquation.evaluateDouble(indexedStorage);
+    }
+
+    @Benchmark
+    public double evaluateCompiled() {
+        return compiledEquation.apply(values);
+    }
+}
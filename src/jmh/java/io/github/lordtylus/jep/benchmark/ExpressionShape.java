@@ -0,0 +1,126 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The different shapes of expressions the benchmarks are run with.
+ * <p>
+ * Each shape stresses a different part of tokenizing, parsing and evaluating, so a regression in one of them
+ * is not hidden by the others.
+ */
+public enum ExpressionShape {
+
+    /**
+     * The expression used in the README, mixing constants, operators of all orders and a single variable.
+     */
+    SIMPLE("(7+3)*(6-3)+216/3^3+[x]", List.of("x")),
+
+    /**
+     * A short expression mixing negative numbers, decimals, functions and a variable inside nested parentheses.
+     */
+    MIXED("(-3)+abs(7.3+3)*sin(6+([hallo]-2))+216/3^3", List.of("hallo")),
+
+    /**
+     * 64 nested parentheses around a short sum.
+     */
+    DEEP_NESTING(repeat("(1+", 64) + "[x]" + repeat(")", 64), List.of("x")),
+
+    /**
+     * A flat sum of 256 terms alternating between a constant and a variable.
+     */
+    LONG_SUM(longSum(), List.of("x")),
+
+    /**
+     * A weighted sum over 64 different variables.
+     */
+    MANY_VARIABLES(manyVariables(), variables()),
+
+    /**
+     * Nested calls of the standard functions.
+     */
+    FUNCTION_HEAVY("sqrt(abs(sin([x])*cos([x])))+log(exp([x])+1)^2-tan(atan([x]/2))+cbrt(floor([x]*3.7))", List.of("x"));
+
+    private static final int VARIABLE_COUNT = 64;
+
+    private final String equation;
+    private final List<String> variables;
+
+    ExpressionShape(String equation, List<String> variables) {
+        this.equation = equation;
+        this.variables = variables;
+    }
+
+    /**
+     * Returns the equation string of this shape.
+     *
+     * @return equation string
+     */
+    public String equation() {
+        return equation;
+    }
+
+    /**
+     * Returns the names of all variables used in the equation string in order of their first appearance.
+     *
+     * @return list of variable names
+     */
+    public List<String> variables() {
+        return variables;
+    }
+
+    private static String repeat(String value, int times) {
+        return String.join("", Collections.nCopies(times, value));
+    }
+
+    private static String longSum() {
+
+        StringBuilder sb = new StringBuilder("[x]");
+
+        for (int i = 1; i < 256; i++)
+            sb.append('+').append(i % 2 == 0 ? "[x]" : String.valueOf(i));
+
+        return sb.toString();
+    }
+
+    private static String manyVariables() {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < VARIABLE_COUNT; i++) {
+
+            if (i > 0)
+                sb.append('+');
+
+            sb.append(i + 1).append("*[v").append(i).append(']');
+        }
+
+        return sb.toString();
+    }
+
+    private static List<String> variables() {
+
+        List<String> variables = new ArrayList<>(VARIABLE_COUNT);
+
+        for (int i = 0; i < VARIABLE_COUNT; i++)
+            variables.add("v" + i);
+
+        return List.copyOf(variables);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.benchmark;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to parse an equation string, including tokenizing it.
+ * <p>
+ * Both the default parsers and the precedence climbing parser are measured.
+ * <p>
+ * Run with the gc profiler (-prof gc), as the jmh task does, the heap bytes allocated per parse are reported
+ * as gc.alloc.rate.norm. This is the number to watch when changing the tokenizers or parsers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseBenchmark {
+
+    @Param
+    private ExpressionShape shape;
+
+    private String equation;
+    private ParsingOptions defaultOptions;
+    private ParsingOptions precedenceClimbingOptions;
+
+    @Setup
+    public void setup() {
+        equation = shape.equation();
+        defaultOptions = ParsingOptions.defaultOptions();
+        precedenceClimbingOptions = CustomParsingOptions.precedenceClimbing();
+    }
+
+    @Benchmark
+    public Equation parse() {
+        return Equation.parse(equation, defaultOptions).get();
+    }
+
+    @Benchmark
+    public Equation parsePrecedenceClimbing() {
+        return Equation.parse(equation, precedenceClimbingOptions).get();
+    }
+}
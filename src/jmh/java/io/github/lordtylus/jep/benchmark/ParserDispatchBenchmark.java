@@ -0,0 +1,135 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.benchmark;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.EquationParser;
+import io.github.lordtylus.jep.parsers.ParseResult;
+import io.github.lordtylus.jep.parsers.RangeShape;
+import io.github.lordtylus.jep.tokenizer.EquationTokenizer;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.ValueToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how much parsing gains when custom parsers declare the {@link RangeShape shapes} they accept.
+ * <p>
+ * Many custom parsers for single tokens are registered in front of the default ones. Once without declaring
+ * any shape, so they are asked for every range, and once declaring {@link RangeShape#SINGLE_TOKEN}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParserDispatchBenchmark {
+
+    private static final int CUSTOM_PARSERS = 32;
+
+    @Param
+    private ExpressionShape shape;
+
+    private String equation;
+    private ParsingOptions undeclaredOptions;
+    private ParsingOptions declaredOptions;
+
+    @Setup
+    public void setup() {
+
+        equation = shape.equation();
+
+        CustomParsingOptions undeclared = CustomParsingOptions.empty();
+        CustomParsingOptions declared = CustomParsingOptions.empty();
+
+        for (int i = 0; i < CUSTOM_PARSERS; i++) {
+            undeclared.register(new PrefixParser("#" + i, false));
+            declared.register(new PrefixParser("#" + i, true));
+        }
+
+        CustomParsingOptions defaults = CustomParsingOptions.withDefaults();
+
+        for (EquationParser parser : defaults.getRegisteredParsers()) {
+            undeclared.register(parser);
+            declared.register(parser);
+        }
+
+        for (EquationTokenizer tokenizer : defaults.getRegisteredTokenizers()) {
+            undeclared.register(tokenizer);
+            declared.register(tokenizer);
+        }
+
+        undeclaredOptions = undeclared;
+        declaredOptions = declared;
+    }
+
+    @Benchmark
+    public Equation parseUndeclared() {
+        return Equation.parse(equation, undeclaredOptions).get();
+    }
+
+    @Benchmark
+    public Equation parseDeclared() {
+        return Equation.parse(equation, declaredOptions).get();
+    }
+
+    /**
+     * A parser for single tokens starting with a prefix, standing in for custom constants or named values.
+     */
+    private record PrefixParser(String prefix, boolean declaresShape) implements EquationParser {
+
+        @Override
+        public ParseResult parse(List<Token> tokenizedEquation, int startIndex, int endIndex, ParsingOptions options) {
+
+            if (endIndex != startIndex)
+                return ParseResult.notMine();
+
+            if (!(tokenizedEquation.get(startIndex) instanceof ValueToken valueToken))
+                return ParseResult.notMine();
+
+            if (valueToken.length() < prefix.length())
+                return ParseResult.notMine();
+
+            for (int i = 0; i < prefix.length(); i++)
+                if (valueToken.charAt(i) != prefix.charAt(i))
+                    return ParseResult.notMine();
+
+            return ParseResult.error("Prefix '" + prefix + "' is not supported!");
+        }
+
+        @Override
+        public Set<RangeShape> getAcceptedShapes() {
+            return declaresShape ? EnumSet.of(RangeShape.SINGLE_TOKEN) : EnumSet.allOf(RangeShape.class);
+        }
+    }
+}
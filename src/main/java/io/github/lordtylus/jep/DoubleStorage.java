@@ -0,0 +1,48 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import lombok.NonNull;
+
+/**
+ * This variant of the {@link Storage} provides the values of variables as primitive doubles.
+ * <p>
+ * It is meant to be used as a lambda, such as {@code (DoubleStorage) variable -> x}, where a plain {@link Storage}
+ * would have to box the value on every lookup. {@link Equation#evaluateDouble(Storage)} reads the values without
+ * boxing, while {@link #evaluate(String)} still works for all other evaluation methods.
+ * <p>
+ * If the variables are known upfront, an {@link IndexedStorage} additionally allows reading them by slot.
+ */
+@FunctionalInterface
+public interface DoubleStorage extends Storage {
+
+    /**
+     * Evaluates the given variable name and returns its associated value as double.
+     *
+     * @param variable The variable a value is needed for.
+     * @return The double value associated with the given variable.
+     * @throws NullPointerException     If any given argument is null.
+     * @throws IllegalArgumentException The implementation may decide to throw this exception if the provided variable is unknown or doesn't conform to standards.
+     */
+    @Override
+    double evaluateDouble(@NonNull String variable);
+
+    @Override
+    default Number evaluate(@NonNull String variable) {
+        return evaluateDouble(variable);
+    }
+}
@@ -15,6 +15,9 @@
 */
 package io.github.lordtylus.jep;
 
+import io.github.lordtylus.jep.batch.BatchEvaluator;
+import io.github.lordtylus.jep.batch.ColumnProvider;
+import io.github.lordtylus.jep.derivative.EquationDeriver;
 import io.github.lordtylus.jep.equation.Variable;
 import io.github.lordtylus.jep.options.ParsingOptions;
 import io.github.lordtylus.jep.options.ParsingOptions.ErrorBehavior;
@@ -31,6 +34,7 @@ import lombok.NonNull;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * This object represents a parsed equation string. Such as 2*(2+3)^[x]
@@ -75,6 +79,132 @@ public interface Equation {
     Result evaluate(
             @NonNull Storage storage);
 
+    /**
+     * Evaluates the parsed {@link Equation} using the provided {@link Storage}, and only builds the whole tree of
+     * {@link Result} objects if the given {@link TracePolicy} decides to trace this evaluation.
+     * <p>
+     * If the evaluation is not traced, a {@link ValueResult} is returned, which only holds the number calculated by
+     * {@link #evaluateNumber(Storage)}.
+     *
+     * @param storage     the {@link Storage} to be used to solve variables.
+     * @param tracePolicy the {@link TracePolicy} deciding whether this evaluation is traced.
+     * @return Result object with the result of the equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    default Result evaluate(
+            @NonNull Storage storage,
+            @NonNull TracePolicy tracePolicy) {
+
+        if (tracePolicy.shouldTrace())
+            return evaluate(storage);
+
+        return new ValueResult(evaluateNumber(storage));
+    }
+
+    /**
+     * Evaluates the parsed {@link Equation} using the provided {@link Storage} and returns only the resulting number.
+     * <p>
+     * Like {@link #evaluateDouble(Storage)}, this method does not build a tree of {@link Result} objects.
+     * However, the numbers returned by operators and functions are passed on as they are, without converting them to double.
+     * <p>
+     * The default implementation falls back to {@link #evaluate(Storage)}, so custom implementations of this
+     * interface keep working without any changes. The implementations of this framework override it.
+     *
+     * @param storage the {@link Storage} to be used to solve variables.
+     * @return the result of the equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    default Number evaluateNumber(
+            @NonNull Storage storage) {
+
+        return evaluate(storage).result();
+    }
+
+    /**
+     * Evaluates the parsed {@link Equation} using an {@link EmptyStorage empty storage} implementation and returns the raw double value.
+     * <p>
+     * If the equation consists of any {@link Variable} implementations, these variables will be solved with the value 0.0
+     *
+     * @return the result of the equation as double.
+     * @see #evaluateDouble(Storage)
+     */
+    default double evaluateDouble() {
+        return evaluateDouble(EmptyStorage.INSTANCE);
+    }
+
+    /**
+     * Evaluates the parsed {@link Equation} using the provided {@link Storage} and returns the raw double value.
+     * <p>
+     * Unlike {@link #evaluate(Storage)} this method does not build a tree of {@link Result} objects, which makes it
+     * the better choice if the same equation is evaluated many times and only the value is of interest.
+     * If the calculation needs to be inspected, {@link #evaluate(Storage)} should be used instead.
+     * <p>
+     * The default implementation falls back to {@link #evaluate(Storage)}, so custom implementations of this
+     * interface keep working without any changes. The implementations of this framework override it.
+     *
+     * @param storage the {@link Storage} to be used to solve variables.
+     * @return the result of the equation as double.
+     * @throws NullPointerException If any given argument is null.
+     */
+    default double evaluateDouble(
+            @NonNull Storage storage) {
+
+        return evaluate(storage).asDouble();
+    }
+
+    /**
+     * Evaluates the parsed {@link Equation} for many rows at once, where each variable is given as a column.
+     * The result of row i is written to index i of the output array.
+     * <p>
+     * This is a lot faster than evaluating each row on its own, see {@link BatchEvaluator} for details.
+     *
+     * @param columns the columns of the variables by name.
+     * @param output  array the results are written to. Its length defines the number of rows.
+     * @throws IllegalArgumentException If a variable has no column, or a column is shorter than the output.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    default void evaluateBatch(
+            @NonNull Map<String, double[]> columns,
+            @NonNull double[] output) {
+
+        BatchEvaluator.evaluate(this, columns, output);
+    }
+
+    /**
+     * Evaluates the parsed {@link Equation} for many rows at once, where each variable is given as a column.
+     * The result of row i is written to index i of the output array.
+     * <p>
+     * This is a lot faster than evaluating each row on its own, see {@link BatchEvaluator} for details.
+     *
+     * @param columns provider of the columns of the variables.
+     * @param output  array the results are written to. Its length defines the number of rows.
+     * @throws IllegalArgumentException If a column is shorter than the output.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    default void evaluateBatch(
+            @NonNull ColumnProvider columns,
+            @NonNull double[] output) {
+
+        BatchEvaluator.evaluate(this, columns, output);
+    }
+
+    /**
+     * Creates the symbolic derivative of this {@link Equation} with respect to the given variable.
+     * <p>
+     * The derivative is a new, simplified equation, which can be cached and evaluated like any other equation.
+     * See {@link EquationDeriver} for details.
+     *
+     * @param variable name of the variable to derive by.
+     * @return the derivative.
+     * @throws IllegalArgumentException If the equation contains operators, functions or equations which cannot be derived.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    default Equation derivative(
+            @NonNull String variable) {
+
+        return EquationDeriver.derive(this, variable);
+    }
+
     /**
      * Converts the parsed {@link Equation} back into a localized String pattern.
      * <p>
@@ -0,0 +1,268 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.ParseException;
+import lombok.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This cache stores the results of {@link Equation#parse(String, ParsingOptions)}, so that equations which are parsed
+ * over and over again only have to be tokenized and parsed once.
+ * <p>
+ * Entries are identified by the equation string and the identity of the {@link ParsingOptions}. Two different
+ * {@link CustomParsingOptions} objects with the same configuration therefore don't share entries. Since the options
+ * are not copied, changing {@link CustomParsingOptions} after parsing won't affect results that are already cached.
+ * <p>
+ * The number of entries is bounded. Once the maximum size is reached, the least recently used entries are evicted.
+ * To reduce contention, the cache is split into segments which are locked independently.
+ * The parsed {@link Equation equations} are immutable, so the same {@link EquationOptional} is returned to all callers.
+ * <p>
+ * Parsing errors are cached as well. However, if the {@link ParsingOptions} are configured to throw exceptions,
+ * the exception is passed on and nothing is cached.
+ * <p>
+ * Instances of this class are thread safe.
+ */
+public final class ParseCache {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new empty cache which holds at most the given number of parsed equations.
+     *
+     * @param maximumSize maximum number of entries.
+     * @throws IllegalArgumentException If the maximum size is less than 1.
+     */
+    public ParseCache(int maximumSize) {
+
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("Maximum size must be at least 1 but was " + maximumSize);
+
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+
+        this.maximumSize = maximumSize;
+        this.segmentMask = segmentCount - 1;
+        this.segments = new Segment[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+
+            int capacity = maximumSize / segmentCount;
+
+            if (i < maximumSize % segmentCount)
+                capacity++;
+
+            segments[i] = new Segment(capacity, evictions);
+        }
+    }
+
+    /**
+     * Returns the parsed equation from the cache or parses it using {@link ParsingOptions#defaultOptions()}.
+     *
+     * @param equation equation string to be parsed.
+     * @return {@link EquationOptional} containing the parsed equation or error.
+     * @throws NullPointerException If any given argument is null.
+     * @see Equation#parse(String)
+     */
+    public EquationOptional parse(
+            @NonNull String equation) {
+
+        return parse(equation, ParsingOptions.defaultOptions());
+    }
+
+    /**
+     * Returns the parsed equation from the cache or parses it using the given {@link ParsingOptions}.
+     * <p>
+     * If multiple threads request the same uncached equation at the same time, it may be parsed more than once.
+     * All threads will still receive the same cached result afterward.
+     *
+     * @param equation       equation string to be parsed.
+     * @param parsingOptions options to be used for parsing.
+     * @return {@link EquationOptional} containing the parsed equation or error.
+     * @throws NullPointerException If any given argument is null.
+     * @throws ParseException       If parsing fails and the options are configured to throw exceptions.
+     * @see Equation#parse(String, ParsingOptions)
+     */
+    public EquationOptional parse(
+            @NonNull String equation,
+            @NonNull ParsingOptions parsingOptions) {
+
+        Key key = new Key(equation, parsingOptions);
+        Segment segment = segmentFor(key);
+
+        EquationOptional cached;
+
+        synchronized (segment) {
+            cached = segment.get(key);
+        }
+
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+
+        /* Parsing is done outside the lock, so slow equations don't block the whole segment. */
+        EquationOptional parsed = Equation.parse(equation, parsingOptions);
+
+        synchronized (segment) {
+
+            EquationOptional existing = segment.putIfAbsent(key, parsed);
+
+            return existing != null ? existing : parsed;
+        }
+    }
+
+    /**
+     * Removes all entries from this cache. The statistics are not reset.
+     */
+    public void clear() {
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the current number of entries in this cache.
+     *
+     * @return number of cached equations.
+     */
+    public int size() {
+
+        int size = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * @return the maximum number of entries this cache holds.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return how many times a cached equation was returned.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return how many times an equation had to be parsed, because it was not cached.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return how many entries were removed, because the cache was full.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment segmentFor(Key key) {
+
+        int hash = key.hashCode();
+
+        /* Spread the higher bits, as only the lowest ones are used to pick the segment. */
+        hash ^= hash >>> 16;
+
+        return segments[hash & segmentMask];
+    }
+
+    /**
+     * Equation strings are compared by value, while the options are compared by identity.
+     */
+    private static final class Key {
+
+        private final String equation;
+        private final ParsingOptions parsingOptions;
+        private final int hash;
+
+        private Key(String equation, ParsingOptions parsingOptions) {
+            this.equation = equation;
+            this.parsingOptions = parsingOptions;
+            this.hash = 31 * equation.hashCode() + System.identityHashCode(parsingOptions);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof Key other))
+                return false;
+
+            return parsingOptions == other.parsingOptions && equation.equals(other.equation);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A LinkedHashMap in access order evicting its least recently used entry once the capacity is exceeded.
+     * Access must be synchronized on the segment itself.
+     */
+    private static final class Segment extends LinkedHashMap<Key, EquationOptional> {
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, EquationOptional> eldest) {
+
+            if (size() <= capacity)
+                return false;
+
+            evictions.increment();
+            return true;
+        }
+    }
+}
@@ -39,4 +39,20 @@ public interface Storage {
      * @see Variable#evaluate(Storage)
      */
     Number evaluate(@NonNull String variable);
+
+    /**
+     * Evaluates the given variable name and returns its associated value as double.
+     * <p>
+     * This method is used by {@link Equation#evaluateDouble(Storage)}. The default implementation converts the result of
+     * {@link #evaluate(String)}, implementations which hold primitive values can override it to avoid boxing.
+     *
+     * @param variable The variable a value is needed for.
+     * @return The double value associated with the given variable.
+     * @throws NullPointerException     If any given argument is null.
+     * @throws IllegalArgumentException The implementation may decide to throw this exception if the provided variable is unknown or doesn't conform to standards.
+     * @see DoubleStorage
+     */
+    default double evaluateDouble(@NonNull String variable) {
+        return evaluate(variable).doubleValue();
+    }
 }
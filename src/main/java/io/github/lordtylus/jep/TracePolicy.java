@@ -0,0 +1,77 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The trace policy decides for each call of {@link Equation#evaluate(Storage, TracePolicy)}, whether the whole tree of
+ * {@link Result} objects is built, so it can be {@link Result#print(StringBuilder) printed} and inspected afterward.
+ * <p>
+ * Building the tree costs an object per part of the equation and is only needed when a human looks at the calculation.
+ * Evaluations which are not traced only return a {@link ValueResult} holding the number.
+ * <p>
+ * Using {@link #sampled(int)} only every n-th evaluation is traced, which allows auditing calculations in production
+ * without paying for the trace on every call.
+ */
+@FunctionalInterface
+public interface TracePolicy {
+
+    /**
+     * Decides whether the next evaluation is traced.
+     *
+     * @return true, if the full tree of {@link Result} objects should be built.
+     */
+    boolean shouldTrace();
+
+    /**
+     * Returns a policy that traces every evaluation, which is the same as calling {@link Equation#evaluate(Storage)}.
+     *
+     * @return policy tracing every evaluation.
+     */
+    static TracePolicy always() {
+        return () -> true;
+    }
+
+    /**
+     * Returns a policy that never traces, so only the number is calculated.
+     *
+     * @return policy tracing no evaluation.
+     */
+    static TracePolicy never() {
+        return () -> false;
+    }
+
+    /**
+     * Returns a policy that traces the first and then every n-th evaluation.
+     * <p>
+     * The returned policy is thread safe and counts the evaluations of all threads together.
+     *
+     * @param every the number of evaluations per trace.
+     * @return policy tracing every n-th evaluation.
+     * @throws IllegalArgumentException If every is less than 1.
+     */
+    static TracePolicy sampled(
+            int every) {
+
+        if (every < 1)
+            throw new IllegalArgumentException("Sampling rate must be at least 1, but was " + every);
+
+        AtomicLong counter = new AtomicLong();
+
+        return () -> counter.getAndIncrement() % every == 0;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import lombok.NonNull;
+
+/**
+ * This record represents the result of an evaluation that was not traced, see {@link TracePolicy}.
+ * <p>
+ * It only holds the number. Printing it shows the value without any of the steps that lead to it.
+ */
+public record ValueResult(
+        Number result
+) implements Result {
+
+    @Override
+    public void print(
+            @NonNull StringBuilder sb,
+            @NonNull String currentIndent,
+            @NonNull String indent) {
+
+        sb.append(currentIndent)
+                .append(result)
+                .append("\n");
+    }
+
+    @Override
+    public void toStaticEquation(@NonNull StringBuilder sb) {
+        sb.append(result);
+    }
+
+    @Override
+    public String toString() {
+        return toDisplayString();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.batch;
+
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.Operator;
+
+/**
+ * A batch backend provides the loops the {@link BatchEvaluator} uses to apply {@link Operator operators},
+ * {@link MathFunction functions}, {@link Extremum min and max} and {@link Condition conditions} to a block of rows.
+ * <p>
+ * Backends may only support some of them. If a method returns false, the {@link BatchEvaluator}
+ * falls back to the {@link ScalarBackend}, which supports everything.
+ * <p>
+ * Implementations must be thread safe, as the same backend may be used for multiple evaluations at once.
+ */
+public interface BatchBackend {
+
+    /**
+     * Applies the operator to each row, using the target as left and the source as right operand.
+     * The result is written back into the target.
+     *
+     * @param operator the operator to apply.
+     * @param target   left operands and output, starting at index 0.
+     * @param source   right operands, starting at the given offset.
+     * @param offset   index of the first right operand in the source.
+     * @param length   number of rows.
+     * @return true if the operator was applied, false if this backend doesn't support it.
+     */
+    boolean applyOperator(Operator operator, double[] target, double[] source, int offset, int length);
+
+    /**
+     * Applies the operator to each row, using the target as left operand and the given value as right operand.
+     * The result is written back into the target.
+     *
+     * @param operator the operator to apply.
+     * @param target   left operands and output, starting at index 0.
+     * @param value    right operand for all rows.
+     * @param length   number of rows.
+     * @return true if the operator was applied, false if this backend doesn't support it.
+     */
+    boolean applyOperator(Operator operator, double[] target, double value, int length);
+
+    /**
+     * Applies the function to each row and writes the result back into the target.
+     *
+     * @param function the function to apply.
+     * @param target   arguments and output, starting at index 0.
+     * @param length   number of rows.
+     * @return true if the function was applied, false if this backend doesn't support it.
+     */
+    boolean applyFunction(MathFunction function, double[] target, int length);
+
+    /**
+     * Keeps the smaller or larger value of the target and the source in each row, the same way {@link Extremum} does.
+     * If any of both values is NaN, the result is NaN. The result is written back into the target.
+     *
+     * @param kind   whether the smaller or larger value is kept.
+     * @param target first values and output, starting at index 0.
+     * @param source second values, starting at the given offset.
+     * @param offset index of the first value in the source.
+     * @param length number of rows.
+     * @return true if the values were compared, false if this backend doesn't support it.
+     */
+    boolean applyExtremum(Extremum.Kind kind, double[] target, double[] source, int offset, int length);
+
+    /**
+     * Keeps the smaller or larger value of the target and the given value in each row, the same way {@link Extremum} does.
+     * If any of both values is NaN, the result is NaN. The result is written back into the target.
+     *
+     * @param kind   whether the smaller or larger value is kept.
+     * @param target first values and output, starting at index 0.
+     * @param value  second value for all rows.
+     * @param length number of rows.
+     * @return true if the values were compared, false if this backend doesn't support it.
+     */
+    boolean applyExtremum(Extremum.Kind kind, double[] target, double value, int length);
+
+    /**
+     * Replaces the value of the condition in each row of the target by the value of whenTrue, if the condition is
+     * true as defined by {@link Condition#isTrue(double)}, or by the value of whenFalse otherwise.
+     *
+     * @param target    values of the condition and output, starting at index 0.
+     * @param whenTrue  values for rows whose condition is true, starting at index 0.
+     * @param whenFalse values for rows whose condition is false, starting at index 0.
+     * @param length    number of rows.
+     * @return true if the values were chosen, false if this backend doesn't support it.
+     */
+    boolean applyCondition(double[] target, double[] whenTrue, double[] whenFalse, int length);
+}
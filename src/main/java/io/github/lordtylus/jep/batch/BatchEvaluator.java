@@ -0,0 +1,435 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.batch;
+
+import io.github.lordtylus.jep.DoubleStorage;
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.EquationTree;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class evaluates an {@link Equation} for many rows at once, where every variable is given as a column of values.
+ * <p>
+ * Instead of walking the whole tree for every row, each node of the tree is evaluated for a block of rows at a time.
+ * An {@link Operation} for example becomes a single loop adding two arrays. These loops are simple enough for the JIT
+ * to unroll and vectorize them, and the tree itself is only walked once per block.
+ * <p>
+ * The loops themselves are provided by a {@link BatchBackend}. By default, the {@link ScalarBackend} is used, which
+ * has dedicated loops for the {@link StandardOperators} and {@link StandardFunctions}. Custom {@link Operator operators}
+ * and {@link MathFunction functions} are supported as well and are called once per row. If a different backend does not
+ * support an operator or function, the {@link ScalarBackend} is used for it instead.
+ * <p>
+ * {@link Extremum min, max} and {@link Clamp clamp} compare whole blocks through the backend as well. A {@link Condition}
+ * evaluates its condition for the block first. If all rows take the same branch, only that branch is evaluated. Otherwise,
+ * both branches are evaluated for the whole block and the value of each row is chosen by its condition. In that case,
+ * custom operators and functions in a branch are also called for rows which don't take it.
+ * <p>
+ * Custom {@link Equation} implementations are evaluated row by row using a {@link Storage} which reads the columns.
+ * <p>
+ * This class is thread safe. To use multiple threads, different ranges of the same columns can be evaluated in parallel
+ * using {@link #evaluate(Equation, ColumnProvider, double[], int, int)}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchEvaluator {
+
+    private static final int BLOCK_SIZE = 1024;
+
+    /**
+     * Evaluates the given {@link Equation} for all rows of the output array.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param columns  the named columns holding the variable values.
+     * @param output   array the result of row i is written to at index i.
+     * @throws IllegalArgumentException If a variable has no column, or a column is shorter than the output.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static void evaluate(
+            @NonNull Equation equation,
+            @NonNull Map<String, double[]> columns,
+            @NonNull double[] output) {
+
+        evaluate(equation, mapProvider(columns), output, 0, output.length);
+    }
+
+    /**
+     * Evaluates the given {@link Equation} for all rows of the output array.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param columns  provider of the columns holding the variable values.
+     * @param output   array the result of row i is written to at index i.
+     * @throws IllegalArgumentException If a column is shorter than the output.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static void evaluate(
+            @NonNull Equation equation,
+            @NonNull ColumnProvider columns,
+            @NonNull double[] output) {
+
+        evaluate(equation, columns, output, 0, output.length);
+    }
+
+    /**
+     * Evaluates the given {@link Equation} for the rows from (inclusive) to (exclusive).
+     * The result of row i is written to index i of the output array.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param columns  provider of the columns holding the variable values.
+     * @param output   array the results are written to.
+     * @param from     first row to evaluate, inclusive.
+     * @param to       last row to evaluate, exclusive.
+     * @throws IllegalArgumentException  If a column does not contain all rows of the range.
+     * @throws IndexOutOfBoundsException If the range is not within the output array.
+     * @throws NullPointerException      If any given argument is null.
+     */
+    public static void evaluate(
+            @NonNull Equation equation,
+            @NonNull ColumnProvider columns,
+            @NonNull double[] output,
+            int from,
+            int to) {
+
+        evaluate(equation, columns, output, from, to, ScalarBackend.INSTANCE);
+    }
+
+    /**
+     * Evaluates the given {@link Equation} for the rows from (inclusive) to (exclusive) using the given {@link BatchBackend}.
+     * The result of row i is written to index i of the output array.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param columns  provider of the columns holding the variable values.
+     * @param output   array the results are written to.
+     * @param from     first row to evaluate, inclusive.
+     * @param to       last row to evaluate, exclusive.
+     * @param backend  the {@link BatchBackend} applying operators and functions.
+     * @throws IllegalArgumentException  If a column does not contain all rows of the range.
+     * @throws IndexOutOfBoundsException If the range is not within the output array.
+     * @throws NullPointerException      If any given argument is null.
+     */
+    public static void evaluate(
+            @NonNull Equation equation,
+            @NonNull ColumnProvider columns,
+            @NonNull double[] output,
+            int from,
+            int to,
+            @NonNull BatchBackend backend) {
+
+        if (from < 0 || from > to || to > output.length)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + output.length);
+
+        Batch batch = new Batch(columns, backend, to);
+        batch.resolveColumns(equation);
+
+        double[] block = batch.buffer(0);
+
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+
+            int length = Math.min(BLOCK_SIZE, to - start);
+
+            batch.evaluate(equation, block, start, length, 1);
+
+            System.arraycopy(block, 0, output, start, length);
+        }
+    }
+
+    private static ColumnProvider mapProvider(Map<String, double[]> columns) {
+
+        return variable -> {
+
+            double[] column = columns.get(variable);
+
+            if (column == null)
+                throw new IllegalArgumentException("Variable '" + variable + "' not set!");
+
+            return column;
+        };
+    }
+
+    /**
+     * Holds the resolved columns and the temporary buffers of a single batch evaluation.
+     * <p>
+     * The result of a node is written into the buffer of its depth, while the right operand of an operation
+     * uses the buffer one level deeper. Conditions and clamp keep two operands at once and use the next two levels.
+     * That way only one buffer per level of the tree is needed.
+     */
+    private static final class Batch {
+
+        private final ColumnProvider columnProvider;
+        private final BatchBackend backend;
+        private final int rows;
+
+        private final Map<String, double[]> columns = new HashMap<>();
+        private double[][] buffers = new double[4][];
+
+        private Batch(ColumnProvider columnProvider, BatchBackend backend, int rows) {
+            this.columnProvider = columnProvider;
+            this.backend = backend;
+            this.rows = rows;
+        }
+
+        private double[] buffer(int depth) {
+
+            if (depth >= buffers.length) {
+                double[][] newBuffers = new double[Math.max(depth + 1, buffers.length * 2)][];
+                System.arraycopy(buffers, 0, newBuffers, 0, buffers.length);
+                buffers = newBuffers;
+            }
+
+            double[] buffer = buffers[depth];
+
+            if (buffer == null) {
+                buffer = new double[BLOCK_SIZE];
+                buffers[depth] = buffer;
+            }
+
+            return buffer;
+        }
+
+        private void resolveColumns(Equation equation) {
+
+            for (String variable : EquationTree.variablesOf(equation))
+                column(variable);
+        }
+
+        private double[] column(String name) {
+
+            double[] column = columns.get(name);
+
+            if (column != null)
+                return column;
+
+            column = columnProvider.getColumn(name);
+
+            if (column == null)
+                throw new IllegalArgumentException("Variable '" + name + "' not set!");
+
+            if (column.length < rows)
+                throw new IllegalArgumentException("Column '" + name + "' has " + column.length + " rows, but " + rows + " are needed!");
+
+            columns.put(name, column);
+
+            return column;
+        }
+
+        private void evaluate(Equation equation, double[] target, int start, int length, int depth) {
+
+            if (isConstant(equation)) {
+
+                fill(target, equation.evaluateDouble(EmptyStorage.INSTANCE), length);
+
+            } else if (equation instanceof Variable variable) {
+
+                System.arraycopy(column(variable.name()), start, target, 0, length);
+
+            } else if (equation instanceof BoundVariable variable) {
+
+                System.arraycopy(column(variable.name()), start, target, 0, length);
+
+            } else if (equation instanceof Operation operation) {
+
+                evaluate(operation.left(), target, start, length, depth);
+
+                Equation right = operation.right();
+                Operator operator = operation.operator();
+
+                if (isConstant(right)) {
+                    applyOperator(operator, target, right.evaluateDouble(EmptyStorage.INSTANCE), length);
+                } else if (right instanceof Variable variable) {
+                    applyOperator(operator, target, column(variable.name()), start, length);
+                } else {
+                    double[] buffer = buffer(depth);
+                    evaluate(right, buffer, start, length, depth + 1);
+                    applyOperator(operator, target, buffer, 0, length);
+                }
+
+            } else if (equation instanceof Parenthesis parenthesis) {
+
+                evaluate(parenthesis.inner(), target, start, length, depth);
+
+                if (!backend.applyFunction(parenthesis.function(), target, length))
+                    ScalarBackend.INSTANCE.applyFunction(parenthesis.function(), target, length);
+
+            } else if (equation instanceof Condition condition) {
+
+                evaluateCondition(condition, target, start, length, depth);
+
+            } else if (equation instanceof Extremum extremum) {
+
+                List<Equation> arguments = extremum.arguments();
+
+                evaluate(arguments.get(0), target, start, length, depth);
+
+                for (int i = 1; i < arguments.size(); i++)
+                    applyExtremum(extremum.kind(), target, arguments.get(i), start, length, depth);
+
+            } else if (equation instanceof Clamp clamp) {
+
+                evaluateClamp(clamp, target, start, length, depth);
+
+            } else if (equation instanceof BoundEquation boundEquation) {
+
+                evaluate(boundEquation.getEquation(), target, start, length, depth);
+
+            } else {
+
+                evaluateRows(equation, target, start, length);
+            }
+        }
+
+        /*
+         * Both branches use their own buffer, so the condition can stay in the target until the rows are chosen.
+         */
+        private void evaluateCondition(Condition condition, double[] target, int start, int length, int depth) {
+
+            evaluate(condition.condition(), target, start, length, depth);
+
+            int trueRows = 0;
+
+            for (int i = 0; i < length; i++)
+                if (Condition.isTrue(target[i]))
+                    trueRows++;
+
+            if (trueRows == length) {
+                evaluate(condition.whenTrue(), target, start, length, depth);
+                return;
+            }
+
+            if (trueRows == 0) {
+                evaluate(condition.whenFalse(), target, start, length, depth);
+                return;
+            }
+
+            double[] whenTrue = buffer(depth);
+            evaluate(condition.whenTrue(), whenTrue, start, length, depth + 1);
+
+            double[] whenFalse = buffer(depth + 1);
+            evaluate(condition.whenFalse(), whenFalse, start, length, depth + 2);
+
+            if (!backend.applyCondition(target, whenTrue, whenFalse, length))
+                ScalarBackend.INSTANCE.applyCondition(target, whenTrue, whenFalse, length);
+        }
+
+        /*
+         * Calculated as max(min(value, upper), lower), which is the same as Clamp does. Constants and variables can be
+         * read in any order, other lower bounds are evaluated into their own buffer before the upper bound.
+         */
+        private void evaluateClamp(Clamp clamp, double[] target, int start, int length, int depth) {
+
+            evaluate(clamp.value(), target, start, length, depth);
+
+            Equation lower = clamp.lower();
+
+            if (isConstant(lower) || lower instanceof Variable) {
+                applyExtremum(Extremum.Kind.MIN, target, clamp.upper(), start, length, depth);
+                applyExtremum(Extremum.Kind.MAX, target, lower, start, length, depth);
+                return;
+            }
+
+            double[] lowerBuffer = buffer(depth);
+            evaluate(lower, lowerBuffer, start, length, depth + 1);
+
+            applyExtremum(Extremum.Kind.MIN, target, clamp.upper(), start, length, depth + 1);
+            applyExtremum(Extremum.Kind.MAX, target, lowerBuffer, 0, length);
+        }
+
+        /*
+         * The argument is evaluated into the buffer of the given depth, unless it is a constant or a variable.
+         */
+        private void applyExtremum(Extremum.Kind kind, double[] target, Equation argument, int start, int length, int depth) {
+
+            if (isConstant(argument)) {
+                applyExtremum(kind, target, argument.evaluateDouble(EmptyStorage.INSTANCE), length);
+            } else if (argument instanceof Variable variable) {
+                applyExtremum(kind, target, column(variable.name()), start, length);
+            } else {
+                double[] buffer = buffer(depth);
+                evaluate(argument, buffer, start, length, depth + 1);
+                applyExtremum(kind, target, buffer, 0, length);
+            }
+        }
+
+        private void applyExtremum(Extremum.Kind kind, double[] target, double[] source, int offset, int length) {
+
+            if (!backend.applyExtremum(kind, target, source, offset, length))
+                ScalarBackend.INSTANCE.applyExtremum(kind, target, source, offset, length);
+        }
+
+        private void applyExtremum(Extremum.Kind kind, double[] target, double value, int length) {
+
+            if (!backend.applyExtremum(kind, target, value, length))
+                ScalarBackend.INSTANCE.applyExtremum(kind, target, value, length);
+        }
+
+        private void applyOperator(Operator operator, double[] target, double[] source, int offset, int length) {
+
+            if (!backend.applyOperator(operator, target, source, offset, length))
+                ScalarBackend.INSTANCE.applyOperator(operator, target, source, offset, length);
+        }
+
+        private void applyOperator(Operator operator, double[] target, double value, int length) {
+
+            if (!backend.applyOperator(operator, target, value, length))
+                ScalarBackend.INSTANCE.applyOperator(operator, target, value, length);
+        }
+
+        private void evaluateRows(Equation equation, double[] target, int start, int length) {
+
+            int[] row = new int[1];
+
+            DoubleStorage storage = variable -> column(variable)[row[0]];
+
+            for (int i = 0; i < length; i++) {
+                row[0] = start + i;
+                target[i] = equation.evaluateDouble(storage);
+            }
+        }
+    }
+
+    /*
+     * Long and decimal constants are filled in as their closest double value.
+     */
+    private static boolean isConstant(Equation equation) {
+        return equation instanceof Constant || equation instanceof LongConstant || equation instanceof DecimalConstant;
+    }
+
+    private static void fill(double[] target, double value, int length) {
+
+        for (int i = 0; i < length; i++)
+            target[i] = value;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.batch;
+
+import io.github.lordtylus.jep.Equation;
+import lombok.NonNull;
+
+/**
+ * The column provider is used when evaluating {@link Equation equations} over many rows at once
+ * via {@link BatchEvaluator}. Instead of a single value per variable, it returns a whole column of values.
+ * <p>
+ * Each column is asked for once per batch evaluation, so implementations may look them up in a map or load them lazily.
+ */
+@FunctionalInterface
+public interface ColumnProvider {
+
+    /**
+     * Returns the column of values for the given variable. The value of row i is expected at index i.
+     *
+     * @param variable The variable a column is needed for.
+     * @return The values of the variable for all rows.
+     * @throws IllegalArgumentException The implementation may decide to throw this exception if the provided variable is unknown.
+     */
+    double[] getColumn(@NonNull String variable);
+}
@@ -0,0 +1,190 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.batch;
+
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * This backend applies operators, functions, min, max and conditions using plain Java loops and is used by the
+ * {@link BatchEvaluator} by default.
+ * <p>
+ * The {@link StandardOperators} and the simple {@link StandardFunctions} have dedicated loops the JIT can vectorize on its own.
+ * All other operators and functions, including custom ones, are called once per row. This backend therefore supports everything
+ * and serves as fallback for other {@link BatchBackend backends}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ScalarBackend implements BatchBackend {
+
+    /**
+     * Singleton immutable instance of the {@link ScalarBackend}
+     */
+    public static final ScalarBackend INSTANCE = new ScalarBackend();
+
+    private static final Map<MathFunction, DoubleUnaryOperator> STANDARD_FUNCTIONS = new IdentityHashMap<>();
+
+    static {
+        STANDARD_FUNCTIONS.put(StandardFunctions.SIN, Math::sin);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ASIN, Math::asin);
+        STANDARD_FUNCTIONS.put(StandardFunctions.SINH, Math::sinh);
+        STANDARD_FUNCTIONS.put(StandardFunctions.COS, Math::cos);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ACOS, Math::acos);
+        STANDARD_FUNCTIONS.put(StandardFunctions.COSH, Math::cosh);
+        STANDARD_FUNCTIONS.put(StandardFunctions.TAN, Math::tan);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ATAN, Math::atan);
+        STANDARD_FUNCTIONS.put(StandardFunctions.TANH, Math::tanh);
+        STANDARD_FUNCTIONS.put(StandardFunctions.EXP, Math::exp);
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG, Math::log);
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG10, Math::log10);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ROUND, value -> Math.round(value));
+        STANDARD_FUNCTIONS.put(StandardFunctions.CBRT, Math::cbrt);
+        STANDARD_FUNCTIONS.put(StandardFunctions.RAD, Math::toRadians);
+        STANDARD_FUNCTIONS.put(StandardFunctions.DEG, Math::toDegrees);
+    }
+
+    @Override
+    public boolean applyOperator(Operator operator, double[] target, double[] source, int offset, int length) {
+
+        if (operator == StandardOperators.ADD) {
+            for (int i = 0; i < length; i++)
+                target[i] += source[offset + i];
+        } else if (operator == StandardOperators.SUB) {
+            for (int i = 0; i < length; i++)
+                target[i] -= source[offset + i];
+        } else if (operator == StandardOperators.MULT) {
+            for (int i = 0; i < length; i++)
+                target[i] *= source[offset + i];
+        } else if (operator == StandardOperators.DIV) {
+            for (int i = 0; i < length; i++)
+                target[i] /= source[offset + i];
+        } else if (operator == StandardOperators.POW) {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.pow(target[i], source[offset + i]);
+        } else {
+            for (int i = 0; i < length; i++)
+                target[i] = operator.evaluateDouble(target[i], source[offset + i]);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyOperator(Operator operator, double[] target, double value, int length) {
+
+        if (operator == StandardOperators.ADD) {
+            for (int i = 0; i < length; i++)
+                target[i] += value;
+        } else if (operator == StandardOperators.SUB) {
+            for (int i = 0; i < length; i++)
+                target[i] -= value;
+        } else if (operator == StandardOperators.MULT) {
+            for (int i = 0; i < length; i++)
+                target[i] *= value;
+        } else if (operator == StandardOperators.DIV) {
+            for (int i = 0; i < length; i++)
+                target[i] /= value;
+        } else if (operator == StandardOperators.POW) {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.pow(target[i], value);
+        } else {
+            for (int i = 0; i < length; i++)
+                target[i] = operator.evaluateDouble(target[i], value);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyFunction(MathFunction function, double[] target, int length) {
+
+        if (function == StandardFunctions.NOP)
+            return true;
+
+        if (function == StandardFunctions.ABS) {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.abs(target[i]);
+        } else if (function == StandardFunctions.SQRT) {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.sqrt(target[i]);
+        } else if (function == StandardFunctions.FLOOR) {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.floor(target[i]);
+        } else if (function == StandardFunctions.CEIL) {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.ceil(target[i]);
+        } else {
+
+            DoubleUnaryOperator standardFunction = STANDARD_FUNCTIONS.get(function);
+
+            if (standardFunction != null) {
+                for (int i = 0; i < length; i++)
+                    target[i] = standardFunction.applyAsDouble(target[i]);
+            } else {
+                for (int i = 0; i < length; i++)
+                    target[i] = function.evaluateDouble(target[i]);
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyExtremum(Extremum.Kind kind, double[] target, double[] source, int offset, int length) {
+
+        if (kind == Extremum.Kind.MIN) {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.min(target[i], source[offset + i]);
+        } else {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.max(target[i], source[offset + i]);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyExtremum(Extremum.Kind kind, double[] target, double value, int length) {
+
+        if (kind == Extremum.Kind.MIN) {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.min(target[i], value);
+        } else {
+            for (int i = 0; i < length; i++)
+                target[i] = Math.max(target[i], value);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyCondition(double[] target, double[] whenTrue, double[] whenFalse, int length) {
+
+        for (int i = 0; i < length; i++)
+            target[i] = Condition.isTrue(target[i]) ? whenTrue[i] : whenFalse[i];
+
+        return true;
+    }
+}
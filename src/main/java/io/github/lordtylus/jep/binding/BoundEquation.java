@@ -0,0 +1,105 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.binding;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Locale;
+
+/**
+ * This class represents an {@link Equation} whose variables were assigned to slots by the {@link EquationBinder}.
+ * <p>
+ * When evaluated with an {@link IndexedStorage} that uses the same {@link SlotLayout}, all variables are read by index.
+ * Any other {@link Storage} can still be used, in which case the variables are resolved by name.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class BoundEquation implements Equation {
+
+    /**
+     * The bound equation tree, in which every variable was replaced by a bound variable.
+     */
+    @NonNull
+    private final Equation equation;
+
+    /**
+     * The layout defining the slot of each variable.
+     */
+    @NonNull
+    private final SlotLayout layout;
+
+    /**
+     * Creates a new {@link IndexedStorage} for the layout of this equation with all values set to 0.0.
+     *
+     * @return new storage.
+     */
+    public IndexedStorage newStorage() {
+        return new IndexedStorage(layout);
+    }
+
+    /**
+     * Evaluates this equation with the given variable values ordered by the {@link SlotLayout} of this equation.
+     *
+     * @param values the variable values.
+     * @return the result of the equation.
+     * @throws IllegalArgumentException If the array is too short for the layout.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public double evaluateDouble(
+            @NonNull double[] values) {
+
+        return equation.evaluateDouble(new IndexedStorage(layout, values));
+    }
+
+    @Override
+    public Result evaluate(
+            @NonNull Storage storage) {
+
+        return equation.evaluate(storage);
+    }
+
+    @Override
+    public double evaluateDouble(
+            @NonNull Storage storage) {
+
+        return equation.evaluateDouble(storage);
+    }
+
+    @Override
+    public Number evaluateNumber(
+            @NonNull Storage storage) {
+
+        return equation.evaluateNumber(storage);
+    }
+
+    @Override
+    public String toPattern(
+            @NonNull Locale locale,
+            @NonNull VariablePattern variablePattern) {
+
+        return equation.toPattern(locale, variablePattern);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.binding;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.EquationTree;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The binder resolves the variable names of a parsed {@link Equation} to slots of a {@link SlotLayout} once,
+ * so they don't have to be looked up by name on every evaluation.
+ * <p>
+ * Every {@link Variable} in the tree is replaced by a {@link BoundVariable} which reads its value directly
+ * from an {@link IndexedStorage}. All other parts of the equation stay the same.
+ * Unknown {@link Equation} implementations are kept as they are and resolve their variables by name.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EquationBinder {
+
+    /**
+     * Binds the given {@link Equation} to a new {@link SlotLayout}.
+     * Each distinct variable gets a slot, in the order in which the variables first appear in the equation.
+     * <p>
+     * If the equation already is a {@link BoundEquation}, it is returned as is.
+     *
+     * @param equation the {@link Equation} to bind.
+     * @return the bound equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static BoundEquation bind(
+            @NonNull Equation equation) {
+
+        if (equation instanceof BoundEquation boundEquation)
+            return boundEquation;
+
+        return bind(equation, SlotLayout.of(EquationTree.variablesOf(equation)));
+    }
+
+    /**
+     * Binds the given {@link Equation} to the given {@link SlotLayout}.
+     * <p>
+     * This allows multiple equations to share the same layout, so they can be evaluated with the same {@link IndexedStorage}.
+     * The layout may contain variables which are not used by the equation.
+     *
+     * @param equation the {@link Equation} to bind.
+     * @param layout   the {@link SlotLayout} to use.
+     * @return the bound equation.
+     * @throws IllegalArgumentException If the equation uses a variable that is not part of the layout.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static BoundEquation bind(
+            @NonNull Equation equation,
+            @NonNull SlotLayout layout) {
+
+        if (equation instanceof BoundEquation boundEquation)
+            equation = boundEquation.getEquation();
+
+        return new BoundEquation(bindTree(equation, layout), layout);
+    }
+
+    private static Equation bindTree(Equation equation, SlotLayout layout) {
+
+        if (equation instanceof Variable variable)
+            return new BoundVariable(variable.name(), layout.slotOf(variable.name()), layout);
+
+        if (equation instanceof BoundVariable variable)
+            return new BoundVariable(variable.name(), layout.slotOf(variable.name()), layout);
+
+        if (equation instanceof BoundEquation boundEquation)
+            return bindTree(boundEquation.getEquation(), layout);
+
+        List<Equation> children = EquationTree.childrenOf(equation);
+        List<Equation> boundChildren = new ArrayList<>(children.size());
+
+        for (Equation child : children)
+            boundChildren.add(bindTree(child, layout));
+
+        return EquationTree.withChildren(equation, boundChildren);
+    }
+}
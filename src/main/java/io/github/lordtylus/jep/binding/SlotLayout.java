@@ -0,0 +1,137 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.binding;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The slot layout describes which variable of an {@link Equation} is stored at which index of an {@link IndexedStorage}.
+ * <p>
+ * Slots are numbered from 0 to {@link #size()} - 1 in the order of {@link #getVariables()}. Callers can use this
+ * to fill the backing array directly from their own data, without looking up every variable by its name.
+ * <p>
+ * Instances of this class are immutable, thread safe and serializable.
+ */
+public final class SlotLayout implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The variable names ordered by their slot.
+     */
+    @Getter
+    private final List<String> variables;
+
+    private final Map<String, Integer> slots;
+
+    private SlotLayout(List<String> variables) {
+
+        this.variables = variables;
+        this.slots = new HashMap<>();
+
+        for (int i = 0; i < variables.size(); i++) {
+            if (slots.put(variables.get(i), i) != null)
+                throw new IllegalArgumentException("Variable '" + variables.get(i) + "' is listed more than once!");
+        }
+    }
+
+    /**
+     * Creates a new layout which assigns the given variables to slots in the given order.
+     *
+     * @param variables names of the variables.
+     * @return new layout with one slot per variable.
+     * @throws IllegalArgumentException If a variable is listed more than once.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static SlotLayout of(
+            @NonNull String... variables) {
+
+        return new SlotLayout(List.of(variables));
+    }
+
+    /**
+     * Creates a new layout which assigns the given variables to slots in the order of iteration.
+     *
+     * @param variables names of the variables.
+     * @return new layout with one slot per variable.
+     * @throws IllegalArgumentException If a variable is listed more than once.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static SlotLayout of(
+            @NonNull Collection<String> variables) {
+
+        return new SlotLayout(List.copyOf(variables));
+    }
+
+    /**
+     * Returns the number of slots of this layout.
+     *
+     * @return number of variables in this layout.
+     */
+    public int size() {
+        return variables.size();
+    }
+
+    /**
+     * Returns the slot of the given variable, or -1 if the variable is not part of this layout.
+     *
+     * @param variable name of the variable.
+     * @return slot of the variable or -1.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public int indexOf(
+            @NonNull String variable) {
+
+        Integer slot = slots.get(variable);
+
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Returns the slot of the given variable.
+     *
+     * @param variable name of the variable.
+     * @return slot of the variable.
+     * @throws IllegalArgumentException If the variable is not part of this layout.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public int slotOf(
+            @NonNull String variable) {
+
+        Integer slot = slots.get(variable);
+
+        if (slot == null)
+            throw new IllegalArgumentException("Variable '" + variable + "' not set!");
+
+        return slot;
+    }
+
+    @Override
+    public String toString() {
+        return "SlotLayout" + variables;
+    }
+}
@@ -0,0 +1,475 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.compiler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This is a minimal writer for JVM class files as needed by the {@link EquationCompiler}.
+ * <p>
+ * It only supports what the compiler needs: a constant pool, fields without attributes and
+ * methods with a single Code attribute. Forward jumps are supported for conditions, for which the stack map frames
+ * at their targets are written as full frames.
+ */
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    private static final int JAVA_17 = 61;
+
+    private final ByteArrayOutputStream constantPoolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream constantPool = new DataOutputStream(constantPoolBytes);
+    private final Map<String, Integer> constantIndices = new HashMap<>();
+    private int constantCount = 1;
+
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+
+    /**
+     * Creates a new writer for a public final class.
+     *
+     * @param name       internal name of the class such as io/github/Example
+     * @param superName  internal name of the super class.
+     * @param interfaces internal names of the implemented interfaces.
+     */
+    ClassFileWriter(String name, String superName, String... interfaces) {
+
+        this.thisClass = classConstant(name);
+        this.superClass = classConstant(superName);
+        this.interfaces = new int[interfaces.length];
+
+        for (int i = 0; i < interfaces.length; i++)
+            this.interfaces[i] = classConstant(interfaces[i]);
+    }
+
+    int utf8Constant(String value) {
+        return constant("U" + value, out -> {
+            out.writeByte(1);
+            out.writeUTF(value);
+        }, 1);
+    }
+
+    int classConstant(String internalName) {
+        int name = utf8Constant(internalName);
+        return constant("C" + internalName, out -> {
+            out.writeByte(7);
+            out.writeShort(name);
+        }, 1);
+    }
+
+    int intConstant(int value) {
+        return constant("I" + value, out -> {
+            out.writeByte(3);
+            out.writeInt(value);
+        }, 1);
+    }
+
+    int doubleConstant(double value) {
+        return constant("D" + Double.doubleToRawLongBits(value), out -> {
+            out.writeByte(6);
+            out.writeDouble(value);
+        }, 2);
+    }
+
+    int fieldConstant(String owner, String name, String descriptor) {
+        return memberConstant(9, owner, name, descriptor);
+    }
+
+    int methodConstant(String owner, String name, String descriptor) {
+        return memberConstant(10, owner, name, descriptor);
+    }
+
+    private int memberConstant(int tag, String owner, String name, String descriptor) {
+
+        int ownerIndex = classConstant(owner);
+        int nameIndex = utf8Constant(name);
+        int descriptorIndex = utf8Constant(descriptor);
+
+        int nameAndType = constant("N" + name + ":" + descriptor, out -> {
+            out.writeByte(12);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+        }, 1);
+
+        return constant(tag + owner + "." + name + ":" + descriptor, out -> {
+            out.writeByte(tag);
+            out.writeShort(ownerIndex);
+            out.writeShort(nameAndType);
+        }, 1);
+    }
+
+    private int constant(String key, ConstantWriter writer, int size) {
+
+        Integer existing = constantIndices.get(key);
+
+        if (existing != null)
+            return existing;
+
+        try {
+            writer.write(constantPool);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int index = constantCount;
+        constantCount += size;
+        constantIndices.put(key, index);
+
+        return index;
+    }
+
+    void addField(int access, String name, String descriptor) {
+
+        int nameIndex = utf8Constant(name);
+        int descriptorIndex = utf8Constant(descriptor);
+
+        fields.add(write(out -> {
+            out.writeShort(access);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(0);
+        }));
+    }
+
+    void addMethod(int access, String name, String descriptor, CodeBuilder code, int maxLocals) {
+
+        byte[] bytecode = code.toByteArray();
+
+        if (bytecode.length > 65535)
+            throw new IllegalArgumentException("Equation is too large to be compiled into a single method!");
+
+        int nameIndex = utf8Constant(name);
+        int descriptorIndex = utf8Constant(descriptor);
+        int codeIndex = utf8Constant("Code");
+
+        byte[] stackMapTable = code.frames.isEmpty() ? null : stackMapTable(code.frames);
+        int stackMapTableIndex = stackMapTable == null ? 0 : utf8Constant("StackMapTable");
+
+        methods.add(write(out -> {
+            out.writeShort(access);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            out.writeShort(1);
+            out.writeShort(codeIndex);
+            out.writeInt(12 + bytecode.length + (stackMapTable == null ? 0 : 6 + stackMapTable.length));
+            out.writeShort(code.getMaxStack());
+            out.writeShort(maxLocals);
+            out.writeInt(bytecode.length);
+            out.write(bytecode);
+            out.writeShort(0);
+
+            if (stackMapTable == null) {
+                out.writeShort(0);
+            } else {
+                out.writeShort(1);
+                out.writeShort(stackMapTableIndex);
+                out.writeInt(stackMapTable.length);
+                out.write(stackMapTable);
+            }
+        }));
+    }
+
+    /*
+     * Every frame is written as full frame, which is the simplest encoding and always valid.
+     */
+    private static byte[] stackMapTable(Map<Integer, Frame> frames) {
+
+        return write(out -> {
+
+            out.writeShort(frames.size());
+
+            int previous = -1;
+
+            for (Map.Entry<Integer, Frame> entry : frames.entrySet()) {
+
+                out.writeByte(255);
+                out.writeShort(entry.getKey() - previous - 1);
+                previous = entry.getKey();
+
+                writeTypes(out, entry.getValue().locals());
+                writeTypes(out, entry.getValue().stack());
+            }
+        });
+    }
+
+    private static void writeTypes(DataOutputStream out, List<VerificationType> types) throws IOException {
+
+        out.writeShort(types.size());
+
+        for (VerificationType type : types) {
+
+            out.writeByte(type.tag());
+
+            if (type.tag() == VerificationType.OBJECT_TAG)
+                out.writeShort(type.classIndex());
+        }
+    }
+
+    byte[] toByteArray() {
+
+        if (constantCount > 65535)
+            throw new IllegalArgumentException("Equation is too large to be compiled, too many constants!");
+
+        return write(out -> {
+
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(JAVA_17);
+
+            out.writeShort(constantCount);
+            constantPool.flush();
+            constantPoolBytes.writeTo(out);
+
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+
+            out.writeShort(interfaces.length);
+            for (int anInterface : interfaces)
+                out.writeShort(anInterface);
+
+            out.writeShort(fields.size());
+            for (byte[] field : fields)
+                out.write(field);
+
+            out.writeShort(methods.size());
+            for (byte[] method : methods)
+                out.write(method);
+
+            out.writeShort(0);
+        });
+    }
+
+    private static byte[] write(ConstantWriter writer) {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private interface ConstantWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Describes the type of a local variable or stack entry in a stack map frame.
+     * A double counts as a single entry, even though it takes two slots.
+     *
+     * @param tag        the type of the entry.
+     * @param classIndex the constant pool index of the class for objects.
+     */
+    record VerificationType(int tag, int classIndex) {
+
+        static final int DOUBLE_TAG = 3;
+        static final int OBJECT_TAG = 7;
+
+        static final VerificationType DOUBLE = new VerificationType(DOUBLE_TAG, 0);
+
+        static VerificationType object(ClassFileWriter writer, String internalName) {
+            return new VerificationType(OBJECT_TAG, writer.classConstant(internalName));
+        }
+    }
+
+    private record Frame(List<VerificationType> locals, List<VerificationType> stack) {
+    }
+
+    /**
+     * Marks a position in the code which can be jumped to. Jumps may be written before the label is placed.
+     */
+    static final class Label {
+
+        private int position = -1;
+    }
+
+    /**
+     * Collects the instructions of a single method and keeps track of the operand stack size.
+     * <p>
+     * The stack size is counted in slots, meaning a double takes two slots and a reference one.
+     */
+    static final class CodeBuilder {
+
+        static final int ALOAD_0 = 0x2a;
+        static final int ALOAD_1 = 0x2b;
+        static final int ALOAD_2 = 0x2c;
+        static final int DALOAD = 0x31;
+        static final int AALOAD = 0x32;
+        static final int DADD = 0x63;
+        static final int DSUB = 0x67;
+        static final int DMUL = 0x6b;
+        static final int DDIV = 0x6f;
+        static final int L2D = 0x8a;
+        static final int DCMPL = 0x97;
+        static final int IFLE = 0x9e;
+        static final int GOTO = 0xa7;
+        static final int DRETURN = 0xaf;
+        static final int RETURN = 0xb1;
+        static final int GETFIELD = 0xb4;
+        static final int PUTFIELD = 0xb5;
+        static final int INVOKEVIRTUAL = 0xb6;
+        static final int INVOKESPECIAL = 0xb7;
+        static final int INVOKESTATIC = 0xb8;
+
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+        private final Map<Integer, Label> jumps = new HashMap<>();
+        private final Map<Integer, Frame> frames = new TreeMap<>();
+
+        private int stack;
+        private int maxStack;
+
+        /**
+         * Writes a single byte instruction.
+         *
+         * @param opcode      the instruction
+         * @param stackChange how many slots the instruction pushes (positive) or pops (negative)
+         */
+        void op(int opcode, int stackChange) {
+            code.write(opcode);
+            adjustStack(stackChange);
+        }
+
+        /**
+         * Writes an instruction with a two byte constant pool index as operand.
+         *
+         * @param opcode      the instruction
+         * @param index       the constant pool index
+         * @param stackChange how many slots the instruction pushes (positive) or pops (negative)
+         */
+        void op(int opcode, int index, int stackChange) {
+            code.write(opcode);
+            code.write(index >> 8);
+            code.write(index);
+            adjustStack(stackChange);
+        }
+
+        /**
+         * Writes a jump instruction to the given label, which may be placed later.
+         *
+         * @param opcode      the jump instruction
+         * @param label       the target of the jump
+         * @param stackChange how many slots the instruction pushes (positive) or pops (negative)
+         */
+        void jump(int opcode, Label label, int stackChange) {
+            jumps.put(code.size(), label);
+            code.write(opcode);
+            code.write(0);
+            code.write(0);
+            adjustStack(stackChange);
+        }
+
+        /**
+         * Places the label at the current position. Since the label is the target of a jump, the types of the local
+         * variables and the operand stack at this position have to be given, so the stack map frame can be written.
+         * The tracked stack size is reset to the size of the given stack, as the code before might not fall through.
+         *
+         * @param label  the label to place
+         * @param locals the types of the local variables
+         * @param stack  the types on the operand stack
+         */
+        void place(Label label, List<VerificationType> locals, List<VerificationType> stack) {
+
+            label.position = code.size();
+            frames.put(label.position, new Frame(List.copyOf(locals), List.copyOf(stack)));
+
+            this.stack = 0;
+
+            for (VerificationType type : stack)
+                adjustStack(type.tag() == VerificationType.DOUBLE_TAG ? 2 : 1);
+        }
+
+        void pushInt(ClassFileWriter writer, int value) {
+
+            if (value >= -1 && value <= 5) {
+                code.write(0x03 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                code.write(0x10);
+                code.write(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                code.write(0x11);
+                code.write(value >> 8);
+                code.write(value);
+            } else {
+                int index = writer.intConstant(value);
+                code.write(0x13);
+                code.write(index >> 8);
+                code.write(index);
+            }
+
+            adjustStack(1);
+        }
+
+        void pushDouble(ClassFileWriter writer, double value) {
+
+            if (Double.doubleToRawLongBits(value) == 0L) {
+                op(0x0e, 2);
+            } else if (value == 1.0) {
+                op(0x0f, 2);
+            } else {
+                op(0x14, writer.doubleConstant(value), 2);
+            }
+        }
+
+        private void adjustStack(int change) {
+            stack += change;
+            maxStack = Math.max(maxStack, stack);
+        }
+
+        int getMaxStack() {
+            return maxStack;
+        }
+
+        byte[] toByteArray() {
+
+            byte[] bytes = code.toByteArray();
+
+            for (Map.Entry<Integer, Label> jump : jumps.entrySet()) {
+
+                if (jump.getValue().position < 0)
+                    throw new IllegalStateException("Label was never placed!");
+
+                int offset = jump.getValue().position - jump.getKey();
+
+                if (offset > Short.MAX_VALUE)
+                    throw new IllegalArgumentException("Equation is too large to be compiled, branch is too long!");
+
+                bytes[jump.getKey() + 1] = (byte) (offset >> 8);
+                bytes[jump.getKey() + 2] = (byte) offset;
+            }
+
+            return bytes;
+        }
+    }
+}
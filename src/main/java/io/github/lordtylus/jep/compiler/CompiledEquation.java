@@ -0,0 +1,96 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.compiler;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * This class represents an {@link Equation} that was compiled to JVM bytecode by the {@link EquationCompiler}.
+ * <p>
+ * Variables are passed as a double array to {@link #apply(double[])}. The order of the array must match the
+ * order returned by {@link #getVariables()}, which is defined by the {@link SlotLayout} of {@link #getLayout()}.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledEquation implements EquationFunction {
+
+    /**
+     * The {@link Equation} this object was compiled from.
+     */
+    @NonNull
+    private final Equation equation;
+
+    /**
+     * The layout defining the index of each variable in the array passed to {@link #apply(double[])}.
+     */
+    @NonNull
+    private final SlotLayout layout;
+
+    @Getter(AccessLevel.PACKAGE)
+    @NonNull
+    private final EquationFunction function;
+
+    /**
+     * Returns the variable names of the equation in the order they are expected by {@link #apply(double[])}.
+     *
+     * @return the variable names ordered by their index.
+     */
+    public List<String> getVariables() {
+        return layout.getVariables();
+    }
+
+    @Override
+    public double apply(double[] variables) {
+        return function.apply(variables);
+    }
+
+    /**
+     * Evaluates the compiled equation by looking up all variables in the given {@link Storage} first.
+     * <p>
+     * This method is meant for convenience, as it needs to create a new array on every call.
+     * If performance is important, {@link #apply(double[])} should be used directly.
+     * Only an {@link IndexedStorage} using the same {@link SlotLayout} is passed on without copying.
+     *
+     * @param storage the {@link Storage} to be used to solve variables.
+     * @return the result of the equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public double evaluate(
+            @NonNull Storage storage) {
+
+        if (storage instanceof IndexedStorage indexedStorage && indexedStorage.getLayout() == layout)
+            return function.apply(indexedStorage.getValues());
+
+        List<String> variables = layout.getVariables();
+        double[] values = new double[variables.size()];
+
+        for (int i = 0; i < values.length; i++)
+            values[i] = storage.evaluateDouble(variables.get(i));
+
+        return function.apply(values);
+    }
+}
@@ -0,0 +1,271 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.compiler;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * This class represents an {@link Equation} that was flattened into a postfix program by the {@link ProgramCompiler}.
+ * <p>
+ * The program consists of parallel arrays holding an instruction and its operand, which is either an index into the
+ * constant pool, a variable slot, the index of a custom operator or function or the target of a jump.
+ * Jumps are used by conditions, so only the branch which is taken is run. {@link #run(double[], double[])} executes
+ * these instructions in a single loop on a stack of doubles, without walking any objects and without allocating.
+ * <p>
+ * Unlike a {@link CompiledEquation}, no classes are generated, so programs can be used wherever defining hidden classes
+ * is not allowed. Programs only using the standard operators and functions can also be serialized. Programs which
+ * reference custom {@link Operator operators} or {@link MathFunction functions} cannot, as these are not serializable.
+ * <p>
+ * Variables are passed as a double array. The order of the array must match the order returned by {@link #getVariables()},
+ * which is defined by the {@link SlotLayout} of {@link #getLayout()}.
+ * <p>
+ * Instances of this class are immutable and thread safe, as long as every thread passes its own scratch array.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledProgram implements EquationFunction, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    static final byte CONSTANT = 0;
+    static final byte VARIABLE = 1;
+    static final byte OPERATOR = 2;
+    static final byte FUNCTION = 3;
+    static final byte ADD = 4;
+    static final byte SUB = 5;
+    static final byte MULT = 6;
+    static final byte DIV = 7;
+    static final byte POW = 8;
+    static final byte ABS = 9;
+    static final byte SIN = 10;
+    static final byte ASIN = 11;
+    static final byte SINH = 12;
+    static final byte COS = 13;
+    static final byte ACOS = 14;
+    static final byte COSH = 15;
+    static final byte TAN = 16;
+    static final byte ATAN = 17;
+    static final byte TANH = 18;
+    static final byte EXP = 19;
+    static final byte LOG = 20;
+    static final byte LOG10 = 21;
+    static final byte FLOOR = 22;
+    static final byte ROUND = 23;
+    static final byte CEIL = 24;
+    static final byte SQRT = 25;
+    static final byte CBRT = 26;
+    static final byte RAD = 27;
+    static final byte DEG = 28;
+    static final byte MIN = 29;
+    static final byte MAX = 30;
+    static final byte JUMP_IF_FALSE = 31;
+    static final byte JUMP = 32;
+    static final byte CLAMP = 33;
+
+    /**
+     * The layout defining the index of each variable in the array passed to {@link #run(double[], double[])}.
+     */
+    @NonNull
+    private final SlotLayout layout;
+
+    @Getter(AccessLevel.NONE)
+    private final byte[] instructions;
+
+    @Getter(AccessLevel.NONE)
+    private final int[] operands;
+
+    @Getter(AccessLevel.NONE)
+    private final double[] constants;
+
+    @Getter(AccessLevel.NONE)
+    private final Operator[] operators;
+
+    @Getter(AccessLevel.NONE)
+    private final MathFunction[] functions;
+
+    /**
+     * The minimum length of the scratch array passed to {@link #run(double[], double[])}.
+     */
+    private final int stackSize;
+
+    /**
+     * Returns the variable names of the equation in the order they are expected by {@link #run(double[], double[])}.
+     *
+     * @return the variable names ordered by their index.
+     */
+    public List<String> getVariables() {
+        return layout.getVariables();
+    }
+
+    /**
+     * Returns the number of instructions of this program.
+     *
+     * @return number of instructions.
+     */
+    public int size() {
+        return instructions.length;
+    }
+
+    /**
+     * Calculates the value of the program with the given variable values.
+     * <p>
+     * The scratch array is used as the stack of the program and must be at least {@link #getStackSize()} long.
+     * It can be reused for any number of runs, but must not be shared by threads running at the same time.
+     *
+     * @param variables the variable values, ordered the same way as {@link #getVariables()}.
+     * @param scratch   the array used as stack while running.
+     * @return the result of the equation.
+     * @throws ArrayIndexOutOfBoundsException if any array is too short.
+     */
+    public double run(
+            double[] variables,
+            double[] scratch) {
+
+        byte[] instructions = this.instructions;
+        int[] operands = this.operands;
+
+        int top = -1;
+
+        for (int i = 0; i < instructions.length; i++) {
+
+            switch (instructions[i]) {
+                case CONSTANT -> scratch[++top] = constants[operands[i]];
+                case VARIABLE -> scratch[++top] = variables[operands[i]];
+                case OPERATOR -> {
+                    top--;
+                    scratch[top] = operators[operands[i]].evaluateDouble(scratch[top], scratch[top + 1]);
+                }
+                case FUNCTION -> scratch[top] = functions[operands[i]].evaluateDouble(scratch[top]);
+                case ADD -> {
+                    top--;
+                    scratch[top] = scratch[top] + scratch[top + 1];
+                }
+                case SUB -> {
+                    top--;
+                    scratch[top] = scratch[top] - scratch[top + 1];
+                }
+                case MULT -> {
+                    top--;
+                    scratch[top] = scratch[top] * scratch[top + 1];
+                }
+                case DIV -> {
+                    top--;
+                    scratch[top] = scratch[top] / scratch[top + 1];
+                }
+                case POW -> {
+                    top--;
+                    scratch[top] = Math.pow(scratch[top], scratch[top + 1]);
+                }
+                case ABS -> scratch[top] = Math.abs(scratch[top]);
+                case SIN -> scratch[top] = Math.sin(scratch[top]);
+                case ASIN -> scratch[top] = Math.asin(scratch[top]);
+                case SINH -> scratch[top] = Math.sinh(scratch[top]);
+                case COS -> scratch[top] = Math.cos(scratch[top]);
+                case ACOS -> scratch[top] = Math.acos(scratch[top]);
+                case COSH -> scratch[top] = Math.cosh(scratch[top]);
+                case TAN -> scratch[top] = Math.tan(scratch[top]);
+                case ATAN -> scratch[top] = Math.atan(scratch[top]);
+                case TANH -> scratch[top] = Math.tanh(scratch[top]);
+                case EXP -> scratch[top] = Math.exp(scratch[top]);
+                case LOG -> scratch[top] = Math.log(scratch[top]);
+                case LOG10 -> scratch[top] = Math.log10(scratch[top]);
+                case FLOOR -> scratch[top] = Math.floor(scratch[top]);
+                case ROUND -> scratch[top] = Math.round(scratch[top]);
+                case CEIL -> scratch[top] = Math.ceil(scratch[top]);
+                case SQRT -> scratch[top] = Math.sqrt(scratch[top]);
+                case CBRT -> scratch[top] = Math.cbrt(scratch[top]);
+                case RAD -> scratch[top] = Math.toRadians(scratch[top]);
+                case DEG -> scratch[top] = Math.toDegrees(scratch[top]);
+                case MIN -> {
+                    top--;
+                    scratch[top] = Math.min(scratch[top], scratch[top + 1]);
+                }
+                case MAX -> {
+                    top--;
+                    scratch[top] = Math.max(scratch[top], scratch[top + 1]);
+                }
+                case CLAMP -> {
+                    top -= 2;
+                    scratch[top] = Clamp.clamp(scratch[top], scratch[top + 1], scratch[top + 2]);
+                }
+                case JUMP_IF_FALSE -> {
+                    if (!Condition.isTrue(scratch[top--]))
+                        i = operands[i] - 1;
+                }
+                case JUMP -> i = operands[i] - 1;
+                default -> throw new IllegalStateException("Unknown instruction " + instructions[i] + "!");
+            }
+        }
+
+        return scratch[0];
+    }
+
+    /**
+     * Calculates the value of the program with the given variable values.
+     * <p>
+     * This method allocates a new scratch array on every call. If performance is important,
+     * {@link #run(double[], double[])} should be used with a reused scratch array instead.
+     *
+     * @param variables the variable values, ordered the same way as {@link #getVariables()}.
+     * @return the result of the equation.
+     * @throws ArrayIndexOutOfBoundsException if the array is shorter than the number of variables in the equation.
+     */
+    @Override
+    public double apply(double[] variables) {
+        return run(variables, new double[stackSize]);
+    }
+
+    /**
+     * Evaluates the program by looking up all variables in the given {@link Storage} first.
+     * <p>
+     * This method is meant for convenience, as it needs to create new arrays on every call.
+     * Only the values of an {@link IndexedStorage} using the same {@link SlotLayout} are passed on without copying.
+     *
+     * @param storage the {@link Storage} to be used to solve variables.
+     * @return the result of the equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public double evaluate(
+            @NonNull Storage storage) {
+
+        if (storage instanceof IndexedStorage indexedStorage && indexedStorage.getLayout() == layout)
+            return apply(indexedStorage.getValues());
+
+        List<String> variables = layout.getVariables();
+        double[] values = new double[variables.size()];
+
+        for (int i = 0; i < values.length; i++)
+            values[i] = storage.evaluateDouble(variables.get(i));
+
+        return apply(values);
+    }
+}
@@ -0,0 +1,426 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.compiler;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.compiler.ClassFileWriter.CodeBuilder;
+import io.github.lordtylus.jep.compiler.ClassFileWriter.Label;
+import io.github.lordtylus.jep.compiler.ClassFileWriter.VerificationType;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This compiler turns a parsed {@link Equation} into a class implementing {@link EquationFunction}.
+ * <p>
+ * Instead of walking the tree of {@link Operation}, {@link Parenthesis}, {@link Constant} and {@link Variable}
+ * objects on every evaluation, the whole equation is translated into a single method once. That way the JIT can
+ * inline the complete formula.
+ * <p>
+ * The {@link StandardOperators} and {@link StandardFunctions} are translated into plain arithmetic instructions and
+ * direct calls to {@link Math}. Custom {@link Operator operators} and {@link MathFunction functions} are still supported,
+ * the generated code just calls their {@link Operator#evaluateDouble(double, double)} and
+ * {@link MathFunction#evaluateDouble(double)} methods instead.
+ * <p>
+ * The generated classes are defined as hidden classes, meaning they can be unloaded by the garbage collector
+ * once the {@link CompiledEquation} is no longer referenced.
+ * <p>
+ * {@link LongConstant Long} and {@link DecimalConstant decimal} constants are compiled as their closest double value.
+ * <p>
+ * A {@link Condition} is compiled into a comparison and jumps, so only the branch which is taken is evaluated.
+ * {@link Extremum} is compiled into calls to {@link Math#min(double, double)} and {@link Math#max(double, double)},
+ * and {@link Clamp} into a call to {@link Clamp#clamp(double, double, double)}.
+ * <p>
+ * Only the {@link Equation} implementations of this framework can be compiled. If the tree contains a custom implementation,
+ * compilation fails with an {@link IllegalArgumentException}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EquationCompiler {
+
+    private static final String CLASS_NAME = "io/github/lordtylus/jep/compiler/GeneratedEquation";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String MATH = "java/lang/Math";
+    private static final String FUNCTION_INTERFACE = "io/github/lordtylus/jep/compiler/EquationFunction";
+    private static final String OPERATOR = "io/github/lordtylus/jep/operators/Operator";
+    private static final String MATH_FUNCTION = "io/github/lordtylus/jep/functions/MathFunction";
+    private static final String CLAMP = "io/github/lordtylus/jep/equation/Clamp";
+    private static final String OPERATORS_DESCRIPTOR = "[L" + OPERATOR + ";";
+    private static final String FUNCTIONS_DESCRIPTOR = "[L" + MATH_FUNCTION + ";";
+    private static final String VARIABLES_DESCRIPTOR = "[D";
+
+    private static final int POW = -1;
+
+    private static final Map<Operator, Integer> STANDARD_OPERATORS = new IdentityHashMap<>();
+    private static final Map<MathFunction, String> STANDARD_FUNCTIONS = new IdentityHashMap<>();
+
+    static {
+        STANDARD_OPERATORS.put(StandardOperators.ADD, CodeBuilder.DADD);
+        STANDARD_OPERATORS.put(StandardOperators.SUB, CodeBuilder.DSUB);
+        STANDARD_OPERATORS.put(StandardOperators.MULT, CodeBuilder.DMUL);
+        STANDARD_OPERATORS.put(StandardOperators.DIV, CodeBuilder.DDIV);
+        STANDARD_OPERATORS.put(StandardOperators.POW, POW);
+
+        STANDARD_FUNCTIONS.put(StandardFunctions.ABS, "abs");
+        STANDARD_FUNCTIONS.put(StandardFunctions.SIN, "sin");
+        STANDARD_FUNCTIONS.put(StandardFunctions.ASIN, "asin");
+        STANDARD_FUNCTIONS.put(StandardFunctions.SINH, "sinh");
+        STANDARD_FUNCTIONS.put(StandardFunctions.COS, "cos");
+        STANDARD_FUNCTIONS.put(StandardFunctions.ACOS, "acos");
+        STANDARD_FUNCTIONS.put(StandardFunctions.COSH, "cosh");
+        STANDARD_FUNCTIONS.put(StandardFunctions.TAN, "tan");
+        STANDARD_FUNCTIONS.put(StandardFunctions.ATAN, "atan");
+        STANDARD_FUNCTIONS.put(StandardFunctions.TANH, "tanh");
+        STANDARD_FUNCTIONS.put(StandardFunctions.EXP, "exp");
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG, "log");
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG10, "log10");
+        STANDARD_FUNCTIONS.put(StandardFunctions.FLOOR, "floor");
+        STANDARD_FUNCTIONS.put(StandardFunctions.ROUND, "round");
+        STANDARD_FUNCTIONS.put(StandardFunctions.CEIL, "ceil");
+        STANDARD_FUNCTIONS.put(StandardFunctions.SQRT, "sqrt");
+        STANDARD_FUNCTIONS.put(StandardFunctions.CBRT, "cbrt");
+        STANDARD_FUNCTIONS.put(StandardFunctions.RAD, "toRadians");
+        STANDARD_FUNCTIONS.put(StandardFunctions.DEG, "toDegrees");
+    }
+
+    /**
+     * Compiles the given {@link Equation} to a new hidden class and returns an instance of it.
+     * <p>
+     * Compiling is a lot more expensive than parsing, so it only pays off for equations that are evaluated very often.
+     * <p>
+     * The variables are assigned to slots using {@link EquationBinder#bind(Equation)}. If a {@link BoundEquation}
+     * is passed, its {@link SlotLayout} is kept, so the compiled equation accepts the same arrays as the bound one.
+     *
+     * @param equation the {@link Equation} to compile.
+     * @return the compiled equation.
+     * @throws IllegalArgumentException If the equation contains an {@link Equation} implementation which cannot be compiled or is too large.
+     * @throws IllegalStateException    If the generated class could not be defined.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static CompiledEquation compile(
+            @NonNull Equation equation) {
+
+        BoundEquation boundEquation = EquationBinder.bind(equation);
+
+        Compilation compilation = new Compilation();
+
+        byte[] bytes = compilation.generate(boundEquation.getEquation());
+
+        Operator[] operators = compilation.operators.toArray(new Operator[0]);
+        MathFunction[] functions = compilation.functions.toArray(new MathFunction[0]);
+
+        return new CompiledEquation(equation, boundEquation.getLayout(), define(bytes, operators, functions));
+    }
+
+    private static EquationFunction define(
+            byte[] bytes,
+            Operator[] operators,
+            MathFunction[] functions) {
+
+        try {
+
+            Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+
+            MethodType constructorType = MethodType.methodType(void.class, Operator[].class, MathFunction[].class);
+            MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), constructorType);
+
+            return (EquationFunction) constructor.invoke(operators, functions);
+
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Compiled equation could not be defined!", e);
+        }
+    }
+
+    /**
+     * Holds the state of a single compilation. Custom operators and functions are collected, so they can
+     * be passed to the constructor of the generated class.
+     */
+    private static final class Compilation {
+
+        private final ClassFileWriter writer = new ClassFileWriter(CLASS_NAME, OBJECT, FUNCTION_INTERFACE);
+        private final CodeBuilder code = new CodeBuilder();
+
+        private final List<Operator> operators = new ArrayList<>();
+        private final Map<Operator, Integer> operatorIndices = new IdentityHashMap<>();
+
+        private final List<MathFunction> functions = new ArrayList<>();
+        private final Map<MathFunction, Integer> functionIndices = new IdentityHashMap<>();
+
+        /*
+         * The types of the locals and of the values left on the operand stack by enclosing parts,
+         * which are needed for the stack map frames at the targets of jumps.
+         */
+        private final List<VerificationType> locals = List.of(
+                VerificationType.object(writer, CLASS_NAME),
+                VerificationType.object(writer, VARIABLES_DESCRIPTOR));
+        private final List<VerificationType> stack = new ArrayList<>();
+
+        byte[] generate(Equation equation) {
+
+            writer.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, "operators", OPERATORS_DESCRIPTOR);
+            writer.addField(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, "functions", FUNCTIONS_DESCRIPTOR);
+
+            writer.addMethod(ClassFileWriter.ACC_PUBLIC, "<init>",
+                    "(" + OPERATORS_DESCRIPTOR + FUNCTIONS_DESCRIPTOR + ")V", constructor(), 3);
+
+            emit(equation);
+            code.op(CodeBuilder.DRETURN, -2);
+
+            writer.addMethod(ClassFileWriter.ACC_PUBLIC, "apply", "(" + VARIABLES_DESCRIPTOR + ")D", code, 2);
+
+            return writer.toByteArray();
+        }
+
+        private CodeBuilder constructor() {
+
+            CodeBuilder constructor = new CodeBuilder();
+
+            constructor.op(CodeBuilder.ALOAD_0, 1);
+            constructor.op(CodeBuilder.INVOKESPECIAL, writer.methodConstant(OBJECT, "<init>", "()V"), -1);
+
+            constructor.op(CodeBuilder.ALOAD_0, 1);
+            constructor.op(CodeBuilder.ALOAD_1, 1);
+            constructor.op(CodeBuilder.PUTFIELD, writer.fieldConstant(CLASS_NAME, "operators", OPERATORS_DESCRIPTOR), -2);
+
+            constructor.op(CodeBuilder.ALOAD_0, 1);
+            constructor.op(CodeBuilder.ALOAD_2, 1);
+            constructor.op(CodeBuilder.PUTFIELD, writer.fieldConstant(CLASS_NAME, "functions", FUNCTIONS_DESCRIPTOR), -2);
+
+            constructor.op(CodeBuilder.RETURN, 0);
+
+            return constructor;
+        }
+
+        private void emit(Equation equation) {
+
+            if (equation instanceof Constant constant) {
+
+                code.pushDouble(writer, constant.value());
+
+            } else if (equation instanceof LongConstant constant) {
+
+                code.pushDouble(writer, constant.evaluateDouble(EmptyStorage.INSTANCE));
+
+            } else if (equation instanceof DecimalConstant constant) {
+
+                code.pushDouble(writer, constant.evaluateDouble(EmptyStorage.INSTANCE));
+
+            } else if (equation instanceof BoundVariable variable) {
+
+                code.op(CodeBuilder.ALOAD_1, 1);
+                code.pushInt(writer, variable.slot());
+                code.op(CodeBuilder.DALOAD, 0);
+
+            } else if (equation instanceof Operation operation) {
+
+                emitOperation(operation);
+
+            } else if (equation instanceof Parenthesis parenthesis) {
+
+                emitParenthesis(parenthesis);
+
+            } else if (equation instanceof Condition condition) {
+
+                emitCondition(condition);
+
+            } else if (equation instanceof Extremum extremum) {
+
+                emitExtremum(extremum);
+
+            } else if (equation instanceof Clamp clamp) {
+
+                emitClamp(clamp);
+
+            } else {
+                throw new IllegalArgumentException("Equation of type " + equation.getClass().getName() + " cannot be compiled!");
+            }
+        }
+
+        private void emitOperation(Operation operation) {
+
+            Operator operator = operation.operator();
+            Integer opcode = STANDARD_OPERATORS.get(operator);
+
+            if (opcode == null) {
+
+                int index = operatorIndices.computeIfAbsent(operator, o -> {
+                    operators.add(o);
+                    return operators.size() - 1;
+                });
+
+                code.op(CodeBuilder.ALOAD_0, 1);
+                code.op(CodeBuilder.GETFIELD, writer.fieldConstant(CLASS_NAME, "operators", OPERATORS_DESCRIPTOR), 0);
+                code.pushInt(writer, index);
+                code.op(CodeBuilder.AALOAD, -1);
+
+                stack.add(VerificationType.object(writer, OPERATOR));
+                emitOperands(operation);
+                stack.remove(stack.size() - 1);
+
+                code.op(CodeBuilder.INVOKEVIRTUAL, writer.methodConstant(OPERATOR, "evaluateDouble", "(DD)D"), -3);
+                return;
+            }
+
+            emitOperands(operation);
+
+            if (opcode == POW)
+                code.op(CodeBuilder.INVOKESTATIC, writer.methodConstant(MATH, "pow", "(DD)D"), -2);
+            else
+                code.op(opcode, -2);
+        }
+
+        private void emitOperands(Operation operation) {
+
+            emit(operation.left());
+
+            stack.add(VerificationType.DOUBLE);
+            emit(operation.right());
+            stack.remove(stack.size() - 1);
+        }
+
+        private void emitParenthesis(Parenthesis parenthesis) {
+
+            MathFunction function = parenthesis.function();
+
+            if (function == StandardFunctions.NOP) {
+                emit(parenthesis.inner());
+                return;
+            }
+
+            String mathMethod = STANDARD_FUNCTIONS.get(function);
+
+            if (mathMethod == null) {
+
+                int index = functionIndices.computeIfAbsent(function, f -> {
+                    functions.add(f);
+                    return functions.size() - 1;
+                });
+
+                code.op(CodeBuilder.ALOAD_0, 1);
+                code.op(CodeBuilder.GETFIELD, writer.fieldConstant(CLASS_NAME, "functions", FUNCTIONS_DESCRIPTOR), 0);
+                code.pushInt(writer, index);
+                code.op(CodeBuilder.AALOAD, -1);
+
+                stack.add(VerificationType.object(writer, MATH_FUNCTION));
+                emit(parenthesis.inner());
+                stack.remove(stack.size() - 1);
+
+                code.op(CodeBuilder.INVOKEVIRTUAL, writer.methodConstant(MATH_FUNCTION, "evaluateDouble", "(D)D"), -1);
+                return;
+            }
+
+            emit(parenthesis.inner());
+
+            if (function == StandardFunctions.ROUND) {
+                code.op(CodeBuilder.INVOKESTATIC, writer.methodConstant(MATH, mathMethod, "(D)J"), 0);
+                code.op(CodeBuilder.L2D, 0);
+            } else {
+                code.op(CodeBuilder.INVOKESTATIC, writer.methodConstant(MATH, mathMethod, "(D)D"), 0);
+            }
+        }
+
+        /*
+         * The condition holds if its absolute value is greater than 0, as comparisons with NaN are always false.
+         */
+        private void emitCondition(Condition condition) {
+
+            Label whenFalse = new Label();
+            Label end = new Label();
+
+            emit(condition.condition());
+
+            code.op(CodeBuilder.INVOKESTATIC, writer.methodConstant(MATH, "abs", "(D)D"), 0);
+            code.pushDouble(writer, 0);
+            code.op(CodeBuilder.DCMPL, -3);
+            code.jump(CodeBuilder.IFLE, whenFalse, -1);
+
+            emit(condition.whenTrue());
+            code.jump(CodeBuilder.GOTO, end, 0);
+
+            code.place(whenFalse, locals, stack);
+            emit(condition.whenFalse());
+
+            stack.add(VerificationType.DOUBLE);
+            code.place(end, locals, stack);
+            stack.remove(stack.size() - 1);
+        }
+
+        private void emitExtremum(Extremum extremum) {
+
+            String method = extremum.kind() == Extremum.Kind.MIN ? "min" : "max";
+
+            List<Equation> arguments = extremum.arguments();
+
+            emit(arguments.get(0));
+
+            for (int i = 1; i < arguments.size(); i++) {
+
+                stack.add(VerificationType.DOUBLE);
+                emit(arguments.get(i));
+                stack.remove(stack.size() - 1);
+
+                code.op(CodeBuilder.INVOKESTATIC, writer.methodConstant(MATH, method, "(DD)D"), -2);
+            }
+        }
+
+        /*
+         * The value and both bounds are pushed in the order Clamp evaluates them, before calling Clamp itself.
+         */
+        private void emitClamp(Clamp clamp) {
+
+            emit(clamp.value());
+
+            stack.add(VerificationType.DOUBLE);
+            emit(clamp.lower());
+
+            stack.add(VerificationType.DOUBLE);
+            emit(clamp.upper());
+
+            stack.remove(stack.size() - 1);
+            stack.remove(stack.size() - 1);
+
+            code.op(CodeBuilder.INVOKESTATIC, writer.methodConstant(CLAMP, "clamp", "(DDD)D"), -4);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.compiler;
+
+import io.github.lordtylus.jep.Equation;
+
+/**
+ * This interface is implemented by the classes the {@link EquationCompiler} generates for an {@link Equation}.
+ * <p>
+ * The variables of the equation are not passed by name, but as an array. Which variable is stored at which index
+ * is decided during compilation and can be retrieved from {@link CompiledEquation#getVariables()}.
+ */
+@FunctionalInterface
+public interface EquationFunction {
+
+    /**
+     * Calculates the value of the compiled {@link Equation} with the given variable values.
+     *
+     * @param variables the variable values, ordered the same way as the variables of the compiled equation.
+     * @return the result of the equation.
+     * @throws ArrayIndexOutOfBoundsException if the array is shorter than the number of variables in the equation.
+     */
+    double apply(double[] variables);
+}
@@ -0,0 +1,289 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.compiler;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This compiler flattens a parsed {@link Equation} into a {@link CompiledProgram}.
+ * <p>
+ * The tree is written in postfix order, meaning the children of every {@link Operation} and {@link Parenthesis}
+ * come before the operator or function applied to them. The {@link StandardOperators} and {@link StandardFunctions}
+ * are encoded as their own instructions. Custom {@link Operator operators} and {@link MathFunction functions} are
+ * referenced by index and called through {@link Operator#evaluateDouble(double, double)} and
+ * {@link MathFunction#evaluateDouble(double)}.
+ * <p>
+ * Compiling a program is much cheaper than compiling an equation to bytecode with the {@link EquationCompiler},
+ * but the JIT cannot inline the formula itself.
+ * <p>
+ * {@link LongConstant Long} and {@link DecimalConstant decimal} constants are compiled as their closest double value.
+ * <p>
+ * A {@link Condition} is compiled into jumps around the branch which is not taken. {@link Extremum} is compiled into
+ * instructions taking the smaller or larger of two values, and {@link Clamp} into a single instruction limiting the value.
+ * <p>
+ * Only the {@link Equation} implementations of this framework can be compiled. If the tree contains a custom implementation,
+ * compilation fails with an {@link IllegalArgumentException}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProgramCompiler {
+
+    private static final Map<Operator, Byte> STANDARD_OPERATORS = new IdentityHashMap<>();
+    private static final Map<MathFunction, Byte> STANDARD_FUNCTIONS = new IdentityHashMap<>();
+
+    static {
+        STANDARD_OPERATORS.put(StandardOperators.ADD, CompiledProgram.ADD);
+        STANDARD_OPERATORS.put(StandardOperators.SUB, CompiledProgram.SUB);
+        STANDARD_OPERATORS.put(StandardOperators.MULT, CompiledProgram.MULT);
+        STANDARD_OPERATORS.put(StandardOperators.DIV, CompiledProgram.DIV);
+        STANDARD_OPERATORS.put(StandardOperators.POW, CompiledProgram.POW);
+
+        STANDARD_FUNCTIONS.put(StandardFunctions.ABS, CompiledProgram.ABS);
+        STANDARD_FUNCTIONS.put(StandardFunctions.SIN, CompiledProgram.SIN);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ASIN, CompiledProgram.ASIN);
+        STANDARD_FUNCTIONS.put(StandardFunctions.SINH, CompiledProgram.SINH);
+        STANDARD_FUNCTIONS.put(StandardFunctions.COS, CompiledProgram.COS);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ACOS, CompiledProgram.ACOS);
+        STANDARD_FUNCTIONS.put(StandardFunctions.COSH, CompiledProgram.COSH);
+        STANDARD_FUNCTIONS.put(StandardFunctions.TAN, CompiledProgram.TAN);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ATAN, CompiledProgram.ATAN);
+        STANDARD_FUNCTIONS.put(StandardFunctions.TANH, CompiledProgram.TANH);
+        STANDARD_FUNCTIONS.put(StandardFunctions.EXP, CompiledProgram.EXP);
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG, CompiledProgram.LOG);
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG10, CompiledProgram.LOG10);
+        STANDARD_FUNCTIONS.put(StandardFunctions.FLOOR, CompiledProgram.FLOOR);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ROUND, CompiledProgram.ROUND);
+        STANDARD_FUNCTIONS.put(StandardFunctions.CEIL, CompiledProgram.CEIL);
+        STANDARD_FUNCTIONS.put(StandardFunctions.SQRT, CompiledProgram.SQRT);
+        STANDARD_FUNCTIONS.put(StandardFunctions.CBRT, CompiledProgram.CBRT);
+        STANDARD_FUNCTIONS.put(StandardFunctions.RAD, CompiledProgram.RAD);
+        STANDARD_FUNCTIONS.put(StandardFunctions.DEG, CompiledProgram.DEG);
+    }
+
+    /**
+     * Flattens the given {@link Equation} into a new {@link CompiledProgram}.
+     * <p>
+     * The variables are assigned to slots using {@link EquationBinder#bind(Equation)}. If a {@link BoundEquation}
+     * is passed, its {@link SlotLayout} is kept, so the program accepts the same arrays as the bound one.
+     *
+     * @param equation the {@link Equation} to compile.
+     * @return the compiled program.
+     * @throws IllegalArgumentException If the equation contains an {@link Equation} implementation which cannot be compiled.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static CompiledProgram compile(
+            @NonNull Equation equation) {
+
+        BoundEquation boundEquation = EquationBinder.bind(equation);
+
+        Compilation compilation = new Compilation();
+        compilation.emit(boundEquation.getEquation());
+
+        return new CompiledProgram(
+                boundEquation.getLayout(),
+                Arrays.copyOf(compilation.instructions, compilation.size),
+                Arrays.copyOf(compilation.operands, compilation.size),
+                compilation.constants.stream().mapToDouble(Double::doubleValue).toArray(),
+                compilation.operators.toArray(new Operator[0]),
+                compilation.functions.toArray(new MathFunction[0]),
+                compilation.maxDepth);
+    }
+
+    /**
+     * Holds the state of a single compilation. Constants, custom operators and custom functions are collected into
+     * pools, so the instructions can refer to them by index.
+     */
+    private static final class Compilation {
+
+        private byte[] instructions = new byte[16];
+        private int[] operands = new int[16];
+        private int size;
+
+        private int depth;
+        private int maxDepth;
+
+        private final List<Double> constants = new ArrayList<>();
+        private final Map<Double, Integer> constantIndices = new HashMap<>();
+
+        private final List<Operator> operators = new ArrayList<>();
+        private final Map<Operator, Integer> operatorIndices = new IdentityHashMap<>();
+
+        private final List<MathFunction> functions = new ArrayList<>();
+        private final Map<MathFunction, Integer> functionIndices = new IdentityHashMap<>();
+
+        private void emit(Equation equation) {
+
+            if (equation instanceof Constant constant) {
+
+                emitConstant(constant.value());
+
+            } else if (equation instanceof LongConstant constant) {
+
+                emitConstant(constant.evaluateDouble(EmptyStorage.INSTANCE));
+
+            } else if (equation instanceof DecimalConstant constant) {
+
+                emitConstant(constant.evaluateDouble(EmptyStorage.INSTANCE));
+
+            } else if (equation instanceof BoundVariable variable) {
+
+                add(CompiledProgram.VARIABLE, variable.slot(), 1);
+
+            } else if (equation instanceof Operation operation) {
+
+                emit(operation.left());
+                emit(operation.right());
+
+                Operator operator = operation.operator();
+                Byte instruction = STANDARD_OPERATORS.get(operator);
+
+                if (instruction != null) {
+                    add(instruction, 0, -1);
+                    return;
+                }
+
+                int index = operatorIndices.computeIfAbsent(operator, o -> {
+                    operators.add(o);
+                    return operators.size() - 1;
+                });
+
+                add(CompiledProgram.OPERATOR, index, -1);
+
+            } else if (equation instanceof Parenthesis parenthesis) {
+
+                emit(parenthesis.inner());
+
+                MathFunction function = parenthesis.function();
+
+                if (function == StandardFunctions.NOP)
+                    return;
+
+                Byte instruction = STANDARD_FUNCTIONS.get(function);
+
+                if (instruction != null) {
+                    add(instruction, 0, 0);
+                    return;
+                }
+
+                int index = functionIndices.computeIfAbsent(function, f -> {
+                    functions.add(f);
+                    return functions.size() - 1;
+                });
+
+                add(CompiledProgram.FUNCTION, index, 0);
+
+            } else if (equation instanceof Condition condition) {
+
+                emitCondition(condition);
+
+            } else if (equation instanceof Extremum extremum) {
+
+                byte instruction = extremum.kind() == Extremum.Kind.MIN ? CompiledProgram.MIN : CompiledProgram.MAX;
+
+                emit(extremum.arguments().get(0));
+
+                for (int i = 1; i < extremum.arguments().size(); i++) {
+                    emit(extremum.arguments().get(i));
+                    add(instruction, 0, -1);
+                }
+
+            } else if (equation instanceof Clamp clamp) {
+
+                emit(clamp.value());
+                emit(clamp.lower());
+                emit(clamp.upper());
+                add(CompiledProgram.CLAMP, 0, -2);
+
+            } else {
+                throw new IllegalArgumentException("Equation of type " + equation.getClass().getName() + " cannot be compiled!");
+            }
+        }
+
+        /*
+         * The targets of the jumps are only known once the branches are written, so they are patched afterward.
+         * Only one branch is run, hence the stack depth is reset before the second one.
+         */
+        private void emitCondition(Condition condition) {
+
+            emit(condition.condition());
+
+            int jumpIfFalse = size;
+            add(CompiledProgram.JUMP_IF_FALSE, -1, -1);
+
+            emit(condition.whenTrue());
+
+            int jump = size;
+            add(CompiledProgram.JUMP, -1, 0);
+            depth--;
+
+            operands[jumpIfFalse] = size;
+            emit(condition.whenFalse());
+
+            operands[jump] = size;
+        }
+
+        private void emitConstant(double constant) {
+
+            int index = constantIndices.computeIfAbsent(constant, value -> {
+                constants.add(value);
+                return constants.size() - 1;
+            });
+
+            add(CompiledProgram.CONSTANT, index, 1);
+        }
+
+        private void add(byte instruction, int operand, int stackChange) {
+
+            if (size == instructions.length) {
+                instructions = Arrays.copyOf(instructions, size * 2);
+                operands = Arrays.copyOf(operands, size * 2);
+            }
+
+            instructions[size] = instruction;
+            operands[size] = operand;
+            size++;
+
+            depth += stackChange;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.decimal;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * This evaluator calculates {@link Equation equations} using {@link BigDecimal} from start to end.
+ * <p>
+ * Constants parsed with {@link CustomParsingOptions#decimal()} are kept as exact {@link DecimalConstant decimals}.
+ * Variables are converted once when they are read from the {@link Storage}, and every operator and function is
+ * applied to the decimals directly, rounding according to the configured {@link MathContext}.
+ * <p>
+ * Operators and functions are not evaluated using their own implementations, as those work on doubles. Instead,
+ * this evaluator uses its own table, which contains all {@link StandardOperators} and {@link StandardFunctions}.
+ * Custom operators and functions can be added using {@link #withOperator(Operator, DecimalOperator)} and
+ * {@link #withFunction(MathFunction, DecimalFunction)}.
+ * <p>
+ * {@link ComparisonOperators} compare the decimals exactly. Only the branch of a {@link Condition} which is taken is
+ * evaluated, and {@link Extremum} and {@link Clamp} return the decimal of the chosen argument.
+ * <p>
+ * Addition, subtraction, multiplication, division, whole exponents, abs, floor, ceil, round and sqrt are calculated
+ * exactly up to the precision of the {@link MathContext}. All other functions and fractional exponents are
+ * calculated in double precision, as {@link BigDecimal} does not offer them.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ */
+public final class DecimalEvaluator {
+
+    private static final Map<Operator, DecimalOperator> STANDARD_OPERATORS = new IdentityHashMap<>();
+    private static final Map<MathFunction, DecimalFunction> STANDARD_FUNCTIONS = new IdentityHashMap<>();
+
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    static {
+        STANDARD_OPERATORS.put(StandardOperators.ADD, BigDecimal::add);
+        STANDARD_OPERATORS.put(StandardOperators.SUB, BigDecimal::subtract);
+        STANDARD_OPERATORS.put(StandardOperators.MULT, BigDecimal::multiply);
+        STANDARD_OPERATORS.put(StandardOperators.DIV, BigDecimal::divide);
+        STANDARD_OPERATORS.put(StandardOperators.POW, DecimalEvaluator::pow);
+        STANDARD_OPERATORS.put(ComparisonOperators.LESS, (left, right, mathContext) -> truth(left.compareTo(right) < 0));
+        STANDARD_OPERATORS.put(ComparisonOperators.GREATER, (left, right, mathContext) -> truth(left.compareTo(right) > 0));
+        STANDARD_OPERATORS.put(ComparisonOperators.EQUAL, (left, right, mathContext) -> truth(left.compareTo(right) == 0));
+
+        STANDARD_FUNCTIONS.put(StandardFunctions.NOP, (value, mathContext) -> value);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ABS, BigDecimal::abs);
+        STANDARD_FUNCTIONS.put(StandardFunctions.FLOOR, (value, mathContext) -> value.setScale(0, RoundingMode.FLOOR));
+        STANDARD_FUNCTIONS.put(StandardFunctions.CEIL, (value, mathContext) -> value.setScale(0, RoundingMode.CEILING));
+        STANDARD_FUNCTIONS.put(StandardFunctions.ROUND, (value, mathContext) -> value.add(HALF).setScale(0, RoundingMode.FLOOR));
+        STANDARD_FUNCTIONS.put(StandardFunctions.SQRT, BigDecimal::sqrt);
+
+        STANDARD_FUNCTIONS.put(StandardFunctions.SIN, inDouble(Math::sin));
+        STANDARD_FUNCTIONS.put(StandardFunctions.ASIN, inDouble(Math::asin));
+        STANDARD_FUNCTIONS.put(StandardFunctions.SINH, inDouble(Math::sinh));
+        STANDARD_FUNCTIONS.put(StandardFunctions.COS, inDouble(Math::cos));
+        STANDARD_FUNCTIONS.put(StandardFunctions.ACOS, inDouble(Math::acos));
+        STANDARD_FUNCTIONS.put(StandardFunctions.COSH, inDouble(Math::cosh));
+        STANDARD_FUNCTIONS.put(StandardFunctions.TAN, inDouble(Math::tan));
+        STANDARD_FUNCTIONS.put(StandardFunctions.ATAN, inDouble(Math::atan));
+        STANDARD_FUNCTIONS.put(StandardFunctions.TANH, inDouble(Math::tanh));
+        STANDARD_FUNCTIONS.put(StandardFunctions.EXP, inDouble(Math::exp));
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG, inDouble(Math::log));
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG10, inDouble(Math::log10));
+        STANDARD_FUNCTIONS.put(StandardFunctions.CBRT, inDouble(Math::cbrt));
+        STANDARD_FUNCTIONS.put(StandardFunctions.RAD, inDouble(Math::toRadians));
+        STANDARD_FUNCTIONS.put(StandardFunctions.DEG, inDouble(Math::toDegrees));
+    }
+
+    /**
+     * The {@link MathContext} used to round the results of all operators and functions.
+     */
+    @Getter
+    private final MathContext mathContext;
+
+    private final Map<Operator, DecimalOperator> operators;
+    private final Map<MathFunction, DecimalFunction> functions;
+
+    private DecimalEvaluator(
+            MathContext mathContext,
+            Map<Operator, DecimalOperator> operators,
+            Map<MathFunction, DecimalFunction> functions) {
+
+        this.mathContext = mathContext;
+        this.operators = operators;
+        this.functions = functions;
+    }
+
+    /**
+     * Creates a new evaluator supporting all {@link StandardOperators} and {@link StandardFunctions}.
+     *
+     * @param mathContext the {@link MathContext} used to round the results of all operators and functions.
+     * @return new evaluator.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static DecimalEvaluator of(
+            @NonNull MathContext mathContext) {
+
+        return new DecimalEvaluator(mathContext,
+                Collections.unmodifiableMap(STANDARD_OPERATORS),
+                Collections.unmodifiableMap(STANDARD_FUNCTIONS));
+    }
+
+    /**
+     * Creates a copy of this evaluator which evaluates the given {@link Operator} using the given decimal implementation.
+     *
+     * @param operator    the operator to be supported.
+     * @param calculation the decimal implementation of the operator.
+     * @return new evaluator supporting the operator.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public DecimalEvaluator withOperator(
+            @NonNull Operator operator,
+            @NonNull DecimalOperator calculation) {
+
+        Map<Operator, DecimalOperator> copy = new IdentityHashMap<>(operators);
+        copy.put(operator, calculation);
+
+        return new DecimalEvaluator(mathContext, Collections.unmodifiableMap(copy), functions);
+    }
+
+    /**
+     * Creates a copy of this evaluator which evaluates the given {@link MathFunction} using the given decimal implementation.
+     *
+     * @param function    the function to be supported.
+     * @param calculation the decimal implementation of the function.
+     * @return new evaluator supporting the function.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public DecimalEvaluator withFunction(
+            @NonNull MathFunction function,
+            @NonNull DecimalFunction calculation) {
+
+        Map<MathFunction, DecimalFunction> copy = new IdentityHashMap<>(functions);
+        copy.put(function, calculation);
+
+        return new DecimalEvaluator(mathContext, operators, Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Evaluates the given {@link Equation} using {@link BigDecimal} arithmetic.
+     * <p>
+     * Constants which were parsed as doubles are converted using {@link BigDecimal#valueOf(double)}, so the shortest
+     * decimal representing the double is used. Variable values are converted the same way, unless they are already
+     * {@link BigDecimal}, {@link BigInteger} or whole numbers.
+     * <p>
+     * Custom {@link Equation} implementations are evaluated using {@link Equation#evaluateNumber(Storage)}.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param storage  the {@link Storage} to be used to solve variables.
+     * @return the exact result of the equation, rounded according to the {@link MathContext}.
+     * @throws IllegalArgumentException If the equation contains an operator or function without decimal implementation.
+     * @throws ArithmeticException      If a calculation is undefined, such as a division by zero.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public BigDecimal evaluate(
+            @NonNull Equation equation,
+            @NonNull Storage storage) {
+
+        if (equation instanceof DecimalConstant constant)
+            return constant.value();
+
+        if (equation instanceof Constant constant)
+            return BigDecimal.valueOf(constant.value());
+
+        if (equation instanceof Variable variable)
+            return toDecimal(storage.evaluate(variable.name()));
+
+        if (equation instanceof BoundVariable variable)
+            return toDecimal(storage.evaluate(variable.name()));
+
+        if (equation instanceof Operation operation) {
+
+            DecimalOperator calculation = operators.get(operation.operator());
+
+            if (calculation == null)
+                throw new IllegalArgumentException("Operator '" + operation.operator().toPattern() + "' has no decimal implementation!");
+
+            return calculation.apply(evaluate(operation.left(), storage), evaluate(operation.right(), storage), mathContext);
+        }
+
+        if (equation instanceof Parenthesis parenthesis) {
+
+            DecimalFunction calculation = functions.get(parenthesis.function());
+
+            if (calculation == null)
+                throw new IllegalArgumentException("Function '" + parenthesis.function().toPattern() + "' has no decimal implementation!");
+
+            return calculation.apply(evaluate(parenthesis.inner(), storage), mathContext);
+        }
+
+        if (equation instanceof Condition condition) {
+
+            boolean taken = evaluate(condition.condition(), storage).signum() != 0;
+
+            return evaluate(taken ? condition.whenTrue() : condition.whenFalse(), storage);
+        }
+
+        if (equation instanceof Extremum extremum) {
+
+            BigDecimal result = evaluate(extremum.arguments().get(0), storage);
+
+            for (int i = 1; i < extremum.arguments().size(); i++) {
+
+                BigDecimal value = evaluate(extremum.arguments().get(i), storage);
+
+                int comparison = value.compareTo(result);
+
+                if (extremum.kind() == Extremum.Kind.MIN ? comparison < 0 : comparison > 0)
+                    result = value;
+            }
+
+            return result;
+        }
+
+        if (equation instanceof Clamp clamp) {
+
+            BigDecimal value = evaluate(clamp.value(), storage);
+            BigDecimal lower = evaluate(clamp.lower(), storage);
+            BigDecimal upper = evaluate(clamp.upper(), storage);
+
+            BigDecimal result = value.compareTo(upper) > 0 ? upper : value;
+
+            return result.compareTo(lower) < 0 ? lower : result;
+        }
+
+        if (equation instanceof BoundEquation boundEquation)
+            return evaluate(boundEquation.getEquation(), storage);
+
+        return toDecimal(equation.evaluateNumber(storage));
+    }
+
+    private static BigDecimal truth(boolean value) {
+        return value ? BigDecimal.ONE : BigDecimal.ZERO;
+    }
+
+    private static BigDecimal toDecimal(Number number) {
+
+        if (number instanceof BigDecimal decimal)
+            return decimal;
+
+        if (number instanceof BigInteger integer)
+            return new BigDecimal(integer);
+
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte)
+            return BigDecimal.valueOf(number.longValue());
+
+        return BigDecimal.valueOf(number.doubleValue());
+    }
+
+    private static BigDecimal pow(BigDecimal base, BigDecimal exponent, MathContext mathContext) {
+
+        try {
+            return base.pow(exponent.intValueExact(), mathContext);
+        } catch (ArithmeticException e) {
+            /* The exponent is fractional or too large, so only double precision is possible. */
+            return fromDouble(Math.pow(base.doubleValue(), exponent.doubleValue()), mathContext);
+        }
+    }
+
+    private static DecimalFunction inDouble(DoubleUnaryOperator function) {
+        return (value, mathContext) -> fromDouble(function.applyAsDouble(value.doubleValue()), mathContext);
+    }
+
+    private static BigDecimal fromDouble(double value, MathContext mathContext) {
+
+        if (!Double.isFinite(value))
+            throw new ArithmeticException("Result " + value + " cannot be represented as decimal!");
+
+        return BigDecimal.valueOf(value).round(mathContext);
+    }
+
+    /**
+     * The decimal implementation of an {@link Operator}.
+     */
+    @FunctionalInterface
+    public interface DecimalOperator {
+
+        /**
+         * Applies the operator to the given operands.
+         *
+         * @param left        the left operand.
+         * @param right       the right operand.
+         * @param mathContext the {@link MathContext} the result should be rounded to.
+         * @return the result of the operation.
+         */
+        BigDecimal apply(BigDecimal left, BigDecimal right, MathContext mathContext);
+    }
+
+    /**
+     * The decimal implementation of a {@link MathFunction}.
+     */
+    @FunctionalInterface
+    public interface DecimalFunction {
+
+        /**
+         * Applies the function to the given value.
+         *
+         * @param value       the value inside the parentheses.
+         * @param mathContext the {@link MathContext} the result should be rounded to.
+         * @return the result of the function.
+         */
+        BigDecimal apply(BigDecimal value, MathContext mathContext);
+    }
+}
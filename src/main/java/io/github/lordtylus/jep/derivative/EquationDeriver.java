@@ -0,0 +1,387 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.derivative;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.optimizer.EquationOptimizer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * The deriver creates the symbolic derivative of an {@link Equation} with respect to a single variable.
+ * <p>
+ * The derivative is a new {@link Equation} built from {@link Operation Operations}, {@link Parenthesis functions},
+ * {@link Constant Constants} and {@link Variable Variables}, so it can be optimized, compiled or cached once and
+ * evaluated many times, for example by Newton-style solvers.
+ * <p>
+ * Parts of the equation which don't depend on the variable are never derived, so no terms like x*0 are created.
+ * The result is then simplified by the {@link EquationOptimizer}.
+ * <p>
+ * All {@link StandardOperators} and {@link StandardFunctions} are supported. floor, round and ceil are treated as
+ * constant, as their derivative is 0 almost everywhere. The derivative of abs(x) is abs(x)/x, which is undefined at 0.
+ * <p>
+ * The derivative of a {@link Condition} if(c;a;b) is if(c;a';b'), while {@link ComparisonOperators} are treated as
+ * constant. {@link Extremum} and {@link Clamp} are derived piecewise, so min(a;b) becomes if(b&lt;a;b';a') and
+ * clamp(v;l;u) becomes if(min(v;u)&gt;l;if(v&gt;u;u';v');l'), matching the arguments they return.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EquationDeriver {
+
+    /**
+     * Creates the derivative of the given {@link Equation} with respect to the given variable.
+     * <p>
+     * If the equation is a {@link BoundEquation}, the derivative is bound to the same layout.
+     *
+     * @param equation the {@link Equation} to derive.
+     * @param variable name of the variable to derive by.
+     * @return the simplified derivative.
+     * @throws IllegalArgumentException If the equation contains operators, functions or equations which cannot be derived.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static Equation derive(
+            @NonNull Equation equation,
+            @NonNull String variable) {
+
+        if (equation instanceof BoundEquation boundEquation)
+            return EquationBinder.bind(derive(boundEquation.getEquation(), variable), boundEquation.getLayout());
+
+        Equation derivative = deriveTree(equation, variable);
+
+        if (derivative == null)
+            return new Constant(0);
+
+        return EquationOptimizer.optimize(derivative);
+    }
+
+    /*
+     * Returns null if the equation doesn't depend on the variable, so the callers can leave out the whole term.
+     */
+    private static Equation deriveTree(Equation equation, String variable) {
+
+        if (equation instanceof Operation operation)
+            return deriveOperation(operation, variable);
+
+        if (equation instanceof Parenthesis parenthesis)
+            return deriveParenthesis(parenthesis, variable);
+
+        if (equation instanceof Condition condition)
+            return choose(condition.condition(),
+                    deriveTree(condition.whenTrue(), variable),
+                    deriveTree(condition.whenFalse(), variable));
+
+        if (equation instanceof Extremum extremum)
+            return deriveExtremum(extremum, variable);
+
+        if (equation instanceof Clamp clamp)
+            return deriveClamp(clamp, variable);
+
+        if (equation instanceof Variable other)
+            return other.name().equals(variable) ? new Constant(1) : null;
+
+        if (equation instanceof BoundVariable other)
+            return other.name().equals(variable) ? new Constant(1) : null;
+
+        if (equation instanceof BoundEquation boundEquation)
+            return deriveTree(boundEquation.getEquation(), variable);
+
+        if (equation instanceof Constant || equation instanceof DecimalConstant || equation instanceof LongConstant)
+            return null;
+
+        throw new IllegalArgumentException("Equation of type " + equation.getClass().getName() + " cannot be derived!");
+    }
+
+    private static Equation deriveOperation(Operation operation, String variable) {
+
+        Operator operator = operation.operator();
+
+        if (ComparisonOperators.all().contains(operator))
+            return null;
+
+        Equation u = unwrap(operation.left());
+        Equation v = unwrap(operation.right());
+
+        Equation du = deriveTree(u, variable);
+        Equation dv = deriveTree(v, variable);
+
+        if (du == null && dv == null)
+            return null;
+
+        if (operator == StandardOperators.ADD) {
+
+            if (du == null)
+                return dv;
+
+            if (dv == null)
+                return du;
+
+            return operation(du, dv, StandardOperators.ADD);
+        }
+
+        if (operator == StandardOperators.SUB) {
+
+            if (dv == null)
+                return du;
+
+            if (du == null)
+                return negate(dv);
+
+            return operation(du, dv, StandardOperators.SUB);
+        }
+
+        if (operator == StandardOperators.MULT) {
+
+            if (dv == null)
+                return multiply(du, v);
+
+            if (du == null)
+                return multiply(u, dv);
+
+            return operation(multiply(du, v), multiply(u, dv), StandardOperators.ADD);
+        }
+
+        if (operator == StandardOperators.DIV) {
+
+            if (dv == null)
+                return operation(du, v, StandardOperators.DIV);
+
+            Equation square = operation(v, new Constant(2), StandardOperators.POW);
+
+            if (du == null)
+                return negate(operation(multiply(u, dv), square, StandardOperators.DIV));
+
+            Equation numerator = operation(multiply(du, v), multiply(u, dv), StandardOperators.SUB);
+
+            return operation(numerator, square, StandardOperators.DIV);
+        }
+
+        if (operator == StandardOperators.POW) {
+
+            if (dv == null) {
+
+                Equation exponent = operation(v, new Constant(1), StandardOperators.SUB);
+
+                return multiply(multiply(v, operation(u, exponent, StandardOperators.POW)), du);
+            }
+
+            Equation log = new Parenthesis(StandardFunctions.LOG, u);
+
+            if (du == null)
+                return multiply(multiply(operation, log), dv);
+
+            Equation sum = operation(
+                    multiply(dv, log),
+                    operation(multiply(v, du), u, StandardOperators.DIV),
+                    StandardOperators.ADD);
+
+            return multiply(operation, sum);
+        }
+
+        throw new IllegalArgumentException("Operator '" + operator.toPattern() + "' cannot be derived!");
+    }
+
+    private static Equation deriveParenthesis(Parenthesis parenthesis, String variable) {
+
+        MathFunction function = parenthesis.function();
+
+        Equation w = unwrap(parenthesis.inner());
+        Equation dw = deriveTree(w, variable);
+
+        if (dw == null)
+            return null;
+
+        if (function == StandardFunctions.NOP)
+            return dw;
+
+        /* These are linear, so they can be applied to the derivative directly. */
+        if (function == StandardFunctions.RAD || function == StandardFunctions.DEG)
+            return new Parenthesis(function, dw);
+
+        if (function == StandardFunctions.FLOOR || function == StandardFunctions.ROUND || function == StandardFunctions.CEIL)
+            return null;
+
+        if (function == StandardFunctions.ABS)
+            return multiply(operation(parenthesis, w, StandardOperators.DIV), dw);
+
+        if (function == StandardFunctions.SIN)
+            return multiply(new Parenthesis(StandardFunctions.COS, w), dw);
+
+        if (function == StandardFunctions.COS)
+            return negate(multiply(new Parenthesis(StandardFunctions.SIN, w), dw));
+
+        if (function == StandardFunctions.TAN)
+            return operation(dw, square(new Parenthesis(StandardFunctions.COS, w)), StandardOperators.DIV);
+
+        if (function == StandardFunctions.ASIN)
+            return operation(dw, sqrtOfOneMinusSquare(w), StandardOperators.DIV);
+
+        if (function == StandardFunctions.ACOS)
+            return negate(operation(dw, sqrtOfOneMinusSquare(w), StandardOperators.DIV));
+
+        if (function == StandardFunctions.ATAN)
+            return operation(dw, operation(new Constant(1), square(w), StandardOperators.ADD), StandardOperators.DIV);
+
+        if (function == StandardFunctions.SINH)
+            return multiply(new Parenthesis(StandardFunctions.COSH, w), dw);
+
+        if (function == StandardFunctions.COSH)
+            return multiply(new Parenthesis(StandardFunctions.SINH, w), dw);
+
+        if (function == StandardFunctions.TANH)
+            return multiply(operation(new Constant(1), square(parenthesis), StandardOperators.SUB), dw);
+
+        if (function == StandardFunctions.EXP)
+            return multiply(parenthesis, dw);
+
+        if (function == StandardFunctions.LOG)
+            return operation(dw, w, StandardOperators.DIV);
+
+        if (function == StandardFunctions.LOG10) {
+
+            Equation ln10 = new Parenthesis(StandardFunctions.LOG, new Constant(10));
+
+            return operation(dw, multiply(w, ln10), StandardOperators.DIV);
+        }
+
+        if (function == StandardFunctions.SQRT)
+            return operation(dw, multiply(new Constant(2), parenthesis), StandardOperators.DIV);
+
+        if (function == StandardFunctions.CBRT)
+            return operation(dw, multiply(new Constant(3), square(parenthesis)), StandardOperators.DIV);
+
+        throw new IllegalArgumentException("Function '" + function.toPattern() + "' cannot be derived!");
+    }
+
+    /*
+     * The arguments are compared one after another like Math.min and Math.max do. Each comparison returns the new
+     * argument if it is smaller or larger than the extremum of all arguments before.
+     */
+    private static Equation deriveExtremum(Extremum extremum, String variable) {
+
+        List<Equation> arguments = extremum.arguments();
+        Operator comparison = extremum.kind() == Extremum.Kind.MIN ? ComparisonOperators.LESS : ComparisonOperators.GREATER;
+
+        Equation derivative = deriveTree(arguments.get(0), variable);
+
+        for (int i = 1; i < arguments.size(); i++) {
+
+            Equation argument = arguments.get(i);
+            Equation before = i == 1 ? arguments.get(0) : new Extremum(extremum.kind(), arguments.subList(0, i));
+
+            derivative = choose(
+                    operation(argument, before, comparison),
+                    deriveTree(argument, variable),
+                    derivative);
+        }
+
+        return derivative;
+    }
+
+    /*
+     * Clamp is evaluated as max(lower, min(value, upper)), so the derivative follows the same comparisons.
+     */
+    private static Equation deriveClamp(Clamp clamp, String variable) {
+
+        Equation dMin = choose(
+                operation(clamp.value(), clamp.upper(), ComparisonOperators.GREATER),
+                deriveTree(clamp.upper(), variable),
+                deriveTree(clamp.value(), variable));
+
+        Equation min = new Extremum(Extremum.Kind.MIN, List.of(clamp.value(), clamp.upper()));
+
+        return choose(
+                operation(min, clamp.lower(), ComparisonOperators.GREATER),
+                dMin,
+                deriveTree(clamp.lower(), variable));
+    }
+
+    /*
+     * Returns null if neither branch depends on the variable, so the whole condition can be left out.
+     */
+    private static Equation choose(Equation condition, Equation whenTrue, Equation whenFalse) {
+
+        if (whenTrue == null && whenFalse == null)
+            return null;
+
+        return new Condition(
+                condition,
+                whenTrue == null ? new Constant(0) : whenTrue,
+                whenFalse == null ? new Constant(0) : whenFalse);
+    }
+
+    private static Equation sqrtOfOneMinusSquare(Equation w) {
+        return new Parenthesis(StandardFunctions.SQRT, operation(new Constant(1), square(w), StandardOperators.SUB));
+    }
+
+    private static Equation square(Equation equation) {
+        return operation(equation, new Constant(2), StandardOperators.POW);
+    }
+
+    private static Equation multiply(Equation left, Equation right) {
+        return operation(left, right, StandardOperators.MULT);
+    }
+
+    private static Equation negate(Equation equation) {
+        return multiply(new Parenthesis(StandardFunctions.NOP, new Constant(-1)), equation);
+    }
+
+    /*
+     * Parenthesis without a function only affect the order of operations, which is decided again for the new tree.
+     * Negative constants keep their parenthesis, as they could not be parsed again after an operator.
+     */
+    private static Equation unwrap(Equation equation) {
+
+        while (equation instanceof Parenthesis parenthesis && parenthesis.function() == StandardFunctions.NOP
+                && (parenthesis.inner() instanceof Operation || parenthesis.inner() instanceof Parenthesis))
+            equation = parenthesis.inner();
+
+        return equation;
+    }
+
+    /*
+     * Operators are solved left to right, so the tree can only be written as pattern again
+     * if lower operands on the left and equal operands on the right keep their parenthesis.
+     */
+    private static Equation operation(Equation left, Equation right, Operator operator) {
+
+        if (left instanceof Operation leftOperation && leftOperation.operator().order() < operator.order())
+            left = new Parenthesis(StandardFunctions.NOP, left);
+
+        if (right instanceof Operation rightOperation && rightOperation.operator().order() <= operator.order())
+            right = new Parenthesis(StandardFunctions.NOP, right);
+
+        return new Operation(left, right, operator);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.derivative;
+
+import io.github.lordtylus.jep.binding.SlotLayout;
+
+import java.util.List;
+
+/**
+ * This record holds the value of an equation together with its partial derivatives, as calculated by the {@link GradientEvaluator}.
+ *
+ * @param value     the value of the equation.
+ * @param layout    the layout defining the index of each variable in the partial derivatives.
+ * @param partials  the partial derivatives, ordered by the slots of the layout.
+ */
+public record Gradient(
+        double value,
+        SlotLayout layout,
+        double[] partials
+) {
+
+    /**
+     * Returns the variable names in the order of {@link #partials()}.
+     *
+     * @return the variable names ordered by their index.
+     */
+    public List<String> variables() {
+        return layout.getVariables();
+    }
+
+    /**
+     * Returns the partial derivative of the equation with respect to the given variable.
+     *
+     * @param variable name of the variable.
+     * @return the partial derivative.
+     * @throws IllegalArgumentException If the derivative of the variable was not calculated.
+     */
+    public double partial(String variable) {
+        return partials[layout.slotOf(variable)];
+    }
+}
@@ -0,0 +1,431 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.derivative;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * This evaluator calculates the value of an {@link Equation} together with its partial derivatives using forward mode
+ * automatic differentiation.
+ * <p>
+ * Instead of evaluating the equation once per variable to approximate the derivatives by finite differences, every part
+ * of the equation calculates its value and its derivatives with respect to all selected variables at the same time.
+ * The result is exact up to the precision of double and is calculated in a single walk through the equation.
+ * <p>
+ * The derivatives are stored in double arrays which are created once per evaluation. Only right operands need an array
+ * of their own, so the number of arrays is the deepest nesting of right operands rather than the depth of the
+ * equation. No objects are created per part of the equation.
+ * <p>
+ * A {@link Condition} only evaluates and derives the branch which is taken. {@link Extremum} and {@link Clamp} take
+ * the derivatives of the value they return, so they are derived piecewise. {@link ComparisonOperators} have no slope.
+ * <p>
+ * All {@link StandardOperators} and {@link StandardFunctions} are supported. Custom operators and functions can be
+ * added using {@link #withOperator(Operator, DoubleBinaryOperator, DoubleBinaryOperator)} and
+ * {@link #withFunction(MathFunction, DoubleUnaryOperator)}.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ */
+public final class GradientEvaluator {
+
+    private static final Map<Operator, OperatorDerivative> STANDARD_OPERATORS = new IdentityHashMap<>();
+    private static final Map<MathFunction, DoubleUnaryOperator> STANDARD_FUNCTIONS = new IdentityHashMap<>();
+
+    private static final GradientEvaluator STANDARD = new GradientEvaluator(
+            Collections.unmodifiableMap(STANDARD_OPERATORS),
+            Collections.unmodifiableMap(STANDARD_FUNCTIONS));
+
+    static {
+        STANDARD_OPERATORS.put(StandardOperators.ADD, new OperatorDerivative((a, b) -> 1, (a, b) -> 1));
+        STANDARD_OPERATORS.put(StandardOperators.SUB, new OperatorDerivative((a, b) -> 1, (a, b) -> -1));
+        STANDARD_OPERATORS.put(StandardOperators.MULT, new OperatorDerivative((a, b) -> b, (a, b) -> a));
+        STANDARD_OPERATORS.put(StandardOperators.DIV, new OperatorDerivative((a, b) -> 1 / b, (a, b) -> -a / (b * b)));
+        STANDARD_OPERATORS.put(StandardOperators.POW, new OperatorDerivative(
+                (a, b) -> b == 0 ? 0 : b * Math.pow(a, b - 1),
+                /* The exponent can only be derived for positive bases. Otherwise, it is treated as constant. */
+                (a, b) -> a > 0 ? Math.pow(a, b) * Math.log(a) : 0));
+
+        /* Comparisons only jump between 0 and 1, so like rounding they have no slope almost everywhere. */
+        for (Operator comparison : ComparisonOperators.all())
+            STANDARD_OPERATORS.put(comparison, new OperatorDerivative((a, b) -> 0, (a, b) -> 0));
+
+        STANDARD_FUNCTIONS.put(StandardFunctions.NOP, a -> 1);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ABS, Math::signum);
+        STANDARD_FUNCTIONS.put(StandardFunctions.SIN, Math::cos);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ASIN, a -> 1 / Math.sqrt(1 - a * a));
+        STANDARD_FUNCTIONS.put(StandardFunctions.SINH, Math::cosh);
+        STANDARD_FUNCTIONS.put(StandardFunctions.COS, a -> -Math.sin(a));
+        STANDARD_FUNCTIONS.put(StandardFunctions.ACOS, a -> -1 / Math.sqrt(1 - a * a));
+        STANDARD_FUNCTIONS.put(StandardFunctions.COSH, Math::sinh);
+        STANDARD_FUNCTIONS.put(StandardFunctions.TAN, a -> 1 / (Math.cos(a) * Math.cos(a)));
+        STANDARD_FUNCTIONS.put(StandardFunctions.ATAN, a -> 1 / (1 + a * a));
+        STANDARD_FUNCTIONS.put(StandardFunctions.TANH, a -> 1 - Math.tanh(a) * Math.tanh(a));
+        STANDARD_FUNCTIONS.put(StandardFunctions.EXP, Math::exp);
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG, a -> 1 / a);
+        STANDARD_FUNCTIONS.put(StandardFunctions.LOG10, a -> 1 / (a * Math.log(10)));
+        STANDARD_FUNCTIONS.put(StandardFunctions.FLOOR, a -> 0);
+        STANDARD_FUNCTIONS.put(StandardFunctions.ROUND, a -> 0);
+        STANDARD_FUNCTIONS.put(StandardFunctions.CEIL, a -> 0);
+        STANDARD_FUNCTIONS.put(StandardFunctions.SQRT, a -> 1 / (2 * Math.sqrt(a)));
+        STANDARD_FUNCTIONS.put(StandardFunctions.CBRT, a -> 1 / (3 * Math.cbrt(a) * Math.cbrt(a)));
+        STANDARD_FUNCTIONS.put(StandardFunctions.RAD, a -> Math.PI / 180);
+        STANDARD_FUNCTIONS.put(StandardFunctions.DEG, a -> 180 / Math.PI);
+    }
+
+    private final Map<Operator, OperatorDerivative> operators;
+    private final Map<MathFunction, DoubleUnaryOperator> functions;
+
+    private GradientEvaluator(
+            Map<Operator, OperatorDerivative> operators,
+            Map<MathFunction, DoubleUnaryOperator> functions) {
+
+        this.operators = operators;
+        this.functions = functions;
+    }
+
+    /**
+     * Returns the evaluator supporting all {@link StandardOperators} and {@link StandardFunctions}.
+     *
+     * @return the standard evaluator.
+     */
+    public static GradientEvaluator standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Creates a copy of this evaluator which can also derive the given {@link Operator}.
+     *
+     * @param operator   the operator to be supported.
+     * @param leftPartial  the partial derivative of the operator with respect to its left operand, given both operands.
+     * @param rightPartial the partial derivative of the operator with respect to its right operand, given both operands.
+     * @return new evaluator supporting the operator.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public GradientEvaluator withOperator(
+            @NonNull Operator operator,
+            @NonNull DoubleBinaryOperator leftPartial,
+            @NonNull DoubleBinaryOperator rightPartial) {
+
+        Map<Operator, OperatorDerivative> copy = new IdentityHashMap<>(operators);
+        copy.put(operator, new OperatorDerivative(leftPartial, rightPartial));
+
+        return new GradientEvaluator(Collections.unmodifiableMap(copy), functions);
+    }
+
+    /**
+     * Creates a copy of this evaluator which can also derive the given {@link MathFunction}.
+     *
+     * @param function   the function to be supported.
+     * @param derivative the derivative of the function, given the value inside the parentheses.
+     * @return new evaluator supporting the function.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public GradientEvaluator withFunction(
+            @NonNull MathFunction function,
+            @NonNull DoubleUnaryOperator derivative) {
+
+        Map<MathFunction, DoubleUnaryOperator> copy = new IdentityHashMap<>(functions);
+        copy.put(function, derivative);
+
+        return new GradientEvaluator(operators, Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Calculates the value and the partial derivatives of the given {@link Equation} with respect to the given variables.
+     *
+     * @param equation  the {@link Equation} to evaluate.
+     * @param storage   the {@link Storage} to be used to solve variables.
+     * @param variables the variables to derive by.
+     * @return the value and partial derivatives.
+     * @throws IllegalArgumentException If the equation contains parts which cannot be derived.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public Gradient gradient(
+            @NonNull Equation equation,
+            @NonNull Storage storage,
+            @NonNull String... variables) {
+
+        SlotLayout layout = SlotLayout.of(variables);
+        double[] partials = new double[layout.size()];
+
+        double value = evaluate(equation, storage, layout, partials);
+
+        return new Gradient(value, layout, partials);
+    }
+
+    /**
+     * Calculates the value and the partial derivatives of the given {@link Equation} with respect to the variables of
+     * the given {@link SlotLayout}.
+     * <p>
+     * The partial derivatives are written into the given array, ordered by the slots of the layout.
+     * Variables of the equation which are not part of the layout are treated as constants.
+     *
+     * @param equation  the {@link Equation} to evaluate.
+     * @param storage   the {@link Storage} to be used to solve variables.
+     * @param layout    the variables to derive by.
+     * @param partials  the array the partial derivatives are written to.
+     * @return the value of the equation.
+     * @throws IllegalArgumentException If the equation contains parts which cannot be derived or the array is too short.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public double evaluate(
+            @NonNull Equation equation,
+            @NonNull Storage storage,
+            @NonNull SlotLayout layout,
+            @NonNull double[] partials) {
+
+        if (partials.length < layout.size())
+            throw new IllegalArgumentException("Array of size " + partials.length + " is too short for " + layout + "!");
+
+        double[][] buffers = new double[buffersNeeded(equation)][layout.size()];
+
+        return new Evaluation(storage, layout, buffers).evaluate(equation, partials, 0);
+    }
+
+    /**
+     * The left operand writes into the array of its operation, while the right operand needs a separate one which has
+     * to stay untouched until the operation combines both. Hence only the nesting of right operands adds up.
+     */
+    private static int buffersNeeded(Equation equation) {
+
+        if (equation instanceof Operation operation)
+            return Math.max(buffersNeeded(operation.left()), 1 + buffersNeeded(operation.right()));
+
+        if (equation instanceof Parenthesis parenthesis)
+            return buffersNeeded(parenthesis.inner());
+
+        if (equation instanceof Condition condition)
+            return Math.max(buffersNeeded(condition.whenTrue()), buffersNeeded(condition.whenFalse()));
+
+        if (equation instanceof Extremum extremum) {
+
+            List<Equation> arguments = extremum.arguments();
+
+            int needed = buffersNeeded(arguments.get(0));
+
+            for (int i = 1; i < arguments.size(); i++)
+                needed = Math.max(needed, 1 + buffersNeeded(arguments.get(i)));
+
+            return needed;
+        }
+
+        if (equation instanceof Clamp clamp)
+            return Math.max(buffersNeeded(clamp.value()),
+                    Math.max(1 + buffersNeeded(clamp.lower()), 2 + buffersNeeded(clamp.upper())));
+
+        if (equation instanceof BoundEquation boundEquation)
+            return buffersNeeded(boundEquation.getEquation());
+
+        return 0;
+    }
+
+    /**
+     * Holds the state of a single evaluation.
+     * <p>
+     * Each part writes its derivatives into the array it is given. The right operand of an operation needs a separate
+     * array, which is taken from the buffers by the number of arrays already in use by enclosing operations.
+     */
+    private final class Evaluation {
+
+        private final Storage storage;
+        private final SlotLayout layout;
+        private final double[][] buffers;
+        private final int size;
+
+        private Evaluation(Storage storage, SlotLayout layout, double[][] buffers) {
+            this.storage = storage;
+            this.layout = layout;
+            this.buffers = buffers;
+            this.size = layout.size();
+        }
+
+        private double evaluate(Equation equation, double[] partials, int used) {
+
+            if (equation instanceof Operation operation) {
+
+                OperatorDerivative derivative = operators.get(operation.operator());
+
+                if (derivative == null)
+                    throw new IllegalArgumentException("Operator '" + operation.operator().toPattern() + "' cannot be derived!");
+
+                double[] rightPartials = buffers[used];
+
+                double left = evaluate(operation.left(), partials, used);
+                double right = evaluate(operation.right(), rightPartials, used + 1);
+
+                double leftFactor = derivative.left().applyAsDouble(left, right);
+                double rightFactor = derivative.right().applyAsDouble(left, right);
+
+                for (int i = 0; i < size; i++) {
+
+                    /* Skipping zeros avoids NaN from factors which are undefined, but don't matter. */
+                    double leftPartial = partials[i] == 0 ? 0 : leftFactor * partials[i];
+                    double rightPartial = rightPartials[i] == 0 ? 0 : rightFactor * rightPartials[i];
+
+                    partials[i] = leftPartial + rightPartial;
+                }
+
+                return operation.operator().evaluateDouble(left, right);
+            }
+
+            if (equation instanceof Parenthesis parenthesis) {
+
+                DoubleUnaryOperator derivative = functions.get(parenthesis.function());
+
+                if (derivative == null)
+                    throw new IllegalArgumentException("Function '" + parenthesis.function().toPattern() + "' cannot be derived!");
+
+                double inner = evaluate(parenthesis.inner(), partials, used);
+
+                if (parenthesis.function() == StandardFunctions.NOP)
+                    return inner;
+
+                double factor = derivative.applyAsDouble(inner);
+
+                for (int i = 0; i < size; i++)
+                    if (partials[i] != 0)
+                        partials[i] *= factor;
+
+                return parenthesis.function().evaluateDouble(inner);
+            }
+
+            if (equation instanceof Condition condition) {
+
+                boolean taken = Condition.isTrue(condition.condition().evaluateDouble(storage));
+
+                return evaluate(taken ? condition.whenTrue() : condition.whenFalse(), partials, used);
+            }
+
+            if (equation instanceof Extremum extremum)
+                return evaluateExtremum(extremum, partials, used);
+
+            if (equation instanceof Clamp clamp)
+                return evaluateClamp(clamp, partials, used);
+
+            if (equation instanceof Variable variable)
+                return evaluateVariable(variable.name(), -1, null, variable.evaluateDouble(storage), partials);
+
+            if (equation instanceof BoundVariable variable)
+                return evaluateVariable(variable.name(), variable.slot(), variable.layout(), variable.evaluateDouble(storage), partials);
+
+            if (equation instanceof BoundEquation boundEquation)
+                return evaluate(boundEquation.getEquation(), partials, used);
+
+            if (equation instanceof Constant || equation instanceof DecimalConstant || equation instanceof LongConstant) {
+                Arrays.fill(partials, 0, size, 0);
+                return equation.evaluateDouble(storage);
+            }
+
+            throw new IllegalArgumentException("Equation of type " + equation.getClass().getName() + " cannot be derived!");
+        }
+
+        /*
+         * The arguments are compared one after another, like Math.min and Math.max do, and the derivatives of the
+         * argument which is returned are kept.
+         */
+        private double evaluateExtremum(Extremum extremum, double[] partials, int used) {
+
+            List<Equation> arguments = extremum.arguments();
+            double[] argumentPartials = buffers[used];
+
+            double result = evaluate(arguments.get(0), partials, used);
+
+            for (int i = 1; i < arguments.size(); i++) {
+
+                double value = evaluate(arguments.get(i), argumentPartials, used + 1);
+
+                if (Double.isNaN(result))
+                    continue;
+
+                boolean better = extremum.kind() == Extremum.Kind.MIN ? value < result : value > result;
+
+                if (better || Double.isNaN(value)) {
+                    System.arraycopy(argumentPartials, 0, partials, 0, size);
+                    result = value;
+                }
+            }
+
+            return result;
+        }
+
+        /*
+         * Evaluated as max(lower, min(value, upper)), the same way as Clamp itself.
+         * Both bounds need their own buffer, as the value and both bounds are evaluated before comparing them.
+         */
+        private double evaluateClamp(Clamp clamp, double[] partials, int used) {
+
+            double[] lowerPartials = buffers[used];
+            double[] upperPartials = buffers[used + 1];
+
+            double value = evaluate(clamp.value(), partials, used);
+            double lower = evaluate(clamp.lower(), lowerPartials, used + 1);
+            double upper = evaluate(clamp.upper(), upperPartials, used + 2);
+
+            if (upper < value)
+                System.arraycopy(upperPartials, 0, partials, 0, size);
+
+            double result = Math.min(value, upper);
+
+            if (!(result > lower))
+                System.arraycopy(lowerPartials, 0, partials, 0, size);
+
+            return Clamp.clamp(value, lower, upper);
+        }
+
+        private double evaluateVariable(String name, int slot, SlotLayout variableLayout, double value, double[] partials) {
+
+            Arrays.fill(partials, 0, size, 0);
+
+            int index = variableLayout == layout ? slot : layout.indexOf(name);
+
+            if (index >= 0)
+                partials[index] = 1;
+
+            return value;
+        }
+    }
+
+    private record OperatorDerivative(
+            DoubleBinaryOperator left,
+            DoubleBinaryOperator right) {
+    }
+}
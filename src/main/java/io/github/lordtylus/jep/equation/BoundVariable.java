@@ -0,0 +1,76 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.equation.Variable.VariableResult;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import lombok.NonNull;
+
+import java.util.Locale;
+
+/**
+ * This part of an {@link Equation} represents a {@link Variable} whose slot in a {@link SlotLayout} was resolved
+ * by the {@link EquationBinder}.
+ * <p>
+ * If evaluated with an {@link IndexedStorage} using the same layout, the value is read directly from the slot.
+ * With any other {@link Storage}, the variable is resolved by its name just like {@link Variable} does.
+ */
+public record BoundVariable(
+        @NonNull String name,
+        int slot,
+        @NonNull SlotLayout layout
+) implements Equation {
+
+    @Override
+    public VariableResult evaluate(@NonNull Storage storage) {
+
+        if (storage instanceof IndexedStorage indexedStorage && indexedStorage.getLayout() == layout)
+            return new VariableResult(name, indexedStorage.get(slot));
+
+        return new VariableResult(name, storage.evaluate(name));
+    }
+
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+
+        if (storage instanceof IndexedStorage indexedStorage && indexedStorage.getLayout() == layout)
+            return indexedStorage.get(slot);
+
+        return storage.evaluateDouble(name);
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+
+        if (storage instanceof IndexedStorage indexedStorage && indexedStorage.getLayout() == layout)
+            return indexedStorage.get(slot);
+
+        return storage.evaluate(name);
+    }
+
+    @Override
+    public String toPattern(
+            @NonNull Locale locale,
+            @NonNull VariablePattern variablePattern) {
+
+        return Variable.toPattern(name, variablePattern);
+    }
+}
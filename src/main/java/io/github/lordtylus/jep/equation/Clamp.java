@@ -0,0 +1,181 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.parsers.ConditionalParser;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import io.github.lordtylus.jep.tokenizer.SeparatorTokenizer;
+import lombok.NonNull;
+
+import java.util.Locale;
+
+/**
+ * This part of an equation limits the value of an {@link Equation} to a range, such as clamp([x];0;100).
+ * <p>
+ * Values below the lower bound return the lower bound, values above the upper bound return the upper bound.
+ * If the lower bound is greater than the upper bound, the lower bound wins. If the value or any of the bounds is NaN,
+ * the result is NaN as well.
+ * <p>
+ * All evaluation paths evaluate the value first, then the lower and then the upper bound.
+ * <p>
+ * You can find more information in the {@link ConditionalParser}
+ */
+public record Clamp(
+        @NonNull Equation value,
+        @NonNull Equation lower,
+        @NonNull Equation upper) implements Equation {
+
+    @Override
+    public ClampResult evaluate(@NonNull Storage storage) {
+
+        Result valueResult = value.evaluate(storage);
+        Result lowerResult = lower.evaluate(storage);
+        Result upperResult = upper.evaluate(storage);
+
+        Number result = clamp(valueResult.result(), lowerResult.result(), upperResult.result());
+
+        return new ClampResult(valueResult, lowerResult, upperResult, result);
+    }
+
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+
+        double valueResult = value.evaluateDouble(storage);
+        double lowerResult = lower.evaluateDouble(storage);
+        double upperResult = upper.evaluateDouble(storage);
+
+        return clamp(valueResult, lowerResult, upperResult);
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+        return clamp(value.evaluateNumber(storage), lower.evaluateNumber(storage), upper.evaluateNumber(storage));
+    }
+
+    @Override
+    public String toPattern(
+            @NonNull Locale locale,
+            @NonNull VariablePattern variablePattern) {
+
+        return ConditionalParser.CLAMP + "("
+                + value.toPattern(locale, variablePattern) + SeparatorTokenizer.SEPARATOR
+                + lower.toPattern(locale, variablePattern) + SeparatorTokenizer.SEPARATOR
+                + upper.toPattern(locale, variablePattern) + ")";
+    }
+
+    /**
+     * Limits the value to the given bounds. If the lower bound is greater than the upper bound, the lower bound wins.
+     *
+     * @param value the value to limit.
+     * @param lower the lower bound.
+     * @param upper the upper bound.
+     * @return the limited value, or NaN if any of the arguments is NaN.
+     */
+    public static double clamp(double value, double lower, double upper) {
+        return Math.max(lower, Math.min(value, upper));
+    }
+
+    /**
+     * Limits the value to the given bounds. If the lower bound is greater than the upper bound, the lower bound wins.
+     * <p>
+     * The chosen number is returned as it is, so it keeps its type.
+     *
+     * @param value the value to limit.
+     * @param lower the lower bound.
+     * @param upper the upper bound.
+     * @return the limited value, or the first argument which is NaN.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static Number clamp(
+            @NonNull Number value,
+            @NonNull Number lower,
+            @NonNull Number upper) {
+
+        double doubleValue = value.doubleValue();
+        double lowerValue = lower.doubleValue();
+        double upperValue = upper.doubleValue();
+
+        if (Double.isNaN(doubleValue))
+            return value;
+
+        if (Double.isNaN(lowerValue))
+            return lower;
+
+        if (Double.isNaN(upperValue))
+            return upper;
+
+        Number result = doubleValue > upperValue ? upper : value;
+
+        return result.doubleValue() < lowerValue ? lower : result;
+    }
+
+    /**
+     * This record represents the result of the evaluation of the {@link Clamp} class.
+     */
+    public record ClampResult(
+            @NonNull
+            Result valueResult,
+            @NonNull
+            Result lowerResult,
+            @NonNull
+            Result upperResult,
+            Number result
+    ) implements Result {
+
+        @Override
+        public void print(
+                @NonNull StringBuilder sb,
+                @NonNull String currentIndent,
+                @NonNull String indent) {
+
+            sb.append(currentIndent)
+                    .append(ConditionalParser.CLAMP)
+                    .append(" ( ")
+                    .append(valueResult.result())
+                    .append(SeparatorTokenizer.SEPARATOR).append(" ")
+                    .append(lowerResult.result())
+                    .append(SeparatorTokenizer.SEPARATOR).append(" ")
+                    .append(upperResult.result())
+                    .append(" ) = ")
+                    .append(result)
+                    .append("\n");
+
+            valueResult.print(sb, currentIndent + indent, indent);
+            lowerResult.print(sb, currentIndent + indent, indent);
+            upperResult.print(sb, currentIndent + indent, indent);
+        }
+
+        @Override
+        public void toStaticEquation(@NonNull StringBuilder sb) {
+            sb.append(ConditionalParser.CLAMP);
+            sb.append("(");
+            valueResult.toStaticEquation(sb);
+            sb.append(SeparatorTokenizer.SEPARATOR);
+            lowerResult.toStaticEquation(sb);
+            sb.append(SeparatorTokenizer.SEPARATOR);
+            upperResult.toStaticEquation(sb);
+            sb.append(")");
+        }
+
+        @Override
+        public String toString() {
+            return toDisplayString();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.parsers.ConditionalParser;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import io.github.lordtylus.jep.tokenizer.SeparatorTokenizer;
+import lombok.NonNull;
+
+import java.util.Locale;
+
+/**
+ * This part of an equation chooses between two {@link Equation equations} depending on a condition, such as if([x]&gt;0;[a];[b]).
+ * <p>
+ * The condition is true if its value is neither 0 nor NaN, which is the case for {@link ComparisonOperators} that hold.
+ * Only the chosen branch is evaluated, so expensive branches which are not taken don't cost anything.
+ * <p>
+ * You can find more information in the {@link ConditionalParser}
+ */
+public record Condition(
+        @NonNull Equation condition,
+        @NonNull Equation whenTrue,
+        @NonNull Equation whenFalse) implements Equation {
+
+    /**
+     * Checks whether the given value of a condition counts as true.
+     *
+     * @param value value of the condition.
+     * @return true if the value is neither 0 nor NaN.
+     */
+    public static boolean isTrue(double value) {
+        return value != 0 && !Double.isNaN(value);
+    }
+
+    @Override
+    public ConditionResult evaluate(@NonNull Storage storage) {
+
+        Result conditionResult = condition.evaluate(storage);
+
+        boolean taken = isTrue(conditionResult.asDouble());
+
+        Result branchResult = taken ? whenTrue.evaluate(storage) : whenFalse.evaluate(storage);
+
+        return new ConditionResult(conditionResult, taken, branchResult);
+    }
+
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+
+        if (isTrue(condition.evaluateDouble(storage)))
+            return whenTrue.evaluateDouble(storage);
+
+        return whenFalse.evaluateDouble(storage);
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+
+        if (isTrue(condition.evaluateNumber(storage).doubleValue()))
+            return whenTrue.evaluateNumber(storage);
+
+        return whenFalse.evaluateNumber(storage);
+    }
+
+    @Override
+    public String toPattern(
+            @NonNull Locale locale,
+            @NonNull VariablePattern variablePattern) {
+
+        return ConditionalParser.IF + "("
+                + condition.toPattern(locale, variablePattern) + SeparatorTokenizer.SEPARATOR
+                + whenTrue.toPattern(locale, variablePattern) + SeparatorTokenizer.SEPARATOR
+                + whenFalse.toPattern(locale, variablePattern) + ")";
+    }
+
+    /**
+     * This record represents the result of the evaluation of the {@link Condition} class.
+     * <p>
+     * Only the result of the branch which was taken is available, as the other one was never evaluated.
+     */
+    public record ConditionResult(
+            @NonNull
+            Result conditionResult,
+            boolean taken,
+            @NonNull
+            Result branchResult
+    ) implements Result {
+
+        @Override
+        public Number result() {
+            return branchResult.result();
+        }
+
+        @Override
+        public void print(
+                @NonNull StringBuilder sb,
+                @NonNull String currentIndent,
+                @NonNull String indent) {
+
+            sb.append(currentIndent)
+                    .append(ConditionalParser.IF)
+                    .append(" ( ")
+                    .append(conditionResult.result())
+                    .append(" ) ")
+                    .append(taken)
+                    .append(" = ")
+                    .append(result())
+                    .append("\n");
+
+            conditionResult.print(sb, currentIndent + indent, indent);
+            branchResult.print(sb, currentIndent + indent, indent);
+        }
+
+        /**
+         * Only the taken branch is written, as the value of the condition doesn't contribute to the result.
+         */
+        @Override
+        public void toStaticEquation(@NonNull StringBuilder sb) {
+            sb.append("(");
+            branchResult.toStaticEquation(sb);
+            sb.append(")");
+        }
+
+        @Override
+        public String toString() {
+            return toDisplayString();
+        }
+    }
+}
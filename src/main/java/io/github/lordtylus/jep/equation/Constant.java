@@ -43,6 +43,16 @@ public record Constant(
         return new ConstantResult(value);
     }
 
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+        return value;
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+        return value;
+    }
+
     @Override
     public String toPattern(
             @NonNull Locale locale,
@@ -0,0 +1,64 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.decimal.DecimalEvaluator;
+import io.github.lordtylus.jep.equation.Constant.ConstantResult;
+import io.github.lordtylus.jep.parsers.DecimalConstantParser;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * This part of an {@link Equation} represents a constant decimal value, which is kept exactly as it was written.
+ * <p>
+ * The constant value is parsed using {@link DecimalConstantParser}. The {@link DecimalEvaluator} evaluates it without
+ * any loss of precision, while all other ways of evaluating an equation use its closest double value.
+ */
+public record DecimalConstant(
+        @NonNull BigDecimal value
+) implements Equation {
+
+    @Override
+    public ConstantResult evaluate(@NonNull Storage storage) {
+        return new ConstantResult(value);
+    }
+
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+        return value.doubleValue();
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+        return value;
+    }
+
+    @Override
+    public String toPattern(
+            @NonNull Locale locale,
+            @NonNull VariablePattern variablePattern) {
+
+        char decimalSeparator = DecimalFormatSymbols.getInstance(locale).getDecimalSeparator();
+
+        return value.toPlainString().replace('.', decimalSeparator);
+    }
+}
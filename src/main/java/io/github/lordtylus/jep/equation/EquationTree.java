@@ -0,0 +1,157 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This class knows the children of every {@link Equation} implementation of this framework and how to rebuild
+ * a part with new children.
+ * <p>
+ * Code walking the tree, like binding, interning or collecting the variables, uses these methods instead of handling
+ * each type on its own. That way a new type of part only has to be added here.
+ * <p>
+ * Children are returned in the order they are evaluated in. {@link Variable Variables}, constants and unknown
+ * {@link Equation} implementations have no children.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EquationTree {
+
+    /**
+     * Returns the direct children of the given {@link Equation}.
+     * <p>
+     * A {@link BoundEquation} has the equation it wraps as its only child.
+     *
+     * @param equation the {@link Equation} to get the children of.
+     * @return unmodifiable list of the children, empty for leaves.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static List<Equation> childrenOf(
+            @NonNull Equation equation) {
+
+        if (equation instanceof Operation operation)
+            return List.of(operation.left(), operation.right());
+
+        if (equation instanceof Parenthesis parenthesis)
+            return List.of(parenthesis.inner());
+
+        if (equation instanceof Condition condition)
+            return List.of(condition.condition(), condition.whenTrue(), condition.whenFalse());
+
+        if (equation instanceof Extremum extremum)
+            return extremum.arguments();
+
+        if (equation instanceof Clamp clamp)
+            return List.of(clamp.value(), clamp.lower(), clamp.upper());
+
+        if (equation instanceof BoundEquation boundEquation)
+            return List.of(boundEquation.getEquation());
+
+        return List.of();
+    }
+
+    /**
+     * Returns a copy of the given {@link Equation} using the given children instead of its own.
+     * Everything else, like the operator or function, stays the same.
+     * <p>
+     * If all children are the same instances as before, the given equation itself is returned.
+     * A {@link BoundEquation} is bound to its {@link io.github.lordtylus.jep.binding.SlotLayout} again.
+     *
+     * @param equation the {@link Equation} to rebuild.
+     * @param children the new children, in the order of {@link #childrenOf(Equation)}.
+     * @return the rebuilt equation.
+     * @throws IllegalArgumentException If the number of children doesn't match the equation.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static Equation withChildren(
+            @NonNull Equation equation,
+            @NonNull List<Equation> children) {
+
+        List<Equation> current = childrenOf(equation);
+
+        if (current.size() != children.size())
+            throw new IllegalArgumentException("Expected " + current.size() + " children, but got " + children.size() + "!");
+
+        if (isSame(current, children))
+            return equation;
+
+        if (equation instanceof Operation operation)
+            return new Operation(children.get(0), children.get(1), operation.operator());
+
+        if (equation instanceof Parenthesis parenthesis)
+            return new Parenthesis(parenthesis.function(), children.get(0));
+
+        if (equation instanceof Condition)
+            return new Condition(children.get(0), children.get(1), children.get(2));
+
+        if (equation instanceof Extremum extremum)
+            return new Extremum(extremum.kind(), children);
+
+        if (equation instanceof Clamp)
+            return new Clamp(children.get(0), children.get(1), children.get(2));
+
+        BoundEquation boundEquation = (BoundEquation) equation;
+
+        return EquationBinder.bind(children.get(0), boundEquation.getLayout());
+    }
+
+    /**
+     * Collects the names of all {@link Variable variables} and {@link BoundVariable bound variables} of the given
+     * {@link Equation}, including those of wrapped {@link BoundEquation bound equations}.
+     *
+     * @param equation the {@link Equation} to get the variables of.
+     * @return the names in the order in which they first appear.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static Set<String> variablesOf(
+            @NonNull Equation equation) {
+
+        Set<String> variables = new LinkedHashSet<>();
+        collectVariables(equation, variables);
+
+        return variables;
+    }
+
+    private static void collectVariables(Equation equation, Set<String> variables) {
+
+        if (equation instanceof Variable variable) {
+            variables.add(variable.name());
+        } else if (equation instanceof BoundVariable variable) {
+            variables.add(variable.name());
+        } else {
+            for (Equation child : childrenOf(equation))
+                collectVariables(child, variables);
+        }
+    }
+
+    private static boolean isSame(List<Equation> current, List<Equation> children) {
+
+        for (int i = 0; i < current.size(); i++)
+            if (current.get(i) != children.get(i))
+                return false;
+
+        return true;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.parsers.ConditionalParser;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import io.github.lordtylus.jep.tokenizer.SeparatorTokenizer;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * This part of an equation returns the smallest or largest value of any number of {@link Equation equations},
+ * such as min([a];[b];3) or max([a];0).
+ * <p>
+ * If any of the values is NaN, the result is NaN as well.
+ * <p>
+ * You can find more information in the {@link ConditionalParser}
+ */
+public record Extremum(
+        @NonNull Kind kind,
+        @NonNull List<Equation> arguments) implements Equation {
+
+    /**
+     * Creates a new extremum of the given arguments.
+     *
+     * @param kind      whether the smallest or largest value is returned.
+     * @param arguments the equations to compare.
+     * @throws IllegalArgumentException If no arguments are given.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public Extremum {
+
+        if (arguments.isEmpty())
+            throw new IllegalArgumentException("At least one argument is required!");
+
+        arguments = List.copyOf(arguments);
+    }
+
+    @Override
+    public ExtremumResult evaluate(@NonNull Storage storage) {
+
+        List<Result> argumentResults = new ArrayList<>(arguments.size());
+
+        Number result = null;
+
+        for (Equation argument : arguments) {
+
+            Result argumentResult = argument.evaluate(storage);
+            argumentResults.add(argumentResult);
+
+            result = result == null ? argumentResult.result() : kind.select(result, argumentResult.result());
+        }
+
+        return new ExtremumResult(kind, argumentResults, result);
+    }
+
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+
+        double result = arguments.get(0).evaluateDouble(storage);
+
+        for (int i = 1; i < arguments.size(); i++) {
+
+            double value = arguments.get(i).evaluateDouble(storage);
+
+            result = kind.select(result, value);
+        }
+
+        return result;
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+
+        Number result = arguments.get(0).evaluateNumber(storage);
+
+        for (int i = 1; i < arguments.size(); i++)
+            result = kind.select(result, arguments.get(i).evaluateNumber(storage));
+
+        return result;
+    }
+
+    @Override
+    public String toPattern(
+            @NonNull Locale locale,
+            @NonNull VariablePattern variablePattern) {
+
+        StringBuilder sb = new StringBuilder(kind.getPattern()).append("(");
+
+        for (int i = 0; i < arguments.size(); i++) {
+
+            if (i > 0)
+                sb.append(SeparatorTokenizer.SEPARATOR);
+
+            sb.append(arguments.get(i).toPattern(locale, variablePattern));
+        }
+
+        return sb.append(")").toString();
+    }
+
+    /**
+     * Defines whether the smallest or the largest value is returned.
+     */
+    public enum Kind {
+
+        /**
+         * Returns the smallest value.
+         */
+        MIN,
+
+        /**
+         * Returns the largest value.
+         */
+        MAX;
+
+        /**
+         * @return the name of the function in an equation string.
+         */
+        public String getPattern() {
+            return this == MIN ? ConditionalParser.MIN : ConditionalParser.MAX;
+        }
+
+        /**
+         * Returns the smaller or larger of both values, or NaN if any of them is NaN.
+         *
+         * @param current   the value chosen so far.
+         * @param candidate the value to compare with.
+         * @return the chosen value.
+         */
+        public double select(double current, double candidate) {
+            return this == MIN ? Math.min(current, candidate) : Math.max(current, candidate);
+        }
+
+        /**
+         * Returns the smaller or larger of both numbers, or the first one which is NaN.
+         * The chosen number is returned as it is, so it keeps its type.
+         *
+         * @param current   the number chosen so far.
+         * @param candidate the number to compare with.
+         * @return the chosen number.
+         * @throws NullPointerException If any given argument is null.
+         */
+        public Number select(@NonNull Number current, @NonNull Number candidate) {
+
+            double currentValue = current.doubleValue();
+            double candidateValue = candidate.doubleValue();
+
+            if (Double.isNaN(currentValue))
+                return current;
+
+            if (Double.isNaN(candidateValue))
+                return candidate;
+
+            boolean better = this == MIN ? candidateValue < currentValue : candidateValue > currentValue;
+
+            return better ? candidate : current;
+        }
+    }
+
+    /**
+     * This record represents the result of the evaluation of the {@link Extremum} class.
+     */
+    public record ExtremumResult(
+            @NonNull
+            Kind kind,
+            @NonNull
+            List<Result> argumentResults,
+            Number result
+    ) implements Result {
+
+        @Override
+        public void print(
+                @NonNull StringBuilder sb,
+                @NonNull String currentIndent,
+                @NonNull String indent) {
+
+            sb.append(currentIndent)
+                    .append(kind.getPattern())
+                    .append(" ( ");
+
+            for (int i = 0; i < argumentResults.size(); i++) {
+
+                if (i > 0)
+                    sb.append(SeparatorTokenizer.SEPARATOR).append(" ");
+
+                sb.append(argumentResults.get(i).result());
+            }
+
+            sb.append(" ) = ")
+                    .append(result)
+                    .append("\n");
+
+            for (Result argumentResult : argumentResults)
+                argumentResult.print(sb, currentIndent + indent, indent);
+        }
+
+        @Override
+        public void toStaticEquation(@NonNull StringBuilder sb) {
+
+            sb.append(kind.getPattern());
+            sb.append("(");
+
+            for (int i = 0; i < argumentResults.size(); i++) {
+
+                if (i > 0)
+                    sb.append(SeparatorTokenizer.SEPARATOR);
+
+                argumentResults.get(i).toStaticEquation(sb);
+            }
+
+            sb.append(")");
+        }
+
+        @Override
+        public String toString() {
+            return toDisplayString();
+        }
+    }
+}
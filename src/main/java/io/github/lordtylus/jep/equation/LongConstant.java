@@ -0,0 +1,60 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.equation.Constant.ConstantResult;
+import io.github.lordtylus.jep.integer.LongEvaluator;
+import io.github.lordtylus.jep.parsers.LongConstantParser;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import lombok.NonNull;
+
+import java.util.Locale;
+
+/**
+ * This part of an {@link Equation} represents a constant whole number, which is kept as long.
+ * <p>
+ * The constant value is parsed using {@link LongConstantParser}. The {@link LongEvaluator} evaluates it without
+ * converting it to double, so values above 2^53 don't lose precision.
+ */
+public record LongConstant(
+        long value
+) implements Equation {
+
+    @Override
+    public ConstantResult evaluate(@NonNull Storage storage) {
+        return new ConstantResult(value);
+    }
+
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+        return value;
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+        return value;
+    }
+
+    @Override
+    public String toPattern(
+            @NonNull Locale locale,
+            @NonNull VariablePattern variablePattern) {
+
+        return Long.toString(value);
+    }
+}
@@ -65,6 +65,16 @@ public record Operation(
         return new OperationResult(operator, leftResult, rightResult, result);
     }
 
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+        return operator.evaluateDouble(left.evaluateDouble(storage), right.evaluateDouble(storage));
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+        return operator.evaluate(left.evaluateNumber(storage), right.evaluateNumber(storage));
+    }
+
     @Override
     public String toPattern(
             @NonNull Locale locale,
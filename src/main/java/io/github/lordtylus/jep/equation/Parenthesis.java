@@ -51,6 +51,16 @@ public record Parenthesis(
         return new ParenthesisResult(function, innerResult, result);
     }
 
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+        return function.evaluateDouble(inner.evaluateDouble(storage));
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+        return function.evaluate(inner.evaluateNumber(storage));
+    }
+
     @Override
     public String toPattern(
             @NonNull Locale locale,
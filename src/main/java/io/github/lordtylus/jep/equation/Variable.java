@@ -43,11 +43,28 @@ public record Variable(
         return new VariableResult(name, result);
     }
 
+    @Override
+    public double evaluateDouble(@NonNull Storage storage) {
+        return storage.evaluateDouble(name);
+    }
+
+    @Override
+    public Number evaluateNumber(@NonNull Storage storage) {
+        return storage.evaluate(name);
+    }
+
     @Override
     public String toPattern(
             @NonNull Locale locale,
             @NonNull VariablePattern variablePattern) {
 
+        return toPattern(name, variablePattern);
+    }
+
+    static String toPattern(
+            String name,
+            VariablePattern variablePattern) {
+
         if (!variablePattern.isEscaped())
             return name;
 
@@ -0,0 +1,379 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.evaluation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Clamp.ClampResult;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Condition.ConditionResult;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.Extremum.ExtremumResult;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Operation.OperationResult;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Parenthesis.ParenthesisResult;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This evaluator solves {@link Equation equations} of any depth without recursion.
+ * <p>
+ * The implementations of {@link Operation} and {@link Parenthesis} evaluate their children recursively, which is the fastest
+ * way for common equations. However, machine generated equations with thousands of nested parentheses or a sum of
+ * thousands of terms are as deep as they are long, and recursing through them can exceed the stack size of the thread.
+ * This evaluator walks the tree using a stack on the heap instead, so the depth is only limited by the available memory.
+ * <p>
+ * Deep equations should be parsed with {@link CustomParsingOptions#precedenceClimbing()}, which doesn't recurse either.
+ * <p>
+ * {@link Condition}, {@link Extremum} and {@link Clamp} are walked the same way, so long chains of nested if or min
+ * don't recurse either. Just like {@link Condition} itself, only the branch which is taken is evaluated.
+ * <p>
+ * {@link BoundEquation Bound equations} are looked into. Custom {@link Equation} implementations are evaluated as they are.
+ * <p>
+ * This class is thread safe.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StackEvaluator {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * Evaluates the given {@link Equation} and returns the raw double value, just like {@link Equation#evaluateDouble(Storage)}.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param storage  the {@link Storage} to be used to solve variables.
+     * @return the result of the equation as double.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static double evaluateDouble(
+            @NonNull Equation equation,
+            @NonNull Storage storage) {
+
+        WorkStack work = new WorkStack(equation);
+
+        double[] values = new double[INITIAL_CAPACITY];
+        int size = 0;
+
+        while (work.size > 0) {
+
+            Equation part = work.pop();
+
+            if (work.poppedStage == WorkStack.DECIDE) {
+
+                Condition condition = (Condition) part;
+
+                work.push(Condition.isTrue(values[--size]) ? condition.whenTrue() : condition.whenFalse(), WorkStack.VISIT);
+
+            } else if (work.poppedStage == WorkStack.APPLY) {
+
+                if (part instanceof Operation operation) {
+                    double right = values[--size];
+                    values[size - 1] = operation.operator().evaluateDouble(values[size - 1], right);
+                } else if (part instanceof Parenthesis parenthesis) {
+                    values[size - 1] = parenthesis.function().evaluateDouble(values[size - 1]);
+                } else if (part instanceof Extremum extremum) {
+
+                    int count = extremum.arguments().size();
+                    size -= count - 1;
+
+                    double result = values[size - 1];
+
+                    for (int i = 0; i < count - 1; i++)
+                        result = extremum.kind().select(result, values[size + i]);
+
+                    values[size - 1] = result;
+
+                } else {
+                    size -= 2;
+                    values[size - 1] = Clamp.clamp(values[size - 1], values[size], values[size + 1]);
+                }
+
+            } else if (!work.expand(part)) {
+
+                if (size == values.length)
+                    values = Arrays.copyOf(values, size * 2);
+
+                values[size++] = part.evaluateDouble(storage);
+            }
+        }
+
+        return values[0];
+    }
+
+    /**
+     * Evaluates the given {@link Equation} and returns only the resulting number, just like {@link Equation#evaluateNumber(Storage)}.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param storage  the {@link Storage} to be used to solve variables.
+     * @return the result of the equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static Number evaluateNumber(
+            @NonNull Equation equation,
+            @NonNull Storage storage) {
+
+        WorkStack work = new WorkStack(equation);
+
+        Number[] values = new Number[INITIAL_CAPACITY];
+        int size = 0;
+
+        while (work.size > 0) {
+
+            Equation part = work.pop();
+
+            if (work.poppedStage == WorkStack.DECIDE) {
+
+                Condition condition = (Condition) part;
+                work.push(Condition.isTrue(values[--size].doubleValue()) ? condition.whenTrue() : condition.whenFalse(), WorkStack.VISIT);
+
+            } else if (work.poppedStage == WorkStack.APPLY) {
+
+                if (part instanceof Operation operation) {
+                    Number right = values[--size];
+                    values[size - 1] = operation.operator().evaluate(values[size - 1], right);
+                } else if (part instanceof Parenthesis parenthesis) {
+                    values[size - 1] = parenthesis.function().evaluate(values[size - 1]);
+                } else if (part instanceof Extremum extremum) {
+
+                    int count = extremum.arguments().size();
+                    size -= count - 1;
+
+                    Number result = values[size - 1];
+
+                    for (int i = 0; i < count - 1; i++)
+                        result = extremum.kind().select(result, values[size + i]);
+
+                    values[size - 1] = result;
+
+                } else {
+                    size -= 2;
+                    values[size - 1] = Clamp.clamp(values[size - 1], values[size], values[size + 1]);
+                }
+
+            } else if (!work.expand(part)) {
+
+                if (size == values.length)
+                    values = Arrays.copyOf(values, size * 2);
+
+                values[size++] = part.evaluateNumber(storage);
+            }
+        }
+
+        return values[0];
+    }
+
+    /**
+     * Evaluates the given {@link Equation} and builds the whole tree of {@link Result} objects, just like {@link Equation#evaluate(Storage)}.
+     * <p>
+     * Note that printing the results walks the tree recursively again, so for very deep equations
+     * {@link #evaluateNumber(Equation, Storage)} or {@link #evaluateDouble(Equation, Storage)} should be preferred.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param storage  the {@link Storage} to be used to solve variables.
+     * @return Result object with the result of the equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static Result evaluate(
+            @NonNull Equation equation,
+            @NonNull Storage storage) {
+
+        WorkStack work = new WorkStack(equation);
+
+        Result[] results = new Result[INITIAL_CAPACITY];
+        int size = 0;
+
+        while (work.size > 0) {
+
+            Equation part = work.pop();
+
+            if (work.poppedStage == WorkStack.DECIDE) {
+
+                /* The result of the condition stays on the stack until the branch is evaluated. */
+                Condition condition = (Condition) part;
+
+                work.push(condition, WorkStack.APPLY);
+                work.push(Condition.isTrue(results[size - 1].asDouble()) ? condition.whenTrue() : condition.whenFalse(), WorkStack.VISIT);
+
+            } else if (work.poppedStage == WorkStack.APPLY) {
+
+                if (part instanceof Operation operation) {
+
+                    Result right = results[--size];
+                    Result left = results[size - 1];
+
+                    results[size - 1] = new OperationResult(operation.operator(), left, right,
+                            operation.operator().evaluate(left.result(), right.result()));
+
+                } else if (part instanceof Parenthesis parenthesis) {
+
+                    Result inner = results[size - 1];
+
+                    results[size - 1] = new ParenthesisResult(parenthesis.function(), inner,
+                            parenthesis.function().evaluate(inner.result()));
+
+                } else if (part instanceof Condition) {
+
+                    Result branch = results[--size];
+                    Result test = results[size - 1];
+
+                    results[size - 1] = new ConditionResult(test, Condition.isTrue(test.asDouble()), branch);
+
+                } else if (part instanceof Extremum extremum) {
+
+                    int count = extremum.arguments().size();
+                    size -= count;
+
+                    List<Result> arguments = List.of(Arrays.copyOfRange(results, size, size + count));
+                    Number result = arguments.get(0).result();
+
+                    for (int i = 1; i < count; i++)
+                        result = extremum.kind().select(result, arguments.get(i).result());
+
+                    results[size++] = new ExtremumResult(extremum.kind(), arguments, result);
+
+                } else {
+
+                    size -= 2;
+
+                    Result value = results[size - 1];
+                    Result lower = results[size];
+                    Result upper = results[size + 1];
+
+                    results[size - 1] = new ClampResult(value, lower, upper,
+                            Clamp.clamp(value.result(), lower.result(), upper.result()));
+                }
+
+            } else if (!work.expand(part)) {
+
+                if (size == results.length)
+                    results = Arrays.copyOf(results, size * 2);
+
+                results[size++] = part.evaluate(storage);
+            }
+        }
+
+        return results[0];
+    }
+
+    /**
+     * Holds the parts of the equation which still have to be visited.
+     * <p>
+     * Parts with children are visited twice. The first time their children are pushed on top of them,
+     * the second time, after all children were evaluated, the operator or function is applied.
+     * A {@link Condition} is visited once more in between. After its condition was evaluated, only the branch
+     * which is taken is pushed, just like a jump in a compiled program.
+     */
+    private static final class WorkStack {
+
+        private static final byte VISIT = 0;
+        private static final byte DECIDE = 1;
+        private static final byte APPLY = 2;
+
+        private Equation[] parts = new Equation[INITIAL_CAPACITY];
+        private byte[] stages = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        private byte poppedStage;
+
+        private WorkStack(Equation root) {
+            push(root, VISIT);
+        }
+
+        private Equation pop() {
+
+            size--;
+
+            Equation part = parts[size];
+            poppedStage = stages[size];
+            parts[size] = null;
+
+            return part;
+        }
+
+        /*
+         * The first child is pushed last, so it is evaluated first, in the same order as the recursive implementations.
+         */
+        private boolean expand(Equation part) {
+
+            if (part instanceof Operation operation) {
+                push(operation, APPLY);
+                push(operation.right(), VISIT);
+                push(operation.left(), VISIT);
+                return true;
+            }
+
+            if (part instanceof Parenthesis parenthesis) {
+                push(parenthesis, APPLY);
+                push(parenthesis.inner(), VISIT);
+                return true;
+            }
+
+            if (part instanceof Condition condition) {
+                push(condition, DECIDE);
+                push(condition.condition(), VISIT);
+                return true;
+            }
+
+            if (part instanceof Extremum extremum) {
+
+                List<Equation> arguments = extremum.arguments();
+
+                push(extremum, APPLY);
+
+                for (int i = arguments.size() - 1; i >= 0; i--)
+                    push(arguments.get(i), VISIT);
+
+                return true;
+            }
+
+            if (part instanceof Clamp clamp) {
+                push(clamp, APPLY);
+                push(clamp.upper(), VISIT);
+                push(clamp.lower(), VISIT);
+                push(clamp.value(), VISIT);
+                return true;
+            }
+
+            if (part instanceof BoundEquation boundEquation) {
+                push(boundEquation.getEquation(), VISIT);
+                return true;
+            }
+
+            return false;
+        }
+
+        private void push(Equation part, byte stage) {
+
+            if (size == parts.length) {
+                parts = Arrays.copyOf(parts, size * 2);
+                stages = Arrays.copyOf(stages, size * 2);
+            }
+
+            parts[size] = part;
+            stages[size] = stage;
+            size++;
+        }
+    }
+}
@@ -15,12 +15,16 @@
 */
 package io.github.lordtylus.jep.functions;
 
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.Value;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 
 /**
@@ -31,6 +35,13 @@ import java.util.function.Function;
  * <p>
  * A function always has a pattern, that <b>must</b> be lowercase, and optionally can have
  * a collection of aliases under which, when being parsed, the Function can also be identified.
+ * <p>
+ * A function can be declared pure if its result only depends on the given number. Only pure functions
+ * are folded into constants when optimizing an equation.
+ * <p>
+ * Functions which only need double arithmetic should be created using {@link #ofDouble(String, List, DoubleUnaryOperator, boolean)}.
+ * Their {@link #doubleFunction} is called without boxing the number when evaluating an equation as double.
+ * It must return the same result as the {@link #evalFunction}, which is why it is not part of {@link #equals(Object)}.
  */
 @Value
 @AllArgsConstructor
@@ -42,6 +53,10 @@ public class MathFunction {
     List<String> aliases;
     @NonNull
     Function<Number, Number> evalFunction;
+    @NonNull
+    @EqualsAndHashCode.Exclude
+    DoubleUnaryOperator doubleFunction;
+    boolean pure;
 
     /**
      * Creates a new function with the given pattern and evaluation function.
@@ -56,6 +71,75 @@ public class MathFunction {
         this(pattern, Collections.emptyList(), evalFunction);
     }
 
+    /**
+     * Creates a new function with the given pattern, aliases and evaluation function.
+     * The function is not declared pure, so it is never folded into a constant.
+     *
+     * @param pattern      pattern the parser should recognize this function by
+     * @param aliases      other names the parser should recognize this function by
+     * @param evalFunction function to be executed when the equation is evaluated.
+     */
+    public MathFunction(
+            @NonNull String pattern,
+            @NonNull List<String> aliases,
+            @NonNull Function<Number, Number> evalFunction) {
+
+        this(pattern, aliases, evalFunction, false);
+    }
+
+    /**
+     * Creates a new function using the given function for both numbers and doubles.
+     *
+     * @param pattern      pattern the parser should recognize this function by
+     * @param aliases      other names the parser should recognize this function by
+     * @param evalFunction function to be executed when the equation is evaluated.
+     * @param pure         whether the result only depends on the given number.
+     */
+    public MathFunction(
+            @NonNull String pattern,
+            @NonNull List<String> aliases,
+            @NonNull Function<Number, Number> evalFunction,
+            boolean pure) {
+
+        this(pattern, aliases, evalFunction, number -> evalFunction.apply(number).doubleValue(), pure);
+    }
+
+    /**
+     * Creates a new function performing double arithmetic, which is not declared pure.
+     *
+     * @param pattern        pattern the parser should recognize this function by
+     * @param doubleFunction function to be executed when the equation is evaluated.
+     * @return new function
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static MathFunction ofDouble(
+            @NonNull String pattern,
+            @NonNull DoubleUnaryOperator doubleFunction) {
+
+        return ofDouble(pattern, Collections.emptyList(), doubleFunction, false);
+    }
+
+    /**
+     * Creates a new function performing double arithmetic.
+     * <p>
+     * Numbers passed to {@link #evaluate(Number)} are converted to double first.
+     *
+     * @param pattern        pattern the parser should recognize this function by
+     * @param aliases        other names the parser should recognize this function by
+     * @param doubleFunction function to be executed when the equation is evaluated.
+     * @param pure           whether the result only depends on the given number.
+     * @return new function
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static MathFunction ofDouble(
+            @NonNull String pattern,
+            @NonNull List<String> aliases,
+            @NonNull DoubleUnaryOperator doubleFunction,
+            boolean pure) {
+
+        return new MathFunction(pattern, aliases, new DoubleEvalFunction(doubleFunction), doubleFunction, pure);
+    }
+
     /**
      * Returns the pattern name of the function, ignoring any aliases. The purpose of the method
      * is to help create an equation string that can be parsed later on.
@@ -84,4 +168,31 @@ public class MathFunction {
 
         return evalFunction.apply(number);
     }
-}
\ No newline at end of file
+
+    /**
+     * Evaluates the given double and returns the result as double.
+     * <p>
+     * This method is used by {@link Equation#evaluateDouble(Storage)} and behaves the same as {@link #evaluate(Number)},
+     * with the result being converted to double.
+     *
+     * @param number the function should perform its calculation on.
+     * @return Resulting number of {@link #doubleFunction}
+     */
+    public double evaluateDouble(
+            double number) {
+
+        return doubleFunction.applyAsDouble(number);
+    }
+
+    /*
+     * Numbers are converted to double for functions created from a double function. Being a record, two of them
+     * created from the same double function are equal, so are the functions using them.
+     */
+    private record DoubleEvalFunction(DoubleUnaryOperator doubleFunction) implements Function<Number, Number> {
+
+        @Override
+        public Number apply(Number number) {
+            return doubleFunction.applyAsDouble(number.doubleValue());
+        }
+    }
+}
@@ -20,7 +20,6 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
-import java.util.function.Function;
 
 /**
  * This class contains a set of default functions to be used for solving {@link Equation eqations}.
@@ -32,127 +31,127 @@ public final class StandardFunctions {
     /**
      * No function, returns the same number
      */
-    public static final MathFunction NOP = new MathFunction("", value -> value);
+    public static final MathFunction NOP = new MathFunction("", List.of(), value -> value, value -> value, true);
     /**
      * Returns absolute value of number.
      *
      * @see Math#abs(double)
      */
-    public static final MathFunction ABS = new MathFunction("abs", fromDouble(Math::abs));
+    public static final MathFunction ABS = MathFunction.ofDouble("abs", List.of(), Math::abs, true);
     /**
      * Returns sine of number.
      *
      * @see Math#sin(double)
      */
-    public static final MathFunction SIN = new MathFunction("sin", fromDouble(Math::sin));
+    public static final MathFunction SIN = MathFunction.ofDouble("sin", List.of(), Math::sin, true);
     /**
      * Returns arc sine of number.
      *
      * @see Math#asin(double)
      */
-    public static final MathFunction ASIN = new MathFunction("asin", fromDouble(Math::asin));
+    public static final MathFunction ASIN = MathFunction.ofDouble("asin", List.of(), Math::asin, true);
     /**
      * Returns hyperbolic sine of number.
      *
      * @see Math#sinh(double)
      */
-    public static final MathFunction SINH = new MathFunction("sinh", fromDouble(Math::sinh));
+    public static final MathFunction SINH = MathFunction.ofDouble("sinh", List.of(), Math::sinh, true);
     /**
      * Returns cosine of number.
      *
      * @see Math#cos(double)
      */
-    public static final MathFunction COS = new MathFunction("cos", fromDouble(Math::cos));
+    public static final MathFunction COS = MathFunction.ofDouble("cos", List.of(), Math::cos, true);
     /**
      * Returns arc cosine of number.
      *
      * @see Math#acos(double)
      */
-    public static final MathFunction ACOS = new MathFunction("acos", fromDouble(Math::acos));
+    public static final MathFunction ACOS = MathFunction.ofDouble("acos", List.of(), Math::acos, true);
     /**
      * Returns hyperbolic cosine of number.
      *
      * @see Math#cosh (double)
      */
-    public static final MathFunction COSH = new MathFunction("cosh", fromDouble(Math::cosh));
+    public static final MathFunction COSH = MathFunction.ofDouble("cosh", List.of(), Math::cosh, true);
     /**
      * Returns tangent of number.
      *
      * @see Math#tan(double)
      */
-    public static final MathFunction TAN = new MathFunction("tan", fromDouble(Math::tan));
+    public static final MathFunction TAN = MathFunction.ofDouble("tan", List.of(), Math::tan, true);
     /**
      * Returns arc tangent of number.
      *
      * @see Math#atan(double)
      */
-    public static final MathFunction ATAN = new MathFunction("atan", fromDouble(Math::atan));
+    public static final MathFunction ATAN = MathFunction.ofDouble("atan", List.of(), Math::atan, true);
     /**
      * Returns hyperbolic tangent of number.
      *
      * @see Math#tanh(double)
      */
-    public static final MathFunction TANH = new MathFunction("tanh", fromDouble(Math::tanh));
+    public static final MathFunction TANH = MathFunction.ofDouble("tanh", List.of(), Math::tanh, true);
     /**
      * Returns e to given power.
      *
      * @see Math#exp(double)
      */
-    public static final MathFunction EXP = new MathFunction("exp", fromDouble(Math::exp));
+    public static final MathFunction EXP = MathFunction.ofDouble("exp", List.of(), Math::exp, true);
     /**
      * Returns natural log of number.
      *
      * @see Math#log(double)
      */
-    public static final MathFunction LOG = new MathFunction("log", List.of("ln"), fromDouble(Math::log));
+    public static final MathFunction LOG = MathFunction.ofDouble("log", List.of("ln"), Math::log, true);
     /**
      * Returns base 10 log of number.
      *
      * @see Math#log10(double)
      */
-    public static final MathFunction LOG10 = new MathFunction("log10", fromDouble(Math::log10));
+    public static final MathFunction LOG10 = MathFunction.ofDouble("log10", List.of(), Math::log10, true);
     /**
      * Rounds number down.
      *
      * @see Math#floor(double)
      */
-    public static final MathFunction FLOOR = new MathFunction("floor", fromDouble(Math::floor));
+    public static final MathFunction FLOOR = MathFunction.ofDouble("floor", List.of(), Math::floor, true);
     /**
      * Rounds to the closed whole number.
      *
      * @see Math#round(double)
      */
-    public static final MathFunction ROUND = new MathFunction("round", a -> (double) Math.round(a.doubleValue()));
+    public static final MathFunction ROUND = MathFunction.ofDouble("round", List.of(), a -> (double) Math.round(a), true);
     /**
      * Rounds number up.
      *
      * @see Math#ceil(double)
      */
-    public static final MathFunction CEIL = new MathFunction("ceil", fromDouble(Math::ceil));
+    public static final MathFunction CEIL = MathFunction.ofDouble("ceil", List.of(), Math::ceil, true);
     /**
      * Returns positive square root of number.
      *
      * @see Math#sqrt(double)
      */
-    public static final MathFunction SQRT = new MathFunction("sqrt", fromDouble(Math::sqrt));
+    public static final MathFunction SQRT = MathFunction.ofDouble("sqrt", List.of(), Math::sqrt, true);
     /**
      * Returns qube root of number.
      *
      * @see Math#cbrt(double)
      */
-    public static final MathFunction CBRT = new MathFunction("cbrt", fromDouble(Math::cbrt));
+    public static final MathFunction CBRT = MathFunction.ofDouble("cbrt", List.of(), Math::cbrt, true);
     /**
      * Converts the passed number to radians.
      *
      * @see Math#toRadians(double)
      */
-    public static final MathFunction RAD = new MathFunction("rad", fromDouble(Math::toRadians));
+    public static final MathFunction RAD = MathFunction.ofDouble("rad", List.of(), Math::toRadians, true);
     /**
      * Converts the passed number to degrees.
      *
      * @see Math#toDegrees(double)
      */
-    public static final MathFunction DEG = new MathFunction("deg", fromDouble(Math::toDegrees));
+    public static final MathFunction DEG = MathFunction.ofDouble("deg", List.of(), Math::toDegrees, true);
 
     private static final List<MathFunction> ALL = List.of(
             NOP, ABS, SIN, ASIN, SINH, COS, ACOS,
@@ -167,8 +166,4 @@ public final class StandardFunctions {
     public static List<MathFunction> all() {
         return ALL;
     }
-
-    private static Function<Number, Number> fromDouble(Function<Double, Double> function) {
-        return number -> function.apply(number.doubleValue());
-    }
 }
@@ -0,0 +1,233 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.graph;
+
+import io.github.lordtylus.jep.DoubleStorage;
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.equation.EquationTree;
+import io.github.lordtylus.jep.equation.Variable;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class evaluates a set of named {@link Equation equations}, called formulas, which may use each other's results as variables.
+ * <p>
+ * For example the formulas {@code margin = [revenue]-[cost]} and {@code ratio = [margin]/[revenue]} depend on each other,
+ * since ratio uses the result of margin. All variables which are not the name of a formula are inputs, read from a {@link Storage}.
+ * <p>
+ * When the graph is created, the dependencies are read from the {@link Variable variables} of each formula and
+ * the formulas are sorted, so every formula is evaluated after all formulas it depends on. Each formula is evaluated exactly once,
+ * no matter how many other formulas use its result. Formulas that don't depend on each other can be evaluated in parallel using
+ * {@link #evaluate(Storage, ForkJoinPool)}.
+ * <p>
+ * Custom {@link Equation} implementations can't be looked into. They can still read all inputs and the results of formulas
+ * evaluated before them, but their dependencies are not taken into account for the order.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ */
+public final class FormulaGraph {
+
+    private final List<String> formulas;
+    private final Equation[] equations;
+    private final Map<String, Integer> indices;
+    private final int[][] levels;
+
+    private FormulaGraph(
+            List<String> formulas,
+            Equation[] equations,
+            Map<String, Integer> indices,
+            int[][] levels) {
+
+        this.formulas = formulas;
+        this.equations = equations;
+        this.indices = indices;
+        this.levels = levels;
+    }
+
+    /**
+     * Creates a new graph of the given formulas.
+     *
+     * @param formulas the {@link Equation equations} by the name other formulas can use them as variable.
+     * @return new graph.
+     * @throws IllegalArgumentException If the formulas depend on each other in a cycle.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public static FormulaGraph of(
+            @NonNull Map<String, ? extends Equation> formulas) {
+
+        List<String> names = new ArrayList<>(formulas.keySet());
+
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < names.size(); i++)
+            indices.put(names.get(i), i);
+
+        List<List<Integer>> dependents = new ArrayList<>();
+        int[] missingDependencies = new int[names.size()];
+
+        for (int i = 0; i < names.size(); i++)
+            dependents.add(new ArrayList<>());
+
+        for (int i = 0; i < names.size(); i++) {
+
+            for (String variable : EquationTree.variablesOf(formulas.get(names.get(i)))) {
+
+                Integer dependency = indices.get(variable);
+
+                if (dependency == null)
+                    continue;
+
+                dependents.get(dependency).add(i);
+                missingDependencies[i]++;
+            }
+        }
+
+        List<int[]> levels = new ArrayList<>();
+        List<Integer> level = new ArrayList<>();
+
+        for (int i = 0; i < names.size(); i++) {
+            if (missingDependencies[i] == 0)
+                level.add(i);
+        }
+
+        List<String> order = new ArrayList<>(names.size());
+
+        while (!level.isEmpty()) {
+
+            List<Integer> nextLevel = new ArrayList<>();
+
+            for (int index : level) {
+
+                order.add(names.get(index));
+
+                for (int dependent : dependents.get(index)) {
+                    if (--missingDependencies[dependent] == 0)
+                        nextLevel.add(dependent);
+                }
+            }
+
+            levels.add(level.stream().mapToInt(Integer::intValue).toArray());
+            level = nextLevel;
+        }
+
+        if (order.size() != names.size()) {
+
+            List<String> cycle = new ArrayList<>();
+            for (int i = 0; i < names.size(); i++) {
+                if (missingDependencies[i] > 0)
+                    cycle.add(names.get(i));
+            }
+
+            throw new IllegalArgumentException("Formulas depend on each other in a cycle: " + cycle);
+        }
+
+        Equation[] equations = new Equation[names.size()];
+        for (int i = 0; i < names.size(); i++)
+            equations[i] = formulas.get(names.get(i));
+
+        return new FormulaGraph(List.copyOf(order), equations, indices, levels.toArray(new int[0][]));
+    }
+
+    /**
+     * Returns the names of all formulas in the order they are evaluated in.
+     *
+     * @return unmodifiable list of formula names.
+     */
+    public List<String> getFormulas() {
+        return formulas;
+    }
+
+    /**
+     * Evaluates all formulas on the current thread.
+     *
+     * @param inputs the {@link Storage} providing all variables which are not formulas.
+     * @return unmodifiable map of all results by formula name, in the order they were evaluated in.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public Map<String, Double> evaluate(
+            @NonNull Storage inputs) {
+
+        double[] values = new double[equations.length];
+        Storage storage = storage(inputs, values);
+
+        for (int[] level : levels) {
+            for (int index : level)
+                values[index] = equations[index].evaluateDouble(storage);
+        }
+
+        return toMap(values);
+    }
+
+    /**
+     * Evaluates all formulas using the given {@link ForkJoinPool}.
+     * <p>
+     * Formulas are evaluated in levels. All formulas of a level only depend on formulas of previous levels,
+     * so they are evaluated in parallel.
+     * <p>
+     * The given {@link Storage} may be called by multiple threads at the same time.
+     *
+     * @param inputs the {@link Storage} providing all variables which are not formulas.
+     * @param pool   the pool to evaluate the formulas in.
+     * @return unmodifiable map of all results by formula name, in the order they were evaluated in.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public Map<String, Double> evaluate(
+            @NonNull Storage inputs,
+            @NonNull ForkJoinPool pool) {
+
+        double[] values = new double[equations.length];
+        Storage storage = storage(inputs, values);
+
+        for (int[] level : levels) {
+
+            if (level.length == 1) {
+                values[level[0]] = equations[level[0]].evaluateDouble(storage);
+                continue;
+            }
+
+            pool.submit(() -> Arrays.stream(level).parallel()
+                            .forEach(index -> values[index] = equations[index].evaluateDouble(storage)))
+                    .join();
+        }
+
+        return toMap(values);
+    }
+
+    private DoubleStorage storage(Storage inputs, double[] values) {
+        return variable -> {
+            Integer index = indices.get(variable);
+            return index != null ? values[index] : inputs.evaluateDouble(variable);
+        };
+    }
+
+    private Map<String, Double> toMap(double[] values) {
+
+        Map<String, Double> results = new LinkedHashMap<>();
+
+        for (String formula : formulas)
+            results.put(formula, values[indices.get(formula)]);
+
+        return Collections.unmodifiableMap(results);
+    }
+}
@@ -0,0 +1,546 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.incremental;
+
+import io.github.lordtylus.jep.DoubleStorage;
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.EquationTree;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class evaluates an {@link Equation} once and afterward only recalculates the parts which are affected by a changed variable.
+ * <p>
+ * The value of every part of the equation is cached. When {@link #update(String, double)} is called, only the parts on the
+ * path from each occurrence of the variable up to the root are calculated again. The calculation stops early, as soon as
+ * the value of a part did not change. This makes updates of a few variables in a large equation much cheaper than
+ * evaluating the whole equation again.
+ * <p>
+ * The values of the variables are kept in an array ordered by the {@link #getLayout() layout}, so
+ * {@link #update(int, double)} can change a variable without looking up its name.
+ * <p>
+ * Only the branch of a {@link Condition} which is taken is evaluated and cached. Updates of variables which are only read
+ * by the other branch are skipped. Once the condition changes, the other branch is evaluated and the values of the old
+ * one are dropped. {@link Extremum} and {@link Clamp} are recalculated from the cached values of their arguments.
+ * <p>
+ * Since values are cached, operators and functions which are not pure are only called again if one of their inputs changed.
+ * Custom {@link Equation} implementations can't be looked into. Each time one is evaluated, the variables it reads are
+ * recorded, and it is only evaluated again once one of those variables is updated.
+ * <p>
+ * Instances of this class are stateful and not thread safe.
+ */
+public final class IncrementalEvaluator {
+
+    private static final int NONE = -1;
+
+    private final Equation[] parts;
+    private final int[] parents;
+    private final int[][] children;
+    private final double[] values;
+
+    /**
+     * Index of the first part of the subtree of each part. Parts are stored in post order, so the subtree of a part
+     * are all parts from this index up to the part itself.
+     */
+    private final int[] firsts;
+
+    /**
+     * Whether a part is needed for the current value, meaning it is not in a branch which is not taken.
+     * Only the values of active parts are up to date.
+     */
+    private final boolean[] active;
+
+    /**
+     * The branch each {@link Condition} currently takes, true for whenTrue and false for whenFalse.
+     */
+    private final boolean[] taken;
+
+    /**
+     * The layout of all variables used by the equation, including the ones read by custom parts when it was created.
+     */
+    @Getter
+    private final SlotLayout layout;
+
+    private final double[] variables;
+    private final int[] slots;
+    private final int[][] variableParts;
+
+    private final int[] customParts;
+    private final BitSet[] customDependencies;
+    private final BitSet[] dependentCustomParts;
+    private final BitSet customPartsReadingOthers = new BitSet();
+
+    /**
+     * Values of updated variables which are not part of the layout. Custom parts may still read them later on.
+     */
+    private final Map<String, Double> otherVariables = new HashMap<>();
+    private final Storage storage;
+    private final RecordingStorage recordingStorage = new RecordingStorage();
+
+    /**
+     * Names read by each custom part during the first evaluation, which happens before the layout is known.
+     */
+    private List<Set<String>> initialReads;
+
+    /**
+     * Creates a new evaluator for the given {@link Equation} and evaluates it once.
+     * <p>
+     * The initial value of every variable is read from the given {@link Storage}. The storage is also used for custom
+     * {@link Equation} implementations that need variables which were never updated.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param storage  the {@link Storage} providing the initial variable values.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public IncrementalEvaluator(
+            @NonNull Equation equation,
+            @NonNull Storage storage) {
+
+        this.storage = storage;
+
+        Builder builder = new Builder();
+        builder.add(equation);
+
+        int size = builder.parts.size();
+
+        this.parts = builder.parts.toArray(new Equation[0]);
+        this.parents = toArray(builder.parents);
+        this.children = builder.children.toArray(new int[0][]);
+        this.firsts = toArray(builder.firsts);
+        this.values = new double[size];
+        this.active = new boolean[size];
+        this.taken = new boolean[size];
+        this.customParts = toArray(builder.customParts);
+        this.customDependencies = new BitSet[customParts.length];
+        this.slots = new int[size];
+
+        Arrays.fill(slots, NONE);
+
+        for (int i = 0; i < customParts.length; i++)
+            customDependencies[i] = new BitSet();
+
+        /*
+         * The first evaluation reads the variables from the storage, as the layout is not known yet.
+         * Custom parts record the variables they read, so those get a slot as well.
+         */
+        initialReads = new ArrayList<>(customParts.length);
+
+        for (int i = 0; i < customParts.length; i++)
+            initialReads.add(new LinkedHashSet<>());
+
+        activate(size - 1);
+
+        Set<String> names = new LinkedHashSet<>(builder.variableParts.keySet());
+
+        for (Set<String> reads : initialReads)
+            names.addAll(reads);
+
+        this.layout = SlotLayout.of(names);
+        this.variables = new double[layout.size()];
+        this.variableParts = new int[layout.size()][];
+        this.dependentCustomParts = new BitSet[layout.size()];
+
+        for (int slot = 0; slot < variables.length; slot++) {
+
+            String name = layout.getVariables().get(slot);
+
+            variables[slot] = storage.evaluateDouble(name);
+            variableParts[slot] = toArray(builder.variableParts.getOrDefault(name, List.of()));
+            dependentCustomParts[slot] = new BitSet();
+        }
+
+        for (int i = 0; i < size; i++) {
+
+            Equation part = parts[i];
+
+            if (part instanceof Variable variable)
+                slots[i] = layout.slotOf(variable.name());
+            else if (part instanceof BoundVariable variable)
+                slots[i] = layout.slotOf(variable.name());
+        }
+
+        for (int custom = 0; custom < customParts.length; custom++) {
+
+            for (String name : initialReads.get(custom)) {
+
+                int slot = layout.slotOf(name);
+
+                customDependencies[custom].set(slot);
+                dependentCustomParts[slot].set(custom);
+            }
+        }
+
+        initialReads = null;
+    }
+
+    /**
+     * Returns the names of all variables used by the equation.
+     *
+     * @return unmodifiable set of variable names.
+     */
+    public Set<String> getVariables() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(layout.getVariables()));
+    }
+
+    /**
+     * Returns the current value of the equation.
+     *
+     * @return the cached result of the equation.
+     */
+    public double getValue() {
+        return values[values.length - 1];
+    }
+
+    /**
+     * Sets the given variable to a new value and recalculates only the parts of the equation which depend on it.
+     * <p>
+     * Variables not used by the equation are still stored, as custom {@link Equation} implementations may need them.
+     *
+     * @param variable name of the variable.
+     * @param value    new value of the variable.
+     * @return the new value of the equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public double update(
+            @NonNull String variable,
+            double value) {
+
+        int slot = layout.indexOf(variable);
+
+        if (slot != NONE)
+            return update(slot, value);
+
+        otherVariables.put(variable, value);
+
+        recalculateCustomParts(customPartsReadingOthers);
+
+        return getValue();
+    }
+
+    /**
+     * Sets the variable in the given slot of the {@link #getLayout() layout} to a new value and recalculates only the
+     * parts of the equation which depend on it.
+     *
+     * @param slot  slot of the variable.
+     * @param value new value of the variable.
+     * @return the new value of the equation.
+     * @throws IndexOutOfBoundsException If the slot is not part of the layout.
+     */
+    public double update(
+            int slot,
+            double value) {
+
+        if (Double.compare(variables[slot], value) == 0)
+            return getValue();
+
+        variables[slot] = value;
+
+        for (int index : variableParts[slot]) {
+
+            /* Parts in branches which are not taken are evaluated again once the branch is taken. */
+            if (!active[index])
+                continue;
+
+            values[index] = value;
+            propagate(index);
+        }
+
+        recalculateCustomParts(dependentCustomParts[slot]);
+
+        return getValue();
+    }
+
+    private void recalculateCustomParts(BitSet customIndices) {
+
+        if (customIndices.isEmpty())
+            return;
+
+        /* Recalculating changes the recorded dependencies, so the set is copied first. */
+        BitSet affected = (BitSet) customIndices.clone();
+
+        for (int custom = affected.nextSetBit(0); custom >= 0; custom = affected.nextSetBit(custom + 1)) {
+
+            int index = customParts[custom];
+
+            /* A previous custom part may have switched the branch this one is in. */
+            if (!active[index])
+                continue;
+
+            double value = calculateCustom(custom);
+
+            if (Double.compare(values[index], value) == 0)
+                continue;
+
+            values[index] = value;
+            propagate(index);
+        }
+    }
+
+    private void propagate(int index) {
+
+        int child = index;
+        int parent = parents[index];
+
+        while (parent != NONE) {
+
+            if (parts[parent] instanceof Condition && children[parent][0] == child)
+                switchBranch(parent);
+
+            double value = calculate(parent);
+
+            if (Double.compare(values[parent], value) == 0)
+                return;
+
+            values[parent] = value;
+
+            child = parent;
+            parent = parents[parent];
+        }
+    }
+
+    /*
+     * Called after the condition of the given Condition changed. If it now takes the other branch,
+     * the old branch is dropped and the new one is evaluated.
+     */
+    private void switchBranch(int index) {
+
+        boolean condition = Condition.isTrue(values[children[index][0]]);
+
+        if (condition == taken[index])
+            return;
+
+        deactivate(children[index][taken[index] ? 1 : 2]);
+
+        taken[index] = condition;
+
+        activate(children[index][condition ? 1 : 2]);
+    }
+
+    /*
+     * Evaluates the given part and all parts it needs, skipping the branches of conditions which are not taken.
+     */
+    private void activate(int index) {
+
+        active[index] = true;
+
+        int[] children = this.children[index];
+
+        if (parts[index] instanceof Condition) {
+
+            activate(children[0]);
+
+            taken[index] = Condition.isTrue(values[children[0]]);
+
+            activate(children[taken[index] ? 1 : 2]);
+
+        } else {
+
+            for (int child : children)
+                activate(child);
+        }
+
+        int custom = Arrays.binarySearch(customParts, index);
+
+        values[index] = custom >= 0 ? calculateCustom(custom) : calculate(index);
+    }
+
+    /*
+     * Marks the subtree of the given part as no longer needed. Custom parts in it stop listening to their variables.
+     */
+    private void deactivate(int index) {
+
+        for (int i = firsts[index]; i <= index; i++) {
+
+            if (!active[i])
+                continue;
+
+            active[i] = false;
+
+            int custom = Arrays.binarySearch(customParts, i);
+
+            if (custom >= 0)
+                clearDependencies(custom);
+        }
+    }
+
+    private double calculate(int index) {
+
+        Equation part = parts[index];
+        int[] children = this.children[index];
+
+        if (part instanceof Operation operation)
+            return operation.operator().evaluateDouble(values[children[0]], values[children[1]]);
+
+        if (part instanceof Parenthesis parenthesis)
+            return parenthesis.function().evaluateDouble(values[children[0]]);
+
+        if (part instanceof Condition)
+            return values[children[taken[index] ? 1 : 2]];
+
+        if (part instanceof Extremum extremum) {
+
+            double result = values[children[0]];
+
+            for (int i = 1; i < children.length; i++)
+                result = extremum.kind().select(result, values[children[i]]);
+
+            return result;
+        }
+
+        if (part instanceof Clamp)
+            return Clamp.clamp(values[children[0]], values[children[1]], values[children[2]]);
+
+        if (part instanceof Constant constant)
+            return constant.value();
+
+        if (slots[index] != NONE)
+            return variables[slots[index]];
+
+        return part.evaluateDouble(storage);
+    }
+
+    private double calculateCustom(int custom) {
+
+        clearDependencies(custom);
+
+        recordingStorage.custom = custom;
+
+        return parts[customParts[custom]].evaluateDouble(recordingStorage);
+    }
+
+    private void clearDependencies(int custom) {
+
+        BitSet dependencies = customDependencies[custom];
+
+        for (int slot = dependencies.nextSetBit(0); slot >= 0; slot = dependencies.nextSetBit(slot + 1))
+            dependentCustomParts[slot].clear(custom);
+
+        dependencies.clear();
+        customPartsReadingOthers.clear(custom);
+    }
+
+    private static int[] toArray(List<Integer> list) {
+
+        int[] array = new int[list.size()];
+
+        for (int i = 0; i < array.length; i++)
+            array[i] = list.get(i);
+
+        return array;
+    }
+
+    /**
+     * Provides the variables to custom parts and records which of them were read by the part currently evaluated.
+     */
+    private final class RecordingStorage implements DoubleStorage {
+
+        private int custom = NONE;
+
+        @Override
+        public double evaluateDouble(@NonNull String variable) {
+
+            if (initialReads != null) {
+                initialReads.get(custom).add(variable);
+                return storage.evaluateDouble(variable);
+            }
+
+            int slot = layout.indexOf(variable);
+
+            if (slot != NONE) {
+                customDependencies[custom].set(slot);
+                dependentCustomParts[slot].set(custom);
+                return variables[slot];
+            }
+
+            customPartsReadingOthers.set(custom);
+
+            Double value = otherVariables.get(variable);
+            return value != null ? value : storage.evaluateDouble(variable);
+        }
+    }
+
+    /**
+     * Flattens the tree in post order and keeps track of the parent and children of each part.
+     * The children are taken in the order of the {@link EquationTree}, which is the one expected by calculate.
+     */
+    private static final class Builder {
+
+        private final List<Equation> parts = new ArrayList<>();
+        private final List<Integer> parents = new ArrayList<>();
+        private final List<int[]> children = new ArrayList<>();
+        private final List<Integer> firsts = new ArrayList<>();
+
+        private final Map<String, List<Integer>> variableParts = new LinkedHashMap<>();
+        private final List<Integer> customParts = new ArrayList<>();
+
+        private int add(Equation equation) {
+
+            if (equation instanceof BoundEquation boundEquation)
+                return add(boundEquation.getEquation());
+
+            List<Equation> childEquations = EquationTree.childrenOf(equation);
+            int[] childIndices = new int[childEquations.size()];
+
+            for (int i = 0; i < childIndices.length; i++)
+                childIndices[i] = add(childEquations.get(i));
+
+            int index = parts.size();
+
+            parts.add(equation);
+            parents.add(NONE);
+            children.add(childIndices);
+            firsts.add(childIndices.length == 0 ? index : firsts.get(childIndices[0]));
+
+            for (int child : childIndices)
+                parents.set(child, index);
+
+            if (equation instanceof Variable variable)
+                addVariable(variable.name(), index);
+            else if (equation instanceof BoundVariable variable)
+                addVariable(variable.name(), index);
+            else if (childIndices.length == 0 && !(equation instanceof Constant))
+                customParts.add(index);
+
+            return index;
+        }
+
+        private void addVariable(String name, int index) {
+            variableParts.computeIfAbsent(name, key -> new ArrayList<>()).add(index);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.integer;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * This evaluator calculates {@link Equation equations} using long arithmetic wherever possible.
+ * <p>
+ * Whole numbers parsed with {@link CustomParsingOptions#integer()} are kept as {@link LongConstant longs}. Variables,
+ * constants and results which are whole numbers are calculated as long, and addition, subtraction, multiplication,
+ * whole exponents and abs detect overflows like {@link Math#addExact(long, long)}. A division is only calculated as long
+ * if it has no remainder.
+ * <p>
+ * Only the parts of an equation which cannot be expressed as whole numbers are promoted to double, such as 7/2,
+ * negative exponents, fractional values or functions like sin. Floor, ceil and round turn their result back into a long.
+ * Custom operators and functions are always evaluated in double.
+ * <p>
+ * {@link ComparisonOperators} always return the whole numbers 1 or 0. Only the branch of a {@link Condition} which is
+ * taken is evaluated, and {@link Extremum} and {@link Clamp} keep the type of the chosen argument.
+ * <p>
+ * The evaluation does not allocate any objects per part of the equation.
+ * <p>
+ * This class is thread safe.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LongEvaluator {
+
+    /* Longs between -2^63 and 2^63 can be converted from double without loss, as all doubles of that size are whole. */
+    private static final double LONG_RANGE = 0x1p63;
+
+    /**
+     * Evaluates the given {@link Equation} and requires the result to be a whole number.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param storage  the {@link Storage} to be used to solve variables.
+     * @return the result of the equation.
+     * @throws ArithmeticException  If a calculation overflows, divides by zero or the result is not a whole number.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static long evaluateLong(
+            @NonNull Equation equation,
+            @NonNull Storage storage) {
+
+        Evaluation evaluation = new Evaluation(storage);
+
+        long value = evaluation.evaluate(equation);
+
+        if (evaluation.isDouble)
+            throw new ArithmeticException("Result " + Double.longBitsToDouble(value) + " is not a whole number!");
+
+        return value;
+    }
+
+    /**
+     * Evaluates the given {@link Equation} and returns a {@link Long} if the result is a whole number,
+     * or a {@link Double} if parts of the equation had to be promoted.
+     *
+     * @param equation the {@link Equation} to evaluate.
+     * @param storage  the {@link Storage} to be used to solve variables.
+     * @return the result of the equation as {@link Long} or {@link Double}.
+     * @throws ArithmeticException  If a calculation overflows or divides by zero.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static Number evaluate(
+            @NonNull Equation equation,
+            @NonNull Storage storage) {
+
+        Evaluation evaluation = new Evaluation(storage);
+
+        long value = evaluation.evaluate(equation);
+
+        if (evaluation.isDouble)
+            return Double.longBitsToDouble(value);
+
+        return value;
+    }
+
+    /**
+     * Holds the state of a single evaluation.
+     * <p>
+     * Every part returns its value as long. If {@link #isDouble} is set afterward, the long holds the bits
+     * of a double instead, so no objects need to be created to return either type.
+     */
+    private static final class Evaluation {
+
+        private final Storage storage;
+
+        private boolean isDouble;
+
+        private Evaluation(Storage storage) {
+            this.storage = storage;
+        }
+
+        private long evaluate(Equation equation) {
+
+            if (equation instanceof LongConstant constant)
+                return whole(constant.value());
+
+            if (equation instanceof Constant constant)
+                return fromDouble(constant.value());
+
+            if (equation instanceof Variable variable)
+                return fromNumber(storage.evaluate(variable.name()));
+
+            if (equation instanceof BoundVariable variable)
+                return fromNumber(storage.evaluate(variable.name()));
+
+            if (equation instanceof Operation operation)
+                return evaluateOperation(operation);
+
+            if (equation instanceof Parenthesis parenthesis)
+                return evaluateParenthesis(parenthesis);
+
+            if (equation instanceof Condition condition) {
+
+                long value = evaluate(condition.condition());
+
+                boolean taken = isDouble ? Condition.isTrue(Double.longBitsToDouble(value)) : value != 0;
+
+                return evaluate(taken ? condition.whenTrue() : condition.whenFalse());
+            }
+
+            if (equation instanceof Extremum extremum)
+                return evaluateExtremum(extremum);
+
+            if (equation instanceof Clamp clamp)
+                return evaluateClamp(clamp);
+
+            if (equation instanceof BoundEquation boundEquation)
+                return evaluate(boundEquation.getEquation());
+
+            return fromNumber(equation.evaluateNumber(storage));
+        }
+
+        private long evaluateOperation(Operation operation) {
+
+            long left = evaluate(operation.left());
+            boolean leftIsDouble = isDouble;
+
+            long right = evaluate(operation.right());
+            boolean rightIsDouble = isDouble;
+
+            Operator operator = operation.operator();
+
+            if (!leftIsDouble && !rightIsDouble) {
+
+                if (operator == StandardOperators.ADD)
+                    return whole(Math.addExact(left, right));
+
+                if (operator == StandardOperators.SUB)
+                    return whole(Math.subtractExact(left, right));
+
+                if (operator == StandardOperators.MULT)
+                    return whole(Math.multiplyExact(left, right));
+
+                if (operator == StandardOperators.DIV) {
+
+                    if (right == 0)
+                        throw new ArithmeticException("Division by zero!");
+
+                    if (left == Long.MIN_VALUE && right == -1)
+                        throw new ArithmeticException("long overflow");
+
+                    if (left % right == 0)
+                        return whole(left / right);
+
+                } else if (operator == StandardOperators.POW && right >= 0) {
+                    return whole(pow(left, right));
+
+                } else if (operator == ComparisonOperators.LESS) {
+                    return whole(left < right ? 1 : 0);
+
+                } else if (operator == ComparisonOperators.GREATER) {
+                    return whole(left > right ? 1 : 0);
+
+                } else if (operator == ComparisonOperators.EQUAL) {
+                    return whole(left == right ? 1 : 0);
+                }
+            }
+
+            double leftDouble = leftIsDouble ? Double.longBitsToDouble(left) : left;
+            double rightDouble = rightIsDouble ? Double.longBitsToDouble(right) : right;
+
+            double result = operator.evaluateDouble(leftDouble, rightDouble);
+
+            if (ComparisonOperators.all().contains(operator))
+                return fromDouble(result);
+
+            return fraction(result);
+        }
+
+        /*
+         * The arguments are compared like Extremum does, so the chosen argument keeps its type.
+         */
+        private long evaluateExtremum(Extremum extremum) {
+
+            List<Equation> arguments = extremum.arguments();
+
+            long result = evaluate(arguments.get(0));
+            boolean resultIsDouble = isDouble;
+
+            for (int i = 1; i < arguments.size(); i++) {
+
+                long value = evaluate(arguments.get(i));
+                boolean valueIsDouble = isDouble;
+
+                if (isNaN(result, resultIsDouble))
+                    continue;
+
+                int comparison = compare(value, valueIsDouble, result, resultIsDouble);
+
+                if (isNaN(value, valueIsDouble) || (extremum.kind() == Extremum.Kind.MIN ? comparison < 0 : comparison > 0)) {
+                    result = value;
+                    resultIsDouble = valueIsDouble;
+                }
+            }
+
+            isDouble = resultIsDouble;
+
+            return result;
+        }
+
+        /*
+         * The bounds are compared like Clamp does, so the chosen value keeps its type.
+         */
+        private long evaluateClamp(Clamp clamp) {
+
+            long value = evaluate(clamp.value());
+            boolean valueIsDouble = isDouble;
+
+            long lower = evaluate(clamp.lower());
+            boolean lowerIsDouble = isDouble;
+
+            long upper = evaluate(clamp.upper());
+            boolean upperIsDouble = isDouble;
+
+            if (isNaN(value, valueIsDouble)) {
+                isDouble = true;
+                return value;
+            }
+
+            if (isNaN(lower, lowerIsDouble)) {
+                isDouble = true;
+                return lower;
+            }
+
+            if (isNaN(upper, upperIsDouble)) {
+                isDouble = true;
+                return upper;
+            }
+
+            if (compare(value, valueIsDouble, upper, upperIsDouble) > 0) {
+                value = upper;
+                valueIsDouble = upperIsDouble;
+            }
+
+            if (compare(value, valueIsDouble, lower, lowerIsDouble) < 0) {
+                value = lower;
+                valueIsDouble = lowerIsDouble;
+            }
+
+            isDouble = valueIsDouble;
+
+            return value;
+        }
+
+        private long evaluateParenthesis(Parenthesis parenthesis) {
+
+            long inner = evaluate(parenthesis.inner());
+
+            MathFunction function = parenthesis.function();
+
+            if (function == StandardFunctions.NOP)
+                return inner;
+
+            if (!isDouble) {
+
+                if (function == StandardFunctions.ABS)
+                    return whole(Math.absExact(inner));
+
+                if (function == StandardFunctions.FLOOR || function == StandardFunctions.CEIL || function == StandardFunctions.ROUND)
+                    return inner;
+            }
+
+            double innerDouble = isDouble ? Double.longBitsToDouble(inner) : inner;
+
+            double result = function.evaluateDouble(innerDouble);
+
+            if (function == StandardFunctions.FLOOR || function == StandardFunctions.CEIL || function == StandardFunctions.ROUND)
+                return fromDouble(result);
+
+            return fraction(result);
+        }
+
+        private long fromNumber(Number number) {
+
+            if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte)
+                return whole(number.longValue());
+
+            if (number instanceof BigInteger integer)
+                return whole(integer.longValueExact());
+
+            return fromDouble(number.doubleValue());
+        }
+
+        private long fromDouble(double value) {
+
+            if (value == Math.rint(value) && value >= -LONG_RANGE && value < LONG_RANGE)
+                return whole((long) value);
+
+            return fraction(value);
+        }
+
+        private long whole(long value) {
+            isDouble = false;
+            return value;
+        }
+
+        private long fraction(double value) {
+            isDouble = true;
+            return Double.doubleToRawLongBits(value);
+        }
+    }
+
+    private static boolean isNaN(long value, boolean isDouble) {
+        return isDouble && Double.isNaN(Double.longBitsToDouble(value));
+    }
+
+    /*
+     * Whole numbers are compared as long, so large values don't lose precision.
+     */
+    private static int compare(long left, boolean leftIsDouble, long right, boolean rightIsDouble) {
+
+        if (!leftIsDouble && !rightIsDouble)
+            return Long.compare(left, right);
+
+        double leftDouble = leftIsDouble ? Double.longBitsToDouble(left) : left;
+        double rightDouble = rightIsDouble ? Double.longBitsToDouble(right) : right;
+
+        return leftDouble < rightDouble ? -1 : leftDouble > rightDouble ? 1 : 0;
+    }
+
+    private static long pow(long base, long exponent) {
+
+        long result = 1;
+
+        while (exponent > 0) {
+
+            if ((exponent & 1) == 1)
+                result = Math.multiplyExact(result, base);
+
+            exponent >>= 1;
+
+            if (exponent > 0)
+                base = Math.multiplyExact(base, base);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.operators;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * This class contains operators comparing two numbers, which are mostly used as the condition of a {@link Condition}.
+ * <p>
+ * Each operator returns 1 if the comparison holds and 0 otherwise. They have the lowest order, so they are solved after
+ * all {@link StandardOperators}, meaning [a]+1&gt;[b]*2 compares the results of both sides.
+ * <p>
+ * These operators are not part of the default options, see {@link CustomParsingOptions#conditional()}.
+ * They can be used to build {@link Equation equations} like any other operator.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ComparisonOperators {
+
+    /**
+     * Checks whether number A is less than B (A&lt;B)
+     */
+    public static final Operator LESS = Operator.ofDouble(-1, '<', (a, b) -> a < b ? 1 : 0, true);
+    /**
+     * Checks whether number A is greater than B (A&gt;B)
+     */
+    public static final Operator GREATER = Operator.ofDouble(-1, '>', (a, b) -> a > b ? 1 : 0, true);
+    /**
+     * Checks whether number A equals B (A=B)
+     */
+    public static final Operator EQUAL = Operator.ofDouble(-1, '=', (a, b) -> a == b ? 1 : 0, true);
+
+    private static final List<Operator> ALL = List.of(LESS, GREATER, EQUAL);
+
+    /**
+     * @return all comparison {@link Operator operators} defined in this class.
+     */
+    public static List<Operator> all() {
+        return ALL;
+    }
+}
@@ -16,10 +16,13 @@
 package io.github.lordtylus.jep.operators;
 
 import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
 import io.github.lordtylus.jep.equation.Parenthesis;
 import lombok.NonNull;
 
+import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
 
 /**
  * An operator is the equivalent of an operator in mathematics such as the plus sign for addition or the minus sign for subtraction.
@@ -39,15 +42,116 @@ import java.util.function.BiFunction;
  * The standard implementations of this framework respect this order.
  * <p>
  * In case custom operators are created alongside the standard ones, it's important to think about how it would fit in the PEMDAS order to not result in unexpected results.
+ * <p>
+ * Operators which only need double arithmetic should be created using {@link #ofDouble(int, char, DoubleBinaryOperator, boolean)}.
+ * Their {@link #doubleFunction} is called without boxing the numbers when evaluating an equation as double.
+ * <p>
+ * The {@link #doubleFunction} is derived from the other components, so it is not part of {@link #equals(Object)}.
+ * Two operators created from the same function are equal.
  *
- * @param order        the order of operators. Operators with a lower number will be solved last. Operators with the same number are solved left to right.
- * @param pattern      the symbol of the operator.
- * @param evalFunction the function applying the operation to the two given numbers.
+ * @param order          the order of operators. Operators with a lower number will be solved last. Operators with the same number are solved left to right.
+ * @param pattern        the symbol of the operator.
+ * @param evalFunction   the function applying the operation to the two given numbers.
+ * @param doubleFunction the function applying the operation to the two given doubles. It must return the same result as the evalFunction.
+ * @param pure           whether the result only depends on the two given numbers. Only pure operators are folded into
+ *                       constants when optimizing an equation.
  */
 public record Operator(
         int order,
         char pattern,
-        @NonNull BiFunction<Number, Number, Number> evalFunction) {
+        @NonNull BiFunction<Number, Number, Number> evalFunction,
+        @NonNull DoubleBinaryOperator doubleFunction,
+        boolean pure) {
+
+    /**
+     * Creates a new operator which is not declared pure, so it is never folded into a constant.
+     *
+     * @param order        the order of operators. Operators with a lower number will be solved last.
+     * @param pattern      the symbol of the operator.
+     * @param evalFunction the function applying the operation to the two given numbers.
+     */
+    public Operator(
+            int order,
+            char pattern,
+            @NonNull BiFunction<Number, Number, Number> evalFunction) {
+
+        this(order, pattern, evalFunction, false);
+    }
+
+    /**
+     * Creates a new operator using the given function for both numbers and doubles.
+     *
+     * @param order        the order of operators. Operators with a lower number will be solved last.
+     * @param pattern      the symbol of the operator.
+     * @param evalFunction the function applying the operation to the two given numbers.
+     * @param pure         whether the result only depends on the two given numbers.
+     */
+    public Operator(
+            int order,
+            char pattern,
+            @NonNull BiFunction<Number, Number, Number> evalFunction,
+            boolean pure) {
+
+        this(order, pattern, evalFunction, (a, b) -> evalFunction.apply(a, b).doubleValue(), pure);
+    }
+
+    /**
+     * Creates a new operator performing double arithmetic, which is not declared pure.
+     *
+     * @param order          the order of operators. Operators with a lower number will be solved last.
+     * @param pattern        the symbol of the operator.
+     * @param doubleFunction the function applying the operation to the two given doubles.
+     * @return new operator
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static Operator ofDouble(
+            int order,
+            char pattern,
+            @NonNull DoubleBinaryOperator doubleFunction) {
+
+        return ofDouble(order, pattern, doubleFunction, false);
+    }
+
+    /**
+     * Creates a new operator performing double arithmetic.
+     * <p>
+     * Numbers passed to {@link #evaluate(Number, Number)} are converted to double first.
+     *
+     * @param order          the order of operators. Operators with a lower number will be solved last.
+     * @param pattern        the symbol of the operator.
+     * @param doubleFunction the function applying the operation to the two given doubles.
+     * @param pure           whether the result only depends on the two given numbers.
+     * @return new operator
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static Operator ofDouble(
+            int order,
+            char pattern,
+            @NonNull DoubleBinaryOperator doubleFunction,
+            boolean pure) {
+
+        return new Operator(order, pattern, new DoubleEvalFunction(doubleFunction), doubleFunction, pure);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o)
+            return true;
+
+        if (!(o instanceof Operator other))
+            return false;
+
+        return order == other.order
+                && pattern == other.pattern
+                && pure == other.pure
+                && evalFunction.equals(other.evalFunction);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(order, pattern, evalFunction, pure);
+    }
 
     /**
      * Returns the symbol of the operator.
@@ -77,4 +181,33 @@ public record Operator(
 
         return evalFunction.apply(a, b);
     }
-}
\ No newline at end of file
+
+    /**
+     * Evaluates the operation using the two given doubles and returns the result as double.
+     * <p>
+     * This method is used by {@link Equation#evaluateDouble(Storage)} and behaves the same as {@link #evaluate(Number, Number)},
+     * with the result being converted to double.
+     *
+     * @param a first number of the operation
+     * @param b second number of the equation edits the first
+     * @return Resulting number of {@link #doubleFunction}
+     */
+    public double evaluateDouble(
+            double a,
+            double b) {
+
+        return doubleFunction.applyAsDouble(a, b);
+    }
+
+    /*
+     * Numbers are converted to double for operators created from a double function. Being a record, two of them
+     * created from the same double function are equal, so are the operators using them.
+     */
+    private record DoubleEvalFunction(DoubleBinaryOperator doubleFunction) implements BiFunction<Number, Number, Number> {
+
+        @Override
+        public Number apply(Number a, Number b) {
+            return doubleFunction.applyAsDouble(a.doubleValue(), b.doubleValue());
+        }
+    }
+}
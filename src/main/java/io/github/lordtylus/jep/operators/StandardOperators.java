@@ -20,7 +20,6 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
-import java.util.function.BiFunction;
 
 /**
  * This class contains a set of default operators to be used for solving {@link Equation eqations}.
@@ -32,23 +31,23 @@ public final class StandardOperators {
     /**
      * Adds number B to A (A+B)
      */
-    public static final Operator ADD = new Operator(0, '+', fromDouble(Double::sum));
+    public static final Operator ADD = Operator.ofDouble(0, '+', Double::sum, true);
     /**
      * Subtracts number A from B (A-B)
      */
-    public static final Operator SUB = new Operator(0, '-', fromDouble((a, b) -> a - b));
+    public static final Operator SUB = Operator.ofDouble(0, '-', (a, b) -> a - b, true);
     /**
      * Multiplies number A with B (A*B)
      */
-    public static final Operator MULT = new Operator(1, '*', fromDouble((a, b) -> a * b));
+    public static final Operator MULT = Operator.ofDouble(1, '*', (a, b) -> a * b, true);
     /**
      * Divides number A with B (A/B)
      */
-    public static final Operator DIV = new Operator(1, '/', fromDouble((a, b) -> a / b));
+    public static final Operator DIV = Operator.ofDouble(1, '/', (a, b) -> a / b, true);
     /**
      * Raises number A to the power of B (A^B)
      */
-    public static final Operator POW = new Operator(2, '^', fromDouble(Math::pow));
+    public static final Operator POW = Operator.ofDouble(2, '^', Math::pow, true);
 
     private static final List<Operator> ALL = List.of(ADD, SUB, MULT, DIV, POW);
 
@@ -58,8 +57,4 @@ public final class StandardOperators {
     public static List<Operator> all() {
         return ALL;
     }
-
-    private static BiFunction<Number, Number, Number> fromDouble(BiFunction<Double, Double, Double> function) {
-        return (a, b) -> function.apply(a.doubleValue(), b.doubleValue());
-    }
 }
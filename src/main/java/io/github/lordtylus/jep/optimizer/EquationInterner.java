@@ -0,0 +1,181 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.optimizer;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.EquationTree;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The interner replaces structurally equal parts of {@link Equation equations} with the same instance.
+ * <p>
+ * An equation like {@code sqrt([x]^2+[y]^2)*sqrt([x]^2+[y]^2)} is parsed into a tree holding the sqrt part twice.
+ * After interning, both sides of the multiplication are the same object, which turns the tree into a directed acyclic graph.
+ * This saves memory, and {@link SharedEquation} uses it to evaluate each shared part only once.
+ * <p>
+ * All parts known by the {@link EquationTree}, as well as {@link Variable}, {@link BoundVariable}, {@link Constant},
+ * {@link LongConstant} and {@link DecimalConstant} parts are interned.
+ * Unknown {@link Equation} implementations are kept as they are.
+ * <p>
+ * Every interner keeps its own table, so all equations interned by the same interner share their common parts.
+ * The table is never cleaned up automatically. It grows with every new part until {@link #clear()} is called.
+ * For equations that live for the whole application, the {@link #global()} interner can be used.
+ * <p>
+ * Instances of this class are thread safe.
+ */
+public final class EquationInterner {
+
+    private static final EquationInterner GLOBAL = new EquationInterner();
+
+    private final Map<Key, Equation> table = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the interner shared by the whole application.
+     *
+     * @return global interner.
+     */
+    public static EquationInterner global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Interns the given {@link Equation} and all of its parts.
+     * <p>
+     * If the equation is a {@link BoundEquation}, the interned equation it wraps is returned.
+     * Its {@link BoundVariable bound variables} still read their values by slot.
+     *
+     * @param equation the {@link Equation} to intern.
+     * @return the interned equation, which evaluates to the same result.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public Equation intern(
+            @NonNull Equation equation) {
+
+        if (equation instanceof BoundEquation boundEquation)
+            return intern(boundEquation.getEquation());
+
+        if (equation instanceof Constant || equation instanceof LongConstant || equation instanceof DecimalConstant
+                || equation instanceof Variable || equation instanceof BoundVariable)
+            return table.computeIfAbsent(new Key(equation), key -> equation);
+
+        List<Equation> children = EquationTree.childrenOf(equation);
+
+        if (children.isEmpty())
+            return equation;
+
+        Equation[] interned = new Equation[children.size()];
+
+        for (int i = 0; i < interned.length; i++)
+            interned[i] = intern(children.get(i));
+
+        return table.computeIfAbsent(new Key(labelOf(equation), interned),
+                key -> EquationTree.withChildren(equation, Arrays.asList(interned)));
+    }
+
+    /*
+     * Everything that tells two parts with the same children apart.
+     */
+    private static Object labelOf(Equation equation) {
+
+        if (equation instanceof Operation operation)
+            return operation.operator();
+
+        if (equation instanceof Parenthesis parenthesis)
+            return parenthesis.function();
+
+        if (equation instanceof Extremum extremum)
+            return extremum.kind();
+
+        return equation.getClass();
+    }
+
+    /**
+     * Interns the given {@link Equation} and returns a {@link SharedEquation}, which evaluates each shared part only once.
+     *
+     * @param equation the {@link Equation} to intern.
+     * @return the interned equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public SharedEquation share(
+            @NonNull Equation equation) {
+
+        return new SharedEquation(intern(equation));
+    }
+
+    /**
+     * @return number of distinct parts in the table.
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Removes all parts from the table. Equations which were already interned are not affected.
+     */
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Identifies a part by its own value and the identity of its already interned children.
+     * Comparing the children by identity keeps the lookup independent of the size of the subtree.
+     */
+    private record Key(
+            Object value,
+            Equation... children) {
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o)
+                return true;
+
+            if (!(o instanceof Key key) || children.length != key.children.length)
+                return false;
+
+            for (int i = 0; i < children.length; i++)
+                if (children[i] != key.children[i])
+                    return false;
+
+            return value.equals(key.value);
+        }
+
+        @Override
+        public int hashCode() {
+
+            int result = value.hashCode();
+
+            for (Equation child : children)
+                result = 31 * result + System.identityHashCode(child);
+
+            return result;
+        }
+    }
+}
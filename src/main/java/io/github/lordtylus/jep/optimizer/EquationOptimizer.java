@@ -0,0 +1,334 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.optimizer;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.EquationTree;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The optimizer simplifies a parsed {@link Equation} so less work has to be done on every evaluation.
+ * <p>
+ * {@link Operation Operations} and {@link Parenthesis functions} which don't depend on any variable are folded into a single
+ * {@link Constant}. This is only done for {@link Operator#pure() pure operators} and {@link MathFunction#isPure() pure functions},
+ * as others might return a different result on every call. All {@link StandardOperators} and {@link StandardFunctions} are pure.
+ * <p>
+ * Additionally, the following identities of the {@link StandardOperators} are applied:
+ * <ul>
+ *     <li>x*1 and 1*x become x</li>
+ *     <li>x+0, 0+x and x-0 become x</li>
+ *     <li>x/1 becomes x</li>
+ *     <li>x^1 becomes x</li>
+ *     <li>x^2 becomes x*x, if x is a variable</li>
+ * </ul>
+ * {@link Condition Conditions} with a constant condition are replaced by the branch which would be taken.
+ * {@link Extremum min, max} and {@link Clamp clamp} of constants are folded as well.
+ * <p>
+ * {@link LongConstant Long} and {@link DecimalConstant decimal} constants are kept exact. Additions, subtractions and
+ * multiplications of them are folded into a constant of the same kind, while all other operators and functions
+ * are only folded for double {@link Constant constants}. As evaluating them as double rounds every step, they are
+ * only folded if the folded constant has the same double value, so 0.5+0.25 is folded but 0.1+0.2 is not.
+ * <p>
+ * The result of the optimized equation is the same, except for the sign of a zero result in case of x+0.
+ * However, {@link Equation#evaluate()} only reports the steps which remain after the optimization.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EquationOptimizer {
+
+    /**
+     * Optimizes the given {@link Equation}.
+     * <p>
+     * Parts of the equation which cannot be optimized are kept as they are. Unknown {@link Equation} implementations
+     * are never changed. If the equation is a {@link BoundEquation}, the optimized equation is bound to the same layout.
+     *
+     * @param equation the {@link Equation} to optimize.
+     * @return the optimized equation.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static Equation optimize(
+            @NonNull Equation equation) {
+
+        if (equation instanceof BoundEquation boundEquation)
+            return EquationBinder.bind(optimize(boundEquation.getEquation()), boundEquation.getLayout());
+
+        if (equation instanceof Operation operation)
+            return optimizeOperation(operation);
+
+        if (equation instanceof Parenthesis parenthesis)
+            return optimizeParenthesis(parenthesis);
+
+        if (equation instanceof Condition condition)
+            return optimizeCondition(condition);
+
+        if (equation instanceof Extremum || equation instanceof Clamp)
+            return optimizeChildren(equation);
+
+        return equation;
+    }
+
+    private static Equation optimizeOperation(Operation operation) {
+
+        Operator operator = operation.operator();
+
+        Equation left = optimize(operation.left());
+        Equation right = optimize(operation.right());
+
+        if (operator.pure() && isConstant(left) && isConstant(right)) {
+
+            if (!isExact(left) && !isExact(right))
+                return constant(operator.evaluateDouble(valueOf(left), valueOf(right)));
+
+            if (isExact(left) && isExact(right)) {
+
+                Equation folded = foldExact(operator, left, right);
+
+                if (folded != null)
+                    return folded;
+            }
+        }
+
+        if (operator == StandardOperators.MULT) {
+
+            if (isConstant(right, 1))
+                return left;
+
+            if (isConstant(left, 1))
+                return right;
+
+        } else if (operator == StandardOperators.ADD) {
+
+            if (isConstant(right, 0))
+                return left;
+
+            if (isConstant(left, 0))
+                return right;
+
+        } else if (operator == StandardOperators.SUB || operator == StandardOperators.DIV) {
+
+            if (isConstant(right, operator == StandardOperators.SUB ? 0 : 1))
+                return left;
+
+        } else if (operator == StandardOperators.POW) {
+
+            if (isConstant(right, 1))
+                return left;
+
+            if (isConstant(right, 2) && isVariable(left))
+                return new Operation(left, left, StandardOperators.MULT);
+        }
+
+        if (left == operation.left() && right == operation.right())
+            return operation;
+
+        /*
+         * Operators are solved left to right, so the tree can only be written as pattern again
+         * if lower operands on the left and equal operands on the right keep their parenthesis.
+         */
+        if (left instanceof Operation leftOperation && leftOperation.operator().order() < operator.order())
+            left = new Parenthesis(StandardFunctions.NOP, left);
+
+        if (right instanceof Operation rightOperation && rightOperation.operator().order() <= operator.order())
+            right = new Parenthesis(StandardFunctions.NOP, right);
+
+        return new Operation(left, right, operator);
+    }
+
+    private static Equation optimizeParenthesis(Parenthesis parenthesis) {
+
+        MathFunction function = parenthesis.function();
+
+        Equation inner = optimize(parenthesis.inner());
+
+        if (function.isPure() && isConstant(inner) && !isExact(inner))
+            return constant(function.evaluateDouble(valueOf(inner)));
+
+        if (inner == parenthesis.inner())
+            return parenthesis;
+
+        return new Parenthesis(function, inner);
+    }
+
+    private static Equation optimizeCondition(Condition condition) {
+
+        Equation test = optimize(condition.condition());
+
+        if (isConstant(test))
+            return optimize(Condition.isTrue(valueOf(test)) ? condition.whenTrue() : condition.whenFalse());
+
+        Equation whenTrue = optimize(condition.whenTrue());
+        Equation whenFalse = optimize(condition.whenFalse());
+
+        if (test == condition.condition() && whenTrue == condition.whenTrue() && whenFalse == condition.whenFalse())
+            return condition;
+
+        return new Condition(test, whenTrue, whenFalse);
+    }
+
+    /*
+     * Optimizes all children and folds the part into a constant if all of them are constant.
+     */
+    private static Equation optimizeChildren(Equation equation) {
+
+        List<Equation> children = EquationTree.childrenOf(equation);
+        List<Equation> optimizedChildren = new ArrayList<>(children.size());
+
+        boolean constant = true;
+
+        for (Equation child : children) {
+
+            Equation optimized = optimize(child);
+
+            constant &= isConstant(optimized);
+
+            optimizedChildren.add(optimized);
+        }
+
+        Equation result = EquationTree.withChildren(equation, optimizedChildren);
+
+        if (constant)
+            return constant(result.evaluateNumber(EmptyStorage.INSTANCE));
+
+        return result;
+    }
+
+    /*
+     * Exact constants are only folded if the result is exact as well. Two longs stay a long unless the result overflows.
+     * The double path must not change, so results which differ from the double arithmetic are not folded.
+     */
+    private static Equation foldExact(Operator operator, Equation left, Equation right) {
+
+        BigDecimal result;
+
+        if (operator == StandardOperators.ADD)
+            result = decimalOf(left).add(decimalOf(right));
+        else if (operator == StandardOperators.SUB)
+            result = decimalOf(left).subtract(decimalOf(right));
+        else if (operator == StandardOperators.MULT)
+            result = decimalOf(left).multiply(decimalOf(right));
+        else
+            return null;
+
+        Equation folded = constant(result);
+
+        if (unwrap(left) instanceof LongConstant && unwrap(right) instanceof LongConstant) {
+            try {
+                folded = constant(result.longValueExact());
+            } catch (ArithmeticException e) {
+                /* The result overflows a long, so it is kept as decimal instead. */
+            }
+        }
+
+        if (Double.compare(valueOf(folded), operator.evaluateDouble(valueOf(left), valueOf(right))) != 0)
+            return null;
+
+        return folded;
+    }
+
+    /*
+     * Negative constants are kept in parenthesis, as they could not be parsed again after an operator.
+     * The kind of the given number is kept, so exact results stay exact.
+     */
+    private static Equation constant(Number value) {
+
+        Equation constant;
+
+        if (value instanceof Long longValue)
+            constant = new LongConstant(longValue);
+        else if (value instanceof BigDecimal decimal)
+            constant = new DecimalConstant(decimal);
+        else
+            constant = new Constant(value.doubleValue());
+
+        if (value.doubleValue() < 0)
+            return new Parenthesis(StandardFunctions.NOP, constant);
+
+        return constant;
+    }
+
+    private static Equation unwrap(Equation equation) {
+
+        if (equation instanceof Parenthesis parenthesis && parenthesis.function() == StandardFunctions.NOP)
+            return parenthesis.inner();
+
+        return equation;
+    }
+
+    private static boolean isConstant(Equation equation) {
+
+        Equation unwrapped = unwrap(equation);
+
+        return unwrapped instanceof Constant || isExact(unwrapped);
+    }
+
+    private static boolean isExact(Equation equation) {
+
+        Equation unwrapped = unwrap(equation);
+
+        return unwrapped instanceof LongConstant || unwrapped instanceof DecimalConstant;
+    }
+
+    private static boolean isVariable(Equation equation) {
+        return equation instanceof Variable || equation instanceof BoundVariable;
+    }
+
+    private static boolean isConstant(Equation equation, double value) {
+
+        if (!isConstant(equation))
+            return false;
+
+        if (isExact(equation))
+            return decimalOf(equation).compareTo(BigDecimal.valueOf(value)) == 0;
+
+        return valueOf(equation) == value;
+    }
+
+    private static double valueOf(Equation equation) {
+        return unwrap(equation).evaluateDouble(EmptyStorage.INSTANCE);
+    }
+
+    private static BigDecimal decimalOf(Equation equation) {
+
+        Equation unwrapped = unwrap(equation);
+
+        if (unwrapped instanceof LongConstant constant)
+            return BigDecimal.valueOf(constant.value());
+
+        return ((DecimalConstant) unwrapped).value();
+    }
+}
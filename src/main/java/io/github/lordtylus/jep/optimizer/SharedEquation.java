@@ -0,0 +1,222 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.optimizer;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Constant.ConstantResult;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Operation.OperationResult;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Parenthesis.ParenthesisResult;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * This class represents an {@link Equation} whose parts were interned by the {@link EquationInterner},
+ * so that structurally equal parts are the same instance.
+ * <p>
+ * Each distinct part is evaluated only once per evaluation, no matter how often it is used.
+ * In {@code sqrt([x]^2+[y]^2)*sqrt([x]^2+[y]^2)} the square root is only calculated once and the variables are only
+ * looked up once each. The {@link Result} of a shared part is the same instance wherever it is used.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ */
+public final class SharedEquation implements Equation {
+
+    private static final int NONE = -1;
+
+    /**
+     * The interned equation, in which equal parts are the same instance.
+     */
+    @Getter
+    private final Equation equation;
+
+    private final Equation[] parts;
+    private final int[] lefts;
+    private final int[] rights;
+
+    SharedEquation(
+            @NonNull Equation equation) {
+
+        this.equation = equation;
+
+        Map<Equation, Integer> indices = new IdentityHashMap<>();
+        List<Equation> parts = new ArrayList<>();
+        List<int[]> children = new ArrayList<>();
+
+        add(equation, indices, parts, children);
+
+        this.parts = parts.toArray(new Equation[0]);
+        this.lefts = new int[parts.size()];
+        this.rights = new int[parts.size()];
+
+        for (int i = 0; i < parts.size(); i++) {
+            lefts[i] = children.get(i)[0];
+            rights[i] = children.get(i)[1];
+        }
+    }
+
+    /**
+     * Interns the given {@link Equation} using a new {@link EquationInterner}, so only its own equal parts are shared.
+     *
+     * @param equation the {@link Equation} to intern.
+     * @return the interned equation.
+     * @throws NullPointerException If any given argument is null.
+     * @see EquationInterner#share(Equation)
+     */
+    public static SharedEquation of(
+            @NonNull Equation equation) {
+
+        return new EquationInterner().share(equation);
+    }
+
+    /**
+     * Returns the number of distinct parts, which is the number of parts evaluated per evaluation.
+     *
+     * @return number of distinct parts.
+     */
+    public int size() {
+        return parts.length;
+    }
+
+    @Override
+    public Result evaluate(
+            @NonNull Storage storage) {
+
+        Result[] results = new Result[parts.length];
+
+        for (int i = 0; i < parts.length; i++) {
+
+            Equation part = parts[i];
+
+            if (part instanceof Operation operation) {
+
+                Result left = results[lefts[i]];
+                Result right = results[rights[i]];
+
+                results[i] = new OperationResult(operation.operator(), left, right,
+                        operation.operator().evaluate(left.result(), right.result()));
+
+            } else if (part instanceof Parenthesis parenthesis) {
+
+                Result inner = results[lefts[i]];
+
+                results[i] = new ParenthesisResult(parenthesis.function(), inner,
+                        parenthesis.function().evaluate(inner.result()));
+
+            } else if (part instanceof Constant constant) {
+                results[i] = new ConstantResult(constant.value());
+            } else {
+                results[i] = part.evaluate(storage);
+            }
+        }
+
+        return results[parts.length - 1];
+    }
+
+    @Override
+    public double evaluateDouble(
+            @NonNull Storage storage) {
+
+        double[] values = new double[parts.length];
+
+        for (int i = 0; i < parts.length; i++) {
+
+            Equation part = parts[i];
+
+            if (part instanceof Operation operation)
+                values[i] = operation.operator().evaluateDouble(values[lefts[i]], values[rights[i]]);
+            else if (part instanceof Parenthesis parenthesis)
+                values[i] = parenthesis.function().evaluateDouble(values[lefts[i]]);
+            else
+                values[i] = part.evaluateDouble(storage);
+        }
+
+        return values[parts.length - 1];
+    }
+
+    @Override
+    public Number evaluateNumber(
+            @NonNull Storage storage) {
+
+        Number[] values = new Number[parts.length];
+
+        for (int i = 0; i < parts.length; i++) {
+
+            Equation part = parts[i];
+
+            if (part instanceof Operation operation)
+                values[i] = operation.operator().evaluate(values[lefts[i]], values[rights[i]]);
+            else if (part instanceof Parenthesis parenthesis)
+                values[i] = parenthesis.function().evaluate(values[lefts[i]]);
+            else
+                values[i] = part.evaluateNumber(storage);
+        }
+
+        return values[parts.length - 1];
+    }
+
+    @Override
+    public String toPattern(
+            @NonNull Locale locale,
+            @NonNull VariablePattern variablePattern) {
+
+        return equation.toPattern(locale, variablePattern);
+    }
+
+    /*
+     * Adds the parts in post order, so children are always evaluated before their parents.
+     */
+    private static int add(
+            Equation equation,
+            Map<Equation, Integer> indices,
+            List<Equation> parts,
+            List<int[]> children) {
+
+        Integer existing = indices.get(equation);
+
+        if (existing != null)
+            return existing;
+
+        int left = NONE;
+        int right = NONE;
+
+        if (equation instanceof Operation operation) {
+            left = add(operation.left(), indices, parts, children);
+            right = add(operation.right(), indices, parts, children);
+        } else if (equation instanceof Parenthesis parenthesis) {
+            left = add(parenthesis.inner(), indices, parts, children);
+        }
+
+        int index = parts.size();
+
+        parts.add(equation);
+        children.add(new int[]{left, right});
+        indices.put(equation, index);
+
+        return index;
+    }
+}
@@ -17,6 +17,7 @@ package io.github.lordtylus.jep.options;
 
 import io.github.lordtylus.jep.Equation;
 import io.github.lordtylus.jep.parsers.EquationParser;
+import io.github.lordtylus.jep.parsers.RangeShape;
 import io.github.lordtylus.jep.parsers.variables.StandardVariablePatterns;
 import io.github.lordtylus.jep.parsers.variables.VariablePattern;
 import io.github.lordtylus.jep.tokenizer.EquationTokenizer;
@@ -27,6 +28,7 @@ import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,12 +36,17 @@ import java.util.Map;
 /**
  * This abstract implementation of {@link ParsingOptions} provides basic functionality
  * for adding and removing {@link EquationParser} objects for its implementations.
+ * <p>
+ * The parsers accepting each {@link RangeShape} are determined whenever a parser is registered or removed,
+ * so looking them up while parsing doesn't need to check every parser.
  */
 public abstract class AbstractParsingOptions implements ParsingOptions {
 
     private final List<EquationParser> registeredParsers = new ArrayList<>();
     private final List<EquationParser> registeredParsersUnmodifiable = Collections.unmodifiableList(registeredParsers);
 
+    private Map<RangeShape, List<EquationParser>> parsersByShape = new EnumMap<>(RangeShape.class);
+
     private final List<EquationTokenizer> registeredTokenizers = new ArrayList<>();
     private final List<EquationTokenizer> registeredTokenizersUnmodifiable = Collections.unmodifiableList(registeredTokenizers);
 
@@ -69,6 +76,11 @@ public abstract class AbstractParsingOptions implements ParsingOptions {
         return registeredParsersUnmodifiable;
     }
 
+    @Override
+    public List<EquationParser> getParsersFor(@NonNull RangeShape shape) {
+        return parsersByShape.getOrDefault(shape, List.of());
+    }
+
     /**
      * Registers a new {@link EquationParser} to be used for parsing equation strings.
      *
@@ -76,6 +88,8 @@ public abstract class AbstractParsingOptions implements ParsingOptions {
      */
     protected void register(@NonNull EquationParser parser) {
         this.registeredParsers.add(parser);
+
+        rebuildShapeMapping();
     }
 
     /**
@@ -85,6 +99,8 @@ public abstract class AbstractParsingOptions implements ParsingOptions {
      */
     protected void unregister(@NonNull EquationParser parser) {
         this.registeredParsers.remove(parser);
+
+        rebuildShapeMapping();
     }
 
     @Override
@@ -124,21 +140,67 @@ public abstract class AbstractParsingOptions implements ParsingOptions {
      * Decides how variables should be read during parsing.
      *
      * @param variablePattern to be used.
+     * @throws IllegalArgumentException if the delimiters of the pattern are already used by another tokenizer.
      */
     protected void setVariablePattern(
             @NonNull VariablePattern variablePattern) {
 
+        VariablePattern previous = this.variablePattern;
+
         this.variablePattern = variablePattern;
 
-        rebuildCharacterMapping();
+        try {
+            rebuildCharacterMapping();
+        } catch (IllegalArgumentException e) {
+            this.variablePattern = previous;
+            throw e;
+        }
     }
 
     private void rebuildCharacterMapping() {
 
-        this.tokenizerMapping.clear();
+        Map<Character, EquationTokenizer> mapping = new HashMap<>();
 
+        /* Delimiters depending on the variable pattern may collide with those of other tokenizers, such as < and >. */
         for (EquationTokenizer tokenizer : this.registeredTokenizers)
-            for (char c : tokenizer.getDelimitersFor(this))
-                this.tokenizerMapping.put(c, tokenizer);
+            for (char c : tokenizer.getDelimitersFor(this)) {
+
+                EquationTokenizer existing = mapping.putIfAbsent(c, tokenizer);
+
+                if (existing != null && existing != tokenizer)
+                    throw new IllegalArgumentException("Tokenizer already exists!");
+            }
+
+        this.tokenizerMapping.clear();
+        this.tokenizerMapping.putAll(mapping);
+    }
+
+    private void rebuildShapeMapping() {
+        this.parsersByShape = groupByShape(this.registeredParsers);
+    }
+
+    /**
+     * Groups the given parsers by the {@link RangeShape shapes} they accept, keeping their order.
+     *
+     * @param parsers the registered parsers in order.
+     * @return mapping of every shape to an immutable list of the parsers accepting it.
+     */
+    static Map<RangeShape, List<EquationParser>> groupByShape(
+            @NonNull List<EquationParser> parsers) {
+
+        Map<RangeShape, List<EquationParser>> mapping = new EnumMap<>(RangeShape.class);
+
+        for (RangeShape shape : RangeShape.values()) {
+
+            List<EquationParser> accepting = new ArrayList<>();
+
+            for (EquationParser parser : parsers)
+                if (parser.getAcceptedShapes().contains(shape))
+                    accepting.add(parser);
+
+            mapping.put(shape, List.copyOf(accepting));
+        }
+
+        return mapping;
     }
 }
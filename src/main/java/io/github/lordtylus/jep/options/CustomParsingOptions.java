@@ -16,26 +16,38 @@
 package io.github.lordtylus.jep.options;
 
 import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.decimal.DecimalEvaluator;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.LongConstant;
 import io.github.lordtylus.jep.functions.MathFunction;
 import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.integer.LongEvaluator;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
 import io.github.lordtylus.jep.operators.Operator;
 import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.parsers.ConditionalParser;
 import io.github.lordtylus.jep.parsers.ConstantParser;
+import io.github.lordtylus.jep.parsers.DecimalConstantParser;
 import io.github.lordtylus.jep.parsers.EquationParser;
+import io.github.lordtylus.jep.parsers.LongConstantParser;
 import io.github.lordtylus.jep.parsers.OperationParser;
 import io.github.lordtylus.jep.parsers.ParenthesisParser;
+import io.github.lordtylus.jep.parsers.PrecedenceClimbingParser;
 import io.github.lordtylus.jep.parsers.VariableParser;
 import io.github.lordtylus.jep.parsers.variables.VariablePattern;
 import io.github.lordtylus.jep.tokenizer.EquationTokenizer;
 import io.github.lordtylus.jep.tokenizer.OperatorTokenizer;
 import io.github.lordtylus.jep.tokenizer.ParenthesisTokenizer;
+import io.github.lordtylus.jep.tokenizer.SeparatorTokenizer;
 import io.github.lordtylus.jep.tokenizer.VariableTokenizer;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * These are custom {@link ParsingOptions} which allow to be freely configured.
@@ -167,6 +179,132 @@ public final class CustomParsingOptions extends AbstractParsingOptions {
         return parserOptions;
     }
 
+    /**
+     * Creates a new and mutable {@link ParsingOptions} object which uses the {@link DecimalConstantParser}
+     * instead of the {@link ConstantParser} found in {@link DefaultParsingOptions#INSTANCE}.
+     * <p>
+     * Numbers are kept as exact {@link DecimalConstant decimals}, so they can be evaluated without any rounding
+     * by the {@link DecimalEvaluator}.
+     *
+     * @return new mutable {@link CustomParsingOptions} parsing numbers as exact decimals.
+     */
+    public static CustomParsingOptions decimal() {
+
+        CustomParsingOptions parserOptions = CustomParsingOptions.empty();
+
+        parserOptions.register(ParenthesisParser.DEFAULT);
+        parserOptions.register(OperationParser.DEFAULT);
+        parserOptions.register(DecimalConstantParser.INSTANCE);
+        parserOptions.register(VariableParser.INSTANCE);
+
+        parserOptions.register(VariableTokenizer.INSTANCE);
+        parserOptions.register(ParenthesisTokenizer.DEFAULT);
+        parserOptions.register(OperatorTokenizer.DEFAULT);
+
+        return parserOptions;
+    }
+
+    /**
+     * Creates a new and mutable {@link ParsingOptions} object which registers the {@link LongConstantParser}
+     * in front of the {@link ConstantParser} found in {@link DefaultParsingOptions#INSTANCE}.
+     * <p>
+     * Whole numbers are kept as {@link LongConstant longs}, so they can be evaluated without any loss of precision
+     * by the {@link LongEvaluator}. Numbers with decimals are still parsed as double.
+     *
+     * @return new mutable {@link CustomParsingOptions} parsing whole numbers as long.
+     */
+    public static CustomParsingOptions integer() {
+
+        CustomParsingOptions parserOptions = CustomParsingOptions.empty();
+
+        parserOptions.register(ParenthesisParser.DEFAULT);
+        parserOptions.register(OperationParser.DEFAULT);
+        parserOptions.register(LongConstantParser.INSTANCE);
+        parserOptions.register(ConstantParser.INSTANCE);
+        parserOptions.register(VariableParser.INSTANCE);
+
+        parserOptions.register(VariableTokenizer.INSTANCE);
+        parserOptions.register(ParenthesisTokenizer.DEFAULT);
+        parserOptions.register(OperatorTokenizer.DEFAULT);
+
+        return parserOptions;
+    }
+
+    /**
+     * Creates a new and mutable {@link ParsingOptions} object which registers the {@link ConditionalParser}
+     * in front of the parsers found in {@link DefaultParsingOptions#INSTANCE}, and recognizes the
+     * {@link ComparisonOperators} alongside the {@link StandardOperators}.
+     * <p>
+     * Equations like if([x]&gt;0;[a];[b]) only evaluate the branch which is taken. Additionally, min, max and clamp
+     * are available, all using ; to separate their arguments.
+     *
+     * @return new mutable {@link CustomParsingOptions} supporting conditions and comparisons.
+     */
+    public static CustomParsingOptions conditional() {
+
+        List<Operator> operators = new ArrayList<>(StandardOperators.all());
+        operators.addAll(ComparisonOperators.all());
+
+        CustomParsingOptions parserOptions = CustomParsingOptions.empty();
+
+        OperationParser operationParser = new OperationParser(operators);
+
+        parserOptions.register(ConditionalParser.INSTANCE);
+        parserOptions.register(ParenthesisParser.DEFAULT);
+        parserOptions.register(operationParser);
+        parserOptions.register(ConstantParser.INSTANCE);
+        parserOptions.register(VariableParser.INSTANCE);
+
+        parserOptions.register(VariableTokenizer.INSTANCE);
+        parserOptions.register(ParenthesisTokenizer.DEFAULT);
+        parserOptions.register(SeparatorTokenizer.INSTANCE);
+        parserOptions.register(new OperatorTokenizer(operationParser.getOperatorCharacters()));
+
+        return parserOptions;
+    }
+
+    /**
+     * Creates a new and mutable {@link ParsingOptions} object which uses the {@link PrecedenceClimbingParser}
+     * instead of the {@link ParenthesisParser} and {@link OperationParser} found in {@link DefaultParsingOptions#INSTANCE}.
+     * <p>
+     * The resulting equations are the same, but parsing time only grows linearly with the length of the equation.
+     * This is mainly noticeable for very long equations with hundreds of terms.
+     *
+     * @return new mutable {@link CustomParsingOptions} using the {@link PrecedenceClimbingParser}.
+     */
+    public static CustomParsingOptions precedenceClimbing() {
+        return precedenceClimbingWith(StandardFunctions.all(), StandardOperators.all());
+    }
+
+    /**
+     * Creates a new and mutable {@link ParsingOptions} object which uses the {@link PrecedenceClimbingParser}
+     * configured to only recognize the passed in {@link MathFunction functions} and {@link Operator operators}.
+     * <p>
+     * This method is the equivalent of {@link #defaultWith(Collection, Collection)} for the {@link PrecedenceClimbingParser}.
+     *
+     * @param mathFunctions collection with the functions to use for parsing.
+     * @param operators     collection with the operators to use for parsing.
+     * @return new mutable {@link CustomParsingOptions} using the {@link PrecedenceClimbingParser}.
+     */
+    public static CustomParsingOptions precedenceClimbingWith(
+            @NonNull Collection<MathFunction> mathFunctions,
+            @NonNull Collection<Operator> operators) {
+
+        CustomParsingOptions parserOptions = CustomParsingOptions.empty();
+
+        PrecedenceClimbingParser precedenceClimbingParser = new PrecedenceClimbingParser(mathFunctions, operators);
+
+        parserOptions.register(precedenceClimbingParser);
+        parserOptions.register(ConstantParser.INSTANCE);
+        parserOptions.register(VariableParser.INSTANCE);
+
+        parserOptions.register(VariableTokenizer.INSTANCE);
+        parserOptions.register(ParenthesisTokenizer.DEFAULT);
+        parserOptions.register(new OperatorTokenizer(precedenceClimbingParser.getOperatorCharacters()));
+
+        return parserOptions;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,14 +16,19 @@
 package io.github.lordtylus.jep.options;
 
 import io.github.lordtylus.jep.parsers.ConstantParser;
+import io.github.lordtylus.jep.parsers.EquationParser;
 import io.github.lordtylus.jep.parsers.OperationParser;
 import io.github.lordtylus.jep.parsers.ParenthesisParser;
+import io.github.lordtylus.jep.parsers.RangeShape;
 import io.github.lordtylus.jep.parsers.VariableParser;
+import io.github.lordtylus.jep.tokenizer.EquationTokenizer;
 import io.github.lordtylus.jep.tokenizer.OperatorTokenizer;
 import io.github.lordtylus.jep.tokenizer.ParenthesisTokenizer;
 import io.github.lordtylus.jep.tokenizer.VariableTokenizer;
 import lombok.NonNull;
 
+import java.util.List;
+
 /**
  * The default options contain the following parsers in order:
  * <ul>
@@ -37,6 +42,8 @@ import lombok.NonNull;
  *     <li>{@link OperatorTokenizer#DEFAULT}</li>
  *     <li>{@link ParenthesisTokenizer#DEFAULT}</li>
  * </ul>
+ * Since these options can't be changed, they are {@link #freeze() frozen} once when created and
+ * tokenizers and parsers are looked up in that snapshot while parsing.
  */
 public final class DefaultParsingOptions extends AbstractParsingOptions {
 
@@ -45,8 +52,31 @@ public final class DefaultParsingOptions extends AbstractParsingOptions {
      */
     public static final DefaultParsingOptions INSTANCE = new DefaultParsingOptions();
 
+    private final FrozenParsingOptions frozen;
+
     private DefaultParsingOptions() {
         setupDefault(this);
+        this.frozen = new FrozenParsingOptions(this);
+    }
+
+    @Override
+    public EquationTokenizer getTokenizerFor(char delimiter) {
+        return frozen.getTokenizerFor(delimiter);
+    }
+
+    @Override
+    public List<EquationParser> getParsersFor(@NonNull RangeShape shape) {
+        return frozen.getParsersFor(shape);
+    }
+
+    /**
+     * Returns the snapshot these options were frozen into when created.
+     *
+     * @return the {@link FrozenParsingOptions} of these options.
+     */
+    @Override
+    public FrozenParsingOptions freeze() {
+        return frozen;
     }
 
     static void setupDefault(
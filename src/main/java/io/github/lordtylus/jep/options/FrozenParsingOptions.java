@@ -0,0 +1,106 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.options;
+
+import io.github.lordtylus.jep.parsers.EquationParser;
+import io.github.lordtylus.jep.parsers.RangeShape;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import io.github.lordtylus.jep.tokenizer.EquationTokenizer;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This implementation of {@link ParsingOptions} is an immutable snapshot of other options, created by {@link ParsingOptions#freeze()}.
+ * <p>
+ * Everything needed while parsing is computed once when the snapshot is created. Tokenizers for ASCII delimiters are
+ * looked up in an array, so tokenizing doesn't need to box every character of the equation string. The
+ * {@link EquationParser parsers} accepting each {@link RangeShape} are grouped in advance as well.
+ * <p>
+ * Changes to the options the snapshot was created from are not reflected by it. Instances of this class
+ * are immutable and thread safe, as long as the registered parsers and tokenizers are.
+ */
+public final class FrozenParsingOptions implements ParsingOptions {
+
+    private static final int ASCII = 128;
+
+    @Getter
+    private final ErrorBehavior errorBehavior;
+
+    @Getter
+    private final VariablePattern variablePattern;
+
+    @Getter
+    private final List<EquationParser> registeredParsers;
+
+    @Getter
+    private final List<EquationTokenizer> registeredTokenizers;
+
+    private final Map<Character, EquationTokenizer> tokenizerMapping;
+
+    private final EquationTokenizer[] asciiTokenizers = new EquationTokenizer[ASCII];
+
+    private final Map<RangeShape, List<EquationParser>> parsersByShape;
+
+    FrozenParsingOptions(
+            @NonNull ParsingOptions options) {
+
+        this.errorBehavior = options.getErrorBehavior();
+        this.variablePattern = options.getVariablePattern();
+        this.registeredParsers = List.copyOf(options.getRegisteredParsers());
+        this.registeredTokenizers = List.copyOf(options.getRegisteredTokenizers());
+        this.tokenizerMapping = Collections.unmodifiableMap(new HashMap<>(options.getTokenizerForDelimiterMap()));
+
+        for (Map.Entry<Character, EquationTokenizer> entry : tokenizerMapping.entrySet())
+            if (entry.getKey() < ASCII)
+                asciiTokenizers[entry.getKey()] = entry.getValue();
+
+        this.parsersByShape = AbstractParsingOptions.groupByShape(registeredParsers);
+    }
+
+    @Override
+    public Map<Character, EquationTokenizer> getTokenizerForDelimiterMap() {
+        return tokenizerMapping;
+    }
+
+    @Override
+    public EquationTokenizer getTokenizerFor(char delimiter) {
+
+        if (delimiter < ASCII)
+            return asciiTokenizers[delimiter];
+
+        return tokenizerMapping.get(delimiter);
+    }
+
+    @Override
+    public List<EquationParser> getParsersFor(@NonNull RangeShape shape) {
+        return parsersByShape.get(shape);
+    }
+
+    /**
+     * Returns this object, as it is already immutable.
+     *
+     * @return this object.
+     */
+    @Override
+    public FrozenParsingOptions freeze() {
+        return this;
+    }
+}
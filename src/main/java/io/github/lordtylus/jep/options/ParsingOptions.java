@@ -19,6 +19,7 @@ import io.github.lordtylus.jep.Equation;
 import io.github.lordtylus.jep.EquationOptional;
 import io.github.lordtylus.jep.parsers.EquationParser;
 import io.github.lordtylus.jep.parsers.ParseException;
+import io.github.lordtylus.jep.parsers.RangeShape;
 import io.github.lordtylus.jep.parsers.variables.StandardVariablePatterns;
 import io.github.lordtylus.jep.parsers.variables.VariablePattern;
 import io.github.lordtylus.jep.tokenizer.EquationTokenizer;
@@ -40,7 +41,7 @@ public interface ParsingOptions {
      * <p>
      * See {@link DefaultParsingOptions}
      *
-     * @return {@link DefaultParsingOptions} instance
+     * @return the {@link DefaultParsingOptions#INSTANCE}
      */
     static ParsingOptions defaultOptions() {
         return DefaultParsingOptions.INSTANCE;
@@ -79,6 +80,19 @@ public interface ParsingOptions {
      */
     Map<Character, EquationTokenizer> getTokenizerForDelimiterMap();
 
+    /**
+     * Returns the {@link EquationTokenizer} registered for the given delimiter, or null if there is none.
+     * <p>
+     * This method is called for every character of an equation string while tokenizing. The default implementation
+     * looks the delimiter up in {@link #getTokenizerForDelimiterMap()}.
+     *
+     * @param delimiter the character to look up.
+     * @return the tokenizer for the delimiter or null.
+     */
+    default EquationTokenizer getTokenizerFor(char delimiter) {
+        return getTokenizerForDelimiterMap().get(delimiter);
+    }
+
     /**
      * Returns a list of {@link EquationParser} objects to be used for parsing.
      * The order is important for parsing to prevent unnecessary checks and prevent
@@ -89,6 +103,22 @@ public interface ParsingOptions {
      */
     List<EquationParser> getRegisteredParsers();
 
+    /**
+     * Returns the registered {@link EquationParser} objects which accept ranges of tokens of the given {@link RangeShape},
+     * in the same order as {@link #getRegisteredParsers()}.
+     * <p>
+     * The default implementation filters the registered parsers on every call. Implementations should precompute
+     * this list, as it is requested for every range that is parsed.
+     *
+     * @param shape the shape of the range to be parsed.
+     * @return List of {@link EquationParser} accepting the given shape.
+     */
+    default List<EquationParser> getParsersFor(RangeShape shape) {
+        return getRegisteredParsers().stream()
+                .filter(parser -> parser.getAcceptedShapes().contains(shape))
+                .toList();
+    }
+
     /**
      * Returns a List of {@link EquationTokenizer} objects to be used for tokenizing the
      * equation string before parsing. The order of the list is important as it may impact
@@ -98,6 +128,18 @@ public interface ParsingOptions {
      */
     List<EquationTokenizer> getRegisteredTokenizers();
 
+    /**
+     * Creates an immutable snapshot of these options, which is safe to be shared between threads.
+     * <p>
+     * The snapshot precomputes everything needed while parsing, so it should be preferred over mutable options
+     * once they are fully configured. Later changes to these options do not affect the snapshot.
+     *
+     * @return new {@link FrozenParsingOptions} with the current configuration.
+     */
+    default FrozenParsingOptions freeze() {
+        return new FrozenParsingOptions(this);
+    }
+
     /**
      * This enum controls how parsing should behave in case an error is spotted during parsing.
      * Errors aren't necessarily exceptions. However, this behavior also responsible for handling
@@ -0,0 +1,167 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.ParseResult.ParseType;
+import io.github.lordtylus.jep.tokenizer.SeparatorTokenizer;
+import io.github.lordtylus.jep.tokenizer.tokens.ParenthesisToken;
+import io.github.lordtylus.jep.tokenizer.tokens.SeparatorToken;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.TokenPair;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * This parser takes care of functions with multiple arguments separated by {@link SeparatorToken separators}, which are:
+ * <ul>
+ *     <li>if(condition;whenTrue;whenFalse) creating a {@link Condition}</li>
+ *     <li>min(a;b;...) and max(a;b;...) creating an {@link Extremum}</li>
+ *     <li>clamp(value;lower;upper) creating a {@link Clamp}</li>
+ * </ul>
+ * The arguments are passed down to the {@link Equation} for parsing, just like the inside of a parenthesis.
+ * <p>
+ * This parser must be registered before the {@link ParenthesisParser}, as that one reports an error for unknown function names.
+ * All other ranges are rejected, so they can be parsed by the other parsers.
+ *
+ * @see SeparatorTokenizer
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConditionalParser implements EquationParser {
+
+    /**
+     * Name of the function creating a {@link Condition}.
+     */
+    public static final String IF = "if";
+
+    /**
+     * Name of the function creating an {@link Extremum} returning the smallest value.
+     */
+    public static final String MIN = "min";
+
+    /**
+     * Name of the function creating an {@link Extremum} returning the largest value.
+     */
+    public static final String MAX = "max";
+
+    /**
+     * Name of the function creating a {@link Clamp}.
+     */
+    public static final String CLAMP = "clamp";
+
+    /**
+     * Singleton immutable instance of the {@link ConditionalParser}
+     */
+    public static final ConditionalParser INSTANCE = new ConditionalParser();
+
+    @Override
+    public Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.of(RangeShape.STARTS_WITH_PARENTHESIS);
+    }
+
+    @Override
+    public ParseResult parse(
+            @NonNull List<Token> tokenizedEquation,
+            int startIndex,
+            int endIndex,
+            @NonNull ParsingOptions options) {
+
+        try {
+
+            if (endIndex - startIndex < 1)
+                return ParseResult.notMine();
+
+            if (!(tokenizedEquation.get(startIndex) instanceof ParenthesisToken openingToken) || !openingToken.isOpening())
+                return ParseResult.notMine();
+
+            /* Everything else, including parenthesis mismatches, is reported by the other parsers. */
+            if (openingToken.getClosing() == null || openingToken.getClosing() != tokenizedEquation.get(endIndex))
+                return ParseResult.notMine();
+
+            String functionName = openingToken.getFunction().replace(" ", "").toLowerCase(Locale.ENGLISH);
+
+            if (!isSupported(functionName))
+                return ParseResult.notMine();
+
+            List<Equation> arguments = new ArrayList<>(3);
+            int argumentStart = startIndex + 1;
+
+            for (int i = argumentStart; i <= endIndex; i++) {
+
+                Token token = tokenizedEquation.get(i);
+
+                /* Separators inside nested parentheses belong to a different function. */
+                if (token instanceof TokenPair tokenPair && tokenPair.isOpening() && tokenPair.getClosing() != null) {
+                    i = tokenPair.getClosing().getIndex();
+                    continue;
+                }
+
+                if (i != endIndex && !(token instanceof SeparatorToken))
+                    continue;
+
+                if (i - 1 < argumentStart)
+                    return ParseResult.error("Argument " + (arguments.size() + 1) + " of '" + functionName + "' is empty!");
+
+                ParseResult argument = EquationParser.parseEquation(tokenizedEquation, argumentStart, i - 1, options);
+
+                if (argument.getParseType() != ParseType.OK)
+                    return argument;
+
+                arguments.add(argument.getNullableEquation());
+                argumentStart = i + 1;
+            }
+
+            return create(functionName, arguments);
+
+        } catch (ParseException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    private static boolean isSupported(String functionName) {
+        return IF.equals(functionName) || MIN.equals(functionName) || MAX.equals(functionName) || CLAMP.equals(functionName);
+    }
+
+    private static ParseResult create(String functionName, List<Equation> arguments) {
+
+        if (MIN.equals(functionName))
+            return ParseResult.ok(new Extremum(Extremum.Kind.MIN, arguments));
+
+        if (MAX.equals(functionName))
+            return ParseResult.ok(new Extremum(Extremum.Kind.MAX, arguments));
+
+        if (arguments.size() != 3)
+            return ParseResult.error("Function '" + functionName + "' expects 3 arguments, but got " + arguments.size() + "!");
+
+        if (IF.equals(functionName))
+            return ParseResult.ok(new Condition(arguments.get(0), arguments.get(1), arguments.get(2)));
+
+        return ParseResult.ok(new Clamp(arguments.get(0), arguments.get(1), arguments.get(2)));
+    }
+}
@@ -23,7 +23,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This parser implementation parses the given input string as a double.
@@ -33,6 +35,9 @@ import java.util.List;
  * That way bow 23.45 and -34,23 can be parsed correctly.
  * <p>
  * In the event any other decimal separator, letter or symbol reaches this class, parsing fails and an empty optional is returned.
+ * <p>
+ * The number is read directly from the characters of the {@link ValueToken}, so no intermediate strings are created
+ * for common numbers.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ConstantParser implements EquationParser {
@@ -42,6 +47,18 @@ public final class ConstantParser implements EquationParser {
      */
     public static final ConstantParser INSTANCE = new ConstantParser();
 
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    @Override
+    public Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.of(RangeShape.SINGLE_TOKEN);
+    }
+
     @Override
     public ParseResult parse(
             @NonNull List<Token> tokenizedEquation,
@@ -56,25 +73,33 @@ public final class ConstantParser implements EquationParser {
 
             Token token = tokenizedEquation.get(startIndex);
 
-            if (!(token instanceof ValueToken))
+            if (!(token instanceof ValueToken valueToken))
                 return ParseResult.notMine();
 
-            String trimmedEquation = token.getString().replace(" ", "");
-
-            if (trimmedEquation.isEmpty())
-                return ParseResult.error("Constant is empty!");
+            int length = valueToken.length();
 
-            int length = trimmedEquation.length();
+            long mantissa = 0;
+            int digits = 0;
+            int decimals = 0;
+            int characters = 0;
 
+            boolean negative = false;
             boolean encounteredDecimal = false;
 
             for (int i = 0; i < length; i++) {
 
-                char c = trimmedEquation.charAt(i);
+                char c = valueToken.charAt(i);
 
-                if (c == '-' && i == 0)
+                if (c == ' ')
                     continue;
 
+                characters++;
+
+                if (c == '-' && characters == 1) {
+                    negative = true;
+                    continue;
+                }
+
                 if (c == '.' || c == ',') {
 
                     if (encounteredDecimal)
@@ -84,20 +109,52 @@ public final class ConstantParser implements EquationParser {
                     continue;
                 }
 
-                switch (c) {
-                    case '1', '2', '3', '4', '5', '6', '7', '8', '9', '0':
-                        continue;
-                }
+                if (c < '0' || c > '9')
+                    return ParseResult.notMine();
 
-                return ParseResult.notMine();
+                if (digits < MAX_EXACT_DIGITS)
+                    mantissa = mantissa * 10 + (c - '0');
+
+                digits++;
+
+                if (encounteredDecimal)
+                    decimals++;
             }
 
-            trimmedEquation = trimmedEquation.replace(",", ".");
+            if (characters == 0)
+                return ParseResult.error("Constant is empty!");
+
+            /*
+             * A mantissa of up to 15 digits and a power of ten up to 10^22 can both be represented exactly as doubles,
+             * so a single division is correctly rounded and yields the same result as Double.parseDouble.
+             * Everything else falls back to Double.parseDouble, which also reports malformed numbers such as "-".
+             */
+            if (digits == 0 || digits > MAX_EXACT_DIGITS || decimals >= POWERS_OF_TEN.length)
+                return ParseResult.ok(new Constant(parseDouble(valueToken)));
 
-            return ParseResult.ok(new Constant(Double.parseDouble(trimmedEquation)));
+            double value = mantissa / POWERS_OF_TEN[decimals];
+
+            return ParseResult.ok(new Constant(negative ? -value : value));
 
         } catch (RuntimeException e) {
             throw new ParseException(e);
         }
     }
+
+    private static double parseDouble(ValueToken valueToken) {
+
+        StringBuilder sb = new StringBuilder(valueToken.length());
+
+        for (int i = 0; i < valueToken.length(); i++) {
+
+            char c = valueToken.charAt(i);
+
+            if (c == ',')
+                sb.append('.');
+            else if (c != ' ')
+                sb.append(c);
+        }
+
+        return Double.parseDouble(sb.toString());
+    }
 }
@@ -0,0 +1,115 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.ValueToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This parser implementation parses the given input string as an exact {@link BigDecimal}.
+ * <p>
+ * It accepts the same numbers as the {@link ConstantParser}, such as 23, -34, 23.45 or -34,23, but creates a
+ * {@link DecimalConstant} instead, so numbers like 0.1 are not rounded to the closest double.
+ * <p>
+ * In the event any other decimal separator, letter or symbol reaches this class, parsing fails and an empty optional is returned.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DecimalConstantParser implements EquationParser {
+
+    /**
+     * Singleton immutable instance of the {@link DecimalConstantParser}
+     */
+    public static final DecimalConstantParser INSTANCE = new DecimalConstantParser();
+
+    @Override
+    public Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.of(RangeShape.SINGLE_TOKEN);
+    }
+
+    @Override
+    public ParseResult parse(
+            @NonNull List<Token> tokenizedEquation,
+            int startIndex,
+            int endIndex,
+            @NonNull ParsingOptions options) {
+
+        try {
+
+            if (endIndex - startIndex != 0)
+                return ParseResult.notMine();
+
+            Token token = tokenizedEquation.get(startIndex);
+
+            if (!(token instanceof ValueToken valueToken))
+                return ParseResult.notMine();
+
+            StringBuilder sb = new StringBuilder(valueToken.length());
+
+            int digits = 0;
+            boolean encounteredDecimal = false;
+
+            for (int i = 0; i < valueToken.length(); i++) {
+
+                char c = valueToken.charAt(i);
+
+                if (c == ' ')
+                    continue;
+
+                if (c == '-' && sb.isEmpty()) {
+                    sb.append(c);
+                    continue;
+                }
+
+                if (c == '.' || c == ',') {
+
+                    if (encounteredDecimal)
+                        return ParseResult.error("Multiple decimal points!");
+
+                    encounteredDecimal = true;
+                    sb.append('.');
+                    continue;
+                }
+
+                if (c < '0' || c > '9')
+                    return ParseResult.notMine();
+
+                sb.append(c);
+                digits++;
+            }
+
+            if (sb.isEmpty())
+                return ParseResult.error("Constant is empty!");
+
+            if (digits == 0)
+                return ParseResult.error("Constant '" + sb + "' doesn't contain any digits!");
+
+            return ParseResult.ok(new DecimalConstant(new BigDecimal(sb.toString())));
+
+        } catch (RuntimeException e) {
+            throw new ParseException(e);
+        }
+    }
+}
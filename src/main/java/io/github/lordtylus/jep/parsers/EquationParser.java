@@ -21,7 +21,9 @@ import io.github.lordtylus.jep.parsers.ParseResult.ParseType;
 import io.github.lordtylus.jep.tokenizer.tokens.Token;
 import lombok.NonNull;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This interface is the base for parsing equation strings. It is expected that each {@link Equation} has one parser that is capable of creating the composite object hierarchy of parsed {@link Equation Equations}.
@@ -55,6 +57,8 @@ public interface EquationParser {
      * <p>
      * This method will be called recursively and requires a start and end index of the list to be passed in.
      * Those indices are altered by different parsers before starting the next recursion.
+     * <p>
+     * Only the parsers accepting the {@link RangeShape} of the given range are called, in the order they were registered.
      *
      * @param tokenizedEquation List of string tokens to be used for parsing.
      * @param startIndex        start index of the list to parse.
@@ -69,7 +73,9 @@ public interface EquationParser {
             int endIndex,
             @NonNull ParsingOptions parsingOptions) {
 
-        List<EquationParser> registeredParsers = parsingOptions.getRegisteredParsers();
+        RangeShape shape = RangeShape.of(tokenizedEquation, startIndex, endIndex);
+
+        List<EquationParser> registeredParsers = parsingOptions.getParsersFor(shape);
 
         for (int i = 0; i < registeredParsers.size(); i++) {
 
@@ -102,4 +108,15 @@ public interface EquationParser {
             int endIndex,
             @NonNull ParsingOptions options);
 
+    /**
+     * Returns the {@link RangeShape shapes} of token ranges this parser can handle.
+     * <p>
+     * For any range of a different shape, {@link #parse(List, int, int, ParsingOptions)} must return
+     * {@link ParseType#NOT_MINE}, as it will not be called for it. By default, all shapes are accepted.
+     *
+     * @return the shapes this parser accepts.
+     */
+    default Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.allOf(RangeShape.class);
+    }
 }
@@ -0,0 +1,116 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.ValueToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This parser implementation parses whole numbers such as 23 or -34 as long.
+ * <p>
+ * Numbers with a decimal separator are rejected with an empty optional, so they can be parsed by the {@link ConstantParser}
+ * registered after this parser. Whole numbers which don't fit into a long are reported as error instead of silently
+ * losing precision.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LongConstantParser implements EquationParser {
+
+    /**
+     * Singleton immutable instance of the {@link LongConstantParser}
+     */
+    public static final LongConstantParser INSTANCE = new LongConstantParser();
+
+    @Override
+    public Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.of(RangeShape.SINGLE_TOKEN);
+    }
+
+    @Override
+    public ParseResult parse(
+            @NonNull List<Token> tokenizedEquation,
+            int startIndex,
+            int endIndex,
+            @NonNull ParsingOptions options) {
+
+        try {
+
+            if (endIndex - startIndex != 0)
+                return ParseResult.notMine();
+
+            Token token = tokenizedEquation.get(startIndex);
+
+            if (!(token instanceof ValueToken valueToken))
+                return ParseResult.notMine();
+
+            /* The value is accumulated negatively, so Long.MIN_VALUE can be parsed as well. */
+            long value = 0;
+            int digits = 0;
+            int characters = 0;
+            boolean negative = false;
+
+            for (int i = 0; i < valueToken.length(); i++) {
+
+                char c = valueToken.charAt(i);
+
+                if (c == ' ')
+                    continue;
+
+                characters++;
+
+                if (c == '-' && characters == 1) {
+                    negative = true;
+                    continue;
+                }
+
+                if (c < '0' || c > '9')
+                    return ParseResult.notMine();
+
+                int digit = c - '0';
+
+                if (value < (Long.MIN_VALUE + digit) / 10)
+                    return ParseResult.error("Whole number is too large!");
+
+                value = value * 10 - digit;
+                digits++;
+            }
+
+            if (digits == 0)
+                return ParseResult.notMine();
+
+            if (!negative) {
+
+                if (value == Long.MIN_VALUE)
+                    return ParseResult.error("Whole number is too large!");
+
+                value = -value;
+            }
+
+            return ParseResult.ok(new LongConstant(value));
+
+        } catch (RuntimeException e) {
+            throw new ParseException(e);
+        }
+    }
+}
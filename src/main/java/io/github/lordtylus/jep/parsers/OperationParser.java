@@ -27,6 +27,7 @@ import io.github.lordtylus.jep.tokenizer.tokens.TokenPair;
 import lombok.NonNull;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -101,6 +102,11 @@ public final class OperationParser implements EquationParser {
         this.lowest = lowestOperatorOrder;
     }
 
+    @Override
+    public Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.of(RangeShape.STARTS_WITH_PARENTHESIS, RangeShape.MULTIPLE_TOKENS);
+    }
+
     @Override
     public ParseResult parse(
             @NonNull List<Token> tokenizedEquation,
@@ -26,8 +26,10 @@ import io.github.lordtylus.jep.tokenizer.tokens.Token;
 import lombok.NonNull;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This parser takes care of parenthesis in the equation and also matches functions directly in front of the opening parenthesis.
@@ -59,6 +61,11 @@ public final class ParenthesisParser implements EquationParser {
         this.mathFunctionParser = new MathFunctionParser(relevantFunctions);
     }
 
+    @Override
+    public Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.of(RangeShape.STARTS_WITH_PARENTHESIS);
+    }
+
     @Override
     public ParseResult parse(
             @NonNull List<Token> tokenizedEquation,
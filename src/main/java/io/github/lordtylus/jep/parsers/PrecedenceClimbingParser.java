@@ -0,0 +1,298 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.MathFunctionParser;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.ParseResult.ParseType;
+import io.github.lordtylus.jep.tokenizer.tokens.OperatorToken;
+import io.github.lordtylus.jep.tokenizer.tokens.ParenthesisToken;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.TokenPair;
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * This parser replaces the {@link ParenthesisParser} and {@link OperationParser} by parsing operations and parentheses
+ * in a single pass from left to right using precedence climbing.
+ * <p>
+ * The {@link OperationParser} searches the lowest order operator in the whole range, splits there and parses both
+ * halves again, which takes quadratic time for long equations. This parser instead keeps a stack of operands and
+ * a stack of pending operators. Whenever an operator is read, all pending operators of the same or higher
+ * {@link Operator#order()} are applied first. That way every token is only visited once.
+ * <p>
+ * The resulting tree is the same as the one built by the {@link OperationParser} and {@link ParenthesisParser}.
+ * Operators of the same order are applied from left to right, so 1+2+3 is parsed as (1+2)+3.
+ * <p>
+ * Single tokens such as constants or variables are not handled by this parser. They are passed to the other
+ * registered parsers via {@link EquationParser#parseEquation(List, int, int, ParsingOptions)}, so this parser
+ * has to be registered alongside {@link ConstantParser} and {@link VariableParser}. The same goes for custom
+ * {@link TokenPair token pairs} other than parentheses and functions this parser doesn't know, which are passed on as a
+ * whole. That way functions like those of the {@link ConditionalParser} can be used alongside this parser.
+ * <p>
+ * See {@link CustomParsingOptions#precedenceClimbing()} for options using this parser.
+ */
+public final class PrecedenceClimbingParser implements EquationParser {
+
+    /**
+     * Default instance of the {@link PrecedenceClimbingParser} using all {@link StandardFunctions} and {@link StandardOperators}
+     */
+    public static final PrecedenceClimbingParser DEFAULT = new PrecedenceClimbingParser(StandardFunctions.all(), StandardOperators.all());
+
+    private final MathFunctionParser mathFunctionParser;
+    private final Map<Character, Operator> characterToOperatorMap = new HashMap<>();
+
+    /**
+     * Creates a new Parser instance with the {@link MathFunction functions} and {@link Operator operators} to use for parsing.
+     *
+     * @param relevantFunctions functions this parser should recognize.
+     * @param relevantOperators operators this parser should recognize.
+     */
+    public PrecedenceClimbingParser(
+            @NonNull Collection<MathFunction> relevantFunctions,
+            @NonNull Collection<Operator> relevantOperators) {
+
+        this.mathFunctionParser = new MathFunctionParser(relevantFunctions);
+
+        for (Operator relevantOperator : relevantOperators)
+            characterToOperatorMap.put(relevantOperator.toPattern(), relevantOperator);
+    }
+
+    @Override
+    public Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.of(RangeShape.STARTS_WITH_PARENTHESIS, RangeShape.MULTIPLE_TOKENS);
+    }
+
+    @Override
+    public ParseResult parse(
+            @NonNull List<Token> tokenizedEquation,
+            int startIndex,
+            int endIndex,
+            @NonNull ParsingOptions options) {
+
+        try {
+
+            if (endIndex - startIndex < 1)
+                return ParseResult.notMine();
+
+            Deque<Equation> operands = new ArrayDeque<>();
+
+            /*
+             * Pending operators and opened parentheses share one stack. An opened parenthesis is represented by its
+             * MathFunction, which also marks how far operators can be applied when the parenthesis is closed.
+             */
+            Deque<Object> pending = new ArrayDeque<>();
+
+            boolean expectOperand = true;
+
+            for (int i = startIndex; i <= endIndex; i++) {
+
+                Token token = tokenizedEquation.get(i);
+
+                if (expectOperand) {
+
+                    if (token instanceof ParenthesisToken parenthesisToken && parenthesisToken.isOpening()) {
+
+                        ParenthesisToken closing = (ParenthesisToken) parenthesisToken.getClosing();
+
+                        if (closing == null || closing.getIndex() > endIndex)
+                            return ParseResult.error("Parenthesis mismatch, ')' missing!");
+
+                        String functionName = parenthesisToken.getFunction().replace(" ", "");
+
+                        Optional<MathFunction> function = mathFunctionParser.parse(functionName);
+
+                        if (function.isPresent()) {
+                            pending.push(function.get());
+                            continue;
+                        }
+
+                        /*
+                         * Functions this parser doesn't know, such as if( or min( of the ConditionalParser, may be
+                         * known by other parsers. The range up to the closing parenthesis is passed on to them.
+                         */
+                        if (i == startIndex && closing.getIndex() == endIndex)
+                            return parseByOtherParsers(tokenizedEquation, startIndex, endIndex, options, functionName);
+
+                        ParseResult operand = EquationParser.parseEquation(tokenizedEquation, i, closing.getIndex(), options);
+
+                        if (operand.getParseType() != ParseType.OK)
+                            return operand;
+
+                        operands.push(operand.getNullableEquation());
+                        expectOperand = false;
+                        i = closing.getIndex();
+                        continue;
+                    }
+
+                    /*
+                     * Like the OperationParser, other token pairs are not looked into. The range up to their closing
+                     * token is passed on to the parsers handling them and the result is used as an operand.
+                     */
+                    if (token instanceof TokenPair tokenPair && tokenPair.isOpening()) {
+
+                        TokenPair closing = tokenPair.getClosing();
+
+                        if (closing == null || closing.getIndex() > endIndex)
+                            return ParseResult.error("Token pair mismatch! Could not find closing!");
+
+                        /* If the pair spans the entire range, there is nothing for this parser to do. */
+                        if (i == startIndex && closing.getIndex() == endIndex)
+                            return ParseResult.notMine();
+
+                        ParseResult operand = EquationParser.parseEquation(tokenizedEquation, i, closing.getIndex(), options);
+
+                        if (operand.getParseType() != ParseType.OK)
+                            return operand;
+
+                        operands.push(operand.getNullableEquation());
+                        expectOperand = false;
+                        i = closing.getIndex();
+                        continue;
+                    }
+
+                    if (token instanceof OperatorToken || token instanceof TokenPair) {
+
+                        if (i == startIndex || tokenizedEquation.get(i - 1) instanceof TokenPair)
+                            return ParseResult.error("Left operand is empty!");
+
+                        return ParseResult.error("Right operand is empty!");
+                    }
+
+                    ParseResult operand = EquationParser.parseEquation(tokenizedEquation, i, i, options);
+
+                    if (operand.getParseType() != ParseType.OK)
+                        return operand;
+
+                    operands.push(operand.getNullableEquation());
+                    expectOperand = false;
+                    continue;
+                }
+
+                if (token instanceof OperatorToken operatorToken) {
+
+                    Operator operator = characterToOperatorMap.get(operatorToken.operator());
+
+                    if (operator == null)
+                        return ParseResult.error("Operator '" + operatorToken.operator() + "' not recognized!");
+
+                    /* Operators of the same order are applied left to right, so pending ones of the same order go first. */
+                    while (pending.peek() instanceof Operator top && top.order() >= operator.order())
+                        applyOperator(operands, (Operator) pending.pop());
+
+                    pending.push(operator);
+                    expectOperand = true;
+                    continue;
+                }
+
+                if (token instanceof ParenthesisToken parenthesisToken && parenthesisToken.isClosing()) {
+
+                    while (pending.peek() instanceof Operator)
+                        applyOperator(operands, (Operator) pending.pop());
+
+                    if (pending.isEmpty())
+                        return ParseResult.error("Parenthesis mismatch, '(' expected!");
+
+                    MathFunction function = (MathFunction) pending.pop();
+                    operands.push(new Parenthesis(function, operands.pop()));
+                    continue;
+                }
+
+                return ParseResult.error("This expression doesn't resemble an equation!");
+            }
+
+            if (expectOperand)
+                return ParseResult.error("Right operand is empty!");
+
+            while (!pending.isEmpty()) {
+
+                if (!(pending.peek() instanceof Operator))
+                    return ParseResult.error("Parenthesis mismatch, ')' missing!");
+
+                applyOperator(operands, (Operator) pending.pop());
+            }
+
+            return ParseResult.ok(operands.pop());
+
+        } catch (ParseException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    /**
+     * Asks all other registered parsers to parse the given range, which is a single function this parser doesn't know.
+     * Other instances of this parser are skipped, as they would just ask the parsers again.
+     */
+    private static ParseResult parseByOtherParsers(
+            List<Token> tokenizedEquation,
+            int startIndex,
+            int endIndex,
+            ParsingOptions options,
+            String functionName) {
+
+        RangeShape shape = RangeShape.of(tokenizedEquation, startIndex, endIndex);
+
+        for (EquationParser parser : options.getParsersFor(shape)) {
+
+            if (parser instanceof PrecedenceClimbingParser)
+                continue;
+
+            ParseResult result = parser.parse(tokenizedEquation, startIndex, endIndex, options);
+
+            if (result.getParseType() != ParseType.NOT_MINE)
+                return result;
+        }
+
+        return ParseResult.error("Unknown function '" + functionName + "'!");
+    }
+
+    private static void applyOperator(Deque<Equation> operands, Operator operator) {
+
+        Equation right = operands.pop();
+        Equation left = operands.pop();
+
+        operands.push(new Operation(left, right, operator));
+    }
+
+    /**
+     * This method figures out the symbols of all operators to be recognized by this parser.
+     *
+     * @return Set of characters for operator symbols.
+     */
+    public Set<Character> getOperatorCharacters() {
+        return new HashSet<>(characterToOperatorMap.keySet());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.tokenizer.tokens.ParenthesisToken;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * This enum describes the shape of a range of tokens passed to {@link EquationParser#parseEquation(List, int, int, ParsingOptions)}.
+ * <p>
+ * Parsers declare the shapes they can handle using {@link EquationParser#getAcceptedShapes()}. That way a range is only
+ * passed to the parsers which have a chance of parsing it, instead of every registered one.
+ */
+public enum RangeShape {
+
+    /**
+     * The range doesn't contain any tokens, for example the inside of "()".
+     */
+    EMPTY,
+
+    /**
+     * The range consists of exactly one token, such as a number or a variable.
+     */
+    SINGLE_TOKEN,
+
+    /**
+     * The range consists of multiple tokens and the first one is a {@link ParenthesisToken}, such as "sqrt(2)" or "(1+2)*3".
+     */
+    STARTS_WITH_PARENTHESIS,
+
+    /**
+     * The range consists of multiple tokens and doesn't start with a {@link ParenthesisToken}, such as "1+2".
+     */
+    MULTIPLE_TOKENS;
+
+    /**
+     * Determines the shape of the given range of tokens.
+     *
+     * @param tokenizedEquation List of tokens the range is part of.
+     * @param startIndex        start index of the range.
+     * @param endIndex          end index of the range.
+     * @return the shape of the range.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public static RangeShape of(
+            @NonNull List<Token> tokenizedEquation,
+            int startIndex,
+            int endIndex) {
+
+        if (endIndex < startIndex)
+            return EMPTY;
+
+        if (endIndex == startIndex)
+            return SINGLE_TOKEN;
+
+        if (tokenizedEquation.get(startIndex) instanceof ParenthesisToken)
+            return STARTS_WITH_PARENTHESIS;
+
+        return MULTIPLE_TOKENS;
+    }
+}
@@ -24,7 +24,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This parser implementation parses the given input string and extracts the variable name from it.
@@ -45,6 +47,11 @@ public final class VariableParser implements EquationParser {
      */
     public static final VariableParser INSTANCE = new VariableParser();
 
+    @Override
+    public Set<RangeShape> getAcceptedShapes() {
+        return EnumSet.of(RangeShape.SINGLE_TOKEN);
+    }
+
     @Override
     public ParseResult parse(
             @NonNull List<Token> tokenizedEquation,
@@ -59,24 +66,39 @@ public final class VariableParser implements EquationParser {
 
             Token token = tokenizedEquation.get(startIndex);
 
-            if (!(token instanceof ValueToken))
+            if (!(token instanceof ValueToken valueToken))
                 return ParseResult.notMine();
 
-            String trimmedEquation = token.getString().trim();
+            CharSequence source = valueToken.source();
+
+            /* Trimming is done on the indices, so only the final variable name is copied. */
+            int begin = valueToken.start();
+            int end = begin + valueToken.length();
+
+            while (begin < end && source.charAt(begin) <= ' ')
+                begin++;
+
+            while (end > begin && source.charAt(end - 1) <= ' ')
+                end--;
+
             VariablePattern variablePattern = options.getVariablePattern();
 
             if (variablePattern.isEscaped()) {
 
-                if (trimmedEquation.charAt(0) != variablePattern.openingCharacter())
+                if (end - begin < 2)
+                    return ParseResult.notMine();
+
+                if (source.charAt(begin) != variablePattern.openingCharacter())
                     return ParseResult.notMine();
 
-                if (trimmedEquation.charAt(trimmedEquation.length() - 1) != variablePattern.closingCharacter())
+                if (source.charAt(end - 1) != variablePattern.closingCharacter())
                     return ParseResult.notMine();
 
-                trimmedEquation = trimmedEquation.substring(1, trimmedEquation.length() - 1);
+                begin++;
+                end--;
             }
 
-            return ParseResult.ok(new Variable(trimmedEquation));
+            return ParseResult.ok(new Variable(source.subSequence(begin, end).toString()));
 
         } catch (RuntimeException e) {
             throw new ParseException(e);
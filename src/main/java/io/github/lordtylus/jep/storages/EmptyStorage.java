@@ -40,4 +40,9 @@ public final class EmptyStorage implements Storage {
     public Number evaluate(@NonNull String variable) {
         return 0;
     }
+
+    @Override
+    public double evaluateDouble(@NonNull String variable) {
+        return 0;
+    }
 }
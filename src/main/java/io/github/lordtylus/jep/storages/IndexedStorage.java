@@ -0,0 +1,145 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.storages;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * This storage keeps the values of variables in a double array, where the index of each variable is defined by a {@link SlotLayout}.
+ * <p>
+ * Equations bound to the same layout via {@link BoundEquation} read their variables directly by index, so neither
+ * hashing nor boxing is needed during evaluation. Other {@link Equation equations} can still use this storage,
+ * as variables are resolved by name via the layout in {@link #evaluate(String)}.
+ * <p>
+ * The backing array is not copied and can be filled directly. This makes the storage mutable and not thread safe,
+ * so each thread should use its own instance.
+ */
+public final class IndexedStorage implements Storage {
+
+    /**
+     * The layout defining the slot of each variable.
+     */
+    @Getter
+    private final SlotLayout layout;
+
+    /**
+     * The backing array holding the variable values. Changes to the array are immediately visible to this storage.
+     */
+    @Getter
+    private final double[] values;
+
+    /**
+     * Initializes a new storage with a new array with one slot per variable of the given layout.
+     * All values are 0.0 initially.
+     *
+     * @param layout {@link SlotLayout} defining the slot of each variable.
+     * @throws NullPointerException If any given argument is null.
+     */
+    public IndexedStorage(
+            @NonNull SlotLayout layout) {
+
+        this(layout, new double[layout.size()]);
+    }
+
+    /**
+     * Initializes a new storage backed by the given array. The array is not copied.
+     *
+     * @param layout {@link SlotLayout} defining the slot of each variable.
+     * @param values backing array, must have at least one slot per variable of the layout.
+     * @throws IllegalArgumentException If the array is too short for the given layout.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public IndexedStorage(
+            @NonNull SlotLayout layout,
+            @NonNull double[] values) {
+
+        if (values.length < layout.size())
+            throw new IllegalArgumentException("Array of length " + values.length + " is too short for " + layout.size() + " variables!");
+
+        this.layout = layout;
+        this.values = values;
+    }
+
+    /**
+     * Returns the value stored in the given slot.
+     *
+     * @param slot slot of the variable.
+     * @return value of the variable.
+     * @throws ArrayIndexOutOfBoundsException If the slot is outside the backing array.
+     */
+    public double get(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Sets the value of the given slot.
+     *
+     * @param slot  slot of the variable.
+     * @param value new value of the variable.
+     * @throws ArrayIndexOutOfBoundsException If the slot is outside the backing array.
+     */
+    public void set(int slot, double value) {
+        values[slot] = value;
+    }
+
+    /**
+     * Sets the value of the given variable.
+     *
+     * @param variable name of the variable.
+     * @param value    new value of the variable.
+     * @throws IllegalArgumentException If the variable is not part of the layout.
+     * @throws NullPointerException     If any given argument is null.
+     */
+    public void putValue(
+            @NonNull String variable,
+            double value) {
+
+        values[layout.slotOf(variable)] = value;
+    }
+
+    /**
+     * Evaluates the given variable name by looking up its slot in the layout.
+     *
+     * @param variable name of the variable to be retrieved.
+     * @return the value associated with requested variable name.
+     * @throws IllegalArgumentException If the variable is not part of the layout.
+     */
+    @Override
+    public Number evaluate(
+            @NonNull String variable) {
+
+        return values[layout.slotOf(variable)];
+    }
+
+    /**
+     * Evaluates the given variable name by looking up its slot in the layout, without boxing the value.
+     *
+     * @param variable name of the variable to be retrieved.
+     * @return the value associated with requested variable name.
+     * @throws IllegalArgumentException If the variable is not part of the layout.
+     */
+    @Override
+    public double evaluateDouble(
+            @NonNull String variable) {
+
+        return values[layout.slotOf(variable)];
+    }
+}
@@ -112,4 +112,26 @@ public final class SimpleStorage implements Storage {
 
         return storageMode.handleNull(variable, defaultValue);
     }
+
+    /**
+     * Evaluates the given variable name and returns its associated value as double.
+     * <p>
+     * The stored values are converted directly, so the lookup does not allocate any objects.
+     * Unknown variables are handled the same way as in {@link #evaluate(String)}.
+     *
+     * @param variable name of the variable to be retrieved.
+     * @return value associated with requested variable name as double.
+     * @throws IllegalArgumentException if an unknown variable is encountered in {@link StorageMode#STRICT}
+     */
+    @Override
+    public double evaluateDouble(
+            @NonNull String variable) {
+
+        Number value = storage.get(variable);
+
+        if (value != null)
+            return value.doubleValue();
+
+        return storageMode.handleNull(variable, defaultValue).doubleValue();
+    }
 }
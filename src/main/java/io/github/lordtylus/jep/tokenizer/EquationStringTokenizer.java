@@ -24,7 +24,6 @@ import lombok.NonNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * The purpose of this class is to take a given Equation String and tokenize it for parsing.
@@ -48,8 +47,6 @@ public final class EquationStringTokenizer {
             @NonNull String equation,
             @NonNull ParsingOptions options) {
 
-        Map<Character, EquationTokenizer> registeredTokenizers = options.getTokenizerForDelimiterMap();
-
         List<Token> tokenList = new ArrayList<>(32);
         int beginIndex = 0;
 
@@ -60,7 +57,7 @@ public final class EquationStringTokenizer {
 
             char c = equation.charAt(i);
 
-            EquationTokenizer tokenizer = registeredTokenizers.get(c);
+            EquationTokenizer tokenizer = options.getTokenizerFor(c);
 
             if (tokenizer == null)
                 continue;
@@ -69,11 +66,26 @@ public final class EquationStringTokenizer {
                 beginIndex = i + 1;
         }
 
-        String substring = equation.substring(beginIndex);
-
-        if (!substring.isBlank())
-            tokenList.add(new ValueToken(substring));
+        if (!isBlank(equation, beginIndex, length))
+            tokenList.add(new ValueToken(equation, beginIndex, length - beginIndex));
 
         return tokenList;
     }
+
+    /**
+     * Checks if the given range of the equation only consists of whitespaces without creating a substring.
+     *
+     * @param equation   equation string to check.
+     * @param beginIndex first index of the range, inclusive.
+     * @param endIndex   last index of the range, exclusive.
+     * @return true if the range is empty or only contains whitespaces.
+     */
+    static boolean isBlank(String equation, int beginIndex, int endIndex) {
+
+        for (int i = beginIndex; i < endIndex; i++)
+            if (!Character.isWhitespace(equation.charAt(i)))
+                return false;
+
+        return true;
+    }
 }
@@ -76,28 +76,30 @@ public class OperatorTokenizer implements EquationTokenizer {
         if (context.isSplitProhibited())
             return false;
 
-        String substring = equation.substring(beginIndex, currentIndex);
-
         /*
          * Negative numbers have an operator in front.
          * This should only be possible when it's the start of the string,
-         * or after an opening.
+         * after an opening or after the separator of function arguments.
          */
-        if (currentIndex == 0 || equation.charAt(currentIndex - 1) == '(')
+        if (currentIndex == 0 || isOperandStart(equation.charAt(currentIndex - 1)))
             return false;
 
-        if (substring.isBlank()) {
+        if (EquationStringTokenizer.isBlank(equation, beginIndex, currentIndex)) {
 
             /* Special case if there are spaces */
-            if (equation.charAt(beginIndex - 1) == '(')
+            if (isOperandStart(equation.charAt(beginIndex - 1)))
                 return false;
 
         } else {
-            tokenList.add(new ValueToken(substring));
+            tokenList.add(new ValueToken(equation, beginIndex, currentIndex - beginIndex));
         }
 
         tokenList.add(new OperatorToken(currentCharacter));
 
         return true;
     }
+
+    private static boolean isOperandStart(char previous) {
+        return previous == '(' || previous == SeparatorTokenizer.SEPARATOR;
+    }
 }
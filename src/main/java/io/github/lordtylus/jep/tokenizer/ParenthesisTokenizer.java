@@ -63,8 +63,6 @@ public final class ParenthesisTokenizer implements EquationTokenizer {
         if (context.isSplitProhibited())
             return false;
 
-        String substring = equation.substring(beginIndex, currentIndex);
-
         ParenthesisToken token = new ParenthesisToken(currentCharacter);
 
         if (token.isOpening()) {
@@ -77,10 +75,12 @@ public final class ParenthesisTokenizer implements EquationTokenizer {
                 openingToken.setClosing(token);
         }
 
-        if (tokenizeFunctions && token.isOpening())
-            token.setFunction(substring);
-        else if (!substring.isBlank())
-            tokenList.add(new ValueToken(substring));
+        if (tokenizeFunctions && token.isOpening()) {
+            if (beginIndex != currentIndex)
+                token.setFunction(equation.substring(beginIndex, currentIndex));
+        } else if (!EquationStringTokenizer.isBlank(equation, beginIndex, currentIndex)) {
+            tokenList.add(new ValueToken(equation, beginIndex, currentIndex - beginIndex));
+        }
 
         token.setIndex(tokenList.size());
         tokenList.add(token);
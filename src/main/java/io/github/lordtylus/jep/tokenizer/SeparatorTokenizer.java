@@ -0,0 +1,78 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.tokenizer;
+
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.ConditionalParser;
+import io.github.lordtylus.jep.tokenizer.tokens.SeparatorToken;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.ValueToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This tokenizer implementation reacts to the separator between arguments of functions such as if([x]&gt;0;1;2) and
+ * creates {@link SeparatorToken} objects during tokenizing.
+ * <p>
+ * The separator is ; as the comma is already used as decimal separator by the constant parsers.
+ *
+ * @see ConditionalParser
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SeparatorTokenizer implements EquationTokenizer {
+
+    /**
+     * The character separating the arguments of a function.
+     */
+    public static final char SEPARATOR = ';';
+
+    /**
+     * Default immutable instance of this singleton class
+     */
+    public static final SeparatorTokenizer INSTANCE = new SeparatorTokenizer();
+
+    private final Set<Character> delimiters = Set.of(SEPARATOR);
+
+    @Override
+    public Set<Character> getDelimitersFor(ParsingOptions parsingOptions) {
+        return delimiters;
+    }
+
+    @Override
+    public boolean handle(
+            int beginIndex,
+            int currentIndex,
+            char currentCharacter,
+            @NonNull String equation,
+            @NonNull List<Token> tokenList,
+            @NonNull TokenizerContext context,
+            @NonNull ParsingOptions parsingOptions) {
+
+        if (context.isSplitProhibited())
+            return false;
+
+        if (!EquationStringTokenizer.isBlank(equation, beginIndex, currentIndex))
+            tokenList.add(new ValueToken(equation, beginIndex, currentIndex - beginIndex));
+
+        tokenList.add(new SeparatorToken(currentCharacter));
+
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.tokenizer.tokens;
+
+/**
+ * This token visualizes the separator between the arguments of a function, such as the ; in max(1;2).
+ */
+public record SeparatorToken(
+        char separator) implements Token {
+
+    @Override
+    public String getString() {
+        return String.valueOf(separator);
+    }
+}
@@ -17,16 +17,99 @@ package io.github.lordtylus.jep.tokenizer.tokens;
 
 import lombok.NonNull;
 
+import java.util.Objects;
+
 /**
  * This is the default token when tokenizing a string.
  * If there are no parenthesis or operators, or anything else splitting the string,
  * this object will be used instead.
+ * <p>
+ * The token does not copy the characters it represents. It only stores the range in the original
+ * equation string, so that parsers can read it without creating substrings.
+ * <p>
+ * Two tokens are equal if they cover the same characters, no matter which source they are part of.
+ *
+ * @param source the equation string this token is part of.
+ * @param start  index of the first character of this token in the source.
+ * @param length number of characters of this token.
  */
 public record ValueToken(
-        @NonNull String value) implements Token {
+        @NonNull CharSequence source,
+        int start,
+        int length) implements Token {
+
+    /**
+     * Creates a new ValueToken covering the given range of the source.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within the source.
+     */
+    public ValueToken {
+        Objects.checkFromIndexSize(start, length, source.length());
+    }
+
+    /**
+     * Creates a new ValueToken representing the whole given string.
+     *
+     * @param value the token string.
+     */
+    public ValueToken(
+            @NonNull String value) {
+
+        this(value, 0, value.length());
+    }
+
+    /**
+     * Returns the character at the given index relative to the start of this token.
+     *
+     * @param index index within this token.
+     * @return the character at the given index.
+     * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #length()}.
+     */
+    public char charAt(int index) {
+        return source.charAt(start + Objects.checkIndex(index, length));
+    }
+
+    /**
+     * @return The characters of this token as string.
+     */
+    public String value() {
+        return getString();
+    }
 
     @Override
     public String getString() {
-        return value;
+        return source.subSequence(start, start + length).toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o)
+            return true;
+
+        if (!(o instanceof ValueToken other) || other.length != length)
+            return false;
+
+        for (int i = 0; i < length; i++)
+            if (source.charAt(start + i) != other.source.charAt(other.start + i))
+                return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+
+        int hash = 0;
+
+        for (int i = 0; i < length; i++)
+            hash = 31 * hash + source.charAt(start + i);
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ValueToken[value=" + getString() + "]";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DoubleStorageTest {
+
+    @Test
+    void evaluatesAsNumber() {
+
+        /* Given */
+
+        DoubleStorage sut = variable -> variable.length();
+
+        /* When */
+
+        Number actual = sut.evaluate("test");
+
+        /* Then */
+
+        assertEquals(4.0, actual);
+    }
+
+    @Test
+    void isUsedByEquation() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("2*[x]+[yy]").get();
+
+        DoubleStorage sut = variable -> variable.length();
+
+        /* When */
+
+        double actual = equation.evaluateDouble(sut);
+        double actualResult = equation.evaluate(sut).asDouble();
+
+        /* Then */
+
+        assertEquals(4, actual, 0.00001);
+        assertEquals(4, actualResult, 0.00001);
+    }
+}
@@ -31,8 +31,10 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
 
@@ -245,6 +247,85 @@ class EquationTest {
         assertEquals(expected, actual, 0.00001);
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1;1",
+            "123.456;123.456",
+            "[hallo]+1;5",
+            "sqrt(9)+cbrt(8);5",
+            "1+2*3-4/2^2;6",
+            "(2+((1+2)^2+(4+[hallo])^2)+(2*2))+5;84",
+            "(7+3)*(6-3)+216/3^3;38",
+    }, delimiter = ';')
+    void canBeEvaluatedAsDouble(String equation, double expected) {
+
+        /* Given */
+
+        Equation sut = Equation.parse(equation).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("hallo", 4);
+
+        /* When */
+
+        double actual = sut.evaluateDouble(storage);
+
+        /* Then */
+
+        assertEquals(expected, actual, 0.00001);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1;1",
+            "[hallo]+1;5",
+            "sqrt(9)+cbrt(8);5",
+            "(2+((1+2)^2+(4+[hallo])^2)+(2*2))+5;84",
+            "(7+3)*(6-3)+216/3^3;38",
+    }, delimiter = ';')
+    void canBeEvaluatedAsNumber(String equation, double expected) {
+
+        /* Given */
+
+        Equation sut = Equation.parse(equation).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("hallo", 4);
+
+        /* When */
+
+        Number actual = sut.evaluateNumber(storage);
+
+        /* Then */
+
+        assertEquals(expected, actual.doubleValue(), 0.00001);
+    }
+
+    @Test
+    void onlyTracesSampledEvaluations() {
+
+        /* Given */
+
+        Equation sut = Equation.parse("2*(1+[hallo])").get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("hallo", 4);
+
+        TracePolicy tracePolicy = TracePolicy.sampled(2);
+
+        /* When */
+
+        Result traced = sut.evaluate(storage, tracePolicy);
+        Result notTraced = sut.evaluate(storage, tracePolicy);
+
+        /* Then */
+
+        assertEquals(sut.evaluate(storage).toDisplayString(), traced.toDisplayString());
+        assertEquals("10.0=10.0", notTraced.toDisplayString());
+        assertInstanceOf(ValueResult.class, notTraced);
+        assertEquals(10, notTraced.asDouble(), 0.00001);
+    }
+
     @Test
     void printsComplexResult() {
 
@@ -480,7 +561,7 @@ class EquationTest {
         CustomParsingOptions customParsingOptionsSpy = spy(CustomParsingOptions.withDefaults());
 
         Throwable throwable = new NullPointerException("Test");
-        doThrow(throwable).when(customParsingOptionsSpy).getRegisteredParsers();
+        doThrow(throwable).when(customParsingOptionsSpy).getParsersFor(any());
 
         /* When */
 
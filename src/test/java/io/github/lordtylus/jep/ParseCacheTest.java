@@ -0,0 +1,208 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.options.ParsingOptions.ErrorBehavior;
+import io.github.lordtylus.jep.parsers.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParseCacheTest {
+
+    @Test
+    void returnsCachedResult() {
+
+        /* Given */
+
+        ParseCache sut = new ParseCache(10);
+
+        EquationOptional first = sut.parse("2*[x]+1");
+
+        /* When */
+
+        EquationOptional actual = sut.parse("2*[x]+1");
+
+        /* Then */
+
+        assertSame(first, actual);
+        assertEquals(1, sut.getHitCount());
+        assertEquals(1, sut.getMissCount());
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void parsesSameAsEquation() {
+
+        /* Given */
+
+        ParseCache sut = new ParseCache(10);
+
+        /* When */
+
+        Equation actual = sut.parse("(7+3)*(6-3)+216/3^3").get();
+
+        /* Then */
+
+        assertEquals(Equation.parse("(7+3)*(6-3)+216/3^3").get(), actual);
+    }
+
+    @Test
+    void optionsAreComparedByIdentity() {
+
+        /* Given */
+
+        ParseCache sut = new ParseCache(10);
+
+        CustomParsingOptions first = CustomParsingOptions.withDefaults();
+        CustomParsingOptions second = CustomParsingOptions.withDefaults();
+
+        EquationOptional expected = sut.parse("1+2", first);
+
+        /* When */
+
+        EquationOptional actualFirst = sut.parse("1+2", first);
+        EquationOptional actualSecond = sut.parse("1+2", second);
+
+        /* Then */
+
+        assertSame(expected, actualFirst);
+        assertNotSame(expected, actualSecond);
+        assertEquals(2, sut.getMissCount());
+        assertEquals(1, sut.getHitCount());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+
+        /* Given */
+
+        ParseCache sut = new ParseCache(1);
+
+        EquationOptional first = sut.parse("1+1");
+        sut.parse("1+2");
+
+        /* When */
+
+        EquationOptional actual = sut.parse("1+1");
+
+        /* Then */
+
+        assertNotSame(first, actual);
+        assertEquals(2, sut.getEvictionCount());
+        assertEquals(1, sut.size());
+    }
+
+    @Test
+    void neverExceedsMaximumSize() {
+
+        /* Given */
+
+        ParseCache sut = new ParseCache(100);
+
+        /* When */
+
+        IntStream.range(0, 10_000).parallel()
+                .forEach(i -> sut.parse(i + "+[x]"));
+
+        /* Then */
+
+        assertTrue(sut.size() <= 100);
+        assertEquals(10_000, sut.getMissCount());
+        assertEquals(10_000 - sut.size(), sut.getEvictionCount());
+    }
+
+    @Test
+    void cachesErrors() {
+
+        /* Given */
+
+        ParseCache sut = new ParseCache(10);
+
+        /* When */
+
+        EquationOptional first = sut.parse("(1+2");
+        EquationOptional actual = sut.parse("(1+2");
+
+        /* Then */
+
+        assertTrue(actual.hasError());
+        assertSame(first, actual);
+    }
+
+    @Test
+    void doesNotCacheExceptions() {
+
+        /* Given */
+
+        ParseCache sut = new ParseCache(10);
+
+        CustomParsingOptions options = CustomParsingOptions.withDefaults();
+        options.setErrorBehavior(ErrorBehavior.EXCEPTION);
+
+        /* When */
+
+        Executable actual = () -> sut.parse("(1+2", options);
+
+        /* Then */
+
+        assertThrows(ParseException.class, actual);
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void canBeCleared() {
+
+        /* Given */
+
+        ParseCache sut = new ParseCache(10);
+
+        sut.parse("1+2");
+
+        /* When */
+
+        sut.clear();
+
+        /* Then */
+
+        assertEquals(0, sut.size());
+        assertEquals(10, sut.getMaximumSize());
+    }
+
+    @Test
+    void rejectsInvalidSize() {
+
+        /* Given */
+
+        int size = 0;
+
+        /* When */
+
+        Executable actual = () -> new ParseCache(size);
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+}
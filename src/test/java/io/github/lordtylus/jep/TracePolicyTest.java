@@ -0,0 +1,98 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TracePolicyTest {
+
+    @Test
+    void alwaysTraces() {
+
+        /* Given */
+
+        TracePolicy sut = TracePolicy.always();
+
+        /* When */
+
+        boolean actual = sut.shouldTrace();
+
+        /* Then */
+
+        assertTrue(actual);
+    }
+
+    @Test
+    void neverTraces() {
+
+        /* Given */
+
+        TracePolicy sut = TracePolicy.never();
+
+        /* When */
+
+        boolean actual = sut.shouldTrace();
+
+        /* Then */
+
+        assertFalse(actual);
+    }
+
+    @Test
+    void tracesEveryNthEvaluation() {
+
+        /* Given */
+
+        TracePolicy sut = TracePolicy.sampled(3);
+
+        /* When */
+
+        boolean[] actual = new boolean[7];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = sut.shouldTrace();
+
+        /* Then */
+
+        assertTrue(actual[0]);
+        assertFalse(actual[1]);
+        assertFalse(actual[2]);
+        assertTrue(actual[3]);
+        assertFalse(actual[4]);
+        assertFalse(actual[5]);
+        assertTrue(actual[6]);
+    }
+
+    @Test
+    void throwsOnInvalidSamplingRate() {
+
+        /* Given */
+
+        int every = 0;
+
+        /* When */
+
+        Executable actual = () -> TracePolicy.sampled(every);
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+}
@@ -0,0 +1,360 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.batch;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchEvaluatorTest {
+
+    private static final int ROWS = 2500;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1",
+            "[x]",
+            "[x]+[y]",
+            "[x]-[y]*[z]",
+            "([x]-[y])*([z]/[x])",
+            "[x]^2+[y]^0.5-3/[z]",
+            "2-[x]",
+            "2^[x]",
+            "(7+3)*(6-3)+216/3^3+[x]",
+            "abs([x]-[y])+sqrt([z])+floor([x]/7)+ceil([y]/3)",
+            "sin([x])+cos([y])+tan([z])+exp([x]/1000)+log([z])+log10([z])+round([y]/3)",
+            "asin([x]/10000)+acos([y]/10000)+atan([z])+sinh([x]/1000)+cosh([y]/1000)+tanh([z])",
+            "cbrt([x])+rad([y])+deg([z])",
+            "(([x]+([y]-([z]*([x]/([y]+1))))))",
+    })
+    void matchesRowByRowEvaluation(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        double[] x = new double[ROWS];
+        double[] y = new double[ROWS];
+        double[] z = new double[ROWS];
+
+        for (int i = 0; i < ROWS; i++) {
+            x[i] = i;
+            y[i] = ROWS - i;
+            z[i] = i % 17 + 1;
+        }
+
+        Map<String, double[]> columns = Map.of("x", x, "y", y, "z", z);
+
+        double[] actual = new double[ROWS];
+
+        /* When */
+
+        equation.evaluateBatch(columns, actual);
+
+        /* Then */
+
+        for (int i = 0; i < ROWS; i++) {
+
+            int row = i;
+            double expected = equation.evaluateDouble(variable -> columns.get(variable)[row]);
+
+            assertEquals(expected, actual[i], 0.00001);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "if([x]>[y];[x]*2;[y]-1)",
+            "if([z]>5;1;if([x]<100;[y];3))*2",
+            "if([x]<1000000;[x];[y])",
+            "if([x]>1000000;[x];[y])",
+            "if([x]/[x];1;2)",
+            "min([x];[y];[z])+max([x]/3;[z]^2;7)",
+            "min([x]/[x];1)+max(2;[y])",
+            "clamp([x];[z];[y])",
+            "clamp([x]*2;[z]+1;sqrt([y]+1))",
+            "clamp([x];[y]-[z];0)",
+            "if([x]>[y];min([x];5);clamp([y];0;[z]))",
+    })
+    void matchesRowByRowEvaluationOfConditions(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        double[] x = new double[ROWS];
+        double[] y = new double[ROWS];
+        double[] z = new double[ROWS];
+
+        for (int i = 0; i < ROWS; i++) {
+            x[i] = i;
+            y[i] = ROWS - i;
+            z[i] = i % 17 + 1;
+        }
+
+        Map<String, double[]> columns = Map.of("x", x, "y", y, "z", z);
+
+        double[] actual = new double[ROWS];
+
+        /* When */
+
+        equation.evaluateBatch(columns, actual);
+
+        /* Then */
+
+        for (int i = 0; i < ROWS; i++) {
+
+            int row = i;
+            double expected = equation.evaluateDouble(variable -> columns.get(variable)[row]);
+
+            assertEquals(expected, actual[i], 0.00001);
+        }
+    }
+
+    @Test
+    void onlyEvaluatesBranchOfConditionIfAllRowsTakeIt() {
+
+        /* Given */
+
+        AtomicInteger calls = new AtomicInteger();
+
+        MathFunction counted = new MathFunction("counted", a -> {
+            calls.incrementAndGet();
+            return a;
+        });
+
+        Equation equation = new Condition(
+                new Operation(new Variable("x"), new Constant(0), ComparisonOperators.GREATER),
+                new Variable("x"),
+                new Parenthesis(counted, new Variable("x")));
+
+        double[] x = {1, 2, 3};
+        double[] actual = new double[3];
+
+        /* When */
+
+        BatchEvaluator.evaluate(equation, Map.of("x", x), actual);
+
+        /* Then */
+
+        assertArrayEquals(x, actual);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void evaluatesRange() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]*2").get();
+
+        double[] x = {1, 2, 3, 4, 5};
+        double[] actual = new double[5];
+
+        /* When */
+
+        BatchEvaluator.evaluate(equation, variable -> x, actual, 1, 3);
+
+        /* Then */
+
+        assertEquals(0, actual[0]);
+        assertEquals(4, actual[1]);
+        assertEquals(6, actual[2]);
+        assertEquals(0, actual[3]);
+    }
+
+    @Test
+    void evaluatesBoundEquations() {
+
+        /* Given */
+
+        Equation equation = EquationBinder.bind(Equation.parse("[x]-[y]").get());
+
+        double[] actual = new double[3];
+
+        /* When */
+
+        equation.evaluateBatch(Map.of("x", new double[]{5, 6, 7}, "y", new double[]{1, 2, 3}), actual);
+
+        /* Then */
+
+        assertEquals(4, actual[0]);
+        assertEquals(4, actual[1]);
+        assertEquals(4, actual[2]);
+    }
+
+    @Test
+    void callsCustomOperatorsAndFunctions() {
+
+        /* Given */
+
+        Operator modulo = new Operator(2, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+        MathFunction twice = new MathFunction("twice", a -> a.doubleValue() * 2);
+
+        List<Operator> operators = List.of(StandardOperators.ADD, modulo);
+        List<MathFunction> functions = List.of(twice);
+
+        Equation equation = Equation.parse("twice([x]%3)+1", CustomParsingOptions.defaultWith(functions, operators)).get();
+
+        double[] actual = new double[4];
+
+        /* When */
+
+        equation.evaluateBatch(variable -> new double[]{3, 4, 5, 6}, actual);
+
+        /* Then */
+
+        assertEquals(1, actual[0]);
+        assertEquals(3, actual[1]);
+        assertEquals(5, actual[2]);
+        assertEquals(1, actual[3]);
+    }
+
+    @Test
+    void evaluatesCustomEquationsRowByRow() {
+
+        /* Given */
+
+        Equation custom = new Equation() {
+
+            @Override
+            public Result evaluate(Storage storage) {
+                return new Constant(storage.evaluate("x").doubleValue() * 10).evaluate(storage);
+            }
+
+            @Override
+            public String toPattern(Locale locale, VariablePattern variablePattern) {
+                return "custom";
+            }
+        };
+
+        Equation equation = new Operation(custom, new Constant(1), StandardOperators.ADD);
+
+        double[] actual = new double[3];
+
+        /* When */
+
+        equation.evaluateBatch(Map.of("x", new double[]{1, 2, 3}), actual);
+
+        /* Then */
+
+        assertEquals(11, actual[0]);
+        assertEquals(21, actual[1]);
+        assertEquals(31, actual[2]);
+    }
+
+    @Test
+    void rejectsMissingColumn() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]+[y]").get();
+
+        Map<String, double[]> columns = Map.of("x", new double[2]);
+
+        /* When */
+
+        Executable actual = () -> equation.evaluateBatch(columns, new double[2]);
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+
+    @Test
+    void rejectsShortColumn() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]+1").get();
+
+        Map<String, double[]> columns = Map.of("x", new double[2]);
+
+        /* When */
+
+        Executable actual = () -> equation.evaluateBatch(columns, new double[3]);
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+
+    @Test
+    void rejectsInvalidRange() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("1").get();
+
+        /* When */
+
+        Executable actual = () -> BatchEvaluator.evaluate(equation, variable -> null, new double[3], 2, 4);
+
+        /* Then */
+
+        assertThrows(IndexOutOfBoundsException.class, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"decimal", "integer"})
+    void evaluatesExactConstants(String mode) {
+
+        /* Given */
+
+        CustomParsingOptions options = "decimal".equals(mode)
+                ? CustomParsingOptions.decimal()
+                : CustomParsingOptions.integer();
+
+        Equation equation = Equation.parse("[x]*3+5", options).get();
+
+        double[] actual = new double[3];
+
+        /* When */
+
+        equation.evaluateBatch(Map.of("x", new double[]{1, 2, 3}), actual);
+
+        /* Then */
+
+        assertEquals(8, actual[0]);
+        assertEquals(11, actual[1]);
+        assertEquals(14, actual[2]);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.batch;
+
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScalarBackendTest {
+
+    @Test
+    void appliesOperatorToColumn() {
+
+        /* Given */
+
+        double[] target = {1, 2, 3};
+        double[] source = {0, 4, 5, 6};
+
+        /* When */
+
+        boolean actual = ScalarBackend.INSTANCE.applyOperator(StandardOperators.SUB, target, source, 1, 2);
+
+        /* Then */
+
+        assertTrue(actual);
+        assertArrayEquals(new double[]{-3, -3, 3}, target);
+    }
+
+    @Test
+    void appliesCustomOperatorToValue() {
+
+        /* Given */
+
+        Operator modulo = new Operator(2, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+
+        double[] target = {4, 5, 6};
+
+        /* When */
+
+        boolean actual = ScalarBackend.INSTANCE.applyOperator(modulo, target, 4, 3);
+
+        /* Then */
+
+        assertTrue(actual);
+        assertArrayEquals(new double[]{0, 1, 2}, target);
+    }
+
+    @Test
+    void appliesStandardAndCustomFunctions() {
+
+        /* Given */
+
+        MathFunction twice = new MathFunction("twice", a -> a.doubleValue() * 2);
+
+        double[] target = {-4, 9, 16};
+
+        /* When */
+
+        boolean actualStandard = ScalarBackend.INSTANCE.applyFunction(StandardFunctions.ABS, target, 2);
+        boolean actualCustom = ScalarBackend.INSTANCE.applyFunction(twice, target, 3);
+
+        /* Then */
+
+        assertTrue(actualStandard);
+        assertTrue(actualCustom);
+        assertArrayEquals(new double[]{8, 18, 32}, target);
+    }
+
+    @Test
+    void keepsSmallerOrLargerValue() {
+
+        /* Given */
+
+        double[] target = {1, 5, Double.NaN, 3};
+        double[] source = {0, 4, 2, 2, 7};
+
+        /* When */
+
+        boolean actualMin = ScalarBackend.INSTANCE.applyExtremum(Extremum.Kind.MIN, target, source, 1, 4);
+        boolean actualMax = ScalarBackend.INSTANCE.applyExtremum(Extremum.Kind.MAX, target, 3, 4);
+
+        /* Then */
+
+        assertTrue(actualMin);
+        assertTrue(actualMax);
+        assertArrayEquals(new double[]{3, 3, Double.NaN, 3}, target);
+    }
+
+    @Test
+    void choosesBranchOfEachRow() {
+
+        /* Given */
+
+        double[] target = {1, 0, Double.NaN, -2};
+        double[] whenTrue = {10, 20, 30, 40};
+        double[] whenFalse = {-10, -20, -30, -40};
+
+        /* When */
+
+        boolean actual = ScalarBackend.INSTANCE.applyCondition(target, whenTrue, whenFalse, 4);
+
+        /* Then */
+
+        assertTrue(actual);
+        assertArrayEquals(new double[]{10, -20, -30, 40}, target);
+    }
+}
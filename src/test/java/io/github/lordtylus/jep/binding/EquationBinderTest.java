@@ -0,0 +1,220 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.binding;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EquationBinderTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "[a]+[b]*[c];7",
+            "[c]-[b]/[a];1",
+            "sqrt([c]^2)+[a];4",
+            "([a]+[a])*([b]-[c]);-2",
+            "2*3+[c];9",
+    }, delimiter = ';')
+    void boundEquationMatchesInterpreter(String input, double expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        SimpleStorage simpleStorage = new SimpleStorage();
+        simpleStorage.putValue("a", 1);
+        simpleStorage.putValue("b", 2);
+        simpleStorage.putValue("c", 3);
+
+        BoundEquation sut = EquationBinder.bind(equation);
+
+        IndexedStorage storage = sut.newStorage();
+        for (String variable : sut.getLayout().getVariables())
+            storage.putValue(variable, simpleStorage.evaluate(variable).doubleValue());
+
+        /* When */
+
+        double actual = sut.evaluateDouble(storage);
+        double actualResult = sut.evaluate(storage).asDouble();
+        double actualSimple = sut.evaluateDouble(simpleStorage);
+
+        /* Then */
+
+        assertEquals(expected, actual, 0.00001);
+        assertEquals(expected, actualResult, 0.00001);
+        assertEquals(expected, actualSimple, 0.00001);
+        assertEquals(equation.evaluateDouble(simpleStorage), actual, 0.00001);
+    }
+
+    @Test
+    void variablesAreOrderedByFirstAppearance() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[b]*[a]+[b]-[c]").get();
+
+        /* When */
+
+        BoundEquation actual = EquationBinder.bind(equation);
+
+        /* Then */
+
+        assertEquals(List.of("b", "a", "c"), actual.getLayout().getVariables());
+    }
+
+    @Test
+    void replacesVariablesWithSlots() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]-[y]").get();
+
+        /* When */
+
+        BoundEquation actual = EquationBinder.bind(equation);
+
+        /* Then */
+
+        Operation operation = (Operation) actual.getEquation();
+        BoundVariable left = (BoundVariable) operation.left();
+        BoundVariable right = (BoundVariable) operation.right();
+
+        assertEquals(0, left.slot());
+        assertEquals(1, right.slot());
+        assertSame(actual.getLayout(), left.layout());
+    }
+
+    @Test
+    void canEvaluateArrayDirectly() {
+
+        /* Given */
+
+        BoundEquation sut = EquationBinder.bind(Equation.parse("[x]^2+[y]").get());
+
+        /* When */
+
+        double actual = sut.evaluateDouble(new double[]{3, 1});
+
+        /* Then */
+
+        assertEquals(10, actual, 0.00001);
+    }
+
+    @Test
+    void canShareLayout() {
+
+        /* Given */
+
+        SlotLayout layout = SlotLayout.of("x", "y", "z");
+
+        BoundEquation first = EquationBinder.bind(Equation.parse("[z]-[x]").get(), layout);
+        BoundEquation second = EquationBinder.bind(Equation.parse("[y]*2").get(), layout);
+
+        IndexedStorage storage = new IndexedStorage(layout, new double[]{1, 2, 3});
+
+        /* When */
+
+        double actualFirst = first.evaluateDouble(storage);
+        double actualSecond = second.evaluateDouble(storage);
+
+        /* Then */
+
+        assertEquals(2, actualFirst, 0.00001);
+        assertEquals(4, actualSecond, 0.00001);
+    }
+
+    @Test
+    void rejectsVariableMissingInLayout() {
+
+        /* Given */
+
+        SlotLayout layout = SlotLayout.of("x");
+        Equation equation = Equation.parse("[x]+[y]").get();
+
+        /* When */
+
+        Executable actual = () -> EquationBinder.bind(equation, layout);
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+
+    @Test
+    void bindingBoundEquationKeepsLayout() {
+
+        /* Given */
+
+        BoundEquation boundEquation = EquationBinder.bind(Equation.parse("[x]+[y]").get());
+
+        /* When */
+
+        BoundEquation actual = EquationBinder.bind(boundEquation);
+
+        /* Then */
+
+        assertSame(boundEquation, actual);
+    }
+
+    @Test
+    void keepsPattern() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("sqrt([x]+2)*[y]").get();
+
+        /* When */
+
+        BoundEquation actual = EquationBinder.bind(equation);
+
+        /* Then */
+
+        assertEquals(equation.toPattern(Locale.ENGLISH), actual.toPattern(Locale.ENGLISH));
+    }
+
+    @Test
+    void bindsVariablesInsideConditions() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("if([c]>0;max([a];1);clamp([b];0;1))", CustomParsingOptions.conditional()).get();
+
+        /* When */
+
+        BoundEquation actual = EquationBinder.bind(equation);
+
+        /* Then */
+
+        assertEquals(List.of("c", "a", "b"), actual.getLayout().getVariables());
+        assertEquals(3, actual.evaluateDouble(new double[]{1, 3, 5}), 0.00001);
+        assertEquals(1, actual.evaluateDouble(new double[]{0, 3, 5}), 0.00001);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.binding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SlotLayoutTest {
+
+    @Test
+    void assignsSlotsInGivenOrder() {
+
+        /* Given */
+
+        SlotLayout sut = SlotLayout.of("b", "a", "c");
+
+        /* When */
+
+        int actualA = sut.slotOf("a");
+        int actualB = sut.slotOf("b");
+        int actualC = sut.slotOf("c");
+
+        /* Then */
+
+        assertEquals(1, actualA);
+        assertEquals(0, actualB);
+        assertEquals(2, actualC);
+        assertEquals(3, sut.size());
+        assertEquals(List.of("b", "a", "c"), sut.getVariables());
+    }
+
+    @Test
+    void unknownVariableHasNoIndex() {
+
+        /* Given */
+
+        SlotLayout sut = SlotLayout.of(List.of("a", "b"));
+
+        /* When */
+
+        int actual = sut.indexOf("x");
+
+        /* Then */
+
+        assertEquals(-1, actual);
+    }
+
+    @Test
+    void unknownVariableHasNoSlot() {
+
+        /* Given */
+
+        SlotLayout sut = SlotLayout.of("a", "b");
+
+        /* When */
+
+        Executable actual = () -> sut.slotOf("x");
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+
+    @Test
+    void rejectsDuplicateVariables() {
+
+        /* Given */
+
+        List<String> variables = List.of("a", "b", "a");
+
+        /* When */
+
+        Executable actual = () -> SlotLayout.of(variables);
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+}
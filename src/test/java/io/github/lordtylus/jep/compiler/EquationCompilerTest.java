@@ -0,0 +1,397 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.compiler;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EquationCompilerTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1",
+            "0",
+            "-1",
+            "123.456",
+            "[x]+1",
+            "[x]*[y]-[x]/[y]",
+            "2^[x]",
+            "1+2*3-4/2^2",
+            "(2+((1+2)^2+(4+[x])^2)+(2*2))+5",
+            "(7+3)*(6-3)+216/3^3",
+            "(-3)+abs(7.3+3)*sin(6+([x]-2))+216/3^3",
+            "asin(0.5)+sinh([y])+cos([x])+acos(0.5)+cosh(1)+tan(1)+atan(1)+tanh(1)",
+            "exp(2)+log([y])+ln(3)+log10(1000)+floor(2.5)+round(2.5)+ceil(2.5)+sqrt(16)+cbrt(27)+rad(180)+deg(2)"
+    })
+    void compiledEquationMatchesInterpreter(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 3.5);
+        storage.putValue("y", 1.25);
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        double expected = equation.evaluateDouble(storage);
+
+        assertEquals(expected, sut.evaluate(storage), 0.0000001);
+    }
+
+    @Test
+    void variablesAreOrderedByFirstAppearance() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[b]*[a]+[b]-[c]").get();
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(List.of("b", "a", "c"), sut.getVariables());
+        assertEquals(2 * 3 + 2 - 4, sut.apply(new double[]{2, 3, 4}), 0.0000001);
+    }
+
+    @Test
+    void callsCustomOperatorsAndFunctions() {
+
+        /* Given */
+
+        Operator modulo = new Operator(1, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+        MathFunction half = new MathFunction("half", a -> a.doubleValue() / 2);
+
+        CustomParsingOptions options = CustomParsingOptions.defaultWith(
+                List.of(half), List.of(StandardOperators.ADD, modulo));
+
+        Equation equation = Equation.parse("half([x]%4)+7%3", options).get();
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(2.5, sut.apply(new double[]{11}), 0.0000001);
+    }
+
+    @Test
+    void definesHiddenClass() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("1+[x]").get();
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertSame(equation, sut.getEquation());
+        assertTrue(sut.getFunction().getClass().isHidden());
+    }
+
+    @Test
+    void compilesLargeEquations() {
+
+        /* Given */
+
+        StringBuilder sb = new StringBuilder("0");
+
+        for (int i = 1; i <= 500; i++)
+            sb.append("+").append(i).append("*[x]");
+
+        Equation equation = Equation.parse(sb.toString()).get();
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(125250, sut.apply(new double[]{1}), 0.0000001);
+    }
+
+    @Test
+    void rejectsCustomEquations() {
+
+        /* Given */
+
+        Equation custom = new Equation() {
+
+            @Override
+            public Result evaluate(Storage storage) {
+                return new Constant(1).evaluate(storage);
+            }
+
+            @Override
+            public String toPattern(Locale locale, VariablePattern variablePattern) {
+                return "1";
+            }
+        };
+
+        Equation equation = new Operation(new Constant(1), custom, StandardOperators.ADD);
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class, () -> EquationCompiler.compile(equation));
+    }
+
+
+    @Test
+    void keepsLayoutOfBoundEquation() {
+
+        /* Given */
+
+        SlotLayout layout = SlotLayout.of("z", "y", "x");
+        BoundEquation boundEquation = EquationBinder.bind(Equation.parse("[x]-[z]").get(), layout);
+
+        IndexedStorage storage = boundEquation.newStorage();
+        storage.putValue("x", 5);
+        storage.putValue("z", 2);
+
+        /* When */
+
+        CompiledEquation actual = EquationCompiler.compile(boundEquation);
+
+        /* Then */
+
+        assertSame(layout, actual.getLayout());
+        assertEquals(3, actual.apply(storage.getValues()), 0.00001);
+        assertEquals(3, actual.evaluate(storage), 0.00001);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "[x]*3+0.5|decimal",
+            "0.1+0.2-[y]|decimal",
+            "[x]*4-7|integer",
+            "9007199254740993-[y]|integer",
+    }, delimiter = '|')
+    void compilesExactConstants(String input, String mode) {
+
+        /* Given */
+
+        CustomParsingOptions options = "decimal".equals(mode)
+                ? CustomParsingOptions.decimal()
+                : CustomParsingOptions.integer();
+
+        Equation equation = Equation.parse(input, options).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 3.5);
+        storage.putValue("y", 1.25);
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(equation.evaluateDouble(storage), sut.evaluate(storage), 0.0000001);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if([x]>0;[y]*2;[y]-1)",
+            "if([x]<0;1;2)",
+            "2+if([x]<0;1;if([y]>1;3;4))*5",
+            "if([x]-3.5;1;2)",
+            "sin(if([x]>[y];[x];[y]))^2",
+            "min([x];[y];2)+max([x];-1)",
+            "clamp([x]*10;0;[y])",
+            "clamp([x];5;1)",
+            "if([x]=3.5;min(1;if([y]>0;2;3));clamp(1;2;3))",
+    })
+    void compilesConditions(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 3.5);
+        storage.putValue("y", 1.25);
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(equation.evaluateDouble(storage), sut.evaluate(storage), 0.0000001);
+    }
+
+    @Test
+    void onlyRunsTakenBranch() {
+
+        /* Given */
+
+        AtomicInteger calls = new AtomicInteger();
+
+        MathFunction counted = new MathFunction("counted", a -> {
+            calls.incrementAndGet();
+            return a;
+        });
+
+        Equation equation = new Condition(new Variable("x"), new Parenthesis(counted, new Variable("y")), new Constant(0));
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(0, sut.apply(new double[]{0, 2}));
+        assertEquals(0, calls.get());
+
+        assertEquals(2, sut.apply(new double[]{1, 2}));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void conditionIsFalseForNaN() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("if([x];1;2)", CustomParsingOptions.conditional()).get();
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(1, sut.apply(new double[]{-3}));
+        assertEquals(2, sut.apply(new double[]{0}));
+        assertEquals(2, sut.apply(new double[]{Double.NaN}));
+    }
+
+    @Test
+    void compilesConditionsInsideCustomOperatorsAndFunctions() {
+
+        /* Given */
+
+        Operator modulo = new Operator(1, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+        MathFunction half = new MathFunction("half", a -> a.doubleValue() / 2);
+
+        Equation condition = new Condition(
+                new Operation(new Variable("x"), new Constant(2), ComparisonOperators.GREATER),
+                new Variable("x"),
+                new Constant(7));
+
+        Equation equation = new Operation(new Parenthesis(half, condition), condition, modulo);
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(5.5, sut.apply(new double[]{11}), 0.0000001);
+        assertEquals(3.5, sut.apply(new double[]{1}), 0.0000001);
+    }
+
+    @Test
+    void clampIsNaNIfAnyArgumentIsNaN() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("clamp([x];[y];[z])", CustomParsingOptions.conditional()).get();
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(2, sut.apply(new double[]{5, 2, 1}));
+        assertEquals(Double.NaN, sut.apply(new double[]{Double.NaN, 0, 10}));
+        assertEquals(Double.NaN, sut.apply(new double[]{5, Double.NaN, 10}));
+        assertEquals(Double.NaN, sut.apply(new double[]{5, 0, Double.NaN}));
+    }
+
+    @Test
+    void evaluatesClampValueBeforeBounds() {
+
+        /* Given */
+
+        List<String> calls = new ArrayList<>();
+
+        Equation equation = new Clamp(
+                new Parenthesis(new MathFunction("value", a -> {
+                    calls.add("value");
+                    return a;
+                }), new Variable("x")),
+                new Parenthesis(new MathFunction("lower", a -> {
+                    calls.add("lower");
+                    return a;
+                }), new Constant(0)),
+                new Parenthesis(new MathFunction("upper", a -> {
+                    calls.add("upper");
+                    return a;
+                }), new Constant(10)));
+
+        /* When */
+
+        CompiledEquation sut = EquationCompiler.compile(equation);
+
+        /* Then */
+
+        assertEquals(10, sut.apply(new double[]{15}));
+        assertEquals(List.of("value", "lower", "upper"), calls);
+    }
+}
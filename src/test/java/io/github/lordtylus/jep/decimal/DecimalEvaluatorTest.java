@@ -0,0 +1,254 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.decimal;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.parsers.ConstantParser;
+import io.github.lordtylus.jep.parsers.DecimalConstantParser;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalEvaluatorTest {
+
+    private static final DecimalEvaluator SUT = DecimalEvaluator.of(MathContext.DECIMAL128);
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "0.1+0.2;0.3",
+            "1.10*3;3.30",
+            "100-99.99;0.01",
+            "1/8;0.125",
+            "2^10;1024",
+            "2^(-2);0.25",
+            "1.5^2;2.25",
+            "abs(-2.5);2.5",
+            "floor(-2.5);-3",
+            "ceil(-2.5);-2",
+            "round(2.5);3",
+            "round(-2.5);-2",
+            "sqrt(2.25);1.5",
+            "(0.1+0.2)*10;3.0",
+    }, delimiter = ';')
+    void evaluatesExactly(String input, String expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.decimal()).get();
+
+        /* When */
+
+        BigDecimal actual = SUT.evaluate(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), actual.toPlainString());
+    }
+
+    @Test
+    void keepsConstantsExact() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("0.1", CustomParsingOptions.decimal()).get();
+
+        /* When / Then */
+
+        DecimalConstant constant = assertInstanceOf(DecimalConstant.class, equation);
+
+        assertEquals(new BigDecimal("0.1"), constant.value());
+        assertEquals("0.1", equation.toPattern(Locale.ENGLISH));
+    }
+
+    @Test
+    void roundsDivisionToMathContext() {
+
+        /* Given */
+
+        DecimalEvaluator sut = DecimalEvaluator.of(new MathContext(5, RoundingMode.HALF_EVEN));
+
+        Equation equation = Equation.parse("2/3", CustomParsingOptions.decimal()).get();
+
+        /* When */
+
+        BigDecimal actual = sut.evaluate(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals(new BigDecimal("0.66667"), actual);
+    }
+
+    @Test
+    void convertsVariablesAndDoubleConstants() {
+
+        /* Given */
+
+        Equation equation = EquationBinder.bind(Equation.parse("[price]*[amount]+[fee]").get());
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("price", new BigDecimal("19.99"));
+        storage.putValue("amount", 3);
+        storage.putValue("fee", 0.1);
+
+        /* When */
+
+        BigDecimal actual = SUT.evaluate(equation, storage);
+
+        /* Then */
+
+        assertEquals(0, new BigDecimal("60.07").compareTo(actual));
+    }
+
+    @Test
+    void usesDoublePrecisionForTranscendentalFunctions() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("sin(1)+log(2)", CustomParsingOptions.decimal()).get();
+
+        /* When */
+
+        BigDecimal actual = SUT.evaluate(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals(Math.sin(1) + Math.log(2), actual.doubleValue(), 0.0000000001);
+    }
+
+    @Test
+    void supportsCustomOperatorsAndFunctions() {
+
+        /* Given */
+
+        Operator modulo = new Operator(1, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+        MathFunction half = new MathFunction("half", a -> a.doubleValue() / 2);
+
+        CustomParsingOptions options = CustomParsingOptions.defaultWith(
+                List.of(half), List.of(StandardOperators.ADD, modulo));
+
+        Equation equation = Equation.parse("half(7.5%2)+0.1", options).get();
+
+        DecimalEvaluator sut = SUT
+                .withOperator(modulo, (left, right, mathContext) -> left.remainder(right, mathContext))
+                .withFunction(half, (value, mathContext) -> value.divide(BigDecimal.valueOf(2), mathContext));
+
+        /* When */
+
+        BigDecimal actual = sut.evaluate(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals(0, new BigDecimal("0.85").compareTo(actual));
+    }
+
+    @Test
+    void rejectsOperatorsWithoutDecimalImplementation() {
+
+        /* Given */
+
+        Operator modulo = new Operator(1, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+
+        Equation equation = new Operation(new Constant(7), new Constant(3), modulo);
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class, () -> SUT.evaluate(equation, EmptyStorage.INSTANCE));
+    }
+
+    @Test
+    void throwsOnDivisionByZero() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("1/0", CustomParsingOptions.decimal()).get();
+
+        /* When / Then */
+
+        assertThrows(ArithmeticException.class, () -> SUT.evaluate(equation, EmptyStorage.INSTANCE));
+    }
+
+    @Test
+    void doubleEvaluationStillWorks() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("0.5*[x]", CustomParsingOptions.decimal()).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 3);
+
+        /* When */
+
+        double actual = equation.evaluateDouble(storage);
+
+        /* Then */
+
+        assertEquals(1.5, actual, 0.00001);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if([x]>0;0.1+0.2;0)|0.3",
+            "if([x]<0;0;0.1+0.2)|0.3",
+            "if([x]=1;1.10*3;0)|3.30",
+            "([x]<2)*0.1|0.1",
+            "min(0.3;0.1+0.2;0.7)|0.3",
+            "max(0.1;0.1+0.2)|0.3",
+            "clamp(0.1+0.2;0;0.25)|0.25",
+            "clamp(0.1+0.2;0.4;1)|0.4",
+    }, delimiter = '|')
+    void evaluatesConditionsExactly(String input, String expected) {
+
+        /* Given */
+
+        CustomParsingOptions options = CustomParsingOptions.conditional();
+        options.unregister(ConstantParser.INSTANCE);
+        options.register(DecimalConstantParser.INSTANCE);
+
+        Equation equation = Equation.parse(input, options).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 1);
+
+        /* When */
+
+        BigDecimal actual = SUT.evaluate(equation, storage);
+
+        /* Then */
+
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), actual.toPlainString());
+    }
+}
@@ -0,0 +1,225 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.derivative;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EquationDeriverTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "[x]^2;2*[x]",
+            "[x]*[y];[y]",
+            "sin([x]);cos([x])",
+            "3*[x]+[y];3",
+            "[y]*3;0",
+            "ln([x]);1/[x]",
+            "exp(2*[x]);exp(2*[x])*2",
+    }, delimiter = ';')
+    void createsSimplifiedDerivatives(String input, String expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        /* When */
+
+        Equation actual = EquationDeriver.derive(equation, "x");
+
+        /* Then */
+
+        assertEquals(expected, actual.toPattern(Locale.ENGLISH));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[x]+[y]", "[x]-[y]", "[y]-[x]", "[x]*[y]", "[x]/[y]", "[y]/[x]", "[x]^[y]", "[y]^[x]", "[x]^3", "[x]^(-2)", "2^[x]", "[x]^[x]",
+            "abs([x]-[y])", "sin([x])*cos([y])", "cos([x]*[y])", "tan([x])", "asin([x]/2)", "acos([x]/2)", "atan([x]*[y])",
+            "sinh([x])", "cosh([x])", "tanh([x]*[y])", "exp([x])/[y]", "ln([x]*[y])", "log10([x])", "log([x]+[y])",
+            "sqrt([x]*[y])", "cbrt([x]+[y])", "rad([x])", "deg([x])", "floor([x])*[x]",
+            "(([x]+1)*([y]-2))/([x]^2+[y]^2)", "sin([x]^2)*exp(0-[x])+sqrt([x]+[y])", "[x]-([y]-[x])", "2^3^[x]", "[x]/([x]/[y])",
+    })
+    void matchesGradient(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 0.7);
+        storage.putValue("y", 1.3);
+
+        double expected = GradientEvaluator.standard().gradient(equation, storage, "x").partial("x");
+
+        /* When */
+
+        Equation actual = EquationDeriver.derive(equation, "x");
+
+        /* Then */
+
+        assertEquals(expected, actual.evaluateDouble(storage), 1e-9, input);
+
+        /* Constants like ln(2) are rounded when written as pattern. */
+        assertEquals(expected, Equation.parse(actual.toPattern(Locale.ENGLISH)).get().evaluateDouble(storage), 1e-4, input);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if([x]>0;[y]*[x]^2;[y]-[x])|if([x]>0;[y]*(2*[x]);(-1))",
+            "if([y]>0;[x];[y])|if([y]>0;1;0)",
+            "([x]>1)*[x]^2|([x]>1)*(2*[x])",
+            "min([x];3)|if(3<[x];0;1)",
+            "max([x];[y];1)|if(1>max([x];[y]);0;if([y]>[x];0;1))",
+            "clamp([x];0;[y])|if(min([x];[y])>0;if([x]>[y];0;1);0)",
+            "clamp([y];0;1)|0",
+    }, delimiter = '|')
+    void createsPiecewiseDerivatives(String input, String expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        /* When */
+
+        Equation actual = EquationDeriver.derive(equation, "x");
+
+        /* Then */
+
+        assertEquals(expected, actual.toPattern(Locale.ENGLISH));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "if([x]>0;[y]*[x]^2;[y]-[x])", "if([x]<0;[x];sin([x]*[y]))", "([x]>1)*[x]^2+([y]=[x])",
+            "min([x]*[y];[y]^2;2*[x])", "max([x];[y];1)*[x]", "clamp([x]*[y];0;[y]^2)", "clamp([x];5;1)+clamp([y];0;1)",
+    })
+    void matchesGradientOfConditions(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 0.7);
+        storage.putValue("y", 1.3);
+
+        double expected = GradientEvaluator.standard().gradient(equation, storage, "x").partial("x");
+
+        /* When */
+
+        Equation actual = EquationDeriver.derive(equation, "x");
+
+        /* Then */
+
+        assertEquals(expected, actual.evaluateDouble(storage), 1e-9, input);
+        assertEquals(expected, Equation.parse(actual.toPattern(Locale.ENGLISH), CustomParsingOptions.conditional()).get().evaluateDouble(storage), 1e-9, input);
+    }
+
+    @Test
+    void derivesBoundEquationsToSameLayout() {
+
+        /* Given */
+
+        BoundEquation equation = EquationBinder.bind(Equation.parse("[x]^2*[y]").get());
+
+        IndexedStorage storage = equation.newStorage();
+        storage.putValue("x", 3);
+        storage.putValue("y", 2);
+
+        /* When */
+
+        Equation actual = equation.derivative("x");
+
+        /* Then */
+
+        BoundEquation bound = assertInstanceOf(BoundEquation.class, actual);
+        assertSame(equation.getLayout(), bound.getLayout());
+        assertEquals(12, bound.evaluateDouble(storage));
+    }
+
+    @Test
+    void solvesWithNewtonMethod() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]^3-2*[x]-5").get();
+        Equation derivative = equation.derivative("x");
+
+        SimpleStorage storage = new SimpleStorage();
+        double x = 2;
+
+        /* When */
+
+        for (int i = 0; i < 10; i++) {
+            storage.putValue("x", x);
+            x -= equation.evaluateDouble(storage) / derivative.evaluateDouble(storage);
+        }
+
+        /* Then */
+
+        assertEquals(2.0945514815423265, x, 1e-12);
+    }
+
+    @Test
+    void rejectsFunctionsWithoutDerivative() {
+
+        /* Given */
+
+        MathFunction square = new MathFunction("sq", a -> a.doubleValue() * a.doubleValue());
+
+        Equation equation = new Parenthesis(square, new Variable("x"));
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class, () -> EquationDeriver.derive(equation, "x"));
+    }
+
+    @Test
+    void rejectsOperatorsWithoutDerivative() {
+
+        /* Given */
+
+        Operator modulo = new Operator(1, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+
+        Equation equation = new Operation(new Variable("x"), new Constant(3), modulo);
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class, () -> EquationDeriver.derive(equation, "x"));
+    }
+}
@@ -0,0 +1,287 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.derivative;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GradientEvaluatorTest {
+
+    private static final GradientEvaluator SUT = GradientEvaluator.standard();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[x]+[y]", "[x]-[y]", "[x]*[y]", "[x]/[y]", "[x]^[y]", "[x]^3", "2^[x]",
+            "abs([x]-[y])", "sin([x])*cos([y])", "tan([x])", "asin([x]/2)", "acos([x]/2)", "atan([x]*[y])",
+            "sinh([x])", "cosh([y])", "tanh([x]*[y])", "exp([x])/[y]", "ln([x]*[y])", "log10([x])", "log([y])",
+            "sqrt([x]*[y])", "cbrt([x]+[y])", "rad([x])", "deg([y])",
+            "(([x]+1)*([y]-2))/([x]^2+[y]^2)", "sin([x]^2)*exp(0-[y])+sqrt([x]+[y])",
+            "[x]*([y]-([x]/([y]+[x]*[y])))", "([x]*[y]+[x])*([y]-[x]^2)-[x]/[y]",
+    })
+    void matchesFiniteDifferences(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        double x = 0.7;
+        double y = 1.3;
+
+        /* When */
+
+        Gradient actual = SUT.gradient(equation, storage(x, y), "x", "y");
+
+        /* Then */
+
+        assertEquals(equation.evaluateDouble(storage(x, y)), actual.value(), 1e-12);
+        assertEquals(finiteDifference(equation, x, y, 1e-6, 0), actual.partial("x"), 1e-5, input);
+        assertEquals(finiteDifference(equation, x, y, 0, 1e-6), actual.partial("y"), 1e-5, input);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "if([x]>0;[y]*[x]^2;[y]-[x])", "if([x]<0;[x];sin([x]*[y]))", "([x]>1)*[x]^2+([y]=[x])",
+            "min([x]*[y];[y]^2;2*[x])", "max([x];[y];1)*[x]", "clamp([x]*[y];0;[y]^2)", "clamp([x];5;1)+clamp([y];0;1)",
+    })
+    void matchesFiniteDifferencesOfConditions(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        double x = 0.7;
+        double y = 1.3;
+
+        /* When */
+
+        Gradient actual = SUT.gradient(equation, storage(x, y), "x", "y");
+
+        /* Then */
+
+        assertEquals(equation.evaluateDouble(storage(x, y)), actual.value(), 1e-12);
+        assertEquals(finiteDifference(equation, x, y, 1e-6, 0), actual.partial("x"), 1e-5, input);
+        assertEquals(finiteDifference(equation, x, y, 0, 1e-6), actual.partial("y"), 1e-5, input);
+    }
+
+    @Test
+    void derivesLongChainsOfOperations() {
+
+        /* Given */
+
+        String input = "[x]" + "+[x]*[y]".repeat(500);
+
+        Equation equation = Equation.parse(input).get();
+
+        /* When */
+
+        Gradient actual = SUT.gradient(equation, storage(2, 3), "x", "y");
+
+        /* Then */
+
+        assertEquals(3002, actual.value(), 1e-9);
+        assertEquals(1501, actual.partial("x"), 1e-9);
+        assertEquals(1000, actual.partial("y"), 1e-9);
+    }
+
+    @Test
+    void treatsOtherVariablesAsConstants() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]*[y]+[z]").get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 2);
+        storage.putValue("y", 3);
+        storage.putValue("z", 4);
+
+        /* When */
+
+        Gradient actual = SUT.gradient(equation, storage, "y");
+
+        /* Then */
+
+        assertEquals(10, actual.value());
+        assertEquals(List.of("y"), actual.variables());
+        assertArrayEquals(new double[]{2}, actual.partials());
+    }
+
+    @Test
+    void roundingFunctionsHaveNoSlope() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("floor([x])+round([x])+ceil([x])").get();
+
+        /* When */
+
+        Gradient actual = SUT.gradient(equation, storage(1.4, 0), "x");
+
+        /* Then */
+
+        assertEquals(4, actual.value());
+        assertEquals(0, actual.partial("x"));
+    }
+
+    @Test
+    void ignoresUndefinedSlopesOfConstantParts() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]*(0^0.5)+(0-8)^[y]").get();
+
+        /* When */
+
+        Gradient actual = SUT.gradient(equation, storage(2, 2), "x", "y");
+
+        /* Then */
+
+        assertEquals(64, actual.value());
+        assertEquals(0, actual.partial("x"));
+        assertEquals(0, actual.partial("y"));
+    }
+
+    @Test
+    void usesSlotsOfBoundEquations() {
+
+        /* Given */
+
+        BoundEquation equation = EquationBinder.bind(Equation.parse("[x]^2*[y]").get());
+
+        IndexedStorage storage = equation.newStorage();
+        storage.putValue("x", 3);
+        storage.putValue("y", 2);
+
+        double[] partials = new double[2];
+
+        /* When */
+
+        double actual = SUT.evaluate(equation, storage, equation.getLayout(), partials);
+
+        /* Then */
+
+        assertEquals(18, actual);
+        assertEquals(12, partials[equation.getLayout().slotOf("x")]);
+        assertEquals(9, partials[equation.getLayout().slotOf("y")]);
+    }
+
+    @Test
+    void supportsCustomOperatorsAndFunctions() {
+
+        /* Given */
+
+        Operator hypot = new Operator(2, '#', (a, b) -> Math.hypot(a.doubleValue(), b.doubleValue()));
+        MathFunction square = new MathFunction("sq", a -> a.doubleValue() * a.doubleValue());
+
+        CustomParsingOptions options = CustomParsingOptions.defaultWith(
+                List.of(square), List.of(StandardOperators.ADD, hypot));
+
+        Equation equation = Equation.parse("sq([x])+[x]#[y]", options).get();
+
+        GradientEvaluator sut = SUT
+                .withOperator(hypot, (a, b) -> a / Math.hypot(a, b), (a, b) -> b / Math.hypot(a, b))
+                .withFunction(square, a -> 2 * a);
+
+        /* When */
+
+        Gradient actual = sut.gradient(equation, storage(3, 4), "x", "y");
+
+        /* Then */
+
+        assertEquals(14, actual.value());
+        assertEquals(6.6, actual.partial("x"), 1e-12);
+        assertEquals(0.8, actual.partial("y"), 1e-12);
+    }
+
+    @Test
+    void rejectsFunctionsWithoutDerivative() {
+
+        /* Given */
+
+        MathFunction square = new MathFunction("sq", a -> a.doubleValue() * a.doubleValue());
+
+        Equation equation = new Parenthesis(square, new Constant(2));
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class, () -> SUT.gradient(equation, EmptyStorage.INSTANCE));
+    }
+
+    @Test
+    void rejectsOperatorsWithoutDerivative() {
+
+        /* Given */
+
+        Operator modulo = new Operator(1, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+
+        Equation equation = new Operation(new Constant(7), new Constant(3), modulo);
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class, () -> SUT.gradient(equation, EmptyStorage.INSTANCE));
+    }
+
+    @Test
+    void rejectsTooShortArrays() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]*[y]").get();
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SUT.evaluate(equation, storage(1, 2), SlotLayout.of("x", "y"), new double[1]));
+    }
+
+    private static SimpleStorage storage(double x, double y) {
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", x);
+        storage.putValue("y", y);
+
+        return storage;
+    }
+
+    private static double finiteDifference(Equation equation, double x, double y, double dx, double dy) {
+
+        double plus = equation.evaluateDouble(storage(x + dx, y + dy));
+        double minus = equation.evaluateDouble(storage(x - dx, y - dy));
+
+        return (plus - minus) / (2 * Math.max(dx, dy));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.parsers.variables.StandardVariablePatterns;
+import io.github.lordtylus.jep.storages.IndexedStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoundVariableTest {
+
+    @Test
+    void readsSlotOfIndexedStorage() {
+
+        /* Given */
+
+        SlotLayout layout = SlotLayout.of("a", "b");
+        IndexedStorage storage = new IndexedStorage(layout, new double[]{1, 2});
+
+        BoundVariable sut = new BoundVariable("b", 1, layout);
+
+        /* When */
+
+        double actual = sut.evaluateDouble(storage);
+        Variable.VariableResult actualResult = sut.evaluate(storage);
+
+        /* Then */
+
+        assertEquals(2, actual, 0.00001);
+        assertEquals("b", actualResult.name());
+        assertEquals(2, actualResult.asDouble(), 0.00001);
+    }
+
+    @Test
+    void resolvesByNameWithOtherLayout() {
+
+        /* Given */
+
+        SlotLayout layout = SlotLayout.of("a", "b");
+        IndexedStorage storage = new IndexedStorage(SlotLayout.of("b", "a"), new double[]{1, 2});
+
+        BoundVariable sut = new BoundVariable("b", 1, layout);
+
+        /* When */
+
+        double actual = sut.evaluateDouble(storage);
+
+        /* Then */
+
+        assertEquals(1, actual, 0.00001);
+    }
+
+    @Test
+    void resolvesByNameWithOtherStorage() {
+
+        /* Given */
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("b", 5);
+
+        BoundVariable sut = new BoundVariable("b", 1, SlotLayout.of("a", "b"));
+
+        /* When */
+
+        double actual = sut.evaluateDouble(storage);
+        double actualResult = sut.evaluate(storage).asDouble();
+
+        /* Then */
+
+        assertEquals(5, actual, 0.00001);
+        assertEquals(5, actualResult, 0.00001);
+    }
+
+    @Test
+    void canOutputPattern() {
+
+        /* Given */
+
+        BoundVariable sut = new BoundVariable("Test 123", 0, SlotLayout.of("Test 123"));
+
+        /* When */
+
+        String actual = sut.toPattern(Locale.ENGLISH, StandardVariablePatterns.BRACES);
+
+        /* Then */
+
+        assertEquals("{Test 123}", actual);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.DoubleStorage;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClampTest {
+
+    @Test
+    void canOutputPattern() {
+
+        /* Given */
+
+        Clamp sut = new Clamp(new Variable("x"), new Constant(0), new Constant(2.5));
+
+        /* When */
+
+        String actual = sut.toPattern(Locale.GERMAN);
+
+        /* Then */
+
+        assertEquals("clamp([x];0;2,5)", actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "5, 0, 10, 5",
+            "-5, 0, 10, 0",
+            "15, 0, 10, 10",
+            "5, 8, 2, 8",
+            "NaN, 0, 10, NaN",
+            "5, NaN, 10, NaN",
+            "5, 0, NaN, NaN",
+            "15, NaN, 10, NaN",
+            "-5, 0, NaN, NaN",
+    })
+    void limitsValueToRange(double value, double lower, double upper, double expected) {
+
+        /* Given */
+
+        Clamp sut = new Clamp(new Constant(value), new Constant(lower), new Constant(upper));
+
+        /* When / Then */
+
+        assertEquals(expected, sut.evaluateDouble(EmptyStorage.INSTANCE));
+        assertEquals(expected, sut.evaluateNumber(EmptyStorage.INSTANCE).doubleValue());
+        assertEquals(expected, sut.evaluate(EmptyStorage.INSTANCE).asDouble());
+    }
+
+    @Test
+    void printsAllArguments() {
+
+        /* Given */
+
+        Clamp sut = new Clamp(new Constant(15), new Constant(0), new Constant(10));
+
+        /* When */
+
+        Result actual = sut.evaluate(EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals("clamp(15.0;0.0;10.0)=10.0", actual.toString());
+    }
+
+    @Test
+    void evaluatesValueBeforeBounds() {
+
+        /* Given */
+
+        List<String> reads = new ArrayList<>();
+
+        DoubleStorage storage = variable -> {
+            reads.add(variable);
+            return 1;
+        };
+
+        Clamp sut = new Clamp(new Variable("v"), new Variable("l"), new Variable("u"));
+
+        /* When */
+
+        sut.evaluateDouble(storage);
+        sut.evaluateNumber(storage);
+        sut.evaluate(storage);
+
+        /* Then */
+
+        assertEquals(List.of("v", "l", "u", "v", "l", "u", "v", "l", "u"), reads);
+    }
+}
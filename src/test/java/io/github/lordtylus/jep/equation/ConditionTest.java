@@ -0,0 +1,128 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionTest {
+
+    /* Fails the test if the branch which is not taken is evaluated. */
+    private static final Storage STORAGE = variable -> {
+
+        if (variable.equals("unused"))
+            throw new AssertionError("Branch which is not taken was evaluated!");
+
+        return variable.equals("x") ? 2 : 10;
+    };
+
+    @Test
+    void canOutputPattern() {
+
+        /* Given */
+
+        Condition sut = new Condition(
+                new Operation(new Variable("x"), new Constant(0), ComparisonOperators.GREATER),
+                new Constant(1.5),
+                new Variable("y"));
+
+        /* When */
+
+        String actual = sut.toPattern(Locale.GERMAN);
+
+        /* Then */
+
+        assertEquals("if([x]>0;1,5;[y])", actual);
+    }
+
+    @Test
+    void evaluatesOnlyTakenBranch() {
+
+        /* Given */
+
+        Equation whenTrue = new Condition(
+                new Operation(new Variable("x"), new Constant(0), ComparisonOperators.GREATER),
+                new Variable("y"),
+                new Variable("unused"));
+
+        Equation whenFalse = new Condition(
+                new Operation(new Variable("x"), new Constant(0), ComparisonOperators.LESS),
+                new Variable("unused"),
+                new Variable("y"));
+
+        /* When / Then */
+
+        assertEquals(10, whenTrue.evaluateDouble(STORAGE));
+        assertEquals(10, whenTrue.evaluateNumber(STORAGE));
+        assertEquals(10, whenTrue.evaluate(STORAGE).asDouble());
+
+        assertEquals(10, whenFalse.evaluateDouble(STORAGE));
+        assertEquals(10, whenFalse.evaluateNumber(STORAGE));
+        assertEquals(10, whenFalse.evaluate(STORAGE).asDouble());
+    }
+
+    @Test
+    void treatsZeroAndNaNAsFalse() {
+
+        /* When / Then */
+
+        assertFalse(Condition.isTrue(0));
+        assertFalse(Condition.isTrue(-0.0));
+        assertFalse(Condition.isTrue(Double.NaN));
+        assertTrue(Condition.isTrue(1));
+        assertTrue(Condition.isTrue(-3));
+        assertTrue(Condition.isTrue(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void printsConditionAndTakenBranch() {
+
+        /* Given */
+
+        Condition sut = new Condition(
+                new Operation(new Variable("x"), new Constant(3), ComparisonOperators.EQUAL),
+                new Variable("unused"),
+                new Operation(new Variable("y"), new Constant(1), StandardOperators.ADD));
+
+        /* When */
+
+        Result actual = sut.evaluate(STORAGE);
+
+        /* Then */
+
+        Condition.ConditionResult result = assertInstanceOf(Condition.ConditionResult.class, actual);
+
+        assertFalse(result.taken());
+        assertEquals(11.0, result.asDouble());
+        assertEquals("(10+1.0)=11.0", actual.toString());
+
+        StringBuilder sb = new StringBuilder();
+        actual.print(sb);
+
+        assertTrue(sb.toString().startsWith("if ( 0.0 ) false = 11.0\n"), sb.toString());
+    }
+}
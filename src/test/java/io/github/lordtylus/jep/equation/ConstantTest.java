@@ -205,4 +205,20 @@ class ConstantTest {
 
         assertEquals("123.456789123456=123.456789123456", actual);
     }
+
+    @Test
+    void canEvaluatePrimitiveDouble() {
+
+        /* Given */
+
+        Constant sut = new Constant(123.456789123456);
+
+        /* When */
+
+        double actual = sut.evaluateDouble();
+
+        /* Then */
+
+        assertEquals(123.456789123456, actual, 0.00001);
+    }
 }
\ No newline at end of file
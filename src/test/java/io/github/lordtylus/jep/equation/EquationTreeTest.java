@@ -0,0 +1,165 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.binding.SlotLayout;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EquationTreeTest {
+
+    private static final Storage STORAGE = variable -> variable.equals("a") ? 2 : 3;
+
+    @Test
+    void returnsChildrenInEvaluationOrder() {
+
+        /* Given */
+
+        Equation a = new Variable("a");
+        Equation b = new Variable("b");
+        Equation c = new Constant(3);
+
+        /* When / Then */
+
+        assertEquals(List.of(a, b), EquationTree.childrenOf(new Operation(a, b, StandardOperators.ADD)));
+        assertEquals(List.of(a), EquationTree.childrenOf(new Parenthesis(StandardFunctions.SQRT, a)));
+        assertEquals(List.of(a, b, c), EquationTree.childrenOf(new Condition(a, b, c)));
+        assertEquals(List.of(a, b, c), EquationTree.childrenOf(new Extremum(Extremum.Kind.MIN, List.of(a, b, c))));
+        assertEquals(List.of(a, b, c), EquationTree.childrenOf(new Clamp(a, b, c)));
+        assertTrue(EquationTree.childrenOf(a).isEmpty());
+        assertTrue(EquationTree.childrenOf(c).isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[a]+2*[b]",
+            "sqrt([a])",
+            "if([a]>0;[b];[c])",
+            "min([a];[b];[c])",
+            "max([a];2)",
+            "clamp([a];[b];[c])",
+    })
+    void rebuildsEquationWithNewChildren(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        List<Equation> children = new ArrayList<>();
+
+        for (Equation child : EquationTree.childrenOf(equation))
+            children.add(new Parenthesis(StandardFunctions.NOP, child));
+
+        /* When */
+
+        Equation actual = EquationTree.withChildren(equation, children);
+
+        /* Then */
+
+        assertNotSame(equation, actual);
+        assertSame(equation.getClass(), actual.getClass());
+        assertEquals(children, EquationTree.childrenOf(actual));
+        assertEquals(equation.evaluateDouble(STORAGE), actual.evaluateDouble(STORAGE));
+    }
+
+    @Test
+    void keepsEquationIfChildrenAreTheSame() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("if([a]>0;min([b];1);clamp([c];0;1))", CustomParsingOptions.conditional()).get();
+
+        /* When */
+
+        Equation actual = EquationTree.withChildren(equation, new ArrayList<>(EquationTree.childrenOf(equation)));
+
+        /* Then */
+
+        assertSame(equation, actual);
+    }
+
+    @Test
+    void rebindsBoundEquations() {
+
+        /* Given */
+
+        SlotLayout layout = SlotLayout.of("b", "a");
+        BoundEquation equation = EquationBinder.bind(Equation.parse("[a]+[b]").get(), layout);
+
+        /* When */
+
+        Equation actual = EquationTree.withChildren(equation, List.of(Equation.parse("[a]*[b]").get()));
+
+        /* Then */
+
+        BoundEquation boundEquation = assertInstanceOf(BoundEquation.class, actual);
+
+        assertSame(layout, boundEquation.getLayout());
+        assertEquals(6, boundEquation.evaluateDouble(new double[]{2, 3}));
+    }
+
+    @Test
+    void rejectsWrongNumberOfChildren() {
+
+        /* Given */
+
+        Equation equation = new Clamp(new Variable("a"), new Constant(0), new Constant(1));
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class, () -> EquationTree.withChildren(equation, List.of(new Variable("a"))));
+    }
+
+    @Test
+    void collectsVariablesInOrderOfAppearance() {
+
+        /* Given */
+
+        BoundEquation inner = EquationBinder.bind(Equation.parse("[c]*[a]").get());
+
+        Equation equation = new Condition(
+                new Variable("b"),
+                new Extremum(Extremum.Kind.MAX, List.of(new Variable("a"), inner)),
+                new Clamp(new Variable("d"), new Constant(0), new Variable("b")));
+
+        /* When */
+
+        Set<String> actual = EquationTree.variablesOf(equation);
+
+        /* Then */
+
+        assertEquals(List.of("b", "a", "c", "d"), new ArrayList<>(actual));
+    }
+}
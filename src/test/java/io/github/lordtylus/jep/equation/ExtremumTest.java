@@ -0,0 +1,125 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.equation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExtremumTest {
+
+    @Test
+    void canOutputPattern() {
+
+        /* Given */
+
+        Extremum sut = new Extremum(Extremum.Kind.MAX, List.of(new Constant(1.5), new Variable("x")));
+
+        /* When */
+
+        String actual = sut.toPattern(Locale.GERMAN);
+
+        /* Then */
+
+        assertEquals("max(1,5;[x])", actual);
+    }
+
+    @Test
+    void returnsSmallestAndLargestValue() {
+
+        /* Given */
+
+        List<Equation> arguments = List.of(new Constant(3), new Constant(-2), new Constant(7));
+
+        Extremum min = new Extremum(Extremum.Kind.MIN, arguments);
+        Extremum max = new Extremum(Extremum.Kind.MAX, arguments);
+
+        /* When / Then */
+
+        assertEquals(-2, min.evaluateDouble(EmptyStorage.INSTANCE));
+        assertEquals(-2.0, min.evaluateNumber(EmptyStorage.INSTANCE));
+        assertEquals(-2.0, min.evaluate(EmptyStorage.INSTANCE).asDouble());
+
+        assertEquals(7, max.evaluateDouble(EmptyStorage.INSTANCE));
+        assertEquals(7.0, max.evaluateNumber(EmptyStorage.INSTANCE));
+        assertEquals(7.0, max.evaluate(EmptyStorage.INSTANCE).asDouble());
+    }
+
+    @Test
+    void keepsTypeOfChosenNumber() {
+
+        /* Given */
+
+        Extremum sut = new Extremum(Extremum.Kind.MAX, List.of(new Variable("x"), new Constant(1)));
+
+        /* When */
+
+        Number actual = sut.evaluateNumber(variable -> 5L);
+
+        /* Then */
+
+        assertEquals(5L, actual);
+    }
+
+    @Test
+    void returnsNaNIfAnyValueIsNaN() {
+
+        /* Given */
+
+        Extremum sut = new Extremum(Extremum.Kind.MIN, List.of(new Constant(1), new Constant(Double.NaN), new Constant(0)));
+
+        /* When / Then */
+
+        assertEquals(Double.NaN, sut.evaluateDouble(EmptyStorage.INSTANCE));
+        assertEquals(Double.NaN, sut.evaluateNumber(EmptyStorage.INSTANCE).doubleValue());
+    }
+
+    @Test
+    void printsAllArguments() {
+
+        /* Given */
+
+        Extremum sut = new Extremum(Extremum.Kind.MIN, List.of(new Constant(3), new Constant(2)));
+
+        /* When */
+
+        Result actual = sut.evaluate(EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals("min(3.0;2.0)=2.0", actual.toString());
+
+        StringBuilder sb = new StringBuilder();
+        actual.print(sb);
+
+        assertEquals("min ( 3.0; 2.0 ) = 2.0\n  3.0 = 3.0\n  2.0 = 2.0\n", sb.toString());
+    }
+
+    @Test
+    void requiresArguments() {
+
+        /* When / Then */
+
+        assertThrows(IllegalArgumentException.class, () -> new Extremum(Extremum.Kind.MIN, List.of()));
+    }
+}
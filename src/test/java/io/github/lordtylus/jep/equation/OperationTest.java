@@ -253,4 +253,24 @@ class OperationTest {
 
         assertEquals("2.5*5.0=12.5", actual);
     }
+
+    @Test
+    void canEvaluatePrimitiveDouble() {
+
+        /* Given */
+
+        Constant left = new Constant(123.13);
+        Constant right = new Constant(111.23);
+        Operator operator = StandardOperators.ADD;
+
+        Operation sut = new Operation(left, right, operator);
+
+        /* When */
+
+        double actual = sut.evaluateDouble();
+
+        /* Then */
+
+        assertEquals(234.36, actual, 0.00001);
+    }
 }
\ No newline at end of file
@@ -242,4 +242,23 @@ class ParenthesisTest {
 
         assertEquals("sqrt(72.25)=8.5", actual);
     }
+
+    @Test
+    void canEvaluatePrimitiveDouble() {
+
+        /* Given */
+
+        Constant inner = new Constant(72.25);
+        MathFunction function = StandardFunctions.SQRT;
+
+        Parenthesis sut = new Parenthesis(function, inner);
+
+        /* When */
+
+        double actual = sut.evaluateDouble();
+
+        /* Then */
+
+        assertEquals(8.5, actual, 0.00001);
+    }
 }
\ No newline at end of file
@@ -312,4 +312,23 @@ class VariableTest {
 
         assertEquals("123.456789123456=123.456789123456", actual);
     }
+
+    @Test
+    void canEvaluatePrimitiveDouble() {
+
+        /* Given */
+
+        Variable sut = new Variable("Test 123");
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("Test 123", 123.456789123456);
+
+        /* When */
+
+        double actual = sut.evaluateDouble(storage);
+
+        /* Then */
+
+        assertEquals(123.456789123456, actual, 0.00001);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,282 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.evaluation;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StackEvaluatorTest {
+
+    private static final int DEPTH = 100_000;
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1+2*3",
+            "(1+2)*3",
+            "[a]+[b]*[c]",
+            "sqrt([a]^2+[b]^2)-[c]/[a]",
+            "(2-[a])^3-1",
+            "abs(sin([b])*cos([c]))+log([a]+1)",
+    }, delimiter = ';')
+    void matchesRecursiveEvaluation(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("a", 1);
+        storage.putValue("b", 2);
+        storage.putValue("c", 3);
+
+        /* When */
+
+        double actualDouble = StackEvaluator.evaluateDouble(equation, storage);
+        Number actualNumber = StackEvaluator.evaluateNumber(equation, storage);
+        Result actualResult = StackEvaluator.evaluate(equation, storage);
+
+        /* Then */
+
+        assertEquals(equation.evaluateDouble(storage), actualDouble, 0.00001);
+        assertEquals(equation.evaluateNumber(storage), actualNumber);
+        assertEquals(equation.evaluate(storage), actualResult);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if([a]>0;[b]*2;[c]-1)",
+            "2+if([a]<0;1;if([b]>1;3;4))*5",
+            "min([a];[b];[c])+max([a];2)",
+            "clamp([a]*[b];0;[c])",
+            "if([a]=1;min([b];[c]);clamp([a];[b];[c]))",
+    }, delimiter = '|')
+    void matchesRecursiveEvaluationOfConditions(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("a", 1);
+        storage.putValue("b", 2);
+        storage.putValue("c", 3);
+
+        /* When */
+
+        double actualDouble = StackEvaluator.evaluateDouble(equation, storage);
+        Number actualNumber = StackEvaluator.evaluateNumber(equation, storage);
+        Result actualResult = StackEvaluator.evaluate(equation, storage);
+
+        /* Then */
+
+        assertEquals(equation.evaluateDouble(storage), actualDouble, 0.00001);
+        assertEquals(equation.evaluateNumber(storage), actualNumber);
+        assertEquals(equation.evaluate(storage), actualResult);
+    }
+
+    @Test
+    void onlyEvaluatesTakenBranch() {
+
+        /* Given */
+
+        Storage storage = variable -> {
+
+            if (variable.equals("unused"))
+                throw new AssertionError("Branch which is not taken was evaluated!");
+
+            return 2;
+        };
+
+        Equation equation = new Condition(new Variable("x"), new Variable("x"), new Variable("unused"));
+
+        /* When */
+
+        double actualDouble = StackEvaluator.evaluateDouble(equation, storage);
+        Number actualNumber = StackEvaluator.evaluateNumber(equation, storage);
+        Result actualResult = StackEvaluator.evaluate(equation, storage);
+
+        /* Then */
+
+        assertEquals(2, actualDouble, 0.00001);
+        assertEquals(2, actualNumber.doubleValue(), 0.00001);
+
+        Condition.ConditionResult conditionResult = assertInstanceOf(Condition.ConditionResult.class, actualResult);
+
+        assertTrue(conditionResult.taken());
+        assertEquals(2, conditionResult.result().doubleValue(), 0.00001);
+    }
+
+    @Test
+    void evaluatesDeeplyNestedConditions() {
+
+        /* Given */
+
+        Equation equation = new Variable("x");
+
+        for (int i = 0; i < DEPTH; i++) {
+            equation = switch (i % 3) {
+                case 0 -> new Condition(new Variable("x"), equation, new Variable("unused"));
+                case 1 -> new Extremum(Extremum.Kind.MIN, List.of(new Constant(10), equation, new Constant(20)));
+                default -> new Clamp(equation, new Constant(0), new Constant(5));
+            };
+        }
+
+        Storage storage = variable -> {
+
+            if (variable.equals("unused"))
+                throw new AssertionError("Branch which is not taken was evaluated!");
+
+            return 3;
+        };
+
+        /* When */
+
+        double actualDouble = StackEvaluator.evaluateDouble(equation, storage);
+        Number actualNumber = StackEvaluator.evaluateNumber(equation, storage);
+        Result actualResult = StackEvaluator.evaluate(equation, storage);
+
+        /* Then */
+
+        assertEquals(3, actualDouble, 0.00001);
+        assertEquals(3, actualNumber.doubleValue(), 0.00001);
+        assertEquals(3, actualResult.result().doubleValue(), 0.00001);
+    }
+
+    @Test
+    void evaluatesBoundEquation() {
+
+        /* Given */
+
+        Equation equation = EquationBinder.bind(Equation.parse("[a]*[b]-[a]").get());
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("a", 3);
+        storage.putValue("b", 4);
+
+        /* When */
+
+        double actual = StackEvaluator.evaluateDouble(equation, storage);
+
+        /* Then */
+
+        assertEquals(9, actual, 0.00001);
+    }
+
+    @Test
+    void evaluatesDeeplyNestedParentheses() {
+
+        /* Given */
+
+        String input = "(".repeat(DEPTH) + "[x]+1" + ")".repeat(DEPTH);
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.precedenceClimbing()).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 2);
+
+        /* When */
+
+        double actualDouble = StackEvaluator.evaluateDouble(equation, storage);
+        Number actualNumber = StackEvaluator.evaluateNumber(equation, storage);
+
+        /* Then */
+
+        assertEquals(3, actualDouble, 0.00001);
+        assertEquals(3, actualNumber.doubleValue(), 0.00001);
+    }
+
+    @Test
+    void evaluatesLongSum() {
+
+        /* Given */
+
+        String input = "1" + "+1".repeat(DEPTH - 1);
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.precedenceClimbing()).get();
+
+        /* When */
+
+        double actualDouble = StackEvaluator.evaluateDouble(equation, EmptyStorage.INSTANCE);
+        Result actualResult = StackEvaluator.evaluate(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals(DEPTH, actualDouble, 0.00001);
+        assertEquals(DEPTH, actualResult.result().doubleValue(), 0.00001);
+    }
+
+    @Test
+    void evaluatesDeepRightLeaningTree() {
+
+        /* Given */
+
+        Equation equation = new Constant(0);
+
+        for (int i = 0; i < DEPTH; i++)
+            equation = new Operation(new Constant(2), new Parenthesis(StandardFunctions.NOP, equation), StandardOperators.SUB);
+
+        /* When */
+
+        double actual = StackEvaluator.evaluateDouble(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals(0, actual, 0.00001);
+    }
+
+    @Test
+    void keepsEvaluationOrderOfOperands() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("10-4/2", CustomParsingOptions.precedenceClimbing()).get();
+
+        /* When */
+
+        Result actual = StackEvaluator.evaluate(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        Operation.OperationResult operationResult = assertInstanceOf(Operation.OperationResult.class, actual);
+
+        assertEquals(10, operationResult.leftResult().result().doubleValue(), 0.00001);
+        assertEquals(2, operationResult.rightResult().result().doubleValue(), 0.00001);
+        assertEquals(8, operationResult.result().doubleValue(), 0.00001);
+    }
+}
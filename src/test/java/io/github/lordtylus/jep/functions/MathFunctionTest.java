@@ -17,7 +17,12 @@ package io.github.lordtylus.jep.functions;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class MathFunctionTest {
 
@@ -36,4 +41,78 @@ class MathFunctionTest {
 
         assertEquals(3, actual, 0.0001);
     }
-}
\ No newline at end of file
+
+    @Test
+    void evaluatesDouble() {
+
+        /* Given */
+
+        MathFunction sut = new MathFunction("sqrt", number -> Math.sqrt(number.doubleValue()));
+
+        /* When */
+
+        double actual = sut.evaluateDouble(9);
+
+        /* Then */
+
+        assertEquals(3, actual, 0.0001);
+    }
+
+    @Test
+    void evaluatesOfDouble() {
+
+        /* Given */
+
+        MathFunction sut = MathFunction.ofDouble("sqrt", Math::sqrt);
+
+        /* When */
+
+        double actual = sut.evaluate(9).doubleValue();
+        double actualDouble = sut.evaluateDouble(9);
+
+        /* Then */
+
+        assertEquals(3, actual, 0.0001);
+        assertEquals(3, actualDouble, 0.0001);
+        assertFalse(sut.isPure());
+    }
+
+    @Test
+    void nopKeepsNumberType() {
+
+        /* Given */
+
+        MathFunction sut = StandardFunctions.NOP;
+
+        /* When */
+
+        Number actual = sut.evaluate(7L);
+
+        /* Then */
+
+        assertEquals(7L, actual);
+    }
+
+    @Test
+    void functionsWithSameFunctionAreEqual() {
+
+        /* Given */
+
+        Function<Number, Number> function = number -> number.doubleValue() * 2;
+        DoubleUnaryOperator doubleFunction = Math::sqrt;
+
+        /* When */
+
+        MathFunction actual = new MathFunction("double", function);
+        MathFunction actualOfDouble = MathFunction.ofDouble("sqrt", doubleFunction);
+
+        /* Then */
+
+        assertEquals(new MathFunction("double", function), actual);
+        assertEquals(new MathFunction("double", function).hashCode(), actual.hashCode());
+        assertNotEquals(new MathFunction("double", number -> number.doubleValue() * 2), actual);
+
+        assertEquals(MathFunction.ofDouble("sqrt", doubleFunction), actualOfDouble);
+        assertEquals(MathFunction.ofDouble("sqrt", doubleFunction).hashCode(), actualOfDouble.hashCode());
+    }
+}
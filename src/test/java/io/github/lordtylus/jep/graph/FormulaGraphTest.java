@@ -0,0 +1,188 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.graph;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormulaGraphTest {
+
+    @Test
+    void evaluatesInDependencyOrder() {
+
+        /* Given */
+
+        Map<String, Equation> formulas = new LinkedHashMap<>();
+        formulas.put("ratio", Equation.parse("[margin]/[revenue]").get());
+        formulas.put("margin", Equation.parse("[revenue]-[cost]").get());
+        formulas.put("percent", Equation.parse("[ratio]*100").get());
+
+        SimpleStorage inputs = new SimpleStorage();
+        inputs.putValue("revenue", 200);
+        inputs.putValue("cost", 150);
+
+        FormulaGraph sut = FormulaGraph.of(formulas);
+
+        /* When */
+
+        Map<String, Double> actual = sut.evaluate(inputs);
+
+        /* Then */
+
+        assertEquals(List.of("margin", "ratio", "percent"), sut.getFormulas());
+        assertEquals(List.of("margin", "ratio", "percent"), List.copyOf(actual.keySet()));
+        assertEquals(50, actual.get("margin"), 0.00001);
+        assertEquals(0.25, actual.get("ratio"), 0.00001);
+        assertEquals(25, actual.get("percent"), 0.00001);
+    }
+
+    @Test
+    void findsDependenciesInsideConditions() {
+
+        /* Given */
+
+        Map<String, Equation> formulas = new LinkedHashMap<>();
+        formulas.put("bonus", Equation.parse("if([margin]>0;max([margin]*0.1;5);0)", CustomParsingOptions.conditional()).get());
+        formulas.put("margin", Equation.parse("[revenue]-[cost]").get());
+
+        SimpleStorage inputs = new SimpleStorage();
+        inputs.putValue("revenue", 200);
+        inputs.putValue("cost", 150);
+
+        FormulaGraph sut = FormulaGraph.of(formulas);
+
+        /* When */
+
+        Map<String, Double> actual = sut.evaluate(inputs);
+
+        /* Then */
+
+        assertEquals(List.of("margin", "bonus"), sut.getFormulas());
+        assertEquals(5, actual.get("bonus"), 0.00001);
+    }
+
+    @Test
+    void evaluatesSharedFormulasOnce() {
+
+        /* Given */
+
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<String, Equation> formulas = new LinkedHashMap<>();
+        formulas.put("shared", Equation.parse("[x]*2").get());
+        formulas.put("a", Equation.parse("[shared]+1").get());
+        formulas.put("b", Equation.parse("[shared]+2").get());
+        formulas.put("c", Equation.parse("[a]*[b]+[shared]").get());
+
+        FormulaGraph sut = FormulaGraph.of(formulas);
+
+        /* When */
+
+        Map<String, Double> actual = sut.evaluate(variable -> {
+            calls.incrementAndGet();
+            return 3;
+        });
+
+        /* Then */
+
+        assertEquals(6, actual.get("shared"), 0.00001);
+        assertEquals(62, actual.get("c"), 0.00001);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void evaluatesInParallel() {
+
+        /* Given */
+
+        Map<String, Equation> formulas = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++)
+            formulas.put("f" + i, Equation.parse("[x]*" + i).get());
+
+        StringBuilder sum = new StringBuilder("0");
+        for (int i = 0; i < 100; i++)
+            sum.append("+[f").append(i).append(']');
+
+        formulas.put("sum", Equation.parse(sum.toString()).get());
+
+        FormulaGraph sut = FormulaGraph.of(formulas);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        /* When */
+
+        Map<String, Double> actual = sut.evaluate(variable -> 2, pool);
+        Map<String, Double> expected = sut.evaluate(variable -> 2);
+
+        pool.shutdown();
+
+        /* Then */
+
+        assertEquals(expected, actual);
+        assertEquals(9900, actual.get("sum"), 0.00001);
+        assertEquals("sum", sut.getFormulas().get(100));
+    }
+
+    @Test
+    void throwsOnCycle() {
+
+        /* Given */
+
+        Map<String, Equation> formulas = new LinkedHashMap<>();
+        formulas.put("a", Equation.parse("[b]+1").get());
+        formulas.put("b", Equation.parse("[c]+1").get());
+        formulas.put("c", Equation.parse("[a]+1").get());
+        formulas.put("d", Equation.parse("[x]+1").get());
+
+        /* When */
+
+        Executable actual = () -> FormulaGraph.of(formulas);
+
+        /* Then */
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, actual);
+        assertTrue(exception.getMessage().contains("[a, b, c]"));
+    }
+
+    @Test
+    void throwsOnSelfReference() {
+
+        /* Given */
+
+        Map<String, Equation> formulas = Map.of("a", Equation.parse("[a]+1").get());
+
+        /* When */
+
+        Executable actual = () -> FormulaGraph.of(formulas);
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+}
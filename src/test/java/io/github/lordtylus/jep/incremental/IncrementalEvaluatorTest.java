@@ -0,0 +1,465 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.incremental;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.Storage;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.parsers.variables.VariablePattern;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IncrementalEvaluatorTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "[a]+[b]*[c]",
+            "sqrt([a]^2+[b]^2)-[c]/[a]",
+            "([a]+[a])*([b]-[c])+[a]",
+            "2*3+[c]",
+            "abs(sin([b])*cos([c]))+log([a]+1)",
+    }, delimiter = ';')
+    void matchesFullEvaluation(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("a", 1);
+        storage.putValue("b", 2);
+        storage.putValue("c", 3);
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, storage);
+
+        /* When */
+
+        double initial = sut.getValue();
+
+        storage.putValue("b", 5);
+        double afterB = sut.update("b", 5);
+
+        storage.putValue("a", -4);
+        double afterA = sut.update("a", -4);
+
+        /* Then */
+
+        storage.putValue("b", 2);
+        storage.putValue("a", 1);
+        assertEquals(equation.evaluateDouble(storage), initial, 0.00001);
+
+        storage.putValue("b", 5);
+        assertEquals(equation.evaluateDouble(storage), afterB, 0.00001);
+
+        storage.putValue("a", -4);
+        assertEquals(equation.evaluateDouble(storage), afterA, 0.00001);
+        assertEquals(afterA, sut.getValue(), 0.00001);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if([a]>0;[b]*2;[c]-1)",
+            "if([b]<3;sqrt([c]);[a])+[c]",
+            "min([a];[b];[c])*max([a];2)",
+            "clamp([a]*[b];0;[c])",
+            "if([a]=1;min([b];[c]);clamp([a];[b];[c]))",
+    })
+    void matchesFullEvaluationOfConditions(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("a", 1);
+        storage.putValue("b", 2);
+        storage.putValue("c", 3);
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, storage);
+
+        /* When */
+
+        double initial = sut.getValue();
+
+        storage.putValue("b", 5);
+        double afterB = sut.update("b", 5);
+
+        storage.putValue("a", -4);
+        double afterA = sut.update("a", -4);
+
+        storage.putValue("c", 7);
+        double afterC = sut.update("c", 7);
+
+        storage.putValue("a", 1);
+        double afterSecondA = sut.update("a", 1);
+
+        /* Then */
+
+        storage.putValue("b", 2);
+        storage.putValue("a", 1);
+        storage.putValue("c", 3);
+        assertEquals(equation.evaluateDouble(storage), initial, 0.00001);
+
+        storage.putValue("b", 5);
+        assertEquals(equation.evaluateDouble(storage), afterB, 0.00001);
+
+        storage.putValue("a", -4);
+        assertEquals(equation.evaluateDouble(storage), afterA, 0.00001);
+
+        storage.putValue("c", 7);
+        assertEquals(equation.evaluateDouble(storage), afterC, 0.00001);
+
+        storage.putValue("a", 1);
+        assertEquals(equation.evaluateDouble(storage), afterSecondA, 0.00001);
+    }
+
+    @Test
+    void onlyEvaluatesTakenBranch() {
+
+        /* Given */
+
+        AtomicInteger calls = new AtomicInteger();
+
+        MathFunction counted = new MathFunction("counted", a -> {
+            calls.incrementAndGet();
+            return a;
+        });
+
+        Equation equation = new Condition(
+                new Operation(new Variable("a"), new Constant(0), ComparisonOperators.GREATER),
+                new Parenthesis(counted, new Variable("b")),
+                new Variable("c"));
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("a", -1);
+        storage.putValue("b", 2);
+        storage.putValue("c", 3);
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, storage);
+
+        /* When */
+
+        double initial = sut.getValue();
+        int callsInitially = calls.get();
+
+        double afterB = sut.update("b", 4);
+        int callsAfterB = calls.get();
+
+        double whenTrue = sut.update("a", 1);
+        int callsWhenTrue = calls.get();
+
+        double afterC = sut.update("c", 5);
+        double whenFalse = sut.update("a", -1);
+
+        /* Then */
+
+        assertEquals(3, initial);
+        assertEquals(0, callsInitially);
+
+        assertEquals(3, afterB);
+        assertEquals(0, callsAfterB);
+
+        assertEquals(4, whenTrue);
+        assertEquals(1, callsWhenTrue);
+
+        assertEquals(4, afterC);
+        assertEquals(5, whenFalse);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void stopsReevaluatingCustomEquationsOfBranchNotTaken() {
+
+        /* Given */
+
+        AtomicInteger calls = new AtomicInteger();
+
+        Equation custom = new Equation() {
+
+            @Override
+            public Result evaluate(Storage storage) {
+                calls.incrementAndGet();
+                return new Variable("z").evaluate(storage);
+            }
+
+            @Override
+            public String toPattern(Locale locale, VariablePattern variablePattern) {
+                return "custom";
+            }
+        };
+
+        Equation equation = new Condition(new Variable("a"), custom, new Constant(0));
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, variable -> 1);
+
+        /* When */
+
+        sut.update("a", 0);
+        int callsAfterA = calls.get();
+
+        double afterZ = sut.update("z", 4);
+
+        /* Then */
+
+        assertEquals(1, callsAfterA);
+        assertEquals(0, afterZ);
+        assertEquals(1, calls.get());
+        assertEquals(4, sut.update("a", 1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void onlyRecalculatesChangedPath() {
+
+        /* Given */
+
+        AtomicInteger calls = new AtomicInteger();
+        Operator counting = Operator.ofDouble(0, '~', (a, b) -> {
+            calls.incrementAndGet();
+            return a + b;
+        });
+
+        Equation equation = Equation.parse("(([a]~[b])~([c]~[d]))~(([e]~[f])~([g]~[h]))",
+                CustomParsingOptions.defaultWith(counting)).get();
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, variable -> 1);
+
+        calls.set(0);
+
+        /* When */
+
+        double actual = sut.update("c", 10);
+
+        /* Then */
+
+        assertEquals(17, actual, 0.00001);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void stopsWhenValueDoesNotChange() {
+
+        /* Given */
+
+        AtomicInteger calls = new AtomicInteger();
+        Operator counting = Operator.ofDouble(0, '~', (a, b) -> {
+            calls.incrementAndGet();
+            return a + b;
+        });
+
+        Operator max = Operator.ofDouble(1, '#', Math::max);
+
+        Equation equation = Equation.parse("([a]#[b])~[c]",
+                CustomParsingOptions.defaultWith(counting, max)).get();
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, variable -> 5);
+
+        calls.set(0);
+
+        /* When */
+
+        double unchanged = sut.update("c", 5);
+        double smaller = sut.update("a", 2);
+
+        /* Then */
+
+        assertEquals(10, unchanged, 0.00001);
+        assertEquals(10, smaller, 0.00001);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void updatesEveryOccurrenceOfVariable() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]*[x]+[x]").get();
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, variable -> 2);
+
+        /* When */
+
+        double actual = sut.update("x", 3);
+
+        /* Then */
+
+        assertEquals(12, actual, 0.00001);
+    }
+
+    @Test
+    void supportsBoundEquations() {
+
+        /* Given */
+
+        Equation equation = EquationBinder.bind(Equation.parse("[x]-[y]").get());
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, variable -> 2);
+
+        /* When */
+
+        double actual = sut.update("y", 7);
+
+        /* Then */
+
+        assertEquals(-5, actual, 0.00001);
+        assertEquals(Set.of("x", "y"), sut.getVariables());
+    }
+
+    @Test
+    void reevaluatesCustomEquations() {
+
+        /* Given */
+
+        Equation custom = new Equation() {
+
+            @Override
+            public Result evaluate(Storage storage) {
+                return new Variable("z").evaluate(storage);
+            }
+
+            @Override
+            public String toPattern(Locale locale, VariablePattern variablePattern) {
+                return "custom";
+            }
+        };
+
+        Equation equation = new Operation(new Variable("x"), custom, StandardOperators.ADD);
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, variable -> 1);
+
+        /* When */
+
+        double actual = sut.update("z", 4);
+
+        /* Then */
+
+        assertEquals(5, actual, 0.00001);
+    }
+
+    @Test
+    void onlyReevaluatesCustomEquationsReadingChangedVariable() {
+
+        /* Given */
+
+        AtomicInteger calls = new AtomicInteger();
+
+        Equation custom = new Equation() {
+
+            @Override
+            public Result evaluate(Storage storage) {
+                calls.incrementAndGet();
+                return new Variable("z").evaluate(storage);
+            }
+
+            @Override
+            public String toPattern(Locale locale, VariablePattern variablePattern) {
+                return "custom";
+            }
+        };
+
+        Equation equation = new Operation(new Variable("x"), custom, StandardOperators.ADD);
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, variable -> 1);
+
+        calls.set(0);
+
+        /* When */
+
+        double afterX = sut.update("x", 3);
+        double afterZ = sut.update("z", 4);
+
+        /* Then */
+
+        assertEquals(4, afterX, 0.00001);
+        assertEquals(7, afterZ, 0.00001);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void keepsVariablesOutsideOfLayoutForCustomEquations() {
+
+        /* Given */
+
+        Equation custom = new Equation() {
+
+            @Override
+            public Result evaluate(Storage storage) {
+
+                if (storage.evaluateDouble("x") > 0)
+                    return new Variable("z").evaluate(storage);
+
+                return new Variable("x").evaluate(storage);
+            }
+
+            @Override
+            public String toPattern(Locale locale, VariablePattern variablePattern) {
+                return "custom";
+            }
+        };
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(custom, variable -> 0);
+
+        /* When */
+
+        sut.update("z", 4);
+        double actual = sut.update("x", 1);
+
+        /* Then */
+
+        assertEquals(List.of("x"), sut.getLayout().getVariables());
+        assertEquals(4, actual, 0.00001);
+    }
+
+    @Test
+    void updatesVariablesBySlot() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]*[y]+[x]").get();
+
+        IncrementalEvaluator sut = new IncrementalEvaluator(equation, variable -> 2);
+
+        int slot = sut.getLayout().slotOf("y");
+
+        /* When */
+
+        double actual = sut.update(slot, 5);
+
+        /* Then */
+
+        assertEquals(12, actual, 0.00001);
+    }
+}
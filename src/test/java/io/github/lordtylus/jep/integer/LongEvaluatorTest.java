@@ -0,0 +1,236 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.integer;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.parsers.ConstantParser;
+import io.github.lordtylus.jep.parsers.LongConstantParser;
+import io.github.lordtylus.jep.storages.EmptyStorage;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongEvaluatorTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1+2;3",
+            "9007199254740993+2;9007199254740995",
+            "9223372036854775806+1;9223372036854775807",
+            "3*(4-10);-18",
+            "12/4;3",
+            "2^62;4611686018427387904",
+            "(-3)^3;-27",
+            "abs(-5);5",
+            "floor(7/2);3",
+            "round(7/2)*2;8",
+            "1.0*4;4",
+    }, delimiter = ';')
+    void evaluatesAsLong(String input, long expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.integer()).get();
+
+        /* When */
+
+        long actual = LongEvaluator.evaluateLong(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "9223372036854775807+1",
+            "0-9223372036854775807-2",
+            "4294967296*4294967296",
+            "2^63",
+            "abs(0-9223372036854775807-1)",
+            "(0-9223372036854775807-1)/(0-1)",
+            "1/0",
+    })
+    void detectsOverflow(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.integer()).get();
+
+        /* When / Then */
+
+        assertThrows(ArithmeticException.class, () -> LongEvaluator.evaluate(equation, EmptyStorage.INSTANCE));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "7/2;3.5",
+            "2^(-1);0.5",
+            "1.5+1;2.5",
+            "sqrt(2)*0;0",
+            "(7/2)*2+1;8",
+    }, delimiter = ';')
+    void promotesToDoubleWhereNeeded(String input, double expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.integer()).get();
+
+        /* When */
+
+        Number actual = LongEvaluator.evaluate(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertInstanceOf(Double.class, actual);
+        assertEquals(expected, actual.doubleValue(), 0.00001);
+    }
+
+    @Test
+    void rejectsFractionalResultAsLong() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("7/2", CustomParsingOptions.integer()).get();
+
+        /* When / Then */
+
+        assertThrows(ArithmeticException.class, () -> LongEvaluator.evaluateLong(equation, EmptyStorage.INSTANCE));
+    }
+
+    @Test
+    void readsWholeVariablesAsLong() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[stock]-[sold]*[packs]", CustomParsingOptions.integer()).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("stock", 9007199254740993L);
+        storage.putValue("sold", 3);
+        storage.putValue("packs", 2.0);
+
+        /* When */
+
+        Number actual = LongEvaluator.evaluate(equation, storage);
+
+        /* Then */
+
+        assertEquals(9007199254740987L, actual);
+    }
+
+    @Test
+    void parsesWholeNumbersAsLong() {
+
+        /* When */
+
+        Equation actual = Equation.parse("9007199254740993", CustomParsingOptions.integer()).get();
+
+        /* Then */
+
+        assertEquals(new LongConstant(9007199254740993L), actual);
+    }
+
+    @Test
+    void evaluatesCustomFunctionsInDouble() {
+
+        /* Given */
+
+        MathFunction half = new MathFunction("half", a -> a.doubleValue() / 2);
+
+        CustomParsingOptions options = CustomParsingOptions.defaultWith(List.of(half), List.of(StandardOperators.ADD));
+
+        Equation equation = Equation.parse("half(3)+1", options).get();
+
+        /* When */
+
+        Number actual = LongEvaluator.evaluate(equation, EmptyStorage.INSTANCE);
+
+        /* Then */
+
+        assertEquals(2.5, actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if([x]>0;9007199254740993;0)|9007199254740993",
+            "if([x]>0.5;3;4)|3",
+            "([x]<2)*7|7",
+            "([x]=1)+([x]>1)|1",
+            "min(9007199254740993;9007199254740994)|9007199254740993",
+            "max(9007199254740993;9007199254740992)|9007199254740993",
+            "clamp(9007199254740995;0;9007199254740993)|9007199254740993",
+            "clamp(7/2;0;3)|3",
+    }, delimiter = '|')
+    void evaluatesConditionsAsLong(String input, long expected) {
+
+        /* Given */
+
+        CustomParsingOptions options = CustomParsingOptions.conditional();
+        options.unregister(ConstantParser.INSTANCE);
+        options.register(LongConstantParser.INSTANCE);
+        options.register(ConstantParser.INSTANCE);
+
+        Equation equation = Equation.parse(input, options).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 1);
+
+        /* When */
+
+        long actual = LongEvaluator.evaluateLong(equation, storage);
+
+        /* Then */
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "clamp([n];0;10)",
+            "clamp(5;[n];10)",
+            "clamp(5;0;[n])",
+    })
+    void clampIsNaNIfAnyArgumentIsNaN(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("n", Double.NaN);
+
+        /* When */
+
+        Number actual = LongEvaluator.evaluate(equation, storage);
+
+        /* Then */
+
+        assertEquals(Double.NaN, actual);
+    }
+}
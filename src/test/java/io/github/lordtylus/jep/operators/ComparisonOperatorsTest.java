@@ -0,0 +1,70 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.operators;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComparisonOperatorsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 2, 1, 0, 0",
+            "2, 1, 0, 1, 0",
+            "2, 2, 0, 0, 1",
+            "NaN, 2, 0, 0, 0",
+    })
+    void compares(double a, double b, double less, double greater, double equal) {
+
+        /* When / Then */
+
+        assertEquals(less, ComparisonOperators.LESS.evaluateDouble(a, b));
+        assertEquals(greater, ComparisonOperators.GREATER.evaluateDouble(a, b));
+        assertEquals(equal, ComparisonOperators.EQUAL.evaluateDouble(a, b));
+
+        assertEquals(less, ComparisonOperators.LESS.evaluate(a, b).doubleValue());
+        assertEquals(greater, ComparisonOperators.GREATER.evaluate(a, b).doubleValue());
+        assertEquals(equal, ComparisonOperators.EQUAL.evaluate(a, b).doubleValue());
+    }
+
+    @Test
+    void areSolvedAfterStandardOperators() {
+
+        /* When / Then */
+
+        for (Operator comparison : ComparisonOperators.all())
+            for (Operator standard : StandardOperators.all())
+                assertTrue(comparison.order() < standard.order());
+    }
+
+    @Test
+    void containsAllOperators() {
+
+        /* When */
+
+        List<Operator> actual = ComparisonOperators.all();
+
+        /* Then */
+
+        assertEquals(List.of(ComparisonOperators.LESS, ComparisonOperators.GREATER, ComparisonOperators.EQUAL), actual);
+    }
+}
@@ -17,7 +17,13 @@ package io.github.lordtylus.jep.operators;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class OperatorTest {
 
@@ -36,4 +42,96 @@ class OperatorTest {
 
         assertEquals(45.5, actual, 0.0001);
     }
-}
\ No newline at end of file
+
+    @Test
+    void evaluatesDouble() {
+
+        /* Given */
+
+        Operator sut = new Operator(1, '+', (a, b) -> a.doubleValue() + b.doubleValue());
+
+        /* When */
+
+        double actual = sut.evaluateDouble(20, 25.5);
+
+        /* Then */
+
+        assertEquals(45.5, actual, 0.0001);
+    }
+
+    @Test
+    void isNotPureByDefault() {
+
+        /* Given */
+
+        Operator sut = new Operator(1, '+', (a, b) -> a.doubleValue() + b.doubleValue());
+
+        /* When */
+
+        boolean actual = sut.pure();
+
+        /* Then */
+
+        assertFalse(actual);
+        assertTrue(StandardOperators.ADD.pure());
+    }
+
+    @Test
+    void evaluatesOfDouble() {
+
+        /* Given */
+
+        Operator sut = Operator.ofDouble(1, '%', (a, b) -> a % b);
+
+        /* When */
+
+        double actual = sut.evaluate(17, 5).doubleValue();
+        double actualDouble = sut.evaluateDouble(17, 5);
+
+        /* Then */
+
+        assertEquals(2, actual, 0.0001);
+        assertEquals(2, actualDouble, 0.0001);
+        assertFalse(sut.pure());
+    }
+
+    @Test
+    void evaluatesDoubleWithEvalFunction() {
+
+        /* Given */
+
+        Operator sut = new Operator(1, '+', (a, b) -> a.intValue() + b.intValue());
+
+        /* When */
+
+        double actual = sut.evaluateDouble(2.5, 3.5);
+
+        /* Then */
+
+        assertEquals(5, actual, 0.0001);
+    }
+
+    @Test
+    void operatorsWithSameFunctionAreEqual() {
+
+        /* Given */
+
+        BiFunction<Number, Number, Number> function = (a, b) -> a.doubleValue() + b.doubleValue();
+        DoubleBinaryOperator doubleFunction = (a, b) -> a % b;
+
+        /* When */
+
+        Operator actual = new Operator(1, '+', function);
+        Operator actualOfDouble = Operator.ofDouble(1, '%', doubleFunction, true);
+
+        /* Then */
+
+        assertEquals(new Operator(1, '+', function), actual);
+        assertEquals(new Operator(1, '+', function).hashCode(), actual.hashCode());
+        assertNotEquals(new Operator(1, '+', function, true), actual);
+        assertNotEquals(new Operator(1, '+', (a, b) -> a.doubleValue() + b.doubleValue()), actual);
+
+        assertEquals(Operator.ofDouble(1, '%', doubleFunction, true), actualOfDouble);
+        assertEquals(Operator.ofDouble(1, '%', doubleFunction, true).hashCode(), actualOfDouble.hashCode());
+    }
+}
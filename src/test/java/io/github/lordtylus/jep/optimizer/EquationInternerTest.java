@@ -0,0 +1,215 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.optimizer;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.BoundVariable;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EquationInternerTest {
+
+    @Test
+    void sharesEqualParts() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("sqrt([x]^2+[y]^2)*sqrt([x]^2+[y]^2)").get();
+
+        Operation parsed = (Operation) equation;
+        assertNotSame(parsed.left(), parsed.right());
+
+        EquationInterner sut = new EquationInterner();
+
+        /* When */
+
+        Operation actual = (Operation) sut.intern(equation);
+
+        /* Then */
+
+        assertSame(actual.left(), actual.right());
+        assertEquals(equation, actual);
+        assertEquals(equation.toPattern(Locale.ENGLISH), actual.toPattern(Locale.ENGLISH));
+    }
+
+    @Test
+    void sharesPartsOfConditions() {
+
+        /* Given */
+
+        Equation equation = Equation.parse(
+                "if([x]>0;min([x];2);clamp([x];0;2))*if([x]>0;min([x];2);clamp([x];0;2))",
+                CustomParsingOptions.conditional()).get();
+
+        EquationInterner sut = new EquationInterner();
+
+        /* When */
+
+        Operation actual = (Operation) sut.intern(equation);
+
+        /* Then */
+
+        assertSame(actual.left(), actual.right());
+        assertEquals(equation, actual);
+    }
+
+    @Test
+    void sharesArgumentsOfExtremumsAndClamps() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("max([x]^2;1)+clamp([x]^2;0;1)", CustomParsingOptions.conditional()).get();
+
+        EquationInterner sut = new EquationInterner();
+
+        /* When */
+
+        Operation actual = (Operation) sut.intern(equation);
+
+        /* Then */
+
+        Extremum extremum = assertInstanceOf(Extremum.class, actual.left());
+        Clamp clamp = assertInstanceOf(Clamp.class, actual.right());
+
+        assertSame(extremum.arguments().get(0), clamp.value());
+        assertSame(extremum.arguments().get(1), clamp.upper());
+    }
+
+    @Test
+    void sharesPartsBetweenEquations() {
+
+        /* Given */
+
+        Equation first = Equation.parse("sqrt([x]^2+[y]^2)+1").get();
+        Equation second = Equation.parse("2*sqrt([x]^2+[y]^2)").get();
+
+        EquationInterner sut = new EquationInterner();
+
+        /* When */
+
+        Operation actualFirst = (Operation) sut.intern(first);
+        Operation actualSecond = (Operation) sut.intern(second);
+
+        /* Then */
+
+        assertSame(actualFirst.left(), actualSecond.right());
+    }
+
+    @Test
+    void returnsSameInstanceForEqualEquations() {
+
+        /* Given */
+
+        EquationInterner sut = new EquationInterner();
+
+        Equation first = sut.intern(Equation.parse("[a]*(3+[b])").get());
+
+        /* When */
+
+        Equation actual = sut.intern(Equation.parse("[a]*(3+[b])").get());
+
+        /* Then */
+
+        assertSame(first, actual);
+        assertEquals(6, sut.size());
+    }
+
+    @Test
+    void keepsDifferentOperatorsApart() {
+
+        /* Given */
+
+        EquationInterner sut = new EquationInterner();
+
+        /* When */
+
+        Operation actual = (Operation) sut.intern(Equation.parse("([a]+[b])*([a]-[b])").get());
+
+        /* Then */
+
+        assertNotSame(actual.left(), actual.right());
+        assertEquals("([a]+[b])*([a]-[b])", actual.toPattern(Locale.ENGLISH));
+    }
+
+    @Test
+    void unwrapsBoundEquation() {
+
+        /* Given */
+
+        Equation equation = EquationBinder.bind(Equation.parse("[x]*[x]").get());
+
+        EquationInterner sut = new EquationInterner();
+
+        /* When */
+
+        Operation actual = assertInstanceOf(Operation.class, sut.intern(equation));
+
+        /* Then */
+
+        assertInstanceOf(BoundVariable.class, actual.left());
+        assertSame(actual.left(), actual.right());
+    }
+
+    @Test
+    void clearEmptiesTable() {
+
+        /* Given */
+
+        EquationInterner sut = new EquationInterner();
+        sut.intern(Equation.parse("[a]+1").get());
+
+        /* When */
+
+        sut.clear();
+
+        /* Then */
+
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void sharesLongConstants() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]*3+3*[y]", CustomParsingOptions.integer()).get();
+
+        EquationInterner sut = new EquationInterner();
+
+        /* When */
+
+        Operation actual = (Operation) sut.intern(equation);
+
+        /* Then */
+
+        Operation left = (Operation) actual.left();
+        Operation right = (Operation) actual.right();
+
+        assertSame(left.right(), right.left());
+        assertEquals(equation, actual);
+    }
+}
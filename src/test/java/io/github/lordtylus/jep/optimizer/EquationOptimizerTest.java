@@ -0,0 +1,335 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.optimizer;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.binding.BoundEquation;
+import io.github.lordtylus.jep.binding.EquationBinder;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.equation.Operation;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.equation.Variable;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EquationOptimizerTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "(7+3)*(6-3)+216/3^3;38",
+            "(7+3)*(6-3)+216/3^3+[x];38+[x]",
+            "[x]*1;[x]",
+            "1*[x];[x]",
+            "[x]+0;[x]",
+            "0+[x];[x]",
+            "[x]-0;[x]",
+            "[x]/1;[x]",
+            "[x]^1;[x]",
+            "[x]^2;[x]*[x]",
+            "sqrt([x]^2);sqrt([x]*[x])",
+            "2/[x]^2;2/([x]*[x])",
+            "[x]-([y]+0);[x]-([y])",
+            "[x]*(2-1)+sqrt(16);[x]+4",
+            "[x]*(1-3);[x]*(-2)",
+            "([x]+[y])*1;([x]+[y])",
+            "sin([x])^2;sin([x])^2",
+            "[x]+[y]*3;[x]+[y]*3",
+    }, delimiter = ';')
+    void optimizes(String input, String expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(expected, actual.toPattern(Locale.ENGLISH));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if(2>1;[x];[y]*1000)|[x]",
+            "if(2<1;[x];[y]*1)|[y]",
+            "2*if(1=1;[x]+1;0)|2*([x]+1)",
+            "if([x]>1;2*1;[y]+0)|if([x]>1;2;[y])",
+            "max(1;3;2)+[x]|3+[x]",
+            "clamp(15;0;10)*[x]|10*[x]",
+            "min([x];2+1)|min([x];3)",
+    }, delimiter = '|')
+    void optimizesConditions(String input, String expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(expected, actual.toPattern(Locale.ENGLISH));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "(7+3)*(6-3)+216/3^3+[x]",
+            "[x]*1+0*[y]",
+            "2/[x]^2-[y]^1",
+            "sqrt([x]^2)*(1-3)",
+            "[x]-([y]+0)-(2*1)",
+            "cos(2-[x]/1)^2+log([y])",
+    }, delimiter = ';')
+    void resultIsTheSame(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 3);
+        storage.putValue("y", 5);
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(equation.evaluateDouble(storage), actual.evaluateDouble(storage), 0.00001);
+        assertEquals(equation.evaluate(storage).asDouble(), actual.evaluate(storage).asDouble(), 0.00001);
+    }
+
+    @Test
+    void foldsToSingleConstant() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("(7+3)*(6-3)+216/3^3").get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(new Constant(38), actual);
+    }
+
+    @Test
+    void keepsUnchangedEquation() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("[x]+[y]*sqrt([z])").get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertSame(equation, actual);
+    }
+
+    @Test
+    void doesNotFoldImpureOperators() {
+
+        /* Given */
+
+        Operator random = new Operator(1, '~', (a, b) -> a.doubleValue() * b.doubleValue() * Math.random());
+
+        Equation equation = new Operation(new Constant(2), new Constant(3), random);
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertSame(equation, actual);
+    }
+
+    @Test
+    void foldsPureCustomOperators() {
+
+        /* Given */
+
+        Operator mod = new Operator(1, '%', (a, b) -> a.doubleValue() % b.doubleValue(), true);
+
+        CustomParsingOptions options = CustomParsingOptions.defaultWith(StandardOperators.ADD, mod);
+
+        Equation equation = Equation.parse("[x]+7%4", options).get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(new Operation(new Variable("x"), new Constant(3), StandardOperators.ADD), actual);
+    }
+
+    @Test
+    void doesNotFoldImpureFunctions() {
+
+        /* Given */
+
+        MathFunction random = new MathFunction("rand", a -> a.doubleValue() * Math.random());
+
+        Equation equation = new Parenthesis(random, new Constant(2));
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertSame(equation, actual);
+    }
+
+    @Test
+    void keepsLayoutOfBoundEquation() {
+
+        /* Given */
+
+        BoundEquation equation = EquationBinder.bind(Equation.parse("[x]*(2-1)+[y]").get());
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        BoundEquation boundEquation = assertInstanceOf(BoundEquation.class, actual);
+
+        assertSame(equation.getLayout(), boundEquation.getLayout());
+        assertEquals(7, boundEquation.evaluateDouble(new double[]{3, 4}), 0.00001);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "0.5+0.25+[x]|0.75+[x]",
+            "[x]*(0.5-0.25)|[x]*(0.25)",
+            "0.1*5|0.5",
+    }, delimiter = '|')
+    void foldsDecimalConstantsExactly(String input, String expected) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.decimal()).get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(expected, actual.toPattern(Locale.ENGLISH));
+    }
+
+    @Test
+    void keepsFoldedDecimalConstantExact() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("0.5+0.25", CustomParsingOptions.decimal()).get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(new DecimalConstant(new BigDecimal("0.75")), actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "0.1+0.2|decimal",
+            "0.1*3|decimal",
+            "9007199254740993+1|integer",
+    }, delimiter = '|')
+    void doesNotFoldExactConstantsIfDoubleResultWouldChange(String input, String mode) {
+
+        /* Given */
+
+        ParsingOptions options = mode.equals("decimal") ? CustomParsingOptions.decimal() : CustomParsingOptions.integer();
+
+        Equation equation = Equation.parse(input, options).get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertSame(equation, actual);
+        assertEquals(equation.evaluateDouble(), actual.evaluateDouble());
+    }
+
+    @Test
+    void foldsLongConstantsToDecimalOnOverflow() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("9223372036854775807+1", CustomParsingOptions.integer()).get();
+
+        /* When */
+
+        Equation actual = EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(new DecimalConstant(new BigDecimal("9223372036854775808")), actual);
+    }
+
+    @Test
+    void foldsLongConstants() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("2*3+[x]", CustomParsingOptions.integer()).get();
+
+        /* When */
+
+        Operation actual = (Operation) EquationOptimizer.optimize(equation);
+
+        /* Then */
+
+        assertEquals(new LongConstant(6), actual.left());
+    }
+}
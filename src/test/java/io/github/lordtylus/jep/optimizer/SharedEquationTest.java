@@ -0,0 +1,89 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.optimizer;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.Result;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SharedEquationTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "sqrt([x]^2+[y]^2)*sqrt([x]^2+[y]^2)",
+            "([x]+[y])/([x]+[y])+[x]",
+            "abs(sin([x]))+abs(sin([x]))-abs(sin([y]))",
+            "2*3+[x]",
+            "[x]",
+    }, delimiter = ';')
+    void matchesOriginal(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("x", 3);
+        storage.putValue("y", 4);
+
+        SharedEquation sut = SharedEquation.of(equation);
+
+        /* When */
+
+        double actual = sut.evaluateDouble(storage);
+        Result actualResult = sut.evaluate(storage);
+
+        /* Then */
+
+        Result expected = equation.evaluate(storage);
+
+        assertEquals(equation.evaluateDouble(storage), actual, 0.00001);
+        assertEquals(expected.asDouble(), actualResult.asDouble(), 0.00001);
+        assertEquals(expected.toDisplayString(), actualResult.toDisplayString());
+    }
+
+    @Test
+    void evaluatesSharedPartsOnce() {
+
+        /* Given */
+
+        Equation equation = Equation.parse("sqrt([x]^2+[y]^2)*sqrt([x]^2+[y]^2)+sqrt([x]^2+[y]^2)").get();
+
+        AtomicInteger lookups = new AtomicInteger();
+
+        SharedEquation sut = SharedEquation.of(equation);
+
+        /* When */
+
+        double actual = sut.evaluateDouble(variable -> {
+            lookups.incrementAndGet();
+            return variable.equals("x") ? 3 : 4;
+        });
+
+        /* Then */
+
+        assertEquals(30, actual, 0.00001);
+        assertEquals(2, lookups.get());
+        assertEquals(9, sut.size());
+    }
+}
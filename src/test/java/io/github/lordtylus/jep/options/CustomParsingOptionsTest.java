@@ -22,6 +22,9 @@ import io.github.lordtylus.jep.parsers.ConstantParser;
 import io.github.lordtylus.jep.parsers.EquationParser;
 import io.github.lordtylus.jep.parsers.OperationParser;
 import io.github.lordtylus.jep.parsers.ParenthesisParser;
+import io.github.lordtylus.jep.parsers.ParseResult;
+import io.github.lordtylus.jep.parsers.PrecedenceClimbingParser;
+import io.github.lordtylus.jep.parsers.RangeShape;
 import io.github.lordtylus.jep.parsers.VariableParser;
 import io.github.lordtylus.jep.parsers.variables.StandardVariablePatterns;
 import io.github.lordtylus.jep.parsers.variables.VariablePattern;
@@ -234,6 +237,35 @@ class CustomParsingOptionsTest {
         assertThat(sut).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @Test
+    void createWithPrecedenceClimbing() {
+
+        /* Given */
+
+        CustomParsingOptions sut = CustomParsingOptions.precedenceClimbingWith(
+                List.of(StandardFunctions.SIN, StandardFunctions.ASIN),
+                List.of(StandardOperators.ADD, StandardOperators.SUB)
+        );
+
+        /* When / Then */
+
+        CustomParsingOptions expected = CustomParsingOptions.empty();
+
+        PrecedenceClimbingParser precedenceClimbingParser = new PrecedenceClimbingParser(
+                List.of(StandardFunctions.SIN, StandardFunctions.ASIN),
+                List.of(StandardOperators.ADD, StandardOperators.SUB)
+        );
+
+        expected.register(precedenceClimbingParser);
+        expected.register(ConstantParser.INSTANCE);
+        expected.register(VariableParser.INSTANCE);
+        expected.register(VariableTokenizer.INSTANCE);
+        expected.register(ParenthesisTokenizer.DEFAULT);
+        expected.register(new OperatorTokenizer(precedenceClimbingParser.getOperatorCharacters()));
+
+        assertThat(sut).usingRecursiveComparison().isEqualTo(expected);
+    }
+
     @Test
     void registersOneParser() {
 
@@ -367,6 +399,44 @@ class CustomParsingOptionsTest {
         assertEquals(actual, expected);
     }
 
+    @Test
+    void groupsParsersByShape() {
+
+        /* Given */
+
+        CustomParsingOptions sut = CustomParsingOptions.withDefaults();
+
+        EquationParser custom = (tokenizedEquation, startIndex, endIndex, options) -> ParseResult.notMine();
+
+        /* When */
+
+        sut.register(custom);
+
+        /* Then */
+
+        assertEquals(List.of(custom), sut.getParsersFor(RangeShape.EMPTY));
+        assertEquals(List.of(ConstantParser.INSTANCE, VariableParser.INSTANCE, custom), sut.getParsersFor(RangeShape.SINGLE_TOKEN));
+        assertEquals(List.of(ParenthesisParser.DEFAULT, OperationParser.DEFAULT, custom), sut.getParsersFor(RangeShape.STARTS_WITH_PARENTHESIS));
+        assertEquals(List.of(OperationParser.DEFAULT, custom), sut.getParsersFor(RangeShape.MULTIPLE_TOKENS));
+    }
+
+    @Test
+    void shapeGroupsUpdateAfterUnregister() {
+
+        /* Given */
+
+        CustomParsingOptions sut = CustomParsingOptions.withDefaults();
+
+        /* When */
+
+        sut.unregister(ConstantParser.INSTANCE);
+
+        /* Then */
+
+        assertEquals(List.of(VariableParser.INSTANCE), sut.getParsersFor(RangeShape.SINGLE_TOKEN));
+        assertEquals(List.of(OperationParser.DEFAULT), sut.getParsersFor(RangeShape.MULTIPLE_TOKENS));
+    }
+
     @Test
     void canUnregisterATokenizer() {
 
@@ -495,6 +565,28 @@ class CustomParsingOptionsTest {
         assertEquals(actual, expected);
     }
 
+    @Test
+    void cannotChangeVariablePatternToDelimitersOfOtherTokenizers() {
+
+        /* Given */
+
+        CustomParsingOptions sut = CustomParsingOptions.conditional();
+
+        Map<Character, EquationTokenizer> expected = new HashMap<>(sut.getTokenizerForDelimiterMap());
+
+        /* When */
+
+        Executable result = () -> sut.setVariablePattern(StandardVariablePatterns.TAGS);
+
+        /* Then */
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, result);
+        assertEquals("Tokenizer already exists!", exception.getMessage());
+
+        assertEquals(StandardVariablePatterns.BRACKETS, sut.getVariablePattern());
+        assertEquals(expected, sut.getTokenizerForDelimiterMap());
+    }
+
     @Test
     void whenVariablesUseSameOpeningAndClosingCharacterItOnlyAppearsOnceInMap() {
 
@@ -0,0 +1,181 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.options;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.ParsingOptions.ErrorBehavior;
+import io.github.lordtylus.jep.parsers.ConstantParser;
+import io.github.lordtylus.jep.parsers.OperationParser;
+import io.github.lordtylus.jep.parsers.ParenthesisParser;
+import io.github.lordtylus.jep.parsers.RangeShape;
+import io.github.lordtylus.jep.parsers.VariableParser;
+import io.github.lordtylus.jep.parsers.variables.StandardVariablePatterns;
+import io.github.lordtylus.jep.tokenizer.OperatorTokenizer;
+import io.github.lordtylus.jep.tokenizer.ParenthesisTokenizer;
+import io.github.lordtylus.jep.tokenizer.VariableTokenizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FrozenParsingOptionsTest {
+
+    @Test
+    void copiesConfiguration() {
+
+        /* Given */
+
+        CustomParsingOptions options = CustomParsingOptions.withDefaults();
+        options.setErrorBehavior(ErrorBehavior.EXCEPTION);
+        options.setVariablePattern(StandardVariablePatterns.NONE);
+
+        /* When */
+
+        FrozenParsingOptions sut = options.freeze();
+
+        /* Then */
+
+        assertEquals(ErrorBehavior.EXCEPTION, sut.getErrorBehavior());
+        assertEquals(StandardVariablePatterns.NONE, sut.getVariablePattern());
+        assertEquals(options.getRegisteredParsers(), sut.getRegisteredParsers());
+        assertEquals(options.getRegisteredTokenizers(), sut.getRegisteredTokenizers());
+        assertEquals(options.getTokenizerForDelimiterMap(), sut.getTokenizerForDelimiterMap());
+
+        for (RangeShape shape : RangeShape.values())
+            assertEquals(options.getParsersFor(shape), sut.getParsersFor(shape));
+    }
+
+    @Test
+    void isNotAffectedByLaterChanges() {
+
+        /* Given */
+
+        CustomParsingOptions options = CustomParsingOptions.withDefaults();
+
+        FrozenParsingOptions sut = options.freeze();
+
+        /* When */
+
+        options.unregister(ConstantParser.INSTANCE);
+        options.unregister(VariableTokenizer.INSTANCE);
+        options.setErrorBehavior(ErrorBehavior.EXCEPTION);
+
+        /* Then */
+
+        assertEquals(List.of(
+                ParenthesisParser.DEFAULT,
+                OperationParser.DEFAULT,
+                ConstantParser.INSTANCE,
+                VariableParser.INSTANCE
+        ), sut.getRegisteredParsers());
+
+        assertEquals(ErrorBehavior.ERROR_RESULT, sut.getErrorBehavior());
+        assertSame(VariableTokenizer.INSTANCE, sut.getTokenizerFor('['));
+        assertEquals(3, Equation.parse("1+2", sut).get().evaluate().asDouble(), 0.00001);
+    }
+
+    @Test
+    void looksUpTokenizersByCharacter() {
+
+        /* Given */
+
+        FrozenParsingOptions sut = CustomParsingOptions.withDefaults().freeze();
+
+        /* When / Then */
+
+        assertSame(OperatorTokenizer.DEFAULT, sut.getTokenizerFor('+'));
+        assertSame(ParenthesisTokenizer.DEFAULT, sut.getTokenizerFor('('));
+        assertSame(VariableTokenizer.INSTANCE, sut.getTokenizerFor(']'));
+        assertNull(sut.getTokenizerFor('1'));
+        assertNull(sut.getTokenizerFor('×'));
+    }
+
+    @Test
+    void looksUpTokenizersForNonAsciiCharacters() {
+
+        /* Given */
+
+        Operator times = Operator.ofDouble(1, '×', (a, b) -> a * b);
+
+        CustomParsingOptions options = CustomParsingOptions.defaultWith(StandardOperators.ADD, times);
+
+        /* When */
+
+        FrozenParsingOptions sut = options.freeze();
+
+        /* Then */
+
+        assertSame(options.getTokenizerFor('×'), sut.getTokenizerFor('×'));
+        assertEquals(7, Equation.parse("1+2×3", sut).get().evaluate().asDouble(), 0.00001);
+    }
+
+    @Test
+    void freezingTwiceReturnsSameInstance() {
+
+        /* Given */
+
+        FrozenParsingOptions sut = CustomParsingOptions.withDefaults().freeze();
+
+        /* When */
+
+        FrozenParsingOptions actual = sut.freeze();
+
+        /* Then */
+
+        assertSame(sut, actual);
+    }
+
+    @Test
+    void returnedCollectionsAreImmutable() {
+
+        /* Given */
+
+        FrozenParsingOptions sut = CustomParsingOptions.withDefaults().freeze();
+
+        /* When / Then */
+
+        assertThrows(UnsupportedOperationException.class, () -> sut.getRegisteredParsers().clear());
+        assertThrows(UnsupportedOperationException.class, () -> sut.getRegisteredTokenizers().clear());
+        assertThrows(UnsupportedOperationException.class, () -> sut.getTokenizerForDelimiterMap().clear());
+        assertThrows(UnsupportedOperationException.class, () -> sut.getParsersFor(RangeShape.SINGLE_TOKEN).clear());
+    }
+
+    @Test
+    void defaultOptionsAreFrozenOnce() {
+
+        /* Given */
+
+        DefaultParsingOptions sut = DefaultParsingOptions.INSTANCE;
+
+        /* When */
+
+        FrozenParsingOptions actual = sut.freeze();
+
+        /* Then */
+
+        assertSame(actual, sut.freeze());
+        assertSame(sut, ParsingOptions.defaultOptions());
+        assertEquals(sut.getRegisteredParsers(), actual.getRegisteredParsers());
+        assertEquals(actual.getParsersFor(RangeShape.SINGLE_TOKEN), sut.getParsersFor(RangeShape.SINGLE_TOKEN));
+        assertSame(actual.getTokenizerFor('+'), sut.getTokenizerFor('+'));
+    }
+}
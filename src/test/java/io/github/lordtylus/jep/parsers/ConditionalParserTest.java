@@ -0,0 +1,185 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.EquationOptional;
+import io.github.lordtylus.jep.equation.Clamp;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.ParseResult.ParseType;
+import io.github.lordtylus.jep.storages.SimpleStorage;
+import io.github.lordtylus.jep.tokenizer.EquationStringTokenizer;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionalParserTest {
+
+    private static final ParsingOptions OPTIONS = CustomParsingOptions.conditional();
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if([c]>0;[a];[b])|if([c]>0;[a];[b])",
+            "IF ( [c] < 0 ; [a] ; [b] )|if([c]<0;[a];[b])",
+            "if([a]+1=[b]*2;1;0)|if([a]+1=[b]*2;1;0)",
+            "min([a];2;3)|min([a];2;3)",
+            "max([a])|max([a])",
+            "clamp([x];0;100)|clamp([x];0;100)",
+            "max(min(1;2);if([a]>1;(3+4)*2;sqrt(4)))|max(min(1;2);if([a]>1;(3+4)*2;sqrt(4)))",
+            "if([c]>0;[a];[b])*2+1|if([c]>0;[a];[b])*2+1",
+            "max(-1;-2)|max(-1;-2)",
+            "max(1; -2)|max(1;-2)",
+            "[a;b]+1|[a;b]+1",
+    }, delimiter = '|')
+    void parses(String input, String expected) {
+
+        /* When */
+
+        Equation actual = Equation.parse(input, OPTIONS).get();
+
+        /* Then */
+
+        assertEquals(expected, actual.toPattern(Locale.ENGLISH));
+    }
+
+    @Test
+    void createsEquationParts() {
+
+        /* When */
+
+        Equation condition = Equation.parse("if([c]>0;[a];[b])", OPTIONS).get();
+        Equation minimum = Equation.parse("min([a];[b])", OPTIONS).get();
+        Equation maximum = Equation.parse("max([a];[b])", OPTIONS).get();
+        Equation clamp = Equation.parse("clamp([a];0;1)", OPTIONS).get();
+
+        /* Then */
+
+        assertInstanceOf(Condition.class, condition);
+        assertEquals(Extremum.Kind.MIN, assertInstanceOf(Extremum.class, minimum).kind());
+        assertEquals(Extremum.Kind.MAX, assertInstanceOf(Extremum.class, maximum).kind());
+        assertInstanceOf(Clamp.class, clamp);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if([c]>0;[a];[b])|5",
+            "if([c]<0;[a];[b])|7",
+            "if([c]=2;[a];[b])|5",
+            "min([a];[b];[c])|2",
+            "max([a];[b];[c])|7",
+            "clamp([b];[c];[a])|5",
+            "clamp(0-[b];[c];[a])|2",
+            "max(-1;-2)*[c]|-2",
+            "if([a]>[b];1;0)+if([a]<[b];1;0)|1",
+    }, delimiter = '|')
+    void evaluates(String input, double expected) {
+
+        /* Given */
+
+        SimpleStorage storage = new SimpleStorage();
+        storage.putValue("a", 5);
+        storage.putValue("b", 7);
+        storage.putValue("c", 2);
+
+        Equation equation = Equation.parse(input, OPTIONS).get();
+
+        /* When */
+
+        double actual = equation.evaluateDouble(storage);
+
+        /* Then */
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void usesSemicolonSoCommaStaysDecimalSeparator() {
+
+        /* When */
+
+        Equation actual = Equation.parse("max(1,5;0,5)", OPTIONS).get();
+
+        /* Then */
+
+        assertEquals(1.5, actual.evaluateDouble());
+        assertEquals("max(1,5;0,5)", actual.toPattern(Locale.GERMAN));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "if(1;2)",
+            "if(1;2;3;4)",
+            "clamp(1;2)",
+            "max(1;;2)",
+            "max(1;)",
+            "max()",
+            "min(;1)",
+            "if([c]>;1;2)",
+    }, delimiter = '|')
+    void doesNotParse(String input) {
+
+        /* When */
+
+        EquationOptional actual = Equation.parse(input, OPTIONS);
+
+        /* Then */
+
+        assertTrue(actual.hasError(), input);
+    }
+
+    @Test
+    void ignoresOtherFunctions() {
+
+        /* Given */
+
+        List<Token> tokenized = EquationStringTokenizer.tokenize("sqrt(4)", OPTIONS);
+
+        /* When */
+
+        ParseResult actual = ConditionalParser.INSTANCE.parse(tokenized, 0, tokenized.size() - 1, OPTIONS);
+
+        /* Then */
+
+        assertEquals(ParseType.NOT_MINE, actual.getParseType());
+    }
+
+    @Test
+    void ignoresRangesNotEndingWithItsParenthesis() {
+
+        /* Given */
+
+        List<Token> tokenized = EquationStringTokenizer.tokenize("max(1;2)*3", OPTIONS);
+
+        /* When */
+
+        ParseResult actual = ConditionalParser.INSTANCE.parse(tokenized, 0, tokenized.size() - 1, OPTIONS);
+
+        /* Then */
+
+        assertEquals(ParseType.NOT_MINE, actual.getParseType());
+    }
+}
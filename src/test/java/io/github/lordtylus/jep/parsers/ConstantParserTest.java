@@ -67,6 +67,58 @@ class ConstantParserTest {
         assertEquals(expected, actual.toPattern(Locale.ENGLISH));
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {
+            "0.1;0.1",
+            "0.3;0.3",
+            "-0;-0",
+            ".5;.5",
+            "5.;5.",
+            "1 2 3 , 4 5;123.45",
+            "123456789012345;123456789012345",
+            "1234567890123456789;1234567890123456789",
+            "0.1234567890123456789;0.1234567890123456789",
+            "3.14159265358979;3.14159265358979",
+            "0.0000000000000000000001;0.0000000000000000000001",
+            "0.00000000000000000000001;0.00000000000000000000001",
+    }, delimiter = ';')
+    void parsesSameValueAsDouble(String token, String expected) {
+
+        /* Given */
+
+        List<Token> tokenized = List.of(new ValueToken(token));
+
+        /* When */
+
+        Constant actual = (Constant) ConstantParser.INSTANCE
+                .parse(tokenized, 0, 0, ParsingOptions.defaultOptions())
+                .getEquation()
+                .orElseThrow();
+
+        /* Then */
+
+        assertEquals(Double.doubleToLongBits(Double.parseDouble(expected)), Double.doubleToLongBits(actual.value()));
+    }
+
+    @Test
+    void parsesRangeOfLargerSource() {
+
+        /* Given */
+
+        List<Token> tokenized = List.of(new ValueToken("[x]+12,5*3", 4, 4));
+
+        /* When */
+
+        Equation actual = ConstantParser.INSTANCE
+                .parse(tokenized, 0, 0, ParsingOptions.defaultOptions())
+                .getEquation()
+                .orElseThrow();
+
+        /* Then */
+
+        assertEquals(new Constant(12.5), actual);
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
             "+",
@@ -0,0 +1,86 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.equation.DecimalConstant;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.ParseResult.ParseType;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.ValueToken;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DecimalConstantParserTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1;1",
+            "-1;-1",
+            "0.1;0.1",
+            "1,2;1.2",
+            ".5;0.5",
+            "5.;5",
+            "1 2 3 , 4 5;123.45",
+            "12345678901234567890.123456789;12345678901234567890.123456789",
+    }, delimiter = ';')
+    void parsesExactly(String token, String expected) {
+
+        /* Given */
+
+        List<Token> tokenized = List.of(new ValueToken(token));
+
+        /* When */
+
+        DecimalConstant actual = (DecimalConstant) DecimalConstantParser.INSTANCE
+                .parse(tokenized, 0, 0, ParsingOptions.defaultOptions())
+                .getEquation()
+                .orElseThrow();
+
+        /* Then */
+
+        assertEquals(0, new BigDecimal(expected).compareTo(actual.value()));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "[x];NOT_MINE",
+            "abc;NOT_MINE",
+            "1e5;NOT_MINE",
+            "1.2.3;ERROR",
+            "-;ERROR",
+            "' ';ERROR",
+    }, delimiter = ';')
+    void rejects(String token, ParseType expected) {
+
+        /* Given */
+
+        List<Token> tokenized = List.of(new ValueToken(token));
+
+        /* When */
+
+        ParseResult actual = DecimalConstantParser.INSTANCE
+                .parse(tokenized, 0, 0, ParsingOptions.defaultOptions());
+
+        /* Then */
+
+        assertEquals(expected, actual.getParseType());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.equation.LongConstant;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.ParseResult.ParseType;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.ValueToken;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongConstantParserTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1;1",
+            "-1;-1",
+            "0;0",
+            "1 000;1000",
+            "9007199254740993;9007199254740993",
+            "9223372036854775807;9223372036854775807",
+            "-9223372036854775808;-9223372036854775808",
+    }, delimiter = ';')
+    void parses(String token, long expected) {
+
+        /* Given */
+
+        List<Token> tokenized = List.of(new ValueToken(token));
+
+        /* When */
+
+        LongConstant actual = (LongConstant) LongConstantParser.INSTANCE
+                .parse(tokenized, 0, 0, ParsingOptions.defaultOptions())
+                .getEquation()
+                .orElseThrow();
+
+        /* Then */
+
+        assertEquals(expected, actual.value());
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1.5;NOT_MINE",
+            "1,5;NOT_MINE",
+            "[x];NOT_MINE",
+            "-;NOT_MINE",
+            "9223372036854775808;ERROR",
+            "-9223372036854775809;ERROR",
+    }, delimiter = ';')
+    void rejects(String token, ParseType expected) {
+
+        /* Given */
+
+        List<Token> tokenized = List.of(new ValueToken(token));
+
+        /* When */
+
+        ParseResult actual = LongConstantParser.INSTANCE
+                .parse(tokenized, 0, 0, ParsingOptions.defaultOptions());
+
+        /* Then */
+
+        assertEquals(expected, actual.getParseType());
+    }
+}
@@ -0,0 +1,385 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.EquationOptional;
+import io.github.lordtylus.jep.equation.Constant;
+import io.github.lordtylus.jep.equation.Parenthesis;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.ComparisonOperators;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.parsers.ParseResult.ParseType;
+import io.github.lordtylus.jep.tokenizer.EquationStringTokenizer;
+import io.github.lordtylus.jep.tokenizer.SeparatorTokenizer;
+import io.github.lordtylus.jep.tokenizer.tokens.OperatorToken;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import io.github.lordtylus.jep.tokenizer.tokens.TokenPair;
+import io.github.lordtylus.jep.tokenizer.tokens.ValueToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrecedenceClimbingParserTest {
+
+    @Test
+    void returnsDefaultOperatorPatterns() {
+
+        /* Given */
+
+        PrecedenceClimbingParser sut = PrecedenceClimbingParser.DEFAULT;
+
+        /* When */
+
+        Set<Character> actual = sut.getOperatorCharacters();
+
+        /* Then */
+
+        Set<Character> expected = Set.of('+', '-', '*', '/', '^');
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1+2",
+            "1.1+2,2",
+            "1-2-3-4",
+            "1/2/3*4",
+            "2^3^2",
+            "1+2*3^4-5/6",
+            "1^2*3+4",
+            "[Hallo]+[Moin]",
+            "(10+20)*(10-20)/(20+30)",
+            "(10*20)-(10/20)^(20*30)",
+            "5-(6-(7-3))",
+            "5^(6^(7^3))",
+            "5+([1+2]+3)",
+            "2*sqrt([x]+2)^3",
+            "sqrt(sin(cos(1)))",
+            "((((1))))",
+            "(-3)*2",
+            "-3*2",
+            "abs(-5)+(2)",
+            "[H a l l o ]    +    [  M o i n ]",
+            "  1 2  3  . 1 / 2 2  3 , 2   ",
+    })
+    void buildsSameTreeAsDefaultParsers(String equation) {
+
+        /* Given */
+
+        ParsingOptions options = CustomParsingOptions.precedenceClimbing();
+
+        Equation expected = Equation.parse(equation).get();
+
+        /* When */
+
+        Equation actual = Equation.parse(equation, options).get();
+
+        /* Then */
+
+        assertEquals(expected, actual);
+        assertEquals(expected.toPattern(Locale.ENGLISH), actual.toPattern(Locale.ENGLISH));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1+;Right operand is empty!",
+            "1+*2;Right operand is empty!",
+            "(1+)*2;Right operand is empty!",
+            "()+2;Left operand is empty!",
+            "(1+2;Parenthesis mismatch, ')' missing!",
+            "foo(1)+2;Unknown function 'foo'!",
+            "1+2)*3;Parenthesis mismatch, '(' expected!",
+    }, delimiter = ';')
+    void returnsErrors(String equation, String expected) {
+
+        /* Given */
+
+        ParsingOptions options = CustomParsingOptions.precedenceClimbing();
+
+        /* When */
+
+        EquationOptional actual = Equation.parse(equation, options);
+
+        /* Then */
+
+        assertTrue(actual.hasError());
+        assertEquals(expected, actual.getErrorMessage());
+    }
+
+    @Test
+    void returnsErrorIfOperatorIsNotRecognized() {
+
+        /* Given */
+
+        ParsingOptions options = ParsingOptions.defaultOptions();
+
+        List<Token> tokenized = EquationStringTokenizer.tokenize("1+2*3", options);
+
+        PrecedenceClimbingParser sut = new PrecedenceClimbingParser(List.of(), List.of(StandardOperators.ADD));
+
+        /* When */
+
+        ParseResult actual = sut.parse(tokenized, 0, tokenized.size() - 1, options);
+
+        /* Then */
+
+        assertEquals(ParseType.ERROR, actual.getParseType());
+        assertEquals("Operator '*' not recognized!", actual.getErrorMessage());
+    }
+
+    @Test
+    void ignoresSingleTokens() {
+
+        /* Given */
+
+        List<Token> tokenized = List.of(new ValueToken("1"));
+
+        /* When */
+
+        ParseResult actual = PrecedenceClimbingParser.DEFAULT.parse(tokenized, 0, 0, ParsingOptions.defaultOptions());
+
+        /* Then */
+
+        assertEquals(ParseType.NOT_MINE, actual.getParseType());
+    }
+
+    @Test
+    void parsesSublist() {
+
+        /* Given */
+
+        ParsingOptions options = ParsingOptions.defaultOptions();
+
+        List<Token> tokenized = EquationStringTokenizer.tokenize("1+(2*3)+4", options);
+
+        /* When */
+
+        ParseResult actual = PrecedenceClimbingParser.DEFAULT.parse(tokenized, 3, 5, options);
+
+        /* Then */
+
+        assertEquals("2*3", actual.getEquation().orElseThrow().toPattern(Locale.ENGLISH));
+    }
+
+    @Test
+    void parsesLongEquations() {
+
+        /* Given */
+
+        StringBuilder sb = new StringBuilder("1");
+
+        for (int i = 2; i <= 2000; i++)
+            sb.append(i % 2 == 0 ? "+" : "*").append(i);
+
+        String equation = sb.toString();
+
+        /* When */
+
+        Equation actual = Equation.parse(equation, CustomParsingOptions.precedenceClimbing()).get();
+
+        /* Then */
+
+        assertEquals(Equation.parse(equation).get().evaluate().asDouble(), actual.evaluate().asDouble(), 0.00001);
+    }
+
+    @Test
+    void usesLeafParsersForConstants() {
+
+        /* Given */
+
+        ParsingOptions options = CustomParsingOptions.precedenceClimbing();
+
+        /* When */
+
+        Equation actual = Equation.parse("2", options).get();
+
+        /* Then */
+
+        assertEquals(new Constant(2), actual);
+    }
+
+    @Test
+    void passesCustomTokenPairsToOtherParsers() {
+
+        /* Given */
+
+        CustomParsingOptions options = CustomParsingOptions.precedenceClimbing();
+        options.register(new BraceParser());
+
+        BraceToken opening = new BraceToken(true);
+        BraceToken closing = new BraceToken(false);
+        opening.setClosing(closing);
+        opening.setIndex(0);
+        closing.setIndex(4);
+
+        List<Token> tokenized = List.of(
+                opening, new ValueToken("1"), new OperatorToken('+'), new ValueToken("2"), closing,
+                new OperatorToken('*'), new ValueToken("3"));
+
+        /* When */
+
+        ParseResult actual = PrecedenceClimbingParser.DEFAULT.parse(tokenized, 0, tokenized.size() - 1, options);
+
+        /* Then */
+
+        assertEquals(ParseType.OK, actual.getParseType());
+        assertEquals(9, actual.getEquation().orElseThrow().evaluate().asDouble(), 0.00001);
+    }
+
+    @Test
+    void ignoresRangesSpannedByCustomTokenPair() {
+
+        /* Given */
+
+        BraceToken opening = new BraceToken(true);
+        BraceToken closing = new BraceToken(false);
+        opening.setClosing(closing);
+        opening.setIndex(0);
+        closing.setIndex(2);
+
+        List<Token> tokenized = List.of(opening, new ValueToken("1"), closing);
+
+        /* When */
+
+        ParseResult actual = PrecedenceClimbingParser.DEFAULT.parse(tokenized, 0, 2, CustomParsingOptions.precedenceClimbing());
+
+        /* Then */
+
+        assertEquals(ParseType.NOT_MINE, actual.getParseType());
+    }
+
+    @Test
+    void returnsErrorIfCustomTokenPairIsNotClosed() {
+
+        /* Given */
+
+        List<Token> tokenized = List.of(new BraceToken(true), new ValueToken("1"), new OperatorToken('+'), new ValueToken("2"));
+
+        /* When */
+
+        ParseResult actual = PrecedenceClimbingParser.DEFAULT.parse(tokenized, 0, 3, CustomParsingOptions.precedenceClimbing());
+
+        /* Then */
+
+        assertEquals(ParseType.ERROR, actual.getParseType());
+        assertEquals("Token pair mismatch! Could not find closing!", actual.getErrorMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "if([x]>0;[y]*2;min([y];3))+1",
+            "if([x]>0;[y]*2;min([y];3))",
+            "2*clamp([x]*2;0;sqrt(16))",
+            "max(1;2;if([x];4;5))^2",
+            "(min([x];[y])+1)*3",
+    })
+    void passesUnknownFunctionsToOtherParsers(String equation) {
+
+        /* Given */
+
+        List<Operator> operators = new ArrayList<>(StandardOperators.all());
+        operators.addAll(ComparisonOperators.all());
+
+        CustomParsingOptions options = CustomParsingOptions.precedenceClimbingWith(StandardFunctions.all(), operators);
+        options.register(ConditionalParser.INSTANCE);
+        options.register(SeparatorTokenizer.INSTANCE);
+
+        Equation expected = Equation.parse(equation, CustomParsingOptions.conditional()).get();
+
+        /* When */
+
+        EquationOptional actual = Equation.parse(equation, options);
+
+        /* Then */
+
+        assertTrue(actual.isPresent());
+        assertEquals(expected, actual.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"foo(1)", "foo(1)+2"})
+    void returnsErrorIfNoParserKnowsFunction(String equation) {
+
+        /* Given */
+
+        CustomParsingOptions options = CustomParsingOptions.precedenceClimbing();
+        options.register(ConditionalParser.INSTANCE);
+        options.register(SeparatorTokenizer.INSTANCE);
+
+        /* When */
+
+        EquationOptional actual = Equation.parse(equation, options);
+
+        /* Then */
+
+        assertTrue(actual.hasError());
+        assertEquals("Unknown function 'foo'!", actual.getErrorMessage());
+    }
+
+    private static final class BraceToken extends TokenPair {
+
+        private final boolean opening;
+
+        private BraceToken(boolean opening) {
+            this.opening = opening;
+        }
+
+        @Override
+        public boolean isOpening() {
+            return opening;
+        }
+
+        @Override
+        public boolean isClosing() {
+            return !opening;
+        }
+
+        @Override
+        public String getString() {
+            return opening ? "{" : "}";
+        }
+    }
+
+    private static final class BraceParser implements EquationParser {
+
+        @Override
+        public ParseResult parse(List<Token> tokenizedEquation, int startIndex, int endIndex, ParsingOptions options) {
+
+            if (!(tokenizedEquation.get(startIndex) instanceof BraceToken brace) || brace.isClosing() || brace.getClosing().getIndex() != endIndex)
+                return ParseResult.notMine();
+
+            ParseResult inner = EquationParser.parseEquation(tokenizedEquation, startIndex + 1, endIndex - 1, options);
+
+            return inner.getEquation()
+                    .map(equation -> ParseResult.ok(new Parenthesis(StandardFunctions.NOP, equation)))
+                    .orElse(inner);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.parsers;
+
+import io.github.lordtylus.jep.options.ParsingOptions;
+import io.github.lordtylus.jep.tokenizer.EquationStringTokenizer;
+import io.github.lordtylus.jep.tokenizer.tokens.Token;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RangeShapeTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "'' ; EMPTY",
+            "1 ; SINGLE_TOKEN",
+            "[x] ; SINGLE_TOKEN",
+            "(1+2) ; STARTS_WITH_PARENTHESIS",
+            "sqrt(2)*3 ; STARTS_WITH_PARENTHESIS",
+            "1+2 ; MULTIPLE_TOKENS",
+            "[x]*(2) ; MULTIPLE_TOKENS",
+    }, delimiter = ';')
+    void determinesShape(String equation, RangeShape expected) {
+
+        /* Given */
+
+        List<Token> tokenized = EquationStringTokenizer.tokenize(equation, ParsingOptions.defaultOptions());
+
+        /* When */
+
+        RangeShape actual = RangeShape.of(tokenized, 0, tokenized.size() - 1);
+
+        /* Then */
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1",
+            "[x]",
+            "(1+2)",
+            "sqrt(2)*3",
+            "1+2",
+            "(",
+            ")",
+            "1+",
+            "(1+2",
+            "1+2)",
+            "abc(2)",
+    })
+    void parsersAcceptingOtherShapesAreNotResponsible(String equation) {
+
+        /* Given */
+
+        ParsingOptions options = ParsingOptions.defaultOptions();
+
+        List<Token> tokenized = EquationStringTokenizer.tokenize(equation, options);
+
+        RangeShape shape = RangeShape.of(tokenized, 0, tokenized.size() - 1);
+
+        List<EquationParser> parsers = List.of(
+                ParenthesisParser.DEFAULT,
+                OperationParser.DEFAULT,
+                ConstantParser.INSTANCE,
+                VariableParser.INSTANCE,
+                new PrecedenceClimbingParser(Set.of(), Set.of()));
+
+        /* When / Then */
+
+        for (EquationParser parser : parsers) {
+
+            if (parser.getAcceptedShapes().contains(shape))
+                continue;
+
+            ParseResult actual = parser.parse(tokenized, 0, tokenized.size() - 1, options);
+
+            assertEquals(ParseResult.ParseType.NOT_MINE, actual.getParseType(), parser.getClass().getSimpleName());
+        }
+    }
+}
@@ -37,4 +37,20 @@ class EmptyStorageTest {
 
         assertEquals(0, actual);
     }
+
+    @Test
+    void evaluatesEverythingAsZeroDouble() {
+
+        /* Given */
+
+        Storage sut = EmptyStorage.INSTANCE;
+
+        /* When */
+
+        double actual = sut.evaluateDouble("test");
+
+        /* Then */
+
+        assertEquals(0, actual, 0.00001);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.storages;
+
+import io.github.lordtylus.jep.binding.SlotLayout;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexedStorageTest {
+
+    @Test
+    void evaluatesVariablesBySlot() {
+
+        /* Given */
+
+        IndexedStorage sut = new IndexedStorage(SlotLayout.of("x", "y"), new double[]{1.5, 2.5});
+
+        /* When */
+
+        Number actualX = sut.evaluate("x");
+        Number actualY = sut.evaluate("y");
+
+        /* Then */
+
+        assertEquals(1.5, actualX);
+        assertEquals(2.5, actualY);
+        assertEquals(2.5, sut.get(1));
+        assertEquals(2.5, sut.evaluateDouble("y"));
+    }
+
+    @Test
+    void writesThroughToBackingArray() {
+
+        /* Given */
+
+        double[] values = new double[2];
+
+        IndexedStorage sut = new IndexedStorage(SlotLayout.of("x", "y"), values);
+
+        /* When */
+
+        sut.putValue("y", 3);
+        sut.set(0, 4);
+
+        /* Then */
+
+        assertArrayEquals(new double[]{4, 3}, values);
+    }
+
+    @Test
+    void unknownVariableIsRejected() {
+
+        /* Given */
+
+        IndexedStorage sut = new IndexedStorage(SlotLayout.of("x"));
+
+        /* When */
+
+        Executable actual = () -> sut.evaluate("y");
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+
+    @Test
+    void tooShortArrayIsRejected() {
+
+        /* Given */
+
+        SlotLayout layout = SlotLayout.of("x", "y");
+
+        /* When */
+
+        Executable actual = () -> new IndexedStorage(layout, new double[1]);
+
+        /* Then */
+
+        assertThrows(IllegalArgumentException.class, actual);
+    }
+}
@@ -110,4 +110,36 @@ class SimpleStorageTest {
         assertThrows(IllegalArgumentException.class, result);
     }
 
+    @Test
+    void valueCanBeEvaluatedAsDouble() {
+
+        /* Given */
+
+        SimpleStorage sut = new SimpleStorage();
+        sut.putValue("test", 3);
+
+        /* When */
+
+        double actual = sut.evaluateDouble("test");
+
+        /* Then */
+
+        assertEquals(3, actual, 0.00001);
+    }
+
+    @Test
+    void defaultValueIsUsedForDouble() {
+
+        /* Given */
+
+        Storage sut = new SimpleStorage(StorageMode.UNKNOWN_MEANS_DEFAULT, 2.0);
+
+        /* When */
+
+        double actual = sut.evaluateDouble("test");
+
+        /* Then */
+
+        assertEquals(2.0, actual, 0.00001);
+    }
 }
\ No newline at end of file
@@ -16,8 +16,11 @@
 package io.github.lordtylus.jep.tokenizer.tokens;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ValueTokenTest {
 
@@ -52,4 +55,106 @@ class ValueTokenTest {
 
         assertEquals(10, actual);
     }
-}
\ No newline at end of file
+
+
+    @Test
+    void returnsRangeOfSource() {
+
+        /* Given */
+
+        ValueToken sut = new ValueToken("1+23.5*4", 2, 4);
+
+        /* When */
+
+        String actual = sut.getString();
+
+        /* Then */
+
+        assertEquals("23.5", actual);
+        assertEquals('3', sut.charAt(1));
+        assertEquals(4, sut.length());
+    }
+
+    @Test
+    void rejectsRangeOutsideOfSource() {
+
+        /* Given */
+
+        String source = "1+2";
+
+        /* When */
+
+        Executable actual = () -> new ValueToken(source, 2, 2);
+
+        /* Then */
+
+        assertThrows(IndexOutOfBoundsException.class, actual);
+    }
+
+    @Test
+    void returnsValue() {
+
+        /* Given */
+
+        ValueToken sut = new ValueToken("1+23.5*4", 2, 4);
+
+        /* When */
+
+        String actual = sut.value();
+
+        /* Then */
+
+        assertEquals("23.5", actual);
+    }
+
+    @Test
+    void equalsTokenWithSameCharacters() {
+
+        /* Given */
+
+        ValueToken sut = new ValueToken("1+23.5*4", 2, 4);
+
+        /* When */
+
+        ValueToken actual = new ValueToken("23.5");
+
+        /* Then */
+
+        assertEquals(sut, actual);
+        assertEquals(sut.hashCode(), actual.hashCode());
+        assertEquals(actual, sut);
+    }
+
+    @Test
+    void doesNotEqualTokenWithDifferentCharacters() {
+
+        /* Given */
+
+        ValueToken sut = new ValueToken("1+23.5*4", 2, 4);
+
+        /* When */
+
+        ValueToken actual = new ValueToken("1+23.5*4", 2, 3);
+
+        /* Then */
+
+        assertNotEquals(sut, actual);
+        assertNotEquals(sut, new ValueToken("23.6"));
+    }
+
+    @Test
+    void rejectsIndexOutsideOfToken() {
+
+        /* Given */
+
+        ValueToken sut = new ValueToken("1+23.5*4", 2, 4);
+
+        /* When */
+
+        Executable actual = () -> sut.charAt(4);
+
+        /* Then */
+
+        assertThrows(IndexOutOfBoundsException.class, actual);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.batch.vector;
+
+import io.github.lordtylus.jep.batch.BatchBackend;
+import io.github.lordtylus.jep.batch.BatchEvaluator;
+import io.github.lordtylus.jep.batch.ScalarBackend;
+import io.github.lordtylus.jep.equation.Condition;
+import io.github.lordtylus.jep.equation.Extremum;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * This backend applies operators and functions using the lanes of {@link DoubleVector} from the incubating Vector API.
+ * <p>
+ * It supports the {@link StandardOperators} and all {@link StandardFunctions} which have an equivalent in {@link VectorOperators}.
+ * {@link Extremum min and max} are compared lane by lane, and the branches of a {@link Condition} are blended using a mask.
+ * For everything else, including custom {@link Operator operators} and {@link MathFunction functions}, the
+ * {@link BatchEvaluator} falls back to the {@link ScalarBackend}.
+ * <p>
+ * Transcendental functions such as sin or exp may differ from {@link Math} in the last digit.
+ * <p>
+ * The Vector API is not part of the standard Java modules yet, so the JVM has to be started with
+ * {@code --add-modules jdk.incubator.vector} to use this backend.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VectorBackend implements BatchBackend {
+
+    /**
+     * Singleton immutable instance of the {@link VectorBackend}
+     */
+    public static final VectorBackend INSTANCE = new VectorBackend();
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final Map<Operator, VectorOperators.Binary> OPERATORS = new IdentityHashMap<>();
+    private static final Map<MathFunction, VectorOperators.Unary> FUNCTIONS = new IdentityHashMap<>();
+
+    static {
+        OPERATORS.put(StandardOperators.ADD, VectorOperators.ADD);
+        OPERATORS.put(StandardOperators.SUB, VectorOperators.SUB);
+        OPERATORS.put(StandardOperators.MULT, VectorOperators.MUL);
+        OPERATORS.put(StandardOperators.DIV, VectorOperators.DIV);
+        OPERATORS.put(StandardOperators.POW, VectorOperators.POW);
+
+        FUNCTIONS.put(StandardFunctions.ABS, VectorOperators.ABS);
+        FUNCTIONS.put(StandardFunctions.SQRT, VectorOperators.SQRT);
+        FUNCTIONS.put(StandardFunctions.CBRT, VectorOperators.CBRT);
+        FUNCTIONS.put(StandardFunctions.SIN, VectorOperators.SIN);
+        FUNCTIONS.put(StandardFunctions.ASIN, VectorOperators.ASIN);
+        FUNCTIONS.put(StandardFunctions.SINH, VectorOperators.SINH);
+        FUNCTIONS.put(StandardFunctions.COS, VectorOperators.COS);
+        FUNCTIONS.put(StandardFunctions.ACOS, VectorOperators.ACOS);
+        FUNCTIONS.put(StandardFunctions.COSH, VectorOperators.COSH);
+        FUNCTIONS.put(StandardFunctions.TAN, VectorOperators.TAN);
+        FUNCTIONS.put(StandardFunctions.ATAN, VectorOperators.ATAN);
+        FUNCTIONS.put(StandardFunctions.TANH, VectorOperators.TANH);
+        FUNCTIONS.put(StandardFunctions.EXP, VectorOperators.EXP);
+        FUNCTIONS.put(StandardFunctions.LOG, VectorOperators.LOG);
+        FUNCTIONS.put(StandardFunctions.LOG10, VectorOperators.LOG10);
+    }
+
+    @Override
+    public boolean applyOperator(Operator operator, double[] target, double[] source, int offset, int length) {
+
+        VectorOperators.Binary vectorOperator = OPERATORS.get(operator);
+
+        if (vectorOperator == null)
+            return false;
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector left = DoubleVector.fromArray(SPECIES, target, i);
+            DoubleVector right = DoubleVector.fromArray(SPECIES, source, offset + i);
+            left.lanewise(vectorOperator, right).intoArray(target, i);
+        }
+
+        if (i < length) {
+            VectorMask<Double> mask = SPECIES.indexInRange(i, length);
+            DoubleVector left = DoubleVector.fromArray(SPECIES, target, i, mask);
+            DoubleVector right = DoubleVector.fromArray(SPECIES, source, offset + i, mask);
+            left.lanewise(vectorOperator, right).intoArray(target, i, mask);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyOperator(Operator operator, double[] target, double value, int length) {
+
+        VectorOperators.Binary vectorOperator = OPERATORS.get(operator);
+
+        if (vectorOperator == null)
+            return false;
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+
+        for (; i < upperBound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, target, i).lanewise(vectorOperator, value).intoArray(target, i);
+
+        if (i < length) {
+            VectorMask<Double> mask = SPECIES.indexInRange(i, length);
+            DoubleVector.fromArray(SPECIES, target, i, mask).lanewise(vectorOperator, value).intoArray(target, i, mask);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyFunction(MathFunction function, double[] target, int length) {
+
+        if (function == StandardFunctions.NOP)
+            return true;
+
+        VectorOperators.Unary vectorOperator = FUNCTIONS.get(function);
+
+        if (vectorOperator == null)
+            return false;
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+
+        for (; i < upperBound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, target, i).lanewise(vectorOperator).intoArray(target, i);
+
+        if (i < length) {
+            VectorMask<Double> mask = SPECIES.indexInRange(i, length);
+            DoubleVector.fromArray(SPECIES, target, i, mask).lanewise(vectorOperator).intoArray(target, i, mask);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyExtremum(Extremum.Kind kind, double[] target, double[] source, int offset, int length) {
+
+        VectorOperators.Binary vectorOperator = kind == Extremum.Kind.MIN ? VectorOperators.MIN : VectorOperators.MAX;
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector left = DoubleVector.fromArray(SPECIES, target, i);
+            DoubleVector right = DoubleVector.fromArray(SPECIES, source, offset + i);
+            left.lanewise(vectorOperator, right).intoArray(target, i);
+        }
+
+        if (i < length) {
+            VectorMask<Double> mask = SPECIES.indexInRange(i, length);
+            DoubleVector left = DoubleVector.fromArray(SPECIES, target, i, mask);
+            DoubleVector right = DoubleVector.fromArray(SPECIES, source, offset + i, mask);
+            left.lanewise(vectorOperator, right).intoArray(target, i, mask);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyExtremum(Extremum.Kind kind, double[] target, double value, int length) {
+
+        VectorOperators.Binary vectorOperator = kind == Extremum.Kind.MIN ? VectorOperators.MIN : VectorOperators.MAX;
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+
+        for (; i < upperBound; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, target, i).lanewise(vectorOperator, value).intoArray(target, i);
+
+        if (i < length) {
+            VectorMask<Double> mask = SPECIES.indexInRange(i, length);
+            DoubleVector.fromArray(SPECIES, target, i, mask).lanewise(vectorOperator, value).intoArray(target, i, mask);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean applyCondition(double[] target, double[] whenTrue, double[] whenFalse, int length) {
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(length);
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector condition = DoubleVector.fromArray(SPECIES, target, i);
+            DoubleVector.fromArray(SPECIES, whenFalse, i)
+                    .blend(DoubleVector.fromArray(SPECIES, whenTrue, i), isTrue(condition))
+                    .intoArray(target, i);
+        }
+
+        if (i < length) {
+            VectorMask<Double> mask = SPECIES.indexInRange(i, length);
+            DoubleVector condition = DoubleVector.fromArray(SPECIES, target, i, mask);
+            DoubleVector.fromArray(SPECIES, whenFalse, i, mask)
+                    .blend(DoubleVector.fromArray(SPECIES, whenTrue, i, mask), isTrue(condition))
+                    .intoArray(target, i, mask);
+        }
+
+        return true;
+    }
+
+    /*
+     * Same as Condition.isTrue, NaN compares as not equal to 0, so it is excluded separately.
+     */
+    private static VectorMask<Double> isTrue(DoubleVector condition) {
+        return condition.compare(VectorOperators.NE, 0).andNot(condition.test(VectorOperators.IS_NAN));
+    }
+}
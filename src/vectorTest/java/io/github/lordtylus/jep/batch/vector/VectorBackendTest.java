@@ -0,0 +1,183 @@
+/*
+  Copyright 2025 Martin Rökker
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package io.github.lordtylus.jep.batch.vector;
+
+import io.github.lordtylus.jep.Equation;
+import io.github.lordtylus.jep.batch.BatchEvaluator;
+import io.github.lordtylus.jep.batch.ColumnProvider;
+import io.github.lordtylus.jep.batch.ScalarBackend;
+import io.github.lordtylus.jep.functions.MathFunction;
+import io.github.lordtylus.jep.functions.StandardFunctions;
+import io.github.lordtylus.jep.operators.Operator;
+import io.github.lordtylus.jep.operators.StandardOperators;
+import io.github.lordtylus.jep.options.CustomParsingOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorBackendTest {
+
+    private static final int ROWS = 2053;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[x]+[y]",
+            "[x]-[y]*[z]",
+            "([x]-[y])*([z]/[x])",
+            "[x]^2+[y]^0.5-3/[z]",
+            "2^([z]/4)",
+            "abs([x]-[y])+sqrt([z])+cbrt([x])",
+            "sin([x])+cos([y])+tan([z])+exp([x]/1000)+log([z])+log10([z])",
+            "asin([x]/10000)+acos([y]/10000)+atan([z])+sinh([x]/1000)+cosh([y]/1000)+tanh([z])",
+            "floor([x]/7)+ceil([y]/3)+round([z]/2)+rad([x])+deg([y])",
+    })
+    void matchesScalarBackend(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input).get();
+
+        double[] x = new double[ROWS];
+        double[] y = new double[ROWS];
+        double[] z = new double[ROWS];
+
+        for (int i = 0; i < ROWS; i++) {
+            x[i] = i + 1;
+            y[i] = ROWS - i;
+            z[i] = i % 17 + 1;
+        }
+
+        Map<String, double[]> columnMap = Map.of("x", x, "y", y, "z", z);
+        ColumnProvider columns = columnMap::get;
+
+        double[] expected = new double[ROWS];
+        double[] actual = new double[ROWS];
+
+        BatchEvaluator.evaluate(equation, columns, expected, 0, ROWS, ScalarBackend.INSTANCE);
+
+        /* When */
+
+        BatchEvaluator.evaluate(equation, columns, actual, 0, ROWS, VectorBackend.INSTANCE);
+
+        /* Then */
+
+        for (int i = 0; i < ROWS; i++)
+            assertEquals(expected[i], actual[i], Math.abs(expected[i]) * 1e-12);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "if([x]>[y];[x]*2;[y]-1)",
+            "if([z]-5;1;if([x]<100;[y];3))*2",
+            "if(([x]-7)/([x]-7);[x];[y])",
+            "min([x];[y];[z])+max([x]/3;[z]^2;7)",
+            "min(([x]-7)/([x]-7);1)+max(2;[y])",
+            "clamp([x];[z];[y])",
+            "clamp([x]*2;[z]+1;sqrt([y]+1))",
+    })
+    void matchesScalarBackendForConditions(String input) {
+
+        /* Given */
+
+        Equation equation = Equation.parse(input, CustomParsingOptions.conditional()).get();
+
+        double[] x = new double[ROWS];
+        double[] y = new double[ROWS];
+        double[] z = new double[ROWS];
+
+        for (int i = 0; i < ROWS; i++) {
+            x[i] = i + 1;
+            y[i] = ROWS - i;
+            z[i] = i % 17 + 1;
+        }
+
+        Map<String, double[]> columnMap = Map.of("x", x, "y", y, "z", z);
+        ColumnProvider columns = columnMap::get;
+
+        double[] expected = new double[ROWS];
+        double[] actual = new double[ROWS];
+
+        BatchEvaluator.evaluate(equation, columns, expected, 0, ROWS, ScalarBackend.INSTANCE);
+
+        /* When */
+
+        BatchEvaluator.evaluate(equation, columns, actual, 0, ROWS, VectorBackend.INSTANCE);
+
+        /* Then */
+
+        for (int i = 0; i < ROWS; i++)
+            assertEquals(expected[i], actual[i], Math.abs(expected[i]) * 1e-12);
+    }
+
+    @Test
+    void fallsBackForCustomOperatorsAndFunctions() {
+
+        /* Given */
+
+        Operator modulo = new Operator(2, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+        MathFunction twice = new MathFunction("twice", a -> a.doubleValue() * 2);
+
+        List<Operator> operators = List.of(StandardOperators.ADD, modulo);
+        List<MathFunction> functions = List.of(twice);
+
+        Equation equation = Equation.parse("twice([x]%3)+1", CustomParsingOptions.defaultWith(functions, operators)).get();
+
+        double[] x = {3, 4, 5, 6, 7};
+        double[] actual = new double[5];
+
+        /* When */
+
+        BatchEvaluator.evaluate(equation, variable -> x, actual, 0, 5, VectorBackend.INSTANCE);
+
+        /* Then */
+
+        assertEquals(1, actual[0]);
+        assertEquals(3, actual[1]);
+        assertEquals(5, actual[2]);
+        assertEquals(1, actual[3]);
+        assertEquals(3, actual[4]);
+    }
+
+    @Test
+    void reportsUnsupportedOperatorsAndFunctions() {
+
+        /* Given */
+
+        Operator modulo = new Operator(2, '%', (a, b) -> a.doubleValue() % b.doubleValue());
+
+        double[] target = new double[3];
+
+        /* When */
+
+        boolean actualOperator = VectorBackend.INSTANCE.applyOperator(modulo, target, 2, 3);
+        boolean actualFunction = VectorBackend.INSTANCE.applyFunction(StandardFunctions.FLOOR, target, 3);
+        boolean actualStandard = VectorBackend.INSTANCE.applyOperator(StandardOperators.ADD, target, 2, 3);
+
+        /* Then */
+
+        assertFalse(actualOperator);
+        assertFalse(actualFunction);
+        assertTrue(actualStandard);
+        assertEquals(2, target[2]);
+    }
+}